@@ -0,0 +1,97 @@
+#!/usr/bin/env bash
+# Throughput and latency of the servlet and reactive deployment modes under the same load. Each mode
+# is started from the same jar, warmed up, then every endpoint below is driven at a fixed concurrency:
+#   patients   - GET /organizations/{org}/patients            (keyset page of summaries)
+#   chart      - GET /patients/{patient}/chart                  (patient + first page of records)
+#   records    - GET /patients/{patient}/medical-records        (keyset page of summaries)
+#   free-slots - GET /doctors/{doctor}/free-slots               (in-memory schedule, blocking pool)
+# and requests/s with p50/p99 latency are printed per mode. Uses hey when installed, otherwise a
+# curl loop with the same concurrency (coarser, but enough to compare the modes).
+#
+# Build the jar first (./mvnw package -DskipTests), point SPRING_DATASOURCE_URL/USERNAME/PASSWORD and
+# MEDICALAPP_R2DBC_URL at the same migrated, seeded database, and pick existing ids:
+#   ORGANIZATION_ID=... PATIENT_ID=... DOCTOR_ID=... scripts/load-comparison.sh
+#
+# Usage: scripts/load-comparison.sh [requests] [concurrency] [mode...]   (default: 5000 50 servlet reactive)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+requests=${1:-5000}
+concurrency=${2:-50}
+shift 2 || shift $# || true
+if (( $# )); then modes=("$@"); else modes=(servlet reactive); fi
+port=${PORT:-18080}
+base="http://localhost:$port"
+: "${ORGANIZATION_ID:?set ORGANIZATION_ID}" "${PATIENT_ID:?set PATIENT_ID}" "${DOCTOR_ID:?set DOCTOR_ID}"
+jar=$(ls target/api-*.jar 2>/dev/null | grep -v original | head -1 || true)
+[[ -n $jar ]] || { echo "no jar in target/, run ./mvnw package -DskipTests" >&2; exit 1; }
+common=(--server.port="$port" --medicalapp.search.build-on-startup=false)
+from=$(date -d tomorrow +%Y-%m-%dT08:00)
+to=$(date -d tomorrow +%Y-%m-%dT18:00)
+
+endpoints=(
+    "patients   /organizations/$ORGANIZATION_ID/patients?limit=50"
+    "chart      /patients/$PATIENT_ID/chart"
+    "records    /patients/$PATIENT_ID/medical-records?limit=50"
+    "free-slots /doctors/$DOCTOR_ID/free-slots?from=$from&to=$to"
+)
+
+profile_for() {
+    case "$1" in
+        servlet)  echo "" ;;
+        reactive) echo "--spring.profiles.active=reactive" ;;
+        *)        echo "unknown mode $1" >&2; exit 2 ;;
+    esac
+}
+
+launch() {
+    local log=$1 profile
+    profile=$(profile_for "$2")
+    # shellcheck disable=SC2086
+    java --enable-preview -jar "$jar" "${common[@]}" $profile > "$log" 2>&1 &
+    pid=$!
+    until curl -sf "$base/actuator/health/readiness" > /dev/null; do
+        kill -0 "$pid" 2>/dev/null || { echo "$2 did not start, log: $log" >&2; exit 1; }
+        sleep 0.2
+    done
+}
+
+percentile() { sort -n | awk -v p="$1" '{ v[NR] = $1 } END { i = int(NR * p / 100); print v[i < 1 ? 1 : i] }'; }
+
+# Prints "<requests/s> <p50 ms> <p99 ms>"
+drive() {
+    local url=$1 times start elapsed
+    if command -v hey > /dev/null; then
+        hey -n "$requests" -c "$concurrency" "$url" | awk '
+            /Requests\/sec/ { rps = $2 }
+            /50% in/ { p50 = $3 * 1000 }
+            /99% in/ { p99 = $3 * 1000 }
+            END { printf "%.0f %.1f %.1f\n", rps, p50, p99 }'
+        return
+    fi
+    times=$(mktemp)
+    start=$(date +%s%N)
+    seq "$requests" | xargs -P "$concurrency" -I{} \
+        curl -s -o /dev/null -w '%{time_total}\n' "$url" >> "$times"
+    elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+    printf '%.0f %.1f %.1f\n' "$(( requests * 1000 / (elapsed > 0 ? elapsed : 1) ))" \
+        "$(awk '{ print $1 * 1000 }' "$times" | percentile 50)" \
+        "$(awk '{ print $1 * 1000 }' "$times" | percentile 99)"
+    rm -f "$times"
+}
+
+printf '%-9s %-11s %10s %10s %10s\n' mode endpoint req/s p50 p99
+for mode in "${modes[@]}"; do
+    log=$(mktemp)
+    launch "$log" "$mode"
+    for endpoint in "${endpoints[@]}"; do
+        read -r name path <<< "$endpoint"
+        # Warm-up: JIT, connection pools and the schedule index
+        requests=$(( requests / 10 )) drive "$base$path" > /dev/null
+        read -r rps p50 p99 <<< "$(drive "$base$path")"
+        printf '%-9s %-11s %10s %8sms %8sms\n' "$mode" "$name" "$rps" "$p50" "$p99"
+    done
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    rm -f "$log"
+done
@@ -0,0 +1,76 @@
+#!/usr/bin/env bash
+# Cold-start comparison of the build variants. For every run it reports
+#   started  - time until Spring logs "Started ApiApplication"
+#   ready    - time until /actuator/health/readiness answers UP
+#   first    - time until the first API request (/revenue/totals) has been served
+# measured from process launch, then prints the median per variant.
+#
+# Build the variants first:
+#   ./mvnw package -DskipTests                    -> jar
+#   ./mvnw -Paot package -DskipTests              -> aot-cds (target/app)
+#   ./mvnw -Pnative native:compile -DskipTests    -> native (target/api)
+# and point SPRING_DATASOURCE_URL/USERNAME/PASSWORD at a migrated database, e.g. docker compose up db.
+#
+# Usage: scripts/startup-benchmark.sh [runs] [variant...]   (default: 5 runs of jar aot-cds native)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+runs=${1:-5}
+shift || true
+if (( $# )); then variants=("$@"); else variants=(jar aot-cds native); fi
+port=${PORT:-18080}
+jar=$(ls target/api-*.jar 2>/dev/null | grep -v original | head -1 || true)
+aot_jar=$(ls target/app/api-*.jar 2>/dev/null | head -1 || true)
+common=(--server.port="$port" --medicalapp.search.build-on-startup=false)
+
+command_for() {
+    case "$1" in
+        jar)     echo "java --enable-preview -jar $jar" ;;
+        aot-cds) echo "java --enable-preview -XX:SharedArchiveFile=target/app/application.jsa -Dspring.aot.enabled=true -jar $aot_jar" ;;
+        native)  echo "target/api" ;;
+        *)       echo "unknown variant $1" >&2; exit 2 ;;
+    esac
+}
+
+now_ms() { date +%s%3N; }
+
+median() { sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'; }
+
+run_once() {
+    local log started ready first start pid
+    log=$(mktemp)
+    start=$(now_ms)
+    # shellcheck disable=SC2046
+    $(command_for "$1") "${common[@]}" > "$log" 2>&1 &
+    pid=$!
+    started="" ready="" first=""
+    while kill -0 "$pid" 2>/dev/null; do
+        if [[ -z $started ]] && grep -q "Started ApiApplication" "$log"; then
+            started=$(( $(now_ms) - start ))
+        fi
+        if [[ -z $ready ]] && curl -sf "http://localhost:$port/actuator/health/readiness" > /dev/null; then
+            ready=$(( $(now_ms) - start ))
+            curl -sf "http://localhost:$port/revenue/totals?from=2025-01-01&to=2025-01-31" > /dev/null
+            first=$(( $(now_ms) - start ))
+            break
+        fi
+        sleep 0.02
+    done
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    if [[ -z $first ]]; then
+        echo "$1 did not become ready, log: $log" >&2
+        exit 1
+    fi
+    rm -f "$log"
+    echo "${started:-$ready} $ready $first"
+}
+
+printf '%-8s %10s %10s %10s\n' variant started ready first
+for variant in "${variants[@]}"; do
+    results=$(for _ in $(seq "$runs"); do run_once "$variant"; done)
+    printf '%-8s %8sms %8sms %8sms\n' "$variant" \
+        "$(awk '{ print $1 }' <<< "$results" | median)" \
+        "$(awk '{ print $2 }' <<< "$results" | median)" \
+        "$(awk '{ print $3 }' <<< "$results" | median)"
+done
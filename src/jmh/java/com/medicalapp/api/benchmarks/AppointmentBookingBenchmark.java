@@ -0,0 +1,82 @@
+package com.medicalapp.api.benchmarks;
+
+import com.medicalapp.api.application.scheduling.DoctorSchedule;
+import com.medicalapp.api.domain.entities.Appointment;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Reserve-and-release throughput under contention: with one doctor every thread fights for the
+// same lock, with many doctors threads should scale since locks are per doctor.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class AppointmentBookingBenchmark {
+    private static final int SLOTS_PER_DOCTOR = 4096;
+
+    @Param({"1", "1024"})
+    public int doctors;
+
+    private DoctorSchedule[] schedules;
+    private Appointment[][] candidates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.DAYS);
+        schedules = new DoctorSchedule[doctors];
+        candidates = new Appointment[doctors][SLOTS_PER_DOCTOR];
+        for (int d = 0; d < doctors; d++) {
+            UUID doctorId = UUID.randomUUID();
+            schedules[d] = DoctorSchedule.of(List.of());
+            for (int s = 0; s < SLOTS_PER_DOCTOR; s++) {
+                LocalDateTime startsAt = start.plusMinutes(15L * s);
+                candidates[d][s] = Appointment.schedule(doctorId, UUID.randomUUID(), startsAt, startsAt.plusMinutes(15));
+                // Half of the schedule is booked so conflict checks see neighbours on both sides
+                if (s % 2 == 0) {
+                    schedules[d].tryReserve(candidates[d][s]);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean bookAndCancel() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int doctor = random.nextInt(doctors);
+        Appointment appointment = candidates[doctor][random.nextInt(SLOTS_PER_DOCTOR / 2) * 2 + 1];
+        DoctorSchedule schedule = schedules[doctor];
+        boolean booked = schedule.tryReserve(appointment);
+        if (booked) {
+            schedule.release(appointment);
+        }
+        return booked;
+    }
+
+    @Benchmark
+    public boolean conflictCheck() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int doctor = random.nextInt(doctors);
+        Appointment appointment = candidates[doctor][random.nextInt(SLOTS_PER_DOCTOR)];
+        return schedules[doctor].isFree(appointment.getStartsAt(), appointment.getEndsAt());
+    }
+}
@@ -0,0 +1,97 @@
+package com.medicalapp.api.benchmarks;
+
+import com.medicalapp.api.domain.entities.Charge;
+import com.medicalapp.api.domain.entities.Customer;
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.domain.entities.Organization;
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.valueobjects.EIN;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityConstructionBenchmark {
+
+    private final UUID id = UUID.randomUUID();
+    private final UUID organizationId = UUID.randomUUID();
+    private final UUID doctorId = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.now();
+    private final LocalDate dateOfBirth = LocalDate.of(1980, 5, 17);
+    private final BigDecimal amount = new BigDecimal("149.90");
+
+    private SSN ssn;
+    private Customer customer;
+    private HistoryRecord historyRecord;
+
+    @Setup
+    public void setUp() {
+        ssn = SSN.of("123-45-6781");
+        customer = new Customer("Jane Roe", "jane.roe@example.com");
+        historyRecord = HistoryRecord.create(id, "TREATMENT_UPDATED",
+                "Adjusted dosage after follow-up consultation; patient reports improvement in symptoms");
+    }
+
+    @Benchmark
+    public Patient patient() {
+        return new Patient(id, organizationId, "Jane Roe", ssn, dateOfBirth, "F",
+                "742 Evergreen Terrace, Springfield", "+1 555-123-4567", now, now);
+    }
+
+    @Benchmark
+    public Patient patientWithSsnParsing() {
+        return new Patient(id, organizationId, "Jane Roe", SSN.of("123-45-6781"), dateOfBirth, "F",
+                "742 Evergreen Terrace, Springfield", "+1 555-123-4567", now, now);
+    }
+
+    @Benchmark
+    public Customer customer() {
+        return new Customer(id, "Jane Roe", "jane.roe@example.com", now, now);
+    }
+
+    @Benchmark
+    public Organization organization() {
+        return new Organization(id, "Springfield Clinic", "100 Main St, Springfield",
+                EIN.of("12-3456789"), now, now);
+    }
+
+    @Benchmark
+    public Charge charge() {
+        return Charge.create(amount, "USD", Optional.of("Monthly plan"), customer, "pm_card_visa");
+    }
+
+    @Benchmark
+    public MedicalRecord medicalRecord() {
+        return MedicalRecord.create(id, organizationId, doctorId, "Type 2 diabetes mellitus");
+    }
+
+    @Benchmark
+    public HistoryRecord historyRecord() {
+        return HistoryRecord.create(id, "TREATMENT_UPDATED", "Adjusted dosage");
+    }
+
+    @Benchmark
+    public String historyRecordAuditString() {
+        return historyRecord.toAuditString();
+    }
+}
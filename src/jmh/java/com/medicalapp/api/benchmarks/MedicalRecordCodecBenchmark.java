@@ -0,0 +1,86 @@
+package com.medicalapp.api.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.medicalapp.api.application.views.MedicalRecordDocument;
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.infrastructure.codec.MedicalRecordCodec;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// JSON against the binary codec for the same record; run with -prof gc for bytes allocated per
+// operation, payload sizes are printed at setup
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MedicalRecordCodecBenchmark {
+    private static final String[] ACTIONS = {"CREATED", "DIAGNOSIS_UPDATED", "TREATMENT_UPDATED", "NOTE_ADDED"};
+
+    @Param({"0", "10", "100"})
+    public int historySize;
+
+    private ObjectMapper mapper;
+    private MedicalRecordDocument record;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        UUID id = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 30, 12, 345_678_000);
+        List<HistoryRecord> history = new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            history.add(new HistoryRecord(UUID.randomUUID(), id, ACTIONS[i % ACTIONS.length],
+                    "Reviewed at visit " + i + ", dosage adjusted", createdAt.plusDays(i).plusMinutes(i * 7L)));
+        }
+        record = new MedicalRecordDocument(id, UUID.randomUUID(), "Maria Oliveira", UUID.randomUUID(),
+                UUID.randomUUID(), "Chronic kidney disease, stage 3", "ACE inhibitor, low-protein diet",
+                "Monitor eGFR quarterly", createdAt, createdAt.plusDays(historySize), history);
+        json = mapper.writeValueAsBytes(record);
+        binary = MedicalRecordCodec.encode(record);
+        System.out.printf("%nhistorySize=%d json=%d bytes binary=%d bytes%n", historySize, json.length, binary.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return mapper.writeValueAsBytes(record);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return MedicalRecordCodec.encode(record);
+    }
+
+    @Benchmark
+    public MedicalRecordDocument decodeJson() throws IOException {
+        return mapper.readValue(json, MedicalRecordDocument.class);
+    }
+
+    @Benchmark
+    public MedicalRecordDocument decodeBinary() {
+        return MedicalRecordCodec.decode(binary);
+    }
+}
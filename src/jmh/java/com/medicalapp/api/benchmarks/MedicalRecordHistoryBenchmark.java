@@ -0,0 +1,76 @@
+package com.medicalapp.api.benchmarks;
+
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MedicalRecordHistoryBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int historySize;
+
+    private MedicalRecord record;
+    private HistoryRecord next;
+    private LocalDateTime midpoint;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        record = MedicalRecord.create(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                "Chronic kidney disease, stage 3");
+        LocalDateTime start = LocalDateTime.now().minusDays(historySize);
+        for (int i = 0; i < historySize; i++) {
+            record.addHistoryRecord(new HistoryRecord(UUID.randomUUID(), record.getId(), "NOTE_ADDED",
+                    "Entry " + i, start.plusDays(i)));
+        }
+        midpoint = start.plusDays(historySize / 2);
+        next = HistoryRecord.create(record.getId(), "NOTE_ADDED", "Follow-up");
+    }
+
+    @Benchmark
+    public MedicalRecord addHistoryRecord() {
+        record.addHistoryRecord(next);
+        return record;
+    }
+
+    @Benchmark
+    public List<HistoryRecord> getHistoryRecords() {
+        return record.getHistoryRecords();
+    }
+
+    @Benchmark
+    public HistoryRecord getLatestHistoryRecord() {
+        List<HistoryRecord> history = record.getHistoryRecords();
+        return history.get(history.size() - 1);
+    }
+
+    @Benchmark
+    public List<HistoryRecord> latestPage() {
+        return record.latestHistory(20);
+    }
+
+    @Benchmark
+    public List<HistoryRecord> historySinceMidpoint() {
+        return record.historySince(midpoint);
+    }
+}
@@ -0,0 +1,86 @@
+package com.medicalapp.api.benchmarks;
+
+import com.medicalapp.api.application.scheduling.AvailabilitySearch;
+import com.medicalapp.api.application.scheduling.AvailableSlot;
+import com.medicalapp.api.application.scheduling.DoctorSchedule;
+import com.medicalapp.api.domain.entities.Appointment;
+import com.medicalapp.api.domain.entities.Doctor;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Earliest 20 slots over a week for an organization whose doctors are mostly booked.
+// Bitmaps are built sequentially here; the service spreads that part over groups of doctors.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrganizationSlotSearchBenchmark {
+
+    @Param({"50", "500"})
+    public int doctorCount;
+
+    private List<Doctor> doctors;
+    private List<DoctorSchedule> schedules;
+    private AvailabilitySearch search;
+    private List<BitSet> starts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        UUID organizationId = UUID.randomUUID();
+        LocalDateTime monday = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.DAYS);
+        doctors = new ArrayList<>(doctorCount);
+        schedules = new ArrayList<>(doctorCount);
+        for (int d = 0; d < doctorCount; d++) {
+            Doctor doctor = new Doctor(organizationId, "Doctor " + d, "Cardiology");
+            List<Appointment> appointments = new ArrayList<>();
+            for (int slot = 0; slot < 7 * 96; slot += 2) {
+                // 90% of half-hour slots are taken
+                if (random.nextInt(10) != 0) {
+                    LocalDateTime startsAt = monday.plusMinutes(15L * slot);
+                    appointments.add(Appointment.schedule(doctor.getId(), UUID.randomUUID(), startsAt,
+                            startsAt.plusMinutes(30)));
+                }
+            }
+            doctors.add(doctor);
+            schedules.add(DoctorSchedule.of(appointments));
+        }
+        search = new AvailabilitySearch(monday, monday.plusDays(7), Duration.ofMinutes(30));
+        starts = buildBitmaps();
+    }
+
+    @Benchmark
+    public List<BitSet> buildBitmaps() {
+        List<BitSet> bitmaps = new ArrayList<>(schedules.size());
+        for (DoctorSchedule schedule : schedules) {
+            bitmaps.add(search.startsFor(schedule));
+        }
+        return bitmaps;
+    }
+
+    @Benchmark
+    public List<AvailableSlot> mergeEarliest() {
+        return search.earliest(doctors, starts, 20);
+    }
+}
@@ -0,0 +1,125 @@
+package com.medicalapp.api.benchmarks;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Batched patient inserts keyed by random UUIDs versus a sequence-backed bigint.
+// Runs against in-memory H2 by default; pass -p jdbcUrl=jdbc:postgresql://...?user=..&password=..&reWriteBatchedInserts=true
+// to measure index page splits on a real PostgreSQL instance.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PatientIdStrategyBenchmark {
+    private static final int ROWS_PER_BATCH = 500;
+
+    @Param({"jdbc:h2:mem:ids;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    private Connection connection;
+    private PreparedStatement uuidInsert;
+    private PreparedStatement sequenceInsert;
+    private final Date dateOfBirth = Date.valueOf(LocalDate.of(1980, 1, 1));
+    private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    private long nextSequenceBlock;
+    private long sequenceValue;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_patients_uuid");
+            statement.execute("DROP TABLE IF EXISTS bench_patients_seq");
+            statement.execute("DROP SEQUENCE IF EXISTS bench_patients_seq_id");
+            statement.execute("CREATE SEQUENCE bench_patients_seq_id INCREMENT BY 50");
+            statement.execute("CREATE TABLE bench_patients_uuid (id UUID PRIMARY KEY, organization_id UUID NOT NULL, "
+                    + "name VARCHAR(100) NOT NULL, ssn CHAR(9) NOT NULL, date_of_birth DATE NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE bench_patients_seq (id BIGINT PRIMARY KEY, organization_id UUID NOT NULL, "
+                    + "name VARCHAR(100) NOT NULL, ssn CHAR(9) NOT NULL, date_of_birth DATE NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+        }
+        connection.commit();
+        uuidInsert = connection.prepareStatement("INSERT INTO bench_patients_uuid VALUES (?, ?, ?, ?, ?, ?)");
+        sequenceInsert = connection.prepareStatement("INSERT INTO bench_patients_seq VALUES (?, ?, ?, ?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_BATCH)
+    public int[] uuidPrimaryKey() throws SQLException {
+        UUID organizationId = UUID.randomUUID();
+        for (int i = 0; i < ROWS_PER_BATCH; i++) {
+            uuidInsert.setObject(1, UUID.randomUUID());
+            bindRow(uuidInsert, organizationId, i);
+        }
+        int[] counts = uuidInsert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+    // Hibernate's pooled optimizer: one sequence call hands out a block of 50 ids
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_BATCH)
+    public int[] sequencePrimaryKey() throws SQLException {
+        UUID organizationId = UUID.randomUUID();
+        for (int i = 0; i < ROWS_PER_BATCH; i++) {
+            sequenceInsert.setLong(1, nextId());
+            bindRow(sequenceInsert, organizationId, i);
+        }
+        int[] counts = sequenceInsert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+    private long nextId() throws SQLException {
+        if (sequenceValue == nextSequenceBlock) {
+            try (Statement statement = connection.createStatement();
+                 var resultSet = statement.executeQuery("SELECT nextval('bench_patients_seq_id')")) {
+                resultSet.next();
+                sequenceValue = resultSet.getLong(1);
+                nextSequenceBlock = sequenceValue + 50;
+            }
+        }
+        return sequenceValue++;
+    }
+
+    private void bindRow(PreparedStatement statement, UUID organizationId, int i) throws SQLException {
+        statement.setObject(2, organizationId);
+        statement.setString(3, "Patient " + i);
+        statement.setString(4, "123456781");
+        statement.setDate(5, dateOfBirth);
+        statement.setTimestamp(6, now);
+        statement.addBatch();
+    }
+}
@@ -0,0 +1,58 @@
+package com.medicalapp.api.benchmarks;
+
+import com.medicalapp.api.domain.validation.ValidationRules;
+import com.medicalapp.api.domain.valueobjects.Gender;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationRulesBenchmark {
+
+    public String contact = "+1 555-123-4567";
+    public String email = "jane.roe@clinic.example.com";
+    public String gender = "nb";
+
+    @Benchmark
+    public boolean contactScanner() {
+        return ValidationRules.isContact(contact);
+    }
+
+    @Benchmark
+    public boolean contactRegexBaseline() {
+        return contact.matches("^\\+?[0-9\\s-]{10,15}$");
+    }
+
+    @Benchmark
+    public boolean emailScanner() {
+        return ValidationRules.isEmail(email);
+    }
+
+    @Benchmark
+    public boolean emailRegexBaseline() {
+        return email.matches("^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,}$");
+    }
+
+    @Benchmark
+    public Gender genderLookup() {
+        return Gender.lookup(gender);
+    }
+
+    @Benchmark
+    public boolean genderListBaseline() {
+        return List.of("M", "F", "NB", "OTHER").contains(gender.toUpperCase());
+    }
+}
@@ -0,0 +1,131 @@
+package com.medicalapp.api.benchmarks;
+
+import com.medicalapp.api.domain.valueobjects.EIN;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectParsingBenchmark {
+
+    @Param({"123-45-6781", "123456781"})
+    public String ssn;
+
+    @Param({"12-3456789"})
+    public String ein;
+
+    @Benchmark
+    public SSN ssnScanner() {
+        return new SSN(ssn);
+    }
+
+    @Benchmark
+    public boolean ssnIsValid() {
+        return SSN.isValid(ssn);
+    }
+
+    @Benchmark
+    public String ssnFormatted() {
+        return new SSN(ssn).formatted();
+    }
+
+    @Benchmark
+    public String ssnRegexBaseline() {
+        return LegacySSN.parse(ssn);
+    }
+
+    @Benchmark
+    public EIN einScanner() {
+        return new EIN(ein);
+    }
+
+    @Benchmark
+    public String einRegexBaseline() {
+        return LegacyEIN.parse(ein);
+    }
+
+    // Verbatim copy of the regex-based validation the scanner replaced, kept for comparison
+    static final class LegacySSN {
+        private static final Pattern SSN_PATTERN = Pattern.compile("^\\d{9}$");
+        private static final String[] INVALID_SSNS = {
+                "111111111", "123456789", "999999999", "000000000", "123123123"
+        };
+
+        static String parse(String input) {
+            String ssn = input.replaceAll("[\\s-]", "");
+            if (ssn.length() != 9) {
+                throw new IllegalArgumentException("SSN deve conter exatamente 9 dígitos");
+            }
+            if (!SSN_PATTERN.matcher(ssn).matches()) {
+                throw new IllegalArgumentException("SSN deve conter apenas dígitos numéricos");
+            }
+            String area = ssn.substring(0, 3);
+            switch (area) {
+                case "000", "666" -> throw new IllegalArgumentException("Área " + area + " é inválida para SSN");
+                default -> {
+                    if (area.compareTo("900") >= 0) {
+                        throw new IllegalArgumentException("Área " + area + " é reservada");
+                    }
+                }
+            }
+            if ("00".equals(ssn.substring(3, 5))) {
+                throw new IllegalArgumentException("Número de grupo não pode ser 00");
+            }
+            if ("0000".equals(ssn.substring(5))) {
+                throw new IllegalArgumentException("Número serial não pode ser 0000");
+            }
+            for (String invalid : INVALID_SSNS) {
+                if (invalid.equals(ssn)) {
+                    throw new IllegalArgumentException("SSN " + ssn + " é inválido ou reservado");
+                }
+            }
+            return ssn;
+        }
+    }
+
+    static final class LegacyEIN {
+        private static final Pattern EIN_PATTERN = Pattern.compile("^\\d{2}-?\\d{7}$");
+        private static final String[] INVALID_EINS = {
+                "00-0000000", "07-7777777",
+                "11-1111111", "22-2222222",
+                "33-3333333", "44-4444444",
+                "55-5555555", "66-6666666",
+                "77-7777777", "88-8888888",
+                "99-9999999"
+        };
+
+        static String parse(String input) {
+            String ein = input.replace("-", "");
+            if (ein.length() != 9) {
+                throw new IllegalArgumentException("EIN deve conter exatamente 9 dígitos");
+            }
+            if (!EIN_PATTERN.matcher(ein).matches()) {
+                throw new IllegalArgumentException("Formato de EIN inválido (use XX-XXXXXXX ou XXXXXXXXX)");
+            }
+            if (ein.substring(0, 2).startsWith("0")) {
+                throw new IllegalArgumentException("EIN não pode começar com 0");
+            }
+            for (String invalid : INVALID_EINS) {
+                if (ein.equals(invalid.replace("-", ""))) {
+                    throw new IllegalArgumentException("EIN sequencial inválido: " + invalid);
+                }
+            }
+            return ein;
+        }
+    }
+}
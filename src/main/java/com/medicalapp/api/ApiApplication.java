@@ -1,9 +1,16 @@
 package com.medicalapp.api;
 
+import com.medicalapp.api.infrastructure.aot.BindingRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
-@SpringBootApplication
+// R2DBC is only wired in reactive mode, by R2dbcConfiguration; a second transaction manager
+// would leave @Transactional without a default
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
+@ImportRuntimeHints(BindingRuntimeHints.class)
 public class ApiApplication {
 
 	public static void main(String[] args) {
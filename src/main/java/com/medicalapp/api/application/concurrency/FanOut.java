@@ -0,0 +1,194 @@
+package com.medicalapp.api.application.concurrency;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+// Runs independent blocking calls concurrently: the caller waits for all of them, the first
+// failure cancels the rest and is rethrown as is. Subtasks get virtual threads in a structured
+// scope when spring.threads.virtual.enabled is set. Otherwise they borrow threads from a shared
+// pool of platform threads; a subtask that finds none idle runs on the caller, so a busy pool
+// (or a fan-out inside a fan-out) degrades to running inline instead of queueing.
+@Component
+@EnableConfigurationProperties(FanOutProperties.class)
+public class FanOut implements DisposableBean {
+    private final ThreadFactory threadFactory;
+    private final ExecutorService pool;
+
+    @Autowired
+    public FanOut(Environment environment, FanOutProperties properties) {
+        this(Threading.VIRTUAL.isActive(environment), properties.platformThreads());
+    }
+
+    FanOut(boolean virtualThreads, int platformThreads) {
+        if (virtualThreads) {
+            this.threadFactory = Thread.ofVirtual().name("fan-out-", 0).factory();
+            this.pool = null;
+        } else {
+            this.threadFactory = null;
+            this.pool = new ThreadPoolExecutor(0, platformThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                    Thread.ofPlatform().name("fan-out-", 0).daemon().factory(), (subtask, full) -> subtask.run());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A, B, R> R both(Callable<A> first, Callable<B> second, BiFunction<A, B, R> combine) {
+        if (pool != null) {
+            Callable<Object> a = first::call;
+            Callable<Object> b = second::call;
+            List<Object> results = onPool(List.of(a, b));
+            return combine.apply((A) results.get(0), (B) results.get(1));
+        }
+        try (var scope = new StructuredTaskScope.ShutdownOnFailure("fan-out", threadFactory)) {
+            StructuredTaskScope.Subtask<A> a = scope.fork(first);
+            StructuredTaskScope.Subtask<B> b = scope.fork(second);
+            join(scope);
+            return combine.apply(a.get(), b.get());
+        }
+    }
+
+    public <T> List<T> all(List<? extends Callable<T>> tasks) {
+        if (pool != null) {
+            return onPool(tasks);
+        }
+        try (var scope = new StructuredTaskScope.ShutdownOnFailure("fan-out", threadFactory)) {
+            List<StructuredTaskScope.Subtask<T>> subtasks = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                subtasks.add(scope.fork(task));
+            }
+            join(scope);
+            List<T> results = new ArrayList<>(subtasks.size());
+            for (StructuredTaskScope.Subtask<T> subtask : subtasks) {
+                results.add(subtask.get());
+            }
+            return results;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private <T> List<T> onPool(List<? extends Callable<T>> tasks) {
+        Forks<T> forks = new Forks<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            int index = i;
+            Callable<T> task = tasks.get(i);
+            pool.execute(() -> forks.run(index, task));
+        }
+        InterruptedException interrupted = null;
+        while (true) {
+            try {
+                forks.done.await();
+                break;
+            } catch (InterruptedException e) {
+                if (interrupted == null) {
+                    interrupted = e;
+                    forks.fail(e);
+                }
+            }
+        }
+        if (interrupted != null) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for subtasks", interrupted);
+        }
+        if (forks.failure != null) {
+            throw unwrap(forks.failure);
+        }
+        return forks.results;
+    }
+
+    private static void join(StructuredTaskScope.ShutdownOnFailure scope) {
+        try {
+            scope.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for subtasks", e);
+        }
+        scope.throwIfFailed(FanOut::unwrap);
+    }
+
+    private static RuntimeException unwrap(Throwable failure) {
+        if (failure instanceof RuntimeException e) {
+            return e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+        return new IllegalStateException(failure.getMessage(), failure);
+    }
+
+    // Every subtask counts down once, even when it is skipped after a failure, so the caller
+    // never returns while one is still running. Pool threads are interrupted only while they run
+    // one of these subtasks, and leave without the interrupt flag.
+    private static final class Forks<T> {
+        private final CountDownLatch done;
+        private final List<T> results;
+        private final Set<Thread> running = new HashSet<>();
+        private Throwable failure;
+
+        private Forks(int size) {
+            this.done = new CountDownLatch(size);
+            this.results = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                results.add(null);
+            }
+        }
+
+        private void run(int index, Callable<T> task) {
+            Thread thread = Thread.currentThread();
+            boolean wasInterrupted = thread.isInterrupted();
+            try {
+                synchronized (this) {
+                    if (failure != null) {
+                        return;
+                    }
+                    running.add(thread);
+                }
+                T result = task.call();
+                synchronized (this) {
+                    results.set(index, result);
+                }
+            } catch (Throwable e) {
+                fail(e);
+            } finally {
+                synchronized (this) {
+                    running.remove(thread);
+                }
+                if (!wasInterrupted) {
+                    Thread.interrupted();
+                }
+                done.countDown();
+            }
+        }
+
+        private synchronized void fail(Throwable e) {
+            if (failure != null) {
+                return;
+            }
+            failure = e;
+            for (Thread thread : running) {
+                thread.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.medicalapp.api.application.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// platformThreads bounds the shared pool used when virtual threads are off
+@ConfigurationProperties(prefix = "medicalapp.fan-out")
+public record FanOutProperties(Integer platformThreads) {
+
+    public FanOutProperties {
+        if (platformThreads == null) {
+            platformThreads = 32;
+        }
+        if (platformThreads < 1) {
+            throw new IllegalArgumentException("Fan-out needs at least one platform thread");
+        }
+    }
+}
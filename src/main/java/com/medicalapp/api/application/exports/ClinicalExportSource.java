@@ -0,0 +1,21 @@
+package com.medicalapp.api.application.exports;
+
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.domain.entities.Patient;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+// Rows of one organization, section by section in checkpoint order, starting after `from` (which is
+// of the method's section). Each row is handed over with the checkpoint that resumes right after it.
+// Rows are pushed while the read is open, so a slow consumer slows the read instead of buffering.
+public interface ClinicalExportSource {
+    void patients(UUID organizationId, ExportCheckpoint from, BiConsumer<Patient, ExportCheckpoint> rows);
+
+    // Records come without history or patient name
+    void medicalRecords(UUID organizationId, ExportCheckpoint from,
+                        BiConsumer<MedicalRecord, ExportCheckpoint> rows);
+
+    void historyRecords(UUID organizationId, ExportCheckpoint from,
+                        BiConsumer<HistoryRecord, ExportCheckpoint> rows);
+}
@@ -0,0 +1,24 @@
+package com.medicalapp.api.application.exports;
+
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.domain.entities.Patient;
+import java.io.IOException;
+
+// Receives an export one row at a time, so nothing is held beyond the row being written
+public interface ClinicalExportWriter extends AutoCloseable {
+    void patient(Patient patient) throws IOException;
+
+    // Written without history; the history rows follow in their own section
+    void medicalRecord(MedicalRecord medicalRecord) throws IOException;
+
+    void historyRecord(HistoryRecord historyRecord) throws IOException;
+
+    // Everything written before it has reached the destination once this returns
+    void checkpoint(ExportCheckpoint checkpoint) throws IOException;
+
+    void complete(ExportSummary summary) throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
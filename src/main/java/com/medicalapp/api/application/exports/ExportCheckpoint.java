@@ -0,0 +1,91 @@
+package com.medicalapp.api.application.exports;
+
+import com.medicalapp.api.domain.queries.Keyset;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+// Where a resumed export picks up: a section, and the last row written in it, or no row at the
+// start of the section. Sections are written in declaration order. History rows are positioned by
+// their record's (createdAt, id) and their seq within that record.
+public record ExportCheckpoint(Section section, LocalDateTime createdAt, UUID id, int seq) {
+    private static final byte VERSION = 1;
+    private static final int START_LENGTH = 2;
+    private static final int ROW_LENGTH = START_LENGTH + Long.BYTES + Integer.BYTES + 2 * Long.BYTES + Integer.BYTES;
+
+    public enum Section {
+        PATIENTS,
+        MEDICAL_RECORDS,
+        HISTORY_RECORDS
+    }
+
+    public ExportCheckpoint {
+        Objects.requireNonNull(section, "Section cannot be null");
+        if ((createdAt == null) != (id == null) || seq < 0) {
+            throw new IllegalArgumentException("Invalid export checkpoint");
+        }
+    }
+
+    public static ExportCheckpoint start(Section section) {
+        return new ExportCheckpoint(section, null, null, 0);
+    }
+
+    public static ExportCheckpoint after(Section section, Keyset keyset) {
+        return new ExportCheckpoint(section, keyset.createdAt(), keyset.id(), 0);
+    }
+
+    public boolean atStart() {
+        return id == null;
+    }
+
+    // Null at the start of the section
+    public Keyset keyset() {
+        return atStart() ? null : new Keyset(createdAt, id);
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(atStart() ? START_LENGTH : ROW_LENGTH)
+                .put(VERSION)
+                .put((byte) section.ordinal());
+        if (!atStart()) {
+            buffer.putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+                    .putInt(createdAt.getNano())
+                    .putLong(id.getMostSignificantBits())
+                    .putLong(id.getLeastSignificantBits())
+                    .putInt(seq);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    // A missing token is the start of the export
+    public static ExportCheckpoint decode(String checkpoint) {
+        if (checkpoint == null || checkpoint.isBlank()) {
+            return start(Section.PATIENTS);
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(checkpoint);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid export checkpoint");
+        }
+        if ((bytes.length != START_LENGTH && bytes.length != ROW_LENGTH) || bytes[0] != VERSION
+                || bytes[1] < 0 || bytes[1] >= Section.values().length) {
+            throw new IllegalArgumentException("Invalid export checkpoint");
+        }
+        Section section = Section.values()[bytes[1]];
+        if (bytes.length == START_LENGTH) {
+            return start(section);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, START_LENGTH, ROW_LENGTH - START_LENGTH);
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new IllegalArgumentException("Invalid export checkpoint");
+        }
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        return new ExportCheckpoint(section, createdAt, new UUID(buffer.getLong(), buffer.getLong()), buffer.getInt());
+    }
+}
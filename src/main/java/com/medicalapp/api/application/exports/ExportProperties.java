@@ -0,0 +1,19 @@
+package com.medicalapp.api.application.exports;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "medicalapp.export")
+public record ExportProperties(Integer fetchSize, Integer checkpointInterval) {
+
+    public ExportProperties {
+        if (fetchSize == null) {
+            fetchSize = 1000;
+        }
+        if (checkpointInterval == null) {
+            checkpointInterval = 5000;
+        }
+        if (fetchSize < 1 || checkpointInterval < 1) {
+            throw new IllegalArgumentException("Invalid export settings");
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.medicalapp.api.application.exports;
+
+// Rows written by one export run; a resumed run only counts what it wrote itself
+public record ExportSummary(long patients, long medicalRecords, long historyRecords) {
+}
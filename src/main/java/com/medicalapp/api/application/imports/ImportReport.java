@@ -0,0 +1,26 @@
+package com.medicalapp.api.application.imports;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+public record ImportReport(
+        UUID organizationId,
+        long rowsRead,
+        long rowsImported,
+        long rowsRejected,
+        long duplicateRows,
+        List<RowError> errors,
+        boolean errorsTruncated,
+        Duration elapsed
+) {
+
+    public ImportReport {
+        errors = List.copyOf(errors);
+    }
+
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : rowsRead * 1_000_000_000d / nanos;
+    }
+}
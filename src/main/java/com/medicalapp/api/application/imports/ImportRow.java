@@ -0,0 +1,12 @@
+package com.medicalapp.api.application.imports;
+
+import com.medicalapp.api.domain.validation.PatientInput;
+import java.util.List;
+
+// One parsed source row; parseErrors holds problems found before validation (e.g. an unreadable date)
+public record ImportRow(long rowNumber, PatientInput input, List<RowError> parseErrors) {
+
+    public ImportRow {
+        parseErrors = List.copyOf(parseErrors);
+    }
+}
@@ -0,0 +1,75 @@
+package com.medicalapp.api.application.imports;
+
+import java.util.Arrays;
+
+// Open-addressing set of non-negative ints (packed SSNs); avoids a boxed Integer per imported row
+public final class IntHashSet {
+    private static final int EMPTY = -1;
+
+    private int[] slots;
+    private int size;
+
+    public IntHashSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+    }
+
+    // False when the value was already present
+    public boolean add(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Only non-negative values are supported");
+        }
+        if ((size + 1) * 2 > slots.length) {
+            grow();
+        }
+        return insert(slots, value);
+    }
+
+    public boolean contains(int value) {
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (slots[index] != EMPTY) {
+            if (slots[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private boolean insert(int[] table, int value) {
+        int mask = table.length - 1;
+        int index = mix(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        size++;
+        return true;
+    }
+
+    private void grow() {
+        int[] old = slots;
+        slots = new int[old.length << 1];
+        Arrays.fill(slots, EMPTY);
+        size = 0;
+        for (int value : old) {
+            if (value != EMPTY) {
+                insert(slots, value);
+            }
+        }
+    }
+
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
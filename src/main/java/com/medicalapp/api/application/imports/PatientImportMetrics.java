@@ -0,0 +1,37 @@
+package com.medicalapp.api.application.imports;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+// Running totals across all import jobs in this process
+@Component
+public class PatientImportMetrics {
+    private final LongAdder rowsRead = new LongAdder();
+    private final LongAdder rowsImported = new LongAdder();
+    private final LongAdder rowsRejected = new LongAdder();
+    private final LongAdder duplicateRows = new LongAdder();
+    private final AtomicInteger activeImports = new AtomicInteger();
+    private volatile double lastRowsPerSecond;
+
+    public void importStarted() {
+        activeImports.incrementAndGet();
+    }
+
+    public void importFinished(ImportReport report) {
+        activeImports.decrementAndGet();
+        lastRowsPerSecond = report.rowsPerSecond();
+    }
+
+    public void rowsRead(long rows) { rowsRead.add(rows); }
+    public void rowsImported(long rows) { rowsImported.add(rows); }
+    public void rowsRejected(long rows) { rowsRejected.add(rows); }
+    public void duplicateRows(long rows) { duplicateRows.add(rows); }
+
+    public long getRowsRead() { return rowsRead.sum(); }
+    public long getRowsImported() { return rowsImported.sum(); }
+    public long getRowsRejected() { return rowsRejected.sum(); }
+    public long getDuplicateRows() { return duplicateRows.sum(); }
+    public int getActiveImports() { return activeImports.get(); }
+    public double getLastRowsPerSecond() { return lastRowsPerSecond; }
+}
@@ -0,0 +1,22 @@
+package com.medicalapp.api.application.imports;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "medicalapp.import")
+public record PatientImportProperties(Integer chunkSize, Integer parallelism, Integer maxReportedErrors) {
+
+    public PatientImportProperties {
+        if (chunkSize == null) {
+            chunkSize = 1000;
+        }
+        if (parallelism == null) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        if (maxReportedErrors == null) {
+            maxReportedErrors = 10_000;
+        }
+        if (chunkSize < 1 || parallelism < 1 || maxReportedErrors < 0) {
+            throw new IllegalArgumentException("Invalid import settings");
+        }
+    }
+}
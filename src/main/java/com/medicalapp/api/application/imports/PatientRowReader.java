@@ -0,0 +1,12 @@
+package com.medicalapp.api.application.imports;
+
+import java.io.IOException;
+
+// Pulls one row at a time from an export so an import never holds the whole file
+public interface PatientRowReader extends AutoCloseable {
+    // Null once the source is exhausted
+    ImportRow next() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
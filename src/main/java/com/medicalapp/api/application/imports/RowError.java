@@ -0,0 +1,4 @@
+package com.medicalapp.api.application.imports;
+
+public record RowError(long row, String field, String message) {
+}
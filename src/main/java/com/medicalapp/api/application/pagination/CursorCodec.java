@@ -0,0 +1,68 @@
+package com.medicalapp.api.application.pagination;
+
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.KeysetPage;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+// Opaque, URL-safe page tokens; clients only hand them back, never build them
+public final class CursorCodec {
+    private static final byte VERSION = 1;
+    private static final int LENGTH = 1 + Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Keyset keyset) {
+        if (keyset == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+                .put(VERSION)
+                .putLong(keyset.createdAt().toEpochSecond(ZoneOffset.UTC))
+                .putInt(keyset.createdAt().getNano())
+                .putLong(keyset.id().getMostSignificantBits())
+                .putLong(keyset.id().getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static Keyset decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (bytes.length != LENGTH || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, LENGTH - 1);
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        return new Keyset(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+
+    public static <T> CursorPage<T> toCursorPage(KeysetPage<T> page) {
+        return new CursorPage<>(page.items(), encode(page.next()));
+    }
+
+    public static int clampLimit(Integer limit) {
+        if (limit == null) {
+            return 20;
+        }
+        if (limit < 1 || limit > 100) {
+            throw new IllegalArgumentException("Limit must be between 1 and 100");
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,11 @@
+package com.medicalapp.api.application.pagination;
+
+import java.util.List;
+
+// nextCursor is null on the last page
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public CursorPage {
+        items = List.copyOf(items);
+    }
+}
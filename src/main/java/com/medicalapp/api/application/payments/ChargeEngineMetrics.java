@@ -0,0 +1,31 @@
+package com.medicalapp.api.application.payments;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+// Running totals across all charge runs in this process
+@Component
+public class ChargeEngineMetrics {
+    private final LongAdder chargesSucceeded = new LongAdder();
+    private final LongAdder chargesFailed = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double lastChargesPerSecond;
+
+    public void chargeStarted() { inFlight.incrementAndGet(); }
+    public void chargeFinished() { inFlight.decrementAndGet(); }
+    public void chargeSucceeded() { chargesSucceeded.increment(); }
+    public void chargeFailed() { chargesFailed.increment(); }
+    public void retried() { retries.increment(); }
+
+    public void runFinished(ChargeRunReport report) {
+        lastChargesPerSecond = report.chargesPerSecond();
+    }
+
+    public long getChargesSucceeded() { return chargesSucceeded.sum(); }
+    public long getChargesFailed() { return chargesFailed.sum(); }
+    public long getRetries() { return retries.sum(); }
+    public int getInFlight() { return inFlight.get(); }
+    public double getLastChargesPerSecond() { return lastChargesPerSecond; }
+}
@@ -0,0 +1,34 @@
+package com.medicalapp.api.application.payments;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "medicalapp.charges")
+public record ChargeEngineProperties(Integer concurrency, Integer pageSize, Integer statusBatchSize,
+                                     Integer maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+
+    public ChargeEngineProperties {
+        if (concurrency == null) {
+            concurrency = 32;
+        }
+        if (pageSize == null) {
+            pageSize = 2000;
+        }
+        if (statusBatchSize == null) {
+            statusBatchSize = 500;
+        }
+        if (maxAttempts == null) {
+            maxAttempts = 4;
+        }
+        if (initialBackoff == null) {
+            initialBackoff = Duration.ofMillis(200);
+        }
+        if (maxBackoff == null) {
+            maxBackoff = Duration.ofSeconds(5);
+        }
+        if (concurrency < 1 || pageSize < 1 || statusBatchSize < 1 || maxAttempts < 1
+                || initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("Invalid charge engine settings");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.medicalapp.api.application.payments;
+
+import com.medicalapp.api.domain.entities.Charge;
+import java.util.UUID;
+
+public record ChargeRequest(
+        String idempotencyKey,
+        long amountMinor,
+        String currency,
+        UUID customerId,
+        String paymentMethod,
+        String description,
+        String gatewayReference
+) {
+
+    public static ChargeRequest from(Charge charge) {
+        return new ChargeRequest(charge.getIdempotencyKey(), charge.getAmountInMinorUnits(),
+                charge.getCurrency(), charge.getCustomer().getId(), charge.getPaymentMethod(),
+                charge.getDescription().orElse(null), charge.getGatewayReference().orElse(null));
+    }
+}
@@ -0,0 +1,15 @@
+package com.medicalapp.api.application.payments;
+
+import java.time.LocalDateTime;
+
+// The right to walk the PENDING charges, held by at most one node at a time. Every operation is a
+// single atomic compare-and-set on the lease store.
+public interface ChargeRunLease {
+    // Takes the lease if nobody holds it at `now`
+    boolean tryAcquire(String owner, LocalDateTime now, LocalDateTime expiresAt);
+
+    // False once `owner` no longer holds the lease at `now`
+    boolean extend(String owner, LocalDateTime now, LocalDateTime expiresAt);
+
+    void release(String owner);
+}
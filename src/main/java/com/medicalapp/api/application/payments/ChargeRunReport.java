@@ -0,0 +1,20 @@
+package com.medicalapp.api.application.payments;
+
+import java.time.Duration;
+
+public record ChargeRunReport(
+        long chargesAttempted,
+        long chargesSucceeded,
+        long chargesFailed,
+        long chargesLeftPending,
+        long retries,
+        long statusWriteFailures,
+        Duration elapsed
+) {
+
+    // End to end: from reading the first page until the last status batch is written
+    public double chargesPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : (chargesSucceeded + chargesFailed) * 1_000_000_000d / nanos;
+    }
+}
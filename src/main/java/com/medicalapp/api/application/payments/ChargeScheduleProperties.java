@@ -0,0 +1,27 @@
+package com.medicalapp.api.application.payments;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "medicalapp.charges.schedule")
+public record ChargeScheduleProperties(Boolean enabled, Duration interval, Duration leaseTtl, String nodeId) {
+
+    public ChargeScheduleProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (interval == null) {
+            interval = Duration.ofMinutes(1);
+        }
+        if (leaseTtl == null) {
+            leaseTtl = Duration.ofSeconds(30);
+        }
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+        if (interval.toMillis() < 1 || leaseTtl.toMillis() < 3 || nodeId.length() > 64) {
+            throw new IllegalArgumentException("Invalid charge schedule settings");
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.medicalapp.api.application.payments;
+
+import com.medicalapp.api.application.services.contracts.ChargeProcessingServiceContract;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+// Walks the PENDING charges every `interval` on the node holding the charge run lease, so two
+// nodes never walk the same pages at once. The lease is extended every lease-ttl/3 while the run
+// lasts. A node that loses it interrupts its run, which then stops starting customers; statuses
+// it still writes only land on charges nobody else has settled.
+@Component
+@EnableConfigurationProperties(ChargeScheduleProperties.class)
+public class ChargeScheduler implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(ChargeScheduler.class);
+
+    private final ChargeProcessingServiceContract charges;
+    private final ChargeRunLease lease;
+    private final ChargeScheduleProperties properties;
+    private final String node;
+
+    private volatile boolean running;
+    private volatile Thread ticker;
+
+    public ChargeScheduler(ChargeProcessingServiceContract charges, ChargeRunLease lease,
+                           ChargeScheduleProperties properties) {
+        this.charges = charges;
+        this.lease = lease;
+        this.properties = properties;
+        this.node = properties.nodeId();
+    }
+
+    // True when this node held the lease and walked the charges
+    boolean runOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!lease.tryAcquire(node, now, now.plus(properties.leaseTtl()))) {
+            return false;
+        }
+        try {
+            Thread run = Thread.ofPlatform().name("charge-run").start(() -> {
+                try {
+                    ChargeRunReport report = charges.processPending();
+                    if (report.chargesAttempted() > 0) {
+                        log.info("Charge run finished: {}", report);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Charge run failed", e);
+                }
+            });
+            keepLease(run);
+        } finally {
+            lease.release(node);
+        }
+        return true;
+    }
+
+    // Waits for the run, extending the lease as it goes; an interrupt is passed on to the run
+    private void keepLease(Thread run) {
+        long step = Math.max(1, properties.leaseTtl().dividedBy(3).toMillis());
+        boolean interrupted = false;
+        boolean held = true;
+        while (run.isAlive()) {
+            try {
+                run.join(step);
+            } catch (InterruptedException e) {
+                interrupted = true;
+                run.interrupt();
+                continue;
+            }
+            if (!held || !run.isAlive()) {
+                continue;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            try {
+                held = lease.extend(node, now, now.plus(properties.leaseTtl()));
+            } catch (RuntimeException e) {
+                log.warn("Could not extend the charge run lease of {}", node, e);
+                held = false;
+            }
+            if (!held) {
+                log.warn("Charge run lease of {} lost; stopping the run", node);
+                run.interrupt();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.enabled();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        ticker = Thread.ofPlatform().name("charge-scheduler").daemon().start(this::run);
+    }
+
+    private void run() {
+        long intervalNanos = properties.interval().toNanos();
+        while (running) {
+            long started = System.nanoTime();
+            try {
+                runOnce();
+            } catch (RuntimeException e) {
+                log.warn("Charge run failed", e);
+            }
+            LockSupport.parkNanos(Math.max(0, intervalNanos - (System.nanoTime() - started)));
+        }
+    }
+
+    // A run in progress stops after the customers it has started and gives the lease back
+    @Override
+    public void stop() {
+        Thread thread;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            thread = ticker;
+        }
+        thread.interrupt();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stops before the data source closes
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1024;
+    }
+}
@@ -0,0 +1,30 @@
+package com.medicalapp.api.application.payments;
+
+import java.util.Objects;
+
+public record GatewayResult(Outcome outcome, String reference, String message) {
+
+    public enum Outcome {
+        SUCCEEDED,
+        DECLINED,
+        // Accepted but not settled yet; the charge stays PENDING and is looked up by reference later
+        PROCESSING
+    }
+
+    public GatewayResult {
+        Objects.requireNonNull(outcome, "Outcome cannot be null");
+    }
+
+    public static GatewayResult succeeded(String reference) {
+        return new GatewayResult(Outcome.SUCCEEDED, reference, null);
+    }
+
+    public static GatewayResult processing(String reference) {
+        return new GatewayResult(Outcome.PROCESSING, Objects.requireNonNull(reference, "Reference cannot be null"),
+                null);
+    }
+
+    public static GatewayResult declined(String reference, String message) {
+        return new GatewayResult(Outcome.DECLINED, reference, message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.medicalapp.api.application.payments;
+
+// Executes a single charge. Implementations must honour ChargeRequest.idempotencyKey:
+// repeating a request with the same key returns the original outcome and never charges twice.
+// Transient failures (network, rate limits, 5xx) are thrown as PaymentGatewayException.
+public interface PaymentGateway {
+    GatewayResult charge(ChargeRequest request);
+}
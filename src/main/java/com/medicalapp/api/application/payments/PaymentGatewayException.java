@@ -0,0 +1,14 @@
+package com.medicalapp.api.application.payments;
+
+// A failure that says nothing about the charge itself; the request may be retried with the same key
+public class PaymentGatewayException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public PaymentGatewayException(String message) {
+        super(message);
+    }
+
+    public PaymentGatewayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
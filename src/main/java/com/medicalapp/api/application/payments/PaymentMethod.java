@@ -0,0 +1,11 @@
+package com.medicalapp.api.application.payments;
+
+import java.util.Objects;
+
+// A saved card as the checkout page shows it; the full card data never leaves the gateway
+public record PaymentMethod(String id, String brand, String last4, int expMonth, int expYear) {
+
+    public PaymentMethod {
+        Objects.requireNonNull(id, "ID cannot be null");
+    }
+}
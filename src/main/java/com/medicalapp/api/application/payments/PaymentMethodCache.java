@@ -0,0 +1,127 @@
+package com.medicalapp.api.application.payments;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Per-customer listing cache with single-flight loads. The first caller to miss installs an
+// in-flight entry and loads on its own thread; concurrent callers for the same customer wait
+// on that entry instead of calling the gateway too. Failures are handed to every waiter and
+// not cached. invalidate() drops the entry, so a load that was in flight still answers its
+// own waiters but is never served to anyone who asks afterwards.
+public final class PaymentMethodCache {
+    private final ConcurrentHashMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxCustomers;
+    private final LongSupplier ticker;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public PaymentMethodCache(PaymentMethodCacheProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    PaymentMethodCache(PaymentMethodCacheProperties properties, LongSupplier ticker) {
+        this.ttlNanos = properties.ttl().toNanos();
+        this.maxCustomers = properties.maxCustomers();
+        this.ticker = ticker;
+    }
+
+    public List<PaymentMethod> get(UUID customerId, Supplier<List<PaymentMethod>> loader) {
+        while (true) {
+            Entry entry = entries.get(customerId);
+            if (entry != null && !entry.value.isDone()) {
+                coalesced.increment();
+                return await(entry);
+            }
+            if (entry != null && entry.isFresh(ticker.getAsLong())) {
+                hits.increment();
+                return entry.value.join();
+            }
+            Entry loading = new Entry();
+            boolean installed = entry == null
+                    ? entries.putIfAbsent(customerId, loading) == null
+                    : entries.replace(customerId, entry, loading);
+            if (installed) {
+                return load(customerId, loading, loader);
+            }
+        }
+    }
+
+    public void invalidate(UUID customerId) {
+        if (entries.remove(customerId) != null) {
+            invalidations.increment();
+        }
+    }
+
+    private List<PaymentMethod> load(UUID customerId, Entry entry, Supplier<List<PaymentMethod>> loader) {
+        loads.increment();
+        try {
+            List<PaymentMethod> methods = List.copyOf(loader.get());
+            entry.expiresAt = ticker.getAsLong() + ttlNanos;
+            entry.value.complete(methods);
+            trim();
+            return methods;
+        } catch (RuntimeException | Error e) {
+            entries.remove(customerId, entry);
+            entry.value.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static List<PaymentMethod> await(Entry entry) {
+        try {
+            return entry.value.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayException("Interrupted while waiting for payment methods", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException failure) {
+                throw failure;
+            }
+            throw new PaymentGatewayException("Listing payment methods failed", e.getCause());
+        } catch (CancellationException e) {
+            throw new PaymentGatewayException("Listing payment methods was cancelled", e);
+        }
+    }
+
+    // Expired entries go first; past that the bound wins over recency, which a TTL of
+    // seconds makes cheap to lose
+    private void trim() {
+        if (entries.size() <= maxCustomers) {
+            return;
+        }
+        long now = ticker.getAsLong();
+        entries.values().removeIf(entry -> entry.value.isDone() && !entry.isFresh(now));
+        Iterator<Entry> overflow = entries.values().iterator();
+        while (entries.size() > maxCustomers && overflow.hasNext()) {
+            if (overflow.next().value.isDone()) {
+                overflow.remove();
+            }
+        }
+    }
+
+    public long getHits() { return hits.sum(); }
+    public long getLoads() { return loads.sum(); }
+    public long getCoalesced() { return coalesced.sum(); }
+    public long getInvalidations() { return invalidations.sum(); }
+    public int size() { return entries.size(); }
+
+    private static final class Entry {
+        private final CompletableFuture<List<PaymentMethod>> value = new CompletableFuture<>();
+        private volatile long expiresAt;
+
+        private boolean isFresh(long now) {
+            return value.isDone() && !value.isCompletedExceptionally() && now - expiresAt < 0;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.medicalapp.api.application.payments;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "medicalapp.payment-methods")
+public record PaymentMethodCacheProperties(Duration ttl, Integer maxCustomers) {
+
+    public PaymentMethodCacheProperties {
+        if (ttl == null) {
+            ttl = Duration.ofSeconds(30);
+        }
+        if (maxCustomers == null) {
+            maxCustomers = 100_000;
+        }
+        if (ttl.isNegative() || ttl.isZero() || maxCustomers < 1) {
+            throw new IllegalArgumentException("Invalid payment method cache settings");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.medicalapp.api.application.payments;
+
+import java.util.List;
+import java.util.UUID;
+
+// Saved payment methods of a customer at the payment provider. Unknown or foreign payment
+// methods are IllegalArgumentExceptions; transient failures are PaymentGatewayExceptions.
+public interface PaymentMethodGateway {
+    List<PaymentMethod> list(UUID customerId);
+
+    PaymentMethod attach(UUID customerId, String paymentMethodId);
+
+    void detach(UUID customerId, String paymentMethodId);
+}
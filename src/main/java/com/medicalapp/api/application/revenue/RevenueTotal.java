@@ -0,0 +1,8 @@
+package com.medicalapp.api.application.revenue;
+
+import com.medicalapp.api.domain.valueobjects.ChargeStatus;
+import java.time.LocalDate;
+
+// day is null for totals over a date range; amounts are minor units of currency
+public record RevenueTotal(LocalDate day, String currency, ChargeStatus status, long charges, long amountMinor) {
+}
@@ -0,0 +1,9 @@
+package com.medicalapp.api.application.scheduling;
+
+public class AppointmentConflictException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public AppointmentConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,108 @@
+package com.medicalapp.api.application.scheduling;
+
+import com.medicalapp.api.domain.entities.Doctor;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Earliest free slots across many doctors. The search window is cut into 15-minute cells and
+// each doctor gets a bitmap with a bit set wherever a slot of the requested length can start.
+// Bitmaps are independent, so callers build them in parallel. A heap holding each doctor's
+// next start cell then merges them, and only `limit` pops are needed.
+public final class AvailabilitySearch {
+    public static final Duration CELL = Duration.ofMinutes(15);
+    private static final long CELL_SECONDS = CELL.toSeconds();
+
+    private final LocalDateTime origin;
+    private final LocalDateTime end;
+    private final int cells;
+    private final int slotCells;
+    private final Duration length;
+
+    // Slots start on the cell grid at or after from and end at or before to
+    public AvailabilitySearch(LocalDateTime from, LocalDateTime to, Duration length) {
+        this.origin = alignUp(from);
+        this.cells = origin.isBefore(to) ? (int) (Duration.between(origin, to).toSeconds() / CELL_SECONDS) : 0;
+        this.end = origin.plus(CELL.multipliedBy(cells));
+        this.slotCells = (int) Math.ceilDiv(length.toSeconds(), CELL_SECONDS);
+        this.length = length;
+    }
+
+    public BitSet startsFor(DoctorSchedule schedule) {
+        BitSet free = new BitSet(cells);
+        free.set(0, cells);
+        for (TimeSlot booked : schedule.bookedBetween(origin, end)) {
+            free.clear(floorCell(booked.startsAt()), ceilCell(booked.endsAt()));
+        }
+        return runStarts(free, slotCells, cells);
+    }
+
+    public List<AvailableSlot> earliest(List<Doctor> doctors, List<BitSet> starts, int limit) {
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(Math.max(1, doctors.size()), Cursor.ORDER);
+        for (int i = 0; i < doctors.size(); i++) {
+            int first = starts.get(i).nextSetBit(0);
+            if (first >= 0) {
+                heap.add(new Cursor(first, i));
+            }
+        }
+        List<AvailableSlot> slots = new ArrayList<>(Math.min(limit, 64));
+        while (slots.size() < limit && !heap.isEmpty()) {
+            Cursor cursor = heap.poll();
+            Doctor doctor = doctors.get(cursor.doctor);
+            LocalDateTime startsAt = origin.plus(CELL.multipliedBy(cursor.cell));
+            slots.add(new AvailableSlot(doctor.getId(), doctor.getName(), startsAt, startsAt.plus(length)));
+            // The same doctor's next offer must not overlap the one just returned
+            int next = starts.get(cursor.doctor).nextSetBit(cursor.cell + slotCells);
+            if (next >= 0) {
+                heap.add(new Cursor(next, cursor.doctor));
+            }
+        }
+        return slots;
+    }
+
+    // Bit i of the result is set when bits i .. i+length-1 of free are all set. Runs of length
+    // c are doubled by and-ing with a copy shifted by c, so this takes O(log length) passes.
+    static BitSet runStarts(BitSet free, int length, int cells) {
+        BitSet runs = (BitSet) free.clone();
+        int covered = 1;
+        while (covered * 2 <= length) {
+            runs.and(runs.get(covered, Math.max(covered, cells)));
+            covered *= 2;
+        }
+        if (covered < length) {
+            int shift = length - covered;
+            runs.and(runs.get(shift, Math.max(shift, cells)));
+        }
+        return runs;
+    }
+
+    private int floorCell(LocalDateTime time) {
+        long cell = Math.floorDiv(Duration.between(origin, time).toSeconds(), CELL_SECONDS);
+        return Math.clamp(cell, 0, cells);
+    }
+
+    private int ceilCell(LocalDateTime time) {
+        long cell = Math.ceilDiv(Duration.between(origin, time).toSeconds(), CELL_SECONDS);
+        return Math.clamp(cell, 0, cells);
+    }
+
+    private static LocalDateTime alignUp(LocalDateTime time) {
+        LocalDateTime minute = time.truncatedTo(ChronoUnit.MINUTES);
+        if (minute.isBefore(time)) {
+            minute = minute.plusMinutes(1);
+        }
+        int cellMinutes = (int) CELL.toMinutes();
+        int remainder = minute.getMinute() % cellMinutes;
+        return remainder == 0 ? minute : minute.plusMinutes(cellMinutes - remainder);
+    }
+
+    private record Cursor(int cell, int doctor) {
+        private static final Comparator<Cursor> ORDER = Comparator.comparingInt(Cursor::cell)
+                .thenComparingInt(Cursor::doctor);
+    }
+}
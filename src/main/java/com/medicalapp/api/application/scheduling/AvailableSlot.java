@@ -0,0 +1,7 @@
+package com.medicalapp.api.application.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AvailableSlot(UUID doctorId, String doctorName, LocalDateTime startsAt, LocalDateTime endsAt) {
+}
@@ -0,0 +1,118 @@
+package com.medicalapp.api.application.scheduling;
+
+import com.medicalapp.api.domain.entities.Appointment;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Booked intervals of one doctor, keyed by start time. Booked intervals never overlap, so a
+// conflict can only come from the nearest interval starting at or before the new start, or the
+// first one starting after it: two O(log n) lookups instead of an interval tree.
+// Writers serialize on this doctor's lock only; readers walk the skip list without locking.
+public final class DoctorSchedule {
+    private final ConcurrentSkipListMap<LocalDateTime, Booking> bookings = new ConcurrentSkipListMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public static DoctorSchedule of(List<Appointment> appointments) {
+        DoctorSchedule schedule = new DoctorSchedule();
+        for (Appointment appointment : appointments) {
+            if (appointment.isScheduled() && !schedule.tryReserve(appointment)) {
+                throw new IllegalStateException("Stored appointment " + appointment.getId()
+                        + " overlaps another appointment");
+            }
+        }
+        return schedule;
+    }
+
+    public boolean tryReserve(Appointment appointment) {
+        Booking booking = new Booking(appointment.getId(), appointment.getStartsAt(), appointment.getEndsAt());
+        lock.lock();
+        try {
+            if (!isFree(booking.startsAt, booking.endsAt)) {
+                return false;
+            }
+            bookings.put(booking.startsAt, booking);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(Appointment appointment) {
+        lock.lock();
+        try {
+            Booking booking = bookings.get(appointment.getStartsAt());
+            if (booking != null && booking.appointmentId.equals(appointment.getId())) {
+                bookings.remove(appointment.getStartsAt());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isFree(LocalDateTime startsAt, LocalDateTime endsAt) {
+        Map.Entry<LocalDateTime, Booking> before = bookings.floorEntry(startsAt);
+        if (before != null && before.getValue().endsAt.isAfter(startsAt)) {
+            return false;
+        }
+        LocalDateTime nextStart = bookings.higherKey(startsAt);
+        return nextStart == null || !nextStart.isBefore(endsAt);
+    }
+
+    // Back-to-back free slots of the given length inside [from, to), earliest first
+    public List<TimeSlot> freeSlots(LocalDateTime from, LocalDateTime to, Duration length, int limit) {
+        List<TimeSlot> slots = new ArrayList<>(Math.min(limit, 64));
+        LocalDateTime candidate = from;
+        Map.Entry<LocalDateTime, Booking> before = bookings.floorEntry(from);
+        if (before != null && before.getValue().endsAt.isAfter(candidate)) {
+            candidate = before.getValue().endsAt;
+        }
+        for (Booking booking : bookings.tailMap(candidate, true).values()) {
+            if (!booking.startsAt.isBefore(to) || slots.size() >= limit) {
+                break;
+            }
+            candidate = fill(slots, candidate, booking.startsAt, length, limit);
+            if (booking.endsAt.isAfter(candidate)) {
+                candidate = booking.endsAt;
+            }
+        }
+        fill(slots, candidate, to, length, limit);
+        return slots;
+    }
+
+    // Booked intervals overlapping [from, to), earliest first
+    public List<TimeSlot> bookedBetween(LocalDateTime from, LocalDateTime to) {
+        List<TimeSlot> booked = new ArrayList<>();
+        LocalDateTime first = bookings.floorKey(from);
+        for (Booking booking : bookings.subMap(first != null ? first : from, true, to, false).values()) {
+            if (booking.endsAt.isAfter(from)) {
+                booked.add(new TimeSlot(booking.startsAt, booking.endsAt));
+            }
+        }
+        return booked;
+    }
+
+    public int size() {
+        return bookings.size();
+    }
+
+    private static LocalDateTime fill(List<TimeSlot> slots, LocalDateTime from, LocalDateTime until,
+                                      Duration length, int limit) {
+        LocalDateTime start = from;
+        LocalDateTime end = start.plus(length);
+        while (slots.size() < limit && !end.isAfter(until)) {
+            slots.add(new TimeSlot(start, end));
+            start = end;
+            end = start.plus(length);
+        }
+        return start;
+    }
+
+    private record Booking(UUID appointmentId, LocalDateTime startsAt, LocalDateTime endsAt) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.medicalapp.api.application.scheduling;
+
+import com.medicalapp.api.domain.contracts.AppointmentRepositoryContract;
+import com.medicalapp.api.domain.entities.Appointment;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// In-memory schedules, loaded from the appointments table the first time a doctor is needed.
+// Each doctor has its own lock, so bookings for different doctors never contend. A schedule only
+// answers free-slot searches and rejects obvious conflicts early: the database decides bookings,
+// and other instances book and cancel behind this copy, so schedules are reloaded after
+// scheduleTtl and when a booking it allowed turns out to conflict. At most maxSchedules are kept.
+@Component
+@EnableConfigurationProperties(SchedulingProperties.class)
+public class ScheduleIndex {
+    private final AppointmentRepositoryContract appointmentRepository;
+    private final Map<UUID, Loaded> schedules = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxSchedules;
+    private final LongSupplier ticker;
+
+    @Autowired
+    public ScheduleIndex(AppointmentRepositoryContract appointmentRepository, SchedulingProperties properties) {
+        this(appointmentRepository, properties, System::nanoTime);
+    }
+
+    ScheduleIndex(AppointmentRepositoryContract appointmentRepository, SchedulingProperties properties,
+                  LongSupplier ticker) {
+        this.appointmentRepository = appointmentRepository;
+        this.ttlNanos = properties.scheduleTtl().toNanos();
+        this.maxSchedules = properties.maxSchedules();
+        this.ticker = ticker;
+    }
+
+    public DoctorSchedule forDoctor(UUID doctorId) {
+        long now = ticker.getAsLong();
+        Loaded current = schedules.get(doctorId);
+        if (current != null && current.isFresh(now)) {
+            return current.schedule;
+        }
+        // Load outside compute so a slow query does not block other doctors in the same bin
+        DoctorSchedule schedule = DoctorSchedule.of(
+                appointmentRepository.findScheduledByDoctorId(doctorId, LocalDateTime.now()));
+        return install(doctorId, current, new Loaded(schedule, now + ttlNanos));
+    }
+
+    // Same as forDoctor for each id, but doctors not loaded yet come from a single query
+    public Map<UUID, DoctorSchedule> forDoctors(Collection<UUID> doctorIds) {
+        long now = ticker.getAsLong();
+        Map<UUID, DoctorSchedule> found = new HashMap<>(doctorIds.size() * 2);
+        Map<UUID, Loaded> stale = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID doctorId : doctorIds) {
+            Loaded current = schedules.get(doctorId);
+            if (current != null && current.isFresh(now)) {
+                found.put(doctorId, current.schedule);
+            } else {
+                missing.add(doctorId);
+                if (current != null) {
+                    stale.put(doctorId, current);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+        Map<UUID, List<Appointment>> byDoctor = new HashMap<>(missing.size() * 2);
+        for (Appointment appointment : appointmentRepository.findScheduledByDoctorIds(missing, LocalDateTime.now())) {
+            byDoctor.computeIfAbsent(appointment.getDoctorId(), id -> new ArrayList<>()).add(appointment);
+        }
+        for (UUID doctorId : missing) {
+            DoctorSchedule schedule = DoctorSchedule.of(byDoctor.getOrDefault(doctorId, List.of()));
+            found.put(doctorId, install(doctorId, stale.get(doctorId), new Loaded(schedule, now + ttlNanos)));
+        }
+        return found;
+    }
+
+    // Drops a schedule that disagreed with the database; the next lookup reloads it
+    public void evict(UUID doctorId) {
+        schedules.remove(doctorId);
+    }
+
+    public int size() {
+        return schedules.size();
+    }
+
+    // Whoever installs first wins, so concurrent loads of one doctor hand out the same schedule
+    private DoctorSchedule install(UUID doctorId, Loaded replaced, Loaded loaded) {
+        while (true) {
+            boolean installed = replaced == null
+                    ? schedules.putIfAbsent(doctorId, loaded) == null
+                    : schedules.replace(doctorId, replaced, loaded);
+            if (installed) {
+                trim();
+                return loaded.schedule;
+            }
+            Loaded raced = schedules.get(doctorId);
+            if (raced != null) {
+                return raced.schedule;
+            }
+            replaced = null;
+        }
+    }
+
+    // Expired schedules go first; past that any schedule may go, it is only a reload away
+    private void trim() {
+        if (schedules.size() <= maxSchedules) {
+            return;
+        }
+        long now = ticker.getAsLong();
+        schedules.values().removeIf(loaded -> !loaded.isFresh(now));
+        Iterator<Loaded> overflow = schedules.values().iterator();
+        while (schedules.size() > maxSchedules && overflow.hasNext()) {
+            overflow.next();
+            overflow.remove();
+        }
+    }
+
+    private record Loaded(DoctorSchedule schedule, long expiresAt) {
+
+        boolean isFresh(long now) {
+            return now - expiresAt < 0;
+        }
+    }
+}
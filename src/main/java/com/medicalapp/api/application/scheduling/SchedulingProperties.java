@@ -0,0 +1,20 @@
+package com.medicalapp.api.application.scheduling;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "medicalapp.scheduling")
+public record SchedulingProperties(Duration scheduleTtl, Integer maxSchedules) {
+
+    public SchedulingProperties {
+        if (scheduleTtl == null) {
+            scheduleTtl = Duration.ofMinutes(5);
+        }
+        if (maxSchedules == null) {
+            maxSchedules = 10_000;
+        }
+        if (scheduleTtl.isNegative() || scheduleTtl.isZero() || maxSchedules < 1) {
+            throw new IllegalArgumentException("Invalid scheduling settings");
+        }
+    }
+}
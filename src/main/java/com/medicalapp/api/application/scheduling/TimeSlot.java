@@ -0,0 +1,7 @@
+package com.medicalapp.api.application.scheduling;
+
+import java.time.LocalDateTime;
+
+// Half-open interval [startsAt, endsAt)
+public record TimeSlot(LocalDateTime startsAt, LocalDateTime endsAt) {
+}
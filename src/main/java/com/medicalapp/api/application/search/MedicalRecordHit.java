@@ -0,0 +1,14 @@
+package com.medicalapp.api.application.search;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record MedicalRecordHit(
+        UUID id,
+        UUID patientId,
+        UUID doctorId,
+        String diagnosisExcerpt,
+        double score,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,161 @@
+package com.medicalapp.api.application.search;
+
+import com.medicalapp.api.application.pagination.CursorPage;
+import com.medicalapp.api.domain.contracts.MMedicalRecordRepositoryContract;
+import com.medicalapp.api.domain.events.MedicalRecordTextChanged;
+import com.medicalapp.api.domain.queries.KeysetPage;
+import com.medicalapp.api.domain.queries.MedicalRecordSummary;
+import com.medicalapp.api.domain.queries.MedicalRecordText;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Embedded full-text index with one partition per organization, so a query never reads another
+// tenant's postings. Committed text changes are applied as they happen. A rebuild fills a fresh
+// partition from the database while the old one keeps serving. Live changes go to both
+// partitions, and the fresh one replaces the old when the scan is done.
+// Each instance only hears about its own commits, so edits made through other instances show up
+// here with the next periodic rebuild, at most refresh-interval (plus the rebuild's own time) late.
+@Component
+@EnableConfigurationProperties(SearchProperties.class)
+public class MedicalRecordSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(MedicalRecordSearchIndex.class);
+
+    private final MMedicalRecordRepositoryContract medicalRecordRepository;
+    private final SearchProperties properties;
+    private final Map<UUID, OrganizationIndex> live = new ConcurrentHashMap<>();
+    private final Map<UUID, OrganizationIndex> building = new ConcurrentHashMap<>();
+
+    public MedicalRecordSearchIndex(MMedicalRecordRepositoryContract medicalRecordRepository,
+                                    SearchProperties properties) {
+        this.medicalRecordRepository = medicalRecordRepository;
+        this.properties = properties;
+    }
+
+    // Runs under the organization's entry in live, like the swap at the end of a rebuild, so a
+    // change lands either in both partitions before the swap or in the new one after it
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(MedicalRecordTextChanged change) {
+        live.compute(change.organizationId(), (organizationId, index) -> {
+            OrganizationIndex current = index == null ? new OrganizationIndex() : index;
+            apply(current, change);
+            OrganizationIndex rebuilding = building.get(organizationId);
+            if (rebuilding != null) {
+                apply(rebuilding, change);
+            }
+            return current;
+        });
+    }
+
+    public CursorPage<MedicalRecordHit> search(UUID organizationId, String query, String cursor, int limit) {
+        OrganizationIndex index = live.get(organizationId);
+        if (index == null) {
+            return new CursorPage<>(List.of(), null);
+        }
+        List<ScoredRecord> ranked = index.search(query, SearchCursor.decode(cursor), limit + 1);
+        String next = ranked.size() > limit ? SearchCursor.encode(ranked.get(limit - 1)) : null;
+        List<ScoredRecord> page = ranked.subList(0, Math.min(limit, ranked.size()));
+        return new CursorPage<>(hits(organizationId, page), next);
+    }
+
+    // Returns the number of indexed records, or -1 if a rebuild of this organization is already running
+    public int rebuild(UUID organizationId) {
+        OrganizationIndex fresh = new OrganizationIndex();
+        if (building.putIfAbsent(organizationId, fresh) != null) {
+            return -1;
+        }
+        try {
+            KeysetPage<MedicalRecordText> page = null;
+            do {
+                page = medicalRecordRepository.findTextsByOrganization(
+                        organizationId, page == null ? null : page.next(), properties.rebuildPageSize());
+                for (MedicalRecordText text : page.items()) {
+                    fresh.upsert(text.id(), text.diagnosis(), text.treatment(), text.notes(), text.updatedAt());
+                }
+            } while (page.hasNext());
+            live.compute(organizationId, (id, replaced) -> {
+                building.remove(id);
+                return fresh;
+            });
+            return fresh.size();
+        } finally {
+            building.remove(organizationId, fresh);
+        }
+    }
+
+    public void rebuildAll() {
+        long started = System.nanoTime();
+        int records = 0;
+        List<UUID> organizationIds = medicalRecordRepository.findOrganizationIds();
+        for (UUID organizationId : organizationIds) {
+            records += Math.max(0, rebuild(organizationId));
+        }
+        log.info("Search index rebuilt for {} organizations, {} records in {} ms", organizationIds.size(), records,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // The index lives in memory, so every start builds it; requests are served meanwhile. The same
+    // thread then rebuilds every organization each refresh-interval, one organization at a time.
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!properties.buildOnStartup() && properties.refreshInterval().isZero()) {
+            return;
+        }
+        Thread.ofPlatform().name("search-index-build").daemon().start(() -> {
+            boolean build = properties.buildOnStartup();
+            while (true) {
+                if (build) {
+                    try {
+                        rebuildAll();
+                    } catch (RuntimeException e) {
+                        log.error("Search index build failed", e);
+                    }
+                }
+                if (properties.refreshInterval().isZero()) {
+                    return;
+                }
+                try {
+                    Thread.sleep(properties.refreshInterval());
+                } catch (InterruptedException e) {
+                    return;
+                }
+                build = true;
+            }
+        });
+    }
+
+    private List<MedicalRecordHit> hits(UUID organizationId, List<ScoredRecord> page) {
+        if (page.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, MedicalRecordSummary> summaries = new HashMap<>();
+        for (MedicalRecordSummary summary : medicalRecordRepository.findSummariesByIds(
+                organizationId, page.stream().map(ScoredRecord::medicalRecordId).toList())) {
+            summaries.put(summary.id(), summary);
+        }
+        List<MedicalRecordHit> hits = new ArrayList<>(page.size());
+        for (ScoredRecord scored : page) {
+            MedicalRecordSummary summary = summaries.get(scored.medicalRecordId());
+            if (summary != null) {
+                hits.add(new MedicalRecordHit(summary.id(), summary.patientId(), summary.doctorId(),
+                        summary.diagnosisExcerpt(), scored.score(), summary.createdAt()));
+            }
+        }
+        return hits;
+    }
+
+    private static void apply(OrganizationIndex index, MedicalRecordTextChanged change) {
+        index.upsert(change.medicalRecordId(), change.diagnosis(), change.treatment(), change.notes(),
+                change.updatedAt());
+    }
+}
@@ -0,0 +1,131 @@
+package com.medicalapp.api.application.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Inverted index for one organization, ranked with BM25. Diagnosis terms count twice as much
+// as treatment and notes terms. Each document keeps its term frequencies so an update can take
+// back its old postings. Snapshots older than the indexed one are ignored, so a rebuild scan
+// and live updates can feed the same index in any order.
+final class OrganizationIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int DIAGNOSIS_WEIGHT = 2;
+
+    private final Map<String, Map<UUID, Integer>> postings = new HashMap<>();
+    private final Map<UUID, Document> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    void upsert(UUID id, String diagnosis, String treatment, String notes, LocalDateTime updatedAt) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = count(frequencies, diagnosis, DIAGNOSIS_WEIGHT)
+                + count(frequencies, treatment, 1)
+                + count(frequencies, notes, 1);
+        lock.writeLock().lock();
+        try {
+            Document existing = documents.get(id);
+            if (existing != null) {
+                if (existing.updatedAt.isAfter(updatedAt)) {
+                    return;
+                }
+                remove(id, existing);
+            }
+            documents.put(id, new Document(frequencies, length, updatedAt));
+            totalLength += length;
+            for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), t -> new HashMap<>()).put(id, term.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Up to limit records ranked after the given one (null for the first page)
+    List<ScoredRecord> search(String query, ScoredRecord after, int limit) {
+        LinkedHashSet<String> terms = new LinkedHashSet<>(TextAnalyzer.tokens(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            double documentCount = documents.size();
+            double averageLength = Math.max(1.0, (double) totalLength / documentCount);
+            for (String term : terms) {
+                Map<UUID, Integer> matches = postings.get(term);
+                if (matches == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - matches.size() + 0.5) / (matches.size() + 0.5));
+                for (Map.Entry<UUID, Integer> match : matches.entrySet()) {
+                    double tf = match.getValue();
+                    double norm = K1 * (1 - B + B * documents.get(match.getKey()).length / averageLength);
+                    scores.merge(match.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return top(scores, after, limit);
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Bounded heap with the worst kept hit on top, so only limit entries are ever sorted
+    private static List<ScoredRecord> top(Map<UUID, Double> scores, ScoredRecord after, int limit) {
+        PriorityQueue<ScoredRecord> best = new PriorityQueue<>(limit + 1, ScoredRecord.RANK.reversed());
+        for (Map.Entry<UUID, Double> entry : scores.entrySet()) {
+            ScoredRecord hit = new ScoredRecord(entry.getKey(), entry.getValue());
+            if (after != null && ScoredRecord.RANK.compare(hit, after) <= 0) {
+                continue;
+            }
+            best.add(hit);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<ScoredRecord> ranked = new ArrayList<>(best);
+        ranked.sort(ScoredRecord.RANK);
+        return ranked;
+    }
+
+    private void remove(UUID id, Document document) {
+        totalLength -= document.length;
+        for (String term : document.frequencies.keySet()) {
+            Map<UUID, Integer> matches = postings.get(term);
+            matches.remove(id);
+            if (matches.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static int count(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> tokens = TextAnalyzer.tokens(text);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private record Document(Map<String, Integer> frequencies, int length, LocalDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.medicalapp.api.application.search;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+// Best match first; ties keep a stable order so pages do not repeat or skip records
+public record ScoredRecord(UUID medicalRecordId, double score) {
+    static final Comparator<ScoredRecord> RANK = Comparator.comparingDouble(ScoredRecord::score).reversed()
+            .thenComparing(ScoredRecord::medicalRecordId);
+}
@@ -0,0 +1,44 @@
+package com.medicalapp.api.application.search;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+// Opaque token holding the last hit of a page: its score and id
+final class SearchCursor {
+    private static final byte VERSION = 1;
+    private static final int LENGTH = 1 + Double.BYTES + 2 * Long.BYTES;
+
+    private SearchCursor() {
+    }
+
+    static String encode(ScoredRecord last) {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+                .put(VERSION)
+                .putDouble(last.score())
+                .putLong(last.medicalRecordId().getMostSignificantBits())
+                .putLong(last.medicalRecordId().getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    static ScoredRecord decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (bytes.length != LENGTH || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, LENGTH - 1);
+        double score = buffer.getDouble();
+        if (!Double.isFinite(score)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new ScoredRecord(new UUID(buffer.getLong(), buffer.getLong()), score);
+    }
+}
@@ -0,0 +1,24 @@
+package com.medicalapp.api.application.search;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// refreshInterval == 0 turns the periodic rebuild off
+@ConfigurationProperties(prefix = "medicalapp.search")
+public record SearchProperties(Boolean buildOnStartup, Integer rebuildPageSize, Duration refreshInterval) {
+
+    public SearchProperties {
+        if (buildOnStartup == null) {
+            buildOnStartup = true;
+        }
+        if (rebuildPageSize == null) {
+            rebuildPageSize = 1000;
+        }
+        if (refreshInterval == null) {
+            refreshInterval = Duration.ofMinutes(10);
+        }
+        if (rebuildPageSize < 1 || refreshInterval.isNegative()) {
+            throw new IllegalArgumentException("Invalid search index settings");
+        }
+    }
+}
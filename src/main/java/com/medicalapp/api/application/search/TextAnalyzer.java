@@ -0,0 +1,48 @@
+package com.medicalapp.api.application.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Lower-cased, accent-folded runs of letters and digits. Very short tokens and common English
+// stop words are dropped; there is no stemming, so "fracture" does not match "fractures".
+final class TextAnalyzer {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final int MIN_LENGTH = 2;
+    private static final int MAX_LENGTH = 40;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "had", "he", "her", "his",
+            "in", "is", "it", "its", "of", "on", "or", "she", "that", "the", "to", "was", "were", "with");
+
+    private TextAnalyzer() {
+    }
+
+    static List<String> tokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                add(tokens, folded.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void add(List<String> tokens, String token) {
+        if (token.length() >= MIN_LENGTH && token.length() <= MAX_LENGTH && !STOP_WORDS.contains(token)) {
+            tokens.add(token);
+        }
+    }
+}
@@ -1,4 +1,21 @@
 package com.medicalapp.api.application.services.contracts;
 
+import com.medicalapp.api.application.scheduling.AvailableSlot;
+import com.medicalapp.api.application.scheduling.TimeSlot;
+import com.medicalapp.api.domain.queries.AppointmentSummary;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
 public interface AppointmentServiceContract {
+    AppointmentSummary book(UUID doctorId, UUID patientId, LocalDateTime startsAt, LocalDateTime endsAt);
+
+    void cancel(UUID appointmentId);
+
+    List<TimeSlot> findFreeSlots(UUID doctorId, LocalDateTime from, LocalDateTime to, Duration length, int limit);
+
+    // specialty == null searches every doctor of the organization
+    List<AvailableSlot> findEarliestSlots(UUID organizationId, String specialty, LocalDateTime from,
+                                          LocalDateTime to, Duration length, int limit);
 }
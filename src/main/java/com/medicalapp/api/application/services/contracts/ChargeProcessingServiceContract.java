@@ -0,0 +1,7 @@
+package com.medicalapp.api.application.services.contracts;
+
+import com.medicalapp.api.application.payments.ChargeRunReport;
+
+public interface ChargeProcessingServiceContract {
+    ChargeRunReport processPending();
+}
@@ -0,0 +1,11 @@
+package com.medicalapp.api.application.services.contracts;
+
+import com.medicalapp.api.application.exports.ClinicalExportWriter;
+import com.medicalapp.api.application.exports.ExportCheckpoint;
+import com.medicalapp.api.application.exports.ExportSummary;
+import java.util.UUID;
+
+public interface ClinicalExportServiceContract {
+    // Patients, medical records and history of the organization from `from` on; the writer is left open
+    ExportSummary export(UUID organizationId, ExportCheckpoint from, ClinicalExportWriter writer);
+}
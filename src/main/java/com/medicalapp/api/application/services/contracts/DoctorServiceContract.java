@@ -1,4 +1,8 @@
 package com.medicalapp.api.application.services.contracts;
 
+import com.medicalapp.api.domain.entities.Doctor;
+import java.util.UUID;
+
 public interface DoctorServiceContract {
+    Doctor register(UUID organizationId, String name, String specialty);
 }
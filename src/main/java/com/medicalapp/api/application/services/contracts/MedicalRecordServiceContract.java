@@ -1,4 +1,20 @@
 package com.medicalapp.api.application.services.contracts;
 
+import com.medicalapp.api.application.pagination.CursorPage;
+import com.medicalapp.api.application.search.MedicalRecordHit;
+import com.medicalapp.api.application.views.MedicalRecordDocument;
+import com.medicalapp.api.domain.queries.MedicalRecordSummary;
+import java.util.UUID;
+
 public interface MedicalRecordServiceContract {
+    MedicalRecordDocument getMedicalRecord(UUID medicalRecordId);
+
+    CursorPage<MedicalRecordSummary> listByPatient(UUID patientId, String cursor, Integer limit);
+
+    CursorPage<MedicalRecordSummary> listByDoctor(UUID doctorId, String cursor, Integer limit);
+
+    CursorPage<MedicalRecordHit> search(UUID organizationId, String query, String cursor, Integer limit);
+
+    // Number of records indexed, or -1 when a rebuild for the organization is already running
+    int rebuildSearchIndex(UUID organizationId);
 }
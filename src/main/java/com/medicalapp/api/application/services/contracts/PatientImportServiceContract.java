@@ -0,0 +1,9 @@
+package com.medicalapp.api.application.services.contracts;
+
+import com.medicalapp.api.application.imports.ImportReport;
+import com.medicalapp.api.application.imports.PatientRowReader;
+import java.util.UUID;
+
+public interface PatientImportServiceContract {
+    ImportReport importPatients(UUID organizationId, PatientRowReader rows);
+}
@@ -1,4 +1,12 @@
 package com.medicalapp.api.application.services.contracts;
 
+import com.medicalapp.api.application.pagination.CursorPage;
+import com.medicalapp.api.application.views.PatientChart;
+import com.medicalapp.api.domain.queries.PatientSummary;
+import java.util.UUID;
+
 public interface PatientServiceContract {
+    CursorPage<PatientSummary> listPatients(UUID organizationId, String cursor, Integer limit);
+
+    PatientChart getChart(UUID patientId);
 }
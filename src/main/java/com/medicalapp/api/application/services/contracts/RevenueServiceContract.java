@@ -0,0 +1,16 @@
+package com.medicalapp.api.application.services.contracts;
+
+import com.medicalapp.api.application.revenue.RevenueTotal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface RevenueServiceContract {
+    List<RevenueTotal> dailyTotals(LocalDate from, LocalDate to, String currency);
+
+    List<RevenueTotal> totals(LocalDate from, LocalDate to);
+
+    List<RevenueTotal> customerTotals(UUID customerId, LocalDate from, LocalDate to);
+
+    void rebuild();
+}
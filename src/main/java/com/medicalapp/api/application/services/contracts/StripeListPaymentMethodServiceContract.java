@@ -1,4 +1,13 @@
 package com.medicalapp.api.application.services.contracts;
 
+import com.medicalapp.api.application.payments.PaymentMethod;
+import java.util.List;
+import java.util.UUID;
+
 public interface StripeListPaymentMethodServiceContract {
+    // May be up to medicalapp.payment-methods.ttl old, unless changed through this application
+    List<PaymentMethod> listPaymentMethods(UUID customerId);
+
+    // Drops the customer's cached listing after its payment methods changed
+    void invalidate(UUID customerId);
 }
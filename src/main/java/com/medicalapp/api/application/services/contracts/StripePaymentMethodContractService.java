@@ -1,4 +1,10 @@
 package com.medicalapp.api.application.services.contracts;
 
+import com.medicalapp.api.application.payments.PaymentMethod;
+import java.util.UUID;
+
 public interface StripePaymentMethodContractService {
+    PaymentMethod attach(UUID customerId, String paymentMethodId);
+
+    void detach(UUID customerId, String paymentMethodId);
 }
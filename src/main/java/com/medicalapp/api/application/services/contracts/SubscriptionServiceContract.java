@@ -1,4 +1,15 @@
 package com.medicalapp.api.application.services.contracts;
 
+import com.medicalapp.api.domain.entities.Subscription;
+import com.medicalapp.api.domain.valueobjects.BillingInterval;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 public interface SubscriptionServiceContract {
+    // The first period is billed at startsAt, then one renewal per interval
+    Subscription subscribe(UUID customerId, String plan, BigDecimal amount, String currency,
+                           String paymentMethod, BillingInterval interval, LocalDateTime startsAt);
+
+    Subscription cancel(UUID subscriptionId);
 }
@@ -1,4 +1,169 @@
 package com.medicalapp.api.application.services.implementations;
 
-public class AppointmentService {
+import com.medicalapp.api.application.concurrency.FanOut;
+import com.medicalapp.api.application.scheduling.AppointmentConflictException;
+import com.medicalapp.api.application.scheduling.AvailabilitySearch;
+import com.medicalapp.api.application.scheduling.AvailableSlot;
+import com.medicalapp.api.application.scheduling.DoctorSchedule;
+import com.medicalapp.api.application.scheduling.ScheduleIndex;
+import com.medicalapp.api.application.scheduling.TimeSlot;
+import com.medicalapp.api.application.services.contracts.AppointmentServiceContract;
+import com.medicalapp.api.domain.contracts.AppointmentRepositoryContract;
+import com.medicalapp.api.domain.contracts.DoctorRepositoryContract;
+import com.medicalapp.api.domain.contracts.PatientRepositoryContract;
+import com.medicalapp.api.domain.entities.Appointment;
+import com.medicalapp.api.domain.entities.Doctor;
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.queries.AppointmentSummary;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import org.springframework.stereotype.Service;
+
+// The slot is reserved in this instance's copy of the doctor's schedule first, so concurrent
+// bookings of the same slot fail fast without touching the database. The database has the final
+// word across instances: a write that finds the slot taken, or fails, gives the slot back.
+@Service
+public class AppointmentService implements AppointmentServiceContract {
+    private static final int MAX_FREE_SLOTS = 500;
+    private static final Duration MAX_SEARCH_WINDOW = Duration.ofDays(31);
+    private static final int DOCTORS_PER_TASK = 32;
+
+    private final AppointmentRepositoryContract appointmentRepository;
+    private final DoctorRepositoryContract doctorRepository;
+    private final PatientRepositoryContract patientRepository;
+    private final ScheduleIndex scheduleIndex;
+    private final FanOut fanOut;
+
+    public AppointmentService(AppointmentRepositoryContract appointmentRepository,
+                              DoctorRepositoryContract doctorRepository,
+                              PatientRepositoryContract patientRepository,
+                              ScheduleIndex scheduleIndex,
+                              FanOut fanOut) {
+        this.appointmentRepository = appointmentRepository;
+        this.doctorRepository = doctorRepository;
+        this.patientRepository = patientRepository;
+        this.scheduleIndex = scheduleIndex;
+        this.fanOut = fanOut;
+    }
+
+    @Override
+    public AppointmentSummary book(UUID doctorId, UUID patientId, LocalDateTime startsAt, LocalDateTime endsAt) {
+        Objects.requireNonNull(startsAt, "Start time cannot be null");
+        if (startsAt.isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Appointments cannot be booked in the past");
+        }
+        Doctor doctor = doctorRepository.findById(doctorId)
+                .orElseThrow(() -> new NoSuchElementException("Doctor not found: " + doctorId));
+        Patient patient = patientRepository.findById(patientId)
+                .orElseThrow(() -> new NoSuchElementException("Patient not found: " + patientId));
+        if (!doctor.getOrganizationId().equals(patient.getOrganizationId())) {
+            throw new IllegalArgumentException("Patient and doctor belong to different organizations");
+        }
+
+        Appointment appointment = Appointment.schedule(doctorId, patientId, startsAt, endsAt);
+        DoctorSchedule schedule = scheduleIndex.forDoctor(doctorId);
+        if (!schedule.tryReserve(appointment)) {
+            throw new AppointmentConflictException("Doctor already has an appointment in this period");
+        }
+        boolean saved;
+        try {
+            saved = appointmentRepository.saveIfFree(appointment);
+        } catch (RuntimeException e) {
+            schedule.release(appointment);
+            if (e instanceof AppointmentConflictException) {
+                scheduleIndex.evict(doctorId);
+            }
+            throw e;
+        }
+        if (!saved) {
+            // Booked through another instance since this schedule was loaded
+            schedule.release(appointment);
+            scheduleIndex.evict(doctorId);
+            throw new AppointmentConflictException("Doctor already has an appointment in this period");
+        }
+        return AppointmentSummary.of(appointment);
+    }
+
+    @Override
+    public void cancel(UUID appointmentId) {
+        Appointment appointment = appointmentRepository.findById(appointmentId)
+                .orElseThrow(() -> new NoSuchElementException("Appointment not found: " + appointmentId));
+        if (!appointment.isScheduled()) {
+            throw new AppointmentConflictException("Appointment is already cancelled");
+        }
+        appointment.cancel();
+        appointmentRepository.save(appointment);
+        scheduleIndex.forDoctor(appointment.getDoctorId()).release(appointment);
+    }
+
+    @Override
+    public List<TimeSlot> findFreeSlots(UUID doctorId, LocalDateTime from, LocalDateTime to, Duration length,
+                                        int limit) {
+        Objects.requireNonNull(doctorId, "Doctor ID cannot be null");
+        validateSearch(from, to, length, limit);
+        return scheduleIndex.forDoctor(doctorId).freeSlots(from, to, length, limit);
+    }
+
+    // Schedules are loaded in one query, then bitmaps are built in parallel over groups of doctors
+    @Override
+    public List<AvailableSlot> findEarliestSlots(UUID organizationId, String specialty, LocalDateTime from,
+                                                 LocalDateTime to, Duration length, int limit) {
+        Objects.requireNonNull(organizationId, "Organization ID cannot be null");
+        validateSearch(from, to, length, limit);
+        if (Duration.between(from, to).compareTo(MAX_SEARCH_WINDOW) > 0) {
+            throw new IllegalArgumentException("Search window cannot be longer than 31 days");
+        }
+        List<Doctor> doctors = doctorRepository.findByOrganizationId(organizationId).stream()
+                .filter(doctor -> specialty == null || doctor.getSpecialty().equalsIgnoreCase(specialty))
+                .sorted(Comparator.comparing(Doctor::getId))
+                .toList();
+        if (doctors.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        AvailabilitySearch search = new AvailabilitySearch(from.isBefore(now) ? now : from, to, length);
+        Map<UUID, DoctorSchedule> schedules = scheduleIndex.forDoctors(doctors.stream().map(Doctor::getId).toList());
+
+        if (doctors.size() <= DOCTORS_PER_TASK) {
+            return search.earliest(doctors, startsFor(search, schedules, doctors), limit);
+        }
+        List<Callable<List<BitSet>>> tasks = new ArrayList<>();
+        for (int start = 0; start < doctors.size(); start += DOCTORS_PER_TASK) {
+            List<Doctor> group = doctors.subList(start, Math.min(start + DOCTORS_PER_TASK, doctors.size()));
+            tasks.add(() -> startsFor(search, schedules, group));
+        }
+        List<BitSet> starts = new ArrayList<>(doctors.size());
+        fanOut.all(tasks).forEach(starts::addAll);
+        return search.earliest(doctors, starts, limit);
+    }
+
+    private static List<BitSet> startsFor(AvailabilitySearch search, Map<UUID, DoctorSchedule> schedules,
+                                          List<Doctor> doctors) {
+        List<BitSet> starts = new ArrayList<>(doctors.size());
+        for (Doctor doctor : doctors) {
+            starts.add(search.startsFor(schedules.get(doctor.getId())));
+        }
+        return starts;
+    }
+
+    private static void validateSearch(LocalDateTime from, LocalDateTime to, Duration length, int limit) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Search window must end after it starts");
+        }
+        if (length == null || length.isNegative() || length.isZero()) {
+            throw new IllegalArgumentException("Slot length must be positive");
+        }
+        if (limit < 1 || limit > MAX_FREE_SLOTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_FREE_SLOTS);
+        }
+    }
 }
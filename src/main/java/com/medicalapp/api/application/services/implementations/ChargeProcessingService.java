@@ -0,0 +1,235 @@
+package com.medicalapp.api.application.services.implementations;
+
+import com.medicalapp.api.application.payments.ChargeEngineMetrics;
+import com.medicalapp.api.application.payments.ChargeEngineProperties;
+import com.medicalapp.api.application.payments.ChargeRequest;
+import com.medicalapp.api.application.payments.ChargeRunReport;
+import com.medicalapp.api.application.payments.GatewayResult;
+import com.medicalapp.api.application.payments.PaymentGateway;
+import com.medicalapp.api.application.payments.PaymentGatewayException;
+import com.medicalapp.api.application.services.contracts.ChargeProcessingServiceContract;
+import com.medicalapp.api.domain.contracts.ChargeRepositoryContract;
+import com.medicalapp.api.domain.entities.Charge;
+import com.medicalapp.api.domain.queries.Keyset;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+// Walks PENDING charges oldest first, one page at a time. Within a page the charges of a
+// customer run in creation order on one task, and at most `concurrency` customers are charged
+// at once. A customer whose charge is left PENDING is skipped for the rest of the run. Gateway
+// calls carry the charge's idempotency key, so retries, and a re-run after a crash between
+// charging and recording the status, never charge twice. A charge the gateway is still
+// processing keeps its reference, and later runs ask for that payment's outcome. Statuses are
+// written in batches of status-batch-size.
+@Service
+@EnableConfigurationProperties(ChargeEngineProperties.class)
+public class ChargeProcessingService implements ChargeProcessingServiceContract {
+    private static final Logger log = LoggerFactory.getLogger(ChargeProcessingService.class);
+
+    private final ChargeRepositoryContract chargeRepository;
+    private final PaymentGateway gateway;
+    private final ChargeEngineProperties properties;
+    private final ChargeEngineMetrics metrics;
+    private final ThreadFactory threadFactory;
+
+    public ChargeProcessingService(ChargeRepositoryContract chargeRepository, PaymentGateway gateway,
+                                   ChargeEngineProperties properties, ChargeEngineMetrics metrics,
+                                   Environment environment) {
+        this.chargeRepository = chargeRepository;
+        this.gateway = gateway;
+        this.properties = properties;
+        this.metrics = metrics;
+        this.threadFactory = Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("charge-", 0).factory()
+                : Thread.ofPlatform().name("charge-", 0).daemon().factory();
+    }
+
+    @Override
+    public ChargeRunReport processPending() {
+        long started = System.nanoTime();
+        ChargeRun run = new ChargeRun();
+        Semaphore permits = new Semaphore(properties.concurrency());
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(threadFactory)) {
+            Keyset after = null;
+            List<Charge> page;
+            while (!(page = chargeRepository.findPending(after, properties.pageSize())).isEmpty()) {
+                runPage(page, executor, permits, run);
+                Charge last = page.get(page.size() - 1);
+                after = new Keyset(last.getCreatedAt(), last.getId());
+                if (page.size() < properties.pageSize()) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            run.flushStatuses();
+        }
+        ChargeRunReport report = new ChargeRunReport(run.attempted.sum(), run.succeeded.sum(), run.failed.sum(),
+                run.leftPending.sum(), run.retries.sum(), run.statusWriteFailures.sum(),
+                Duration.ofNanos(System.nanoTime() - started));
+        metrics.runFinished(report);
+        return report;
+    }
+
+    // Waits for the whole page, so a customer's next page can't overtake this one
+    private void runPage(List<Charge> page, ExecutorService executor, Semaphore permits, ChargeRun run)
+            throws InterruptedException {
+        Map<UUID, List<Charge>> byCustomer = new LinkedHashMap<>();
+        for (Charge charge : page) {
+            byCustomer.computeIfAbsent(charge.getCustomer().getId(), id -> new ArrayList<>()).add(charge);
+        }
+        for (Map.Entry<UUID, List<Charge>> customer : byCustomer.entrySet()) {
+            List<Charge> charges = customer.getValue();
+            if (run.heldBack.contains(customer.getKey())) {
+                run.leftPending.add(charges.size());
+                continue;
+            }
+            permits.acquire();
+            executor.execute(() -> {
+                try {
+                    chargeInOrder(customer.getKey(), charges, run);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+        permits.acquire(properties.concurrency());
+        permits.release(properties.concurrency());
+    }
+
+    // A charge left PENDING holds back the customer's later charges, on this page and the
+    // following ones, until the next run
+    private void chargeInOrder(UUID customerId, List<Charge> charges, ChargeRun run) {
+        for (int i = 0; i < charges.size(); i++) {
+            if (!charge(charges.get(i), run)) {
+                run.heldBack.add(customerId);
+                run.leftPending.add(charges.size() - i - 1);
+                return;
+            }
+        }
+    }
+
+    private boolean charge(Charge charge, ChargeRun run) {
+        ChargeRequest request = ChargeRequest.from(charge);
+        run.attempted.increment();
+        metrics.chargeStarted();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    GatewayResult result = gateway.charge(request);
+                    charge.recordGatewayReference(result.reference());
+                    if (result.outcome() == GatewayResult.Outcome.PROCESSING) {
+                        log.info("Charge {} is still processing as {}", charge.getId(), result.reference());
+                        run.leftPending.increment();
+                        run.statusChanged(charge);
+                        return false;
+                    }
+                    if (result.outcome() == GatewayResult.Outcome.SUCCEEDED) {
+                        charge.markAsSucceeded();
+                        run.succeeded.increment();
+                        metrics.chargeSucceeded();
+                    } else {
+                        charge.markAsFailed();
+                        run.failed.increment();
+                        metrics.chargeFailed();
+                    }
+                    run.statusChanged(charge);
+                    return true;
+                } catch (PaymentGatewayException e) {
+                    if (attempt == properties.maxAttempts() || !backOff(attempt)) {
+                        log.warn("Charge {} left pending after {} attempts: {}", charge.getId(), attempt, e.getMessage());
+                        run.leftPending.increment();
+                        return false;
+                    }
+                    run.retries.increment();
+                    metrics.retried();
+                }
+            }
+        } finally {
+            metrics.chargeFinished();
+        }
+    }
+
+    // Full jitter: a random delay up to the capped exponential backoff spreads out retries
+    // from many customers that failed together
+    private boolean backOff(int attempt) {
+        long cap = Math.min(properties.maxBackoff().toNanos(),
+                properties.initialBackoff().toNanos() << Math.min(attempt - 1, 30));
+        try {
+            Thread.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(cap + 1)));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private final class ChargeRun {
+        private final LongAdder attempted = new LongAdder();
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder leftPending = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder statusWriteFailures = new LongAdder();
+        private final Set<UUID> heldBack = ConcurrentHashMap.newKeySet();
+        private List<Charge> statuses = new ArrayList<>();
+
+        private void statusChanged(Charge charge) {
+            List<Charge> full = null;
+            synchronized (this) {
+                statuses.add(charge);
+                if (statuses.size() >= properties.statusBatchSize()) {
+                    full = statuses;
+                    statuses = new ArrayList<>();
+                }
+            }
+            if (full != null) {
+                write(full);
+            }
+        }
+
+        private void flushStatuses() {
+            List<Charge> remaining;
+            synchronized (this) {
+                remaining = statuses;
+                statuses = new ArrayList<>();
+            }
+            if (!remaining.isEmpty()) {
+                write(remaining);
+            }
+        }
+
+        // The charges stay PENDING in storage; the next run replays them with the same
+        // idempotency keys and records the gateway's original outcome
+        private void write(List<Charge> batch) {
+            try {
+                int written = chargeRepository.updateStatuses(batch).size();
+                if (written < batch.size()) {
+                    log.info("{} charges had already been settled by another run", batch.size() - written);
+                }
+            } catch (RuntimeException e) {
+                statusWriteFailures.add(batch.size());
+                log.error("Could not record the status of {} charges", batch.size(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.medicalapp.api.application.services.implementations;
+
+import com.medicalapp.api.application.exports.ClinicalExportSource;
+import com.medicalapp.api.application.exports.ClinicalExportWriter;
+import com.medicalapp.api.application.exports.ExportCheckpoint;
+import com.medicalapp.api.application.exports.ExportCheckpoint.Section;
+import com.medicalapp.api.application.exports.ExportProperties;
+import com.medicalapp.api.application.exports.ExportSummary;
+import com.medicalapp.api.application.services.contracts.ClinicalExportServiceContract;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.UUID;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+// Rows go from the source's open read straight to the writer. A checkpoint follows every
+// `checkpointInterval` rows and every finished section, so a failed export is resumed at most that
+// many rows back.
+@Service
+@EnableConfigurationProperties(ExportProperties.class)
+public class ClinicalExportService implements ClinicalExportServiceContract {
+    private final ClinicalExportSource source;
+    private final int checkpointInterval;
+
+    public ClinicalExportService(ClinicalExportSource source, ExportProperties properties) {
+        this.source = source;
+        this.checkpointInterval = properties.checkpointInterval();
+    }
+
+    @Override
+    public ExportSummary export(UUID organizationId, ExportCheckpoint from, ClinicalExportWriter writer) {
+        Objects.requireNonNull(organizationId, "Organization ID cannot be null");
+        Objects.requireNonNull(from, "Checkpoint cannot be null");
+        Objects.requireNonNull(writer, "Writer cannot be null");
+        ExportRun run = new ExportRun(writer, checkpointInterval);
+        ExportCheckpoint position = from;
+        if (position.section() == Section.PATIENTS) {
+            source.patients(organizationId, position, (patient, next) -> run.row(next, () -> writer.patient(patient)));
+            position = run.sectionDone(Section.MEDICAL_RECORDS);
+        }
+        if (position.section() == Section.MEDICAL_RECORDS) {
+            source.medicalRecords(organizationId, position,
+                    (medicalRecord, next) -> run.row(next, () -> writer.medicalRecord(medicalRecord)));
+            position = run.sectionDone(Section.HISTORY_RECORDS);
+        }
+        source.historyRecords(organizationId, position,
+                (historyRecord, next) -> run.row(next, () -> writer.historyRecord(historyRecord)));
+        ExportSummary summary = run.summary();
+        run.write(() -> writer.complete(summary));
+        return summary;
+    }
+
+    private interface Write {
+        void run() throws IOException;
+    }
+
+    private static final class ExportRun {
+        private final ClinicalExportWriter writer;
+        private final int checkpointInterval;
+        private final long[] rows = new long[Section.values().length];
+        private int sinceCheckpoint;
+
+        ExportRun(ClinicalExportWriter writer, int checkpointInterval) {
+            this.writer = writer;
+            this.checkpointInterval = checkpointInterval;
+        }
+
+        void row(ExportCheckpoint next, Write row) {
+            write(row);
+            rows[next.section().ordinal()]++;
+            if (++sinceCheckpoint == checkpointInterval) {
+                checkpoint(next);
+            }
+        }
+
+        // A resume must not read the finished section again, even when it ended between checkpoints
+        ExportCheckpoint sectionDone(Section next) {
+            ExportCheckpoint start = ExportCheckpoint.start(next);
+            checkpoint(start);
+            return start;
+        }
+
+        ExportSummary summary() {
+            return new ExportSummary(rows[Section.PATIENTS.ordinal()], rows[Section.MEDICAL_RECORDS.ordinal()],
+                    rows[Section.HISTORY_RECORDS.ordinal()]);
+        }
+
+        void write(Write write) {
+            try {
+                write.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void checkpoint(ExportCheckpoint checkpoint) {
+            write(() -> writer.checkpoint(checkpoint));
+            sinceCheckpoint = 0;
+        }
+    }
+}
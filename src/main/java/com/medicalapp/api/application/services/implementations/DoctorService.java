@@ -0,0 +1,29 @@
+package com.medicalapp.api.application.services.implementations;
+
+import com.medicalapp.api.application.services.contracts.DoctorServiceContract;
+import com.medicalapp.api.domain.contracts.DoctorRepositoryContract;
+import com.medicalapp.api.domain.contracts.OrganizationRepositoryContract;
+import com.medicalapp.api.domain.entities.Doctor;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+@Service
+public class DoctorService implements DoctorServiceContract {
+    private final DoctorRepositoryContract doctorRepository;
+    private final OrganizationRepositoryContract organizationRepository;
+
+    public DoctorService(DoctorRepositoryContract doctorRepository,
+                         OrganizationRepositoryContract organizationRepository) {
+        this.doctorRepository = doctorRepository;
+        this.organizationRepository = organizationRepository;
+    }
+
+    @Override
+    public Doctor register(UUID organizationId, String name, String specialty) {
+        if (organizationRepository.findById(organizationId).isEmpty()) {
+            throw new NoSuchElementException("Organization not found: " + organizationId);
+        }
+        return doctorRepository.save(new Doctor(organizationId, name, specialty));
+    }
+}
@@ -0,0 +1,67 @@
+package com.medicalapp.api.application.services.implementations;
+
+import com.medicalapp.api.application.pagination.CursorCodec;
+import com.medicalapp.api.application.pagination.CursorPage;
+import com.medicalapp.api.application.search.MedicalRecordHit;
+import com.medicalapp.api.application.search.MedicalRecordSearchIndex;
+import com.medicalapp.api.application.services.contracts.MedicalRecordServiceContract;
+import com.medicalapp.api.application.views.MedicalRecordDocument;
+import com.medicalapp.api.domain.contracts.MMedicalRecordRepositoryContract;
+import com.medicalapp.api.domain.queries.MedicalRecordSummary;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+@Service
+public class MedicalRecordService implements MedicalRecordServiceContract {
+    private static final int MAX_QUERY_LENGTH = 500;
+
+    private final MMedicalRecordRepositoryContract medicalRecordRepository;
+    private final MedicalRecordSearchIndex searchIndex;
+
+    public MedicalRecordService(MMedicalRecordRepositoryContract medicalRecordRepository,
+                                MedicalRecordSearchIndex searchIndex) {
+        this.medicalRecordRepository = medicalRecordRepository;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public MedicalRecordDocument getMedicalRecord(UUID medicalRecordId) {
+        Objects.requireNonNull(medicalRecordId, "Medical record ID cannot be null");
+        return medicalRecordRepository.findById(medicalRecordId).map(MedicalRecordDocument::of)
+                .orElseThrow(() -> new NoSuchElementException("Medical record " + medicalRecordId + " not found"));
+    }
+
+    @Override
+    public CursorPage<MedicalRecordSummary> listByPatient(UUID patientId, String cursor, Integer limit) {
+        Objects.requireNonNull(patientId, "Patient ID cannot be null");
+        return CursorCodec.toCursorPage(medicalRecordRepository.findSummariesByPatient(
+                patientId, CursorCodec.decode(cursor), CursorCodec.clampLimit(limit)));
+    }
+
+    @Override
+    public CursorPage<MedicalRecordSummary> listByDoctor(UUID doctorId, String cursor, Integer limit) {
+        Objects.requireNonNull(doctorId, "Doctor ID cannot be null");
+        return CursorCodec.toCursorPage(medicalRecordRepository.findSummariesByDoctor(
+                doctorId, CursorCodec.decode(cursor), CursorCodec.clampLimit(limit)));
+    }
+
+    @Override
+    public CursorPage<MedicalRecordHit> search(UUID organizationId, String query, String cursor, Integer limit) {
+        Objects.requireNonNull(organizationId, "Organization ID cannot be null");
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query exceeds maximum length");
+        }
+        return searchIndex.search(organizationId, query, cursor, CursorCodec.clampLimit(limit));
+    }
+
+    @Override
+    public int rebuildSearchIndex(UUID organizationId) {
+        Objects.requireNonNull(organizationId, "Organization ID cannot be null");
+        return searchIndex.rebuild(organizationId);
+    }
+}
@@ -0,0 +1,313 @@
+package com.medicalapp.api.application.services.implementations;
+
+import com.medicalapp.api.application.imports.ImportReport;
+import com.medicalapp.api.application.imports.ImportRow;
+import com.medicalapp.api.application.imports.IntHashSet;
+import com.medicalapp.api.application.imports.PatientImportMetrics;
+import com.medicalapp.api.application.imports.PatientImportProperties;
+import com.medicalapp.api.application.imports.PatientRowReader;
+import com.medicalapp.api.application.imports.RowError;
+import com.medicalapp.api.application.services.contracts.PatientImportServiceContract;
+import com.medicalapp.api.domain.contracts.PatientRepositoryContract;
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.validation.PatientBatchValidator;
+import com.medicalapp.api.domain.validation.PatientInput;
+import com.medicalapp.api.domain.validation.Violation;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+// Reader -> parallel validation -> ordered dedupe and batched writes.
+// The reader blocks once `parallelism * 2` chunks are waiting for the writer, so memory
+// is bounded by chunk size regardless of file size; only the SSN dedupe set grows with it.
+@Service
+@EnableConfigurationProperties(PatientImportProperties.class)
+public class PatientImportService implements PatientImportServiceContract {
+    private static final PendingChunk END_OF_INPUT = new PendingChunk(0, 0, CompletableFuture.completedFuture(List.of()));
+
+    private final PatientRepositoryContract patientRepository;
+    private final PatientImportProperties properties;
+    private final PatientImportMetrics metrics;
+    private final PatientBatchValidator validator = new PatientBatchValidator();
+
+    public PatientImportService(PatientRepositoryContract patientRepository,
+                                PatientImportProperties properties,
+                                PatientImportMetrics metrics) {
+        this.patientRepository = patientRepository;
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ImportReport importPatients(UUID organizationId, PatientRowReader rows) {
+        Objects.requireNonNull(organizationId, "Organization ID cannot be null");
+        Objects.requireNonNull(rows, "Rows cannot be null");
+        long started = System.nanoTime();
+        metrics.importStarted();
+        ImportJob job = new ImportJob(organizationId, properties.maxReportedErrors());
+        BlockingQueue<PendingChunk> pending = new ArrayBlockingQueue<>(properties.parallelism() * 2);
+        Thread writer = new Thread(() -> drain(pending, job), "patient-import-writer");
+        writer.start();
+        long rowsParsed = 0;
+        long stoppedAt = 0;
+        try (ExecutorService validators = Executors.newFixedThreadPool(properties.parallelism())) {
+            List<ImportRow> chunk = new ArrayList<>(properties.chunkSize());
+            try (rows) {
+                ImportRow row;
+                while ((row = rows.next()) != null) {
+                    rowsParsed++;
+                    chunk.add(row);
+                    if (chunk.size() == properties.chunkSize()) {
+                        if (!submit(validators, pending, writer, organizationId, chunk)) {
+                            stoppedAt = chunk.get(0).rowNumber();
+                            break;
+                        }
+                        chunk = new ArrayList<>(properties.chunkSize());
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                job.fail(new RowError(rowsParsed + 1, "file", "Unreadable input: " + e.getMessage()));
+            }
+            if (stoppedAt == 0 && !chunk.isEmpty() && !submit(validators, pending, writer, organizationId, chunk)) {
+                stoppedAt = chunk.get(0).rowNumber();
+            }
+            if (stoppedAt != 0) {
+                job.fail(new RowError(stoppedAt, "file", "Import stopped: the writer exited"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail(new RowError(rowsParsed + 1, "file", "Import interrupted"));
+        } finally {
+            finish(pending, writer);
+        }
+
+        ImportReport report = new ImportReport(organizationId, job.rowsRead, job.rowsImported, job.rowsRejected,
+                job.duplicateRows, job.errors, job.errorsTruncated, Duration.ofNanos(System.nanoTime() - started));
+        metrics.importFinished(report);
+        return report;
+    }
+
+    // False once the writer has exited; the chunk is then dropped and nothing more is read
+    private boolean submit(ExecutorService validators, BlockingQueue<PendingChunk> pending, Thread writer,
+                           UUID organizationId, List<ImportRow> chunk) throws InterruptedException {
+        Future<List<ValidatedRow>> validated = validators.submit(() -> validate(organizationId, chunk));
+        if (!handOff(pending, new PendingChunk(chunk.get(0).rowNumber(), chunk.size(), validated), writer)) {
+            validated.cancel(true);
+            return false;
+        }
+        return true;
+    }
+
+    // A writer that exited no longer empties the queue, so waiting on a full one is bounded
+    private static boolean handOff(BlockingQueue<PendingChunk> pending, PendingChunk chunk, Thread writer)
+            throws InterruptedException {
+        while (!pending.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+            if (!writer.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void finish(BlockingQueue<PendingChunk> pending, Thread writer) {
+        boolean interrupted = false;
+        boolean ended = false;
+        while (true) {
+            try {
+                if (!ended) {
+                    handOff(pending, END_OF_INPUT, writer);
+                    ended = true;
+                }
+                writer.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<ValidatedRow> validate(UUID organizationId, List<ImportRow> chunk) {
+        List<PatientInput> inputs = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            inputs.add(row.input().withOrganizationId(organizationId));
+        }
+        List<List<RowError>> errors = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            errors.add(new ArrayList<>(row.parseErrors()));
+        }
+        for (Violation violation : validator.validateAll(inputs)) {
+            long rowNumber = chunk.get(violation.index()).rowNumber();
+            errors.get(violation.index()).add(new RowError(rowNumber, violation.field(), violation.message()));
+        }
+
+        List<ValidatedRow> validated = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            ImportRow row = chunk.get(i);
+            List<RowError> rowErrors = errors.get(i);
+            if (!rowErrors.isEmpty()) {
+                validated.add(new ValidatedRow(row.rowNumber(), null, rowErrors));
+                continue;
+            }
+            PatientInput input = row.input();
+            Patient patient = Patient.create(organizationId, input.name(), SSN.of(input.ssn()),
+                    input.dateOfBirth(), input.gender(), input.address(), input.contact());
+            validated.add(new ValidatedRow(row.rowNumber(), patient, List.of()));
+        }
+        return validated;
+    }
+
+    // Runs on a single thread, in submission order, so "first row wins" dedupe is deterministic
+    private void drain(BlockingQueue<PendingChunk> pending, ImportJob job) {
+        while (true) {
+            PendingChunk next;
+            try {
+                next = pending.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (next == END_OF_INPUT) {
+                return;
+            }
+            job.rowsRead += next.rows();
+            metrics.rowsRead(next.rows());
+            long settled = job.settledRows();
+            try {
+                write(next.validated().get(), job);
+            } catch (ExecutionException | RuntimeException e) {
+                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                job.failChunk(next, next.rows() - (job.settledRows() - settled), cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void write(List<ValidatedRow> chunk, ImportJob job) {
+        // An SSN counts as seen once its row is written; until then only this chunk's rows repeat it
+        IntHashSet chunkSsns = new IntHashSet(chunk.size());
+        List<ValidatedRow> candidates = new ArrayList<>(chunk.size());
+        List<SSN> ssns = new ArrayList<>(chunk.size());
+        for (ValidatedRow row : chunk) {
+            if (row.patient() == null) {
+                job.reject(row.errors());
+            } else if (job.writtenSsns.contains(row.patient().getSsn().packed())
+                    || !chunkSsns.add(row.patient().getSsn().packed())) {
+                job.duplicate(row.rowNumber(), "Duplicate SSN in import file");
+            } else {
+                candidates.add(row);
+                ssns.add(row.patient().getSsn());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<SSN> existing = patientRepository.findExistingSsns(job.organizationId, ssns);
+        List<Patient> batch = new ArrayList<>(candidates.size());
+        List<ValidatedRow> batchRows = new ArrayList<>(candidates.size());
+        for (ValidatedRow row : candidates) {
+            if (existing.contains(row.patient().getSsn())) {
+                job.duplicate(row.rowNumber(), "SSN already registered in organization");
+            } else {
+                batch.add(row.patient());
+                batchRows.add(row);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            patientRepository.saveAll(batch);
+            for (Patient patient : batch) {
+                job.writtenSsns.add(patient.getSsn().packed());
+            }
+            job.rowsImported += batch.size();
+            metrics.rowsImported(batch.size());
+        } catch (RuntimeException e) {
+            for (ValidatedRow row : batchRows) {
+                job.reject(List.of(new RowError(row.rowNumber(), "patient", "Write failed: " + e.getMessage())));
+            }
+        }
+    }
+
+    private record PendingChunk(long firstRow, int rows, Future<List<ValidatedRow>> validated) {
+    }
+
+    private record ValidatedRow(long rowNumber, Patient patient, List<RowError> errors) {
+    }
+
+    // Mutated only by the writer thread until it is joined
+    private final class ImportJob {
+        private final UUID organizationId;
+        private final int maxReportedErrors;
+        private final IntHashSet writtenSsns = new IntHashSet(1 << 16);
+        private final List<RowError> errors = new ArrayList<>();
+        private boolean errorsTruncated;
+        private long rowsRead;
+        private long rowsImported;
+        private long rowsRejected;
+        private long duplicateRows;
+
+        private ImportJob(UUID organizationId, int maxReportedErrors) {
+            this.organizationId = organizationId;
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void reject(List<RowError> rowErrors) {
+            rowsRejected++;
+            metrics.rowsRejected(1);
+            report(rowErrors);
+        }
+
+        private void duplicate(long rowNumber, String message) {
+            duplicateRows++;
+            reject(List.of(new RowError(rowNumber, "ssn", message)));
+        }
+
+        private long settledRows() {
+            return rowsImported + rowsRejected;
+        }
+
+        // The chunk's rows that were neither written nor rejected before it failed are rejected
+        // under one error pointing at its first row
+        private void failChunk(PendingChunk chunk, long unsettledRows, Throwable cause) {
+            rowsRejected += unsettledRows;
+            metrics.rowsRejected(unsettledRows);
+            fail(new RowError(chunk.firstRow(), "chunk", "Chunk failed: " + cause.getMessage()));
+        }
+
+        private synchronized void fail(RowError error) {
+            report(List.of(error));
+        }
+
+        private synchronized void report(List<RowError> rowErrors) {
+            for (RowError error : rowErrors) {
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(error);
+                } else {
+                    errorsTruncated = true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.medicalapp.api.application.services.implementations;
+
+import com.medicalapp.api.application.concurrency.FanOut;
+import com.medicalapp.api.application.pagination.CursorCodec;
+import com.medicalapp.api.application.pagination.CursorPage;
+import com.medicalapp.api.application.services.contracts.PatientServiceContract;
+import com.medicalapp.api.application.views.PatientChart;
+import com.medicalapp.api.domain.contracts.MMedicalRecordRepositoryContract;
+import com.medicalapp.api.domain.contracts.PatientRepositoryContract;
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.queries.PatientSummary;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PatientService implements PatientServiceContract {
+    private static final int CHART_RECORDS = 20;
+
+    private final PatientRepositoryContract patientRepository;
+    private final MMedicalRecordRepositoryContract medicalRecordRepository;
+    private final FanOut fanOut;
+
+    public PatientService(PatientRepositoryContract patientRepository,
+                          MMedicalRecordRepositoryContract medicalRecordRepository,
+                          FanOut fanOut) {
+        this.patientRepository = patientRepository;
+        this.medicalRecordRepository = medicalRecordRepository;
+        this.fanOut = fanOut;
+    }
+
+    @Override
+    public CursorPage<PatientSummary> listPatients(UUID organizationId, String cursor, Integer limit) {
+        Objects.requireNonNull(organizationId, "Organization ID cannot be null");
+        return CursorCodec.toCursorPage(patientRepository.findSummariesByOrganization(
+                organizationId, CursorCodec.decode(cursor), CursorCodec.clampLimit(limit)));
+    }
+
+    // Both reads only need the patient id, so they go out together
+    @Override
+    public PatientChart getChart(UUID patientId) {
+        Objects.requireNonNull(patientId, "Patient ID cannot be null");
+        return fanOut.both(
+                () -> patientRepository.findById(patientId),
+                () -> medicalRecordRepository.findSummariesByPatient(patientId, null, CHART_RECORDS),
+                (patient, records) -> new PatientChart(
+                        PatientSummary.of(found(patient, patientId)), CursorCodec.toCursorPage(records)));
+    }
+
+    private static Patient found(Optional<Patient> patient, UUID patientId) {
+        return patient.orElseThrow(() -> new NoSuchElementException("Patient " + patientId + " not found"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.medicalapp.api.application.services.implementations;
+
+import com.medicalapp.api.application.revenue.RevenueTotal;
+import com.medicalapp.api.application.services.contracts.RevenueServiceContract;
+import com.medicalapp.api.domain.contracts.ChargeRepositoryContract;
+import com.medicalapp.api.domain.queries.RevenueBucket;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+// Totals come from the revenue rollups, which the charge repository updates in the same
+// transaction as the charges, so every instance answers the same. The rollups are filled from
+// the charges table on the first start against an empty table; rebuild() repairs them later.
+@Service
+public class RevenueService implements RevenueServiceContract {
+    private final ChargeRepositoryContract chargeRepository;
+
+    public RevenueService(ChargeRepositoryContract chargeRepository) {
+        this.chargeRepository = chargeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillRollups() {
+        if (!chargeRepository.hasRevenueRollups()) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        chargeRepository.rebuildRevenue();
+    }
+
+    @Override
+    public List<RevenueTotal> dailyTotals(LocalDate from, LocalDate to, String currency) {
+        requireRange(from, to);
+        return toTotals(chargeRepository.dailyRevenue(from, to, currency));
+    }
+
+    @Override
+    public List<RevenueTotal> totals(LocalDate from, LocalDate to) {
+        requireRange(from, to);
+        return toTotals(chargeRepository.revenue(from, to, null));
+    }
+
+    @Override
+    public List<RevenueTotal> customerTotals(UUID customerId, LocalDate from, LocalDate to) {
+        Objects.requireNonNull(customerId, "Customer ID cannot be null");
+        requireRange(from, to);
+        return toTotals(chargeRepository.revenue(from, to, customerId));
+    }
+
+    private static List<RevenueTotal> toTotals(List<RevenueBucket> buckets) {
+        return buckets.stream()
+                .map(bucket -> new RevenueTotal(bucket.day(), bucket.currency(), bucket.status(), bucket.charges(),
+                        bucket.amountMinor()))
+                .toList();
+    }
+
+    private static void requireRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Date range is required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+    }
+}
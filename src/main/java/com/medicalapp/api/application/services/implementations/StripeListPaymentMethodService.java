@@ -0,0 +1,51 @@
+package com.medicalapp.api.application.services.implementations;
+
+import com.medicalapp.api.application.payments.PaymentMethod;
+import com.medicalapp.api.application.payments.PaymentMethodCache;
+import com.medicalapp.api.application.payments.PaymentMethodCacheProperties;
+import com.medicalapp.api.application.payments.PaymentMethodGateway;
+import com.medicalapp.api.application.services.contracts.StripeListPaymentMethodServiceContract;
+import com.medicalapp.api.domain.contracts.CustomerRepositoryContract;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+// Checkout pages list a customer's cards on every render; the gateway is only called on a
+// miss, once however many requests for the same customer arrive together
+@Service
+@EnableConfigurationProperties(PaymentMethodCacheProperties.class)
+public class StripeListPaymentMethodService implements StripeListPaymentMethodServiceContract {
+    private final PaymentMethodGateway gateway;
+    private final CustomerRepositoryContract customerRepository;
+    private final PaymentMethodCache cache;
+
+    public StripeListPaymentMethodService(PaymentMethodGateway gateway, CustomerRepositoryContract customerRepository,
+                                          PaymentMethodCacheProperties properties) {
+        this.gateway = gateway;
+        this.customerRepository = customerRepository;
+        this.cache = new PaymentMethodCache(properties);
+    }
+
+    @Override
+    public List<PaymentMethod> listPaymentMethods(UUID customerId) {
+        Objects.requireNonNull(customerId, "Customer ID cannot be null");
+        return cache.get(customerId, () -> {
+            if (customerRepository.findById(customerId).isEmpty()) {
+                throw new NoSuchElementException("Customer not found: " + customerId);
+            }
+            return gateway.list(customerId);
+        });
+    }
+
+    @Override
+    public void invalidate(UUID customerId) {
+        cache.invalidate(customerId);
+    }
+
+    public PaymentMethodCache getCache() {
+        return cache;
+    }
+}
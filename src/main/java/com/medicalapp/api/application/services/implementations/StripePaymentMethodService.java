@@ -0,0 +1,60 @@
+package com.medicalapp.api.application.services.implementations;
+
+import com.medicalapp.api.application.payments.PaymentMethod;
+import com.medicalapp.api.application.payments.PaymentMethodGateway;
+import com.medicalapp.api.application.services.contracts.StripeListPaymentMethodServiceContract;
+import com.medicalapp.api.application.services.contracts.StripePaymentMethodContractService;
+import com.medicalapp.api.domain.contracts.CustomerRepositoryContract;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+// The cached listing is dropped whether or not the gateway call succeeded: a timeout may
+// still have changed the customer's methods at the provider
+@Service
+public class StripePaymentMethodService implements StripePaymentMethodContractService {
+    private final PaymentMethodGateway gateway;
+    private final CustomerRepositoryContract customerRepository;
+    private final StripeListPaymentMethodServiceContract listing;
+
+    public StripePaymentMethodService(PaymentMethodGateway gateway, CustomerRepositoryContract customerRepository,
+                                      StripeListPaymentMethodServiceContract listing) {
+        this.gateway = gateway;
+        this.customerRepository = customerRepository;
+        this.listing = listing;
+    }
+
+    @Override
+    public PaymentMethod attach(UUID customerId, String paymentMethodId) {
+        requireCustomer(customerId);
+        requirePaymentMethodId(paymentMethodId);
+        try {
+            return gateway.attach(customerId, paymentMethodId);
+        } finally {
+            listing.invalidate(customerId);
+        }
+    }
+
+    @Override
+    public void detach(UUID customerId, String paymentMethodId) {
+        requireCustomer(customerId);
+        requirePaymentMethodId(paymentMethodId);
+        try {
+            gateway.detach(customerId, paymentMethodId);
+        } finally {
+            listing.invalidate(customerId);
+        }
+    }
+
+    private void requireCustomer(UUID customerId) {
+        if (customerId == null || customerRepository.findById(customerId).isEmpty()) {
+            throw new NoSuchElementException("Customer not found: " + customerId);
+        }
+    }
+
+    private static void requirePaymentMethodId(String paymentMethodId) {
+        if (paymentMethodId == null || paymentMethodId.isBlank() || paymentMethodId.length() > 50) {
+            throw new IllegalArgumentException("Invalid payment method ID");
+        }
+    }
+}
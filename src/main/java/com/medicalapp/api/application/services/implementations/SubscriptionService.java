@@ -0,0 +1,47 @@
+package com.medicalapp.api.application.services.implementations;
+
+import com.medicalapp.api.application.services.contracts.SubscriptionServiceContract;
+import com.medicalapp.api.application.subscriptions.RenewalScheduler;
+import com.medicalapp.api.domain.contracts.CustomerRepositoryContract;
+import com.medicalapp.api.domain.contracts.SubscriptionRepositoryContract;
+import com.medicalapp.api.domain.entities.Customer;
+import com.medicalapp.api.domain.entities.Subscription;
+import com.medicalapp.api.domain.valueobjects.BillingInterval;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SubscriptionService implements SubscriptionServiceContract {
+    private final SubscriptionRepositoryContract subscriptionRepository;
+    private final CustomerRepositoryContract customerRepository;
+    private final RenewalScheduler renewals;
+
+    public SubscriptionService(SubscriptionRepositoryContract subscriptionRepository,
+                               CustomerRepositoryContract customerRepository, RenewalScheduler renewals) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.customerRepository = customerRepository;
+        this.renewals = renewals;
+    }
+
+    @Override
+    public Subscription subscribe(UUID customerId, String plan, BigDecimal amount, String currency,
+                                  String paymentMethod, BillingInterval interval, LocalDateTime startsAt) {
+        Customer customer = customerRepository.findById(customerId)
+                .orElseThrow(() -> new NoSuchElementException("Customer not found: " + customerId));
+        Subscription subscription = subscriptionRepository.save(
+                Subscription.start(customer, plan, amount, currency, paymentMethod, interval, startsAt));
+        renewals.offer(subscription);
+        return subscription;
+    }
+
+    @Override
+    public Subscription cancel(UUID subscriptionId) {
+        Subscription subscription = subscriptionRepository.findById(subscriptionId)
+                .orElseThrow(() -> new NoSuchElementException("Subscription not found: " + subscriptionId));
+        subscription.cancel();
+        return subscriptionRepository.save(subscription);
+    }
+}
@@ -0,0 +1,11 @@
+package com.medicalapp.api.application.subscriptions;
+
+import java.time.LocalDateTime;
+
+// owner is null for a shard nobody holds
+public record RenewalLease(int shard, String owner, LocalDateTime expiresAt) {
+
+    public boolean isHeldAt(LocalDateTime time) {
+        return owner != null && expiresAt.isAfter(time);
+    }
+}
@@ -0,0 +1,29 @@
+package com.medicalapp.api.application.subscriptions;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+// Shard ownership shared by all nodes. Every operation is a single atomic compare-and-set on
+// the lease store, so two nodes can never both see themselves as the live owner of a shard.
+public interface RenewalLeases {
+    // Announces `node` until expiresAt, so nodes holding no shard yet still count towards the
+    // fair share the others keep
+    void heartbeat(String node, LocalDateTime expiresAt);
+
+    Set<String> liveNodes(LocalDateTime now);
+
+    // One lease per shard, 0 until Subscription.SHARDS
+    List<RenewalLease> list();
+
+    // Takes the shard if nobody holds it at `now`
+    boolean tryAcquire(int shard, String owner, LocalDateTime now, LocalDateTime expiresAt);
+
+    // Extends every lease `owner` still holds at `now`; returns how many it extended
+    int extend(String owner, LocalDateTime now, LocalDateTime expiresAt);
+
+    void release(int shard, String owner);
+
+    // Releases every shard and withdraws the heartbeat
+    void releaseAll(String owner);
+}
@@ -0,0 +1,28 @@
+package com.medicalapp.api.application.subscriptions;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Running totals of one node's renewal scheduler
+public final class RenewalMetrics {
+    private final LongAdder renewed = new LongAdder();
+    private final LongAdder superseded = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder rowsScheduled = new LongAdder();
+    private volatile int ownedShards;
+    private volatile int wheelSize;
+
+    void renewed(int count) { renewed.add(count); }
+    void superseded(int count) { superseded.add(count); }
+    void batchFailed() { failedBatches.increment(); }
+    void scheduled(int count) { rowsScheduled.add(count); }
+    void ownership(int shards) { ownedShards = shards; }
+    void wheel(int size) { wheelSize = size; }
+
+    public long getRenewed() { return renewed.sum(); }
+    // Renewals another node, or an earlier pass, had already applied
+    public long getSuperseded() { return superseded.sum(); }
+    public long getFailedBatches() { return failedBatches.sum(); }
+    public long getRowsScheduled() { return rowsScheduled.sum(); }
+    public int getOwnedShards() { return ownedShards; }
+    public int getWheelSize() { return wheelSize; }
+}
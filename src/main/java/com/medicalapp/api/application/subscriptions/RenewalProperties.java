@@ -0,0 +1,35 @@
+package com.medicalapp.api.application.subscriptions;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "medicalapp.subscriptions.renewals")
+public record RenewalProperties(Boolean enabled, Duration tick, Integer wheelSlots, Duration leaseTtl,
+                                Integer batchSize, String nodeId) {
+
+    public RenewalProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (tick == null) {
+            tick = Duration.ofSeconds(1);
+        }
+        if (wheelSlots == null) {
+            wheelSlots = 3600;
+        }
+        if (leaseTtl == null) {
+            leaseTtl = Duration.ofSeconds(30);
+        }
+        if (batchSize == null) {
+            batchSize = 500;
+        }
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+        if (tick.toMillis() < 1 || wheelSlots < 2 || leaseTtl.compareTo(tick.multipliedBy(3)) < 0
+                || batchSize < 1 || nodeId.length() > 64) {
+            throw new IllegalArgumentException("Invalid subscription renewal settings");
+        }
+    }
+}
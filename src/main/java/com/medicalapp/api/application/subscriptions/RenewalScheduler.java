@@ -0,0 +1,282 @@
+package com.medicalapp.api.application.subscriptions;
+
+import com.medicalapp.api.domain.contracts.SubscriptionRepositoryContract;
+import com.medicalapp.api.domain.entities.Subscription;
+import com.medicalapp.api.domain.entities.SubscriptionRenewal;
+import com.medicalapp.api.domain.queries.DueRenewal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+// Renews the subscriptions of the shards this node leases. Each tick:
+//  1. every lease-ttl/3, extend the leases, give back shards above a fair share and claim free
+//     ones, then load overdue rows of newly claimed shards and any row the wheel missed;
+//  2. once the wheel's horizon has moved a quarter turn past what was loaded, read the rows
+//     due in between from the (status, shard, next_renewal_at) index into the wheel;
+//  3. fire the buckets that came due and renew them batch-size at a time, one read, one
+//     conditional batched update and one charge insert per batch.
+// Work per tick is proportional to the renewals due, and memory to those due within the
+// wheel's horizon, not to the number of active subscriptions.
+@Component
+@EnableConfigurationProperties(RenewalProperties.class)
+public class RenewalScheduler implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(RenewalScheduler.class);
+
+    private final SubscriptionRepositoryContract subscriptions;
+    private final RenewalLeases leases;
+    private final RenewalProperties properties;
+    private final Clock clock;
+    private final String node;
+    private final Duration refillStep;
+    private final RenewalMetrics metrics = new RenewalMetrics();
+    private final ConcurrentLinkedQueue<DueRenewal> offers = new ConcurrentLinkedQueue<>();
+
+    // Confined to the ticking thread
+    private TimingWheel wheel;
+    private final Set<UUID> pending = new HashSet<>();
+    private Set<Integer> owned = Set.of();
+    private LocalDateTime loadedUntil;
+    private LocalDateTime nextRebalance;
+
+    private volatile boolean running;
+    private volatile Thread ticker;
+
+    @Autowired
+    public RenewalScheduler(SubscriptionRepositoryContract subscriptions, RenewalLeases leases,
+                            RenewalProperties properties) {
+        this(subscriptions, leases, properties, Clock.systemDefaultZone());
+    }
+
+    RenewalScheduler(SubscriptionRepositoryContract subscriptions, RenewalLeases leases,
+                     RenewalProperties properties, Clock clock) {
+        this.subscriptions = subscriptions;
+        this.leases = leases;
+        this.properties = properties;
+        this.clock = clock;
+        this.node = properties.nodeId();
+        this.refillStep = properties.tick().multipliedBy(Math.max(1, properties.wheelSlots() / 4));
+    }
+
+    // New subscriptions due before the loaded window would otherwise wait for the next sweep
+    public void offer(Subscription subscription) {
+        offers.add(new DueRenewal(subscription.getId(), subscription.getShard(), subscription.getNextRenewalAt()));
+    }
+
+    void tick() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (wheel == null) {
+            wheel = new TimingWheel(properties.tick(), properties.wheelSlots(), now);
+            loadedUntil = wheel.firedThrough();
+            nextRebalance = now;
+        }
+        DueRenewal offered;
+        while ((offered = offers.poll()) != null) {
+            if (owned.contains(offered.shard()) && offered.dueAt().isBefore(loadedUntil)) {
+                schedule(offered);
+            }
+        }
+        if (!now.isBefore(nextRebalance)) {
+            rebalance(now);
+            nextRebalance = now.plus(properties.leaseTtl().dividedBy(3));
+        }
+        if (Duration.between(loadedUntil, wheel.horizon()).compareTo(refillStep) >= 0) {
+            LocalDateTime horizon = wheel.horizon();
+            load(owned, loadedUntil, horizon);
+            loadedUntil = horizon;
+        }
+        fire(now);
+        metrics.wheel(wheel.size());
+    }
+
+    private void rebalance(LocalDateTime now) {
+        LocalDateTime expiresAt = now.plus(properties.leaseTtl());
+        leases.heartbeat(node, expiresAt);
+        leases.extend(node, now, expiresAt);
+        TreeSet<Integer> held = new TreeSet<>();
+        List<Integer> free = new ArrayList<>();
+        for (RenewalLease lease : leases.list()) {
+            if (!lease.isHeldAt(now)) {
+                free.add(lease.shard());
+            } else if (node.equals(lease.owner())) {
+                held.add(lease.shard());
+            }
+        }
+        Set<String> live = new HashSet<>(leases.liveNodes(now));
+        live.add(node);
+        // Surplus goes back so a node that just joined can take it on its next pass
+        int target = Math.ceilDiv(Subscription.SHARDS, live.size());
+        for (Iterator<Integer> surplus = held.descendingIterator();
+             held.size() > target && surplus.hasNext(); ) {
+            leases.release(surplus.next(), node);
+            surplus.remove();
+        }
+        // Nodes starting together begin at different free shards instead of racing for the same ones
+        Set<Integer> acquired = new TreeSet<>();
+        int offset = free.isEmpty() ? 0 : Math.floorMod(node.hashCode(), free.size());
+        for (int i = 0; i < free.size() && held.size() < target; i++) {
+            int shard = free.get((offset + i) % free.size());
+            if (leases.tryAcquire(shard, node, now, expiresAt)) {
+                held.add(shard);
+                acquired.add(shard);
+            }
+        }
+        owned = Set.copyOf(held);
+        metrics.ownership(owned.size());
+        load(acquired, null, loadedUntil);
+        // Rows due before the wheel's position that are still unrenewed were created on another
+        // node or sat in a failed batch
+        load(owned, null, wheel.firedThrough());
+    }
+
+    private void load(Collection<Integer> shards, LocalDateTime from, LocalDateTime until) {
+        if (shards.isEmpty()) {
+            return;
+        }
+        DueRenewal after = null;
+        List<DueRenewal> page;
+        do {
+            page = subscriptions.findDue(shards, from, until, after, properties.batchSize());
+            for (DueRenewal renewal : page) {
+                schedule(renewal);
+            }
+            metrics.scheduled(page.size());
+            after = page.isEmpty() ? null : page.get(page.size() - 1);
+        } while (page.size() == properties.batchSize());
+    }
+
+    private void schedule(DueRenewal renewal) {
+        if (pending.add(renewal.id()) && !wheel.schedule(renewal)) {
+            pending.remove(renewal.id());
+        }
+    }
+
+    private void fire(LocalDateTime now) {
+        List<UUID> due = new ArrayList<>();
+        for (DueRenewal renewal : wheel.advance(now)) {
+            pending.remove(renewal.id());
+            if (owned.contains(renewal.shard())) {
+                due.add(renewal.id());
+            }
+        }
+        for (int from = 0; from < due.size(); from += properties.batchSize()) {
+            renew(due.subList(from, Math.min(from + properties.batchSize(), due.size())), now);
+        }
+    }
+
+    private void renew(List<UUID> ids, LocalDateTime now) {
+        try {
+            List<SubscriptionRenewal> renewals = new ArrayList<>(ids.size());
+            for (Subscription subscription : subscriptions.findAllById(ids)) {
+                if (subscription.isDueAt(now)) {
+                    renewals.add(subscription.renew());
+                }
+            }
+            if (renewals.isEmpty()) {
+                return;
+            }
+            List<SubscriptionRenewal> applied = subscriptions.saveRenewals(renewals);
+            metrics.renewed(applied.size());
+            metrics.superseded(renewals.size() - applied.size());
+            // Periods missed while nobody owned the shard, or short enough to fall inside the
+            // loaded window, are not in the wheel yet
+            for (SubscriptionRenewal renewal : applied) {
+                Subscription subscription = renewal.subscription();
+                if (subscription.getNextRenewalAt().isBefore(loadedUntil)) {
+                    schedule(new DueRenewal(subscription.getId(), subscription.getShard(),
+                            subscription.getNextRenewalAt()));
+                }
+            }
+        } catch (RuntimeException e) {
+            // The rows stay due and the next sweep picks them up again
+            metrics.batchFailed();
+            log.warn("Renewal batch of {} subscriptions failed", ids.size(), e);
+        }
+    }
+
+    public RenewalMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.enabled();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        ticker = Thread.ofPlatform().name("subscription-renewals").daemon().start(this::run);
+    }
+
+    private void run() {
+        long tickNanos = properties.tick().toNanos();
+        while (running) {
+            long started = System.nanoTime();
+            try {
+                tick();
+            } catch (RuntimeException e) {
+                log.warn("Subscription renewal tick failed", e);
+            }
+            LockSupport.parkNanos(Math.max(0, tickNanos - (System.nanoTime() - started)));
+        }
+    }
+
+    @Override
+    public void stop() {
+        Thread thread;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            thread = ticker;
+        }
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+        // Lets the other nodes take over without waiting for the leases to expire
+        try {
+            leases.releaseAll(node);
+        } catch (RuntimeException e) {
+            log.warn("Could not release renewal leases of {}", node, e);
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stops before the data source closes
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1024;
+    }
+}
@@ -0,0 +1,81 @@
+package com.medicalapp.api.application.subscriptions;
+
+import com.medicalapp.api.domain.queries.DueRenewal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+// Fine-grained level of the renewal schedule: `slots` buckets of `tick` each, covering the
+// window from the last fired tick up to horizon(). Scheduling and firing are O(1) per entry
+// and advancing visits each bucket at most once, whatever the total number of subscriptions.
+// Anything due past the horizon stays in the database index (the coarse level) until the
+// window reaches it. Not thread-safe; the scheduler drives it from one thread.
+final class TimingWheel {
+    private final long tickMillis;
+    private final List<List<DueRenewal>> buckets;
+    private long cursor;
+    private int size;
+
+    TimingWheel(Duration tick, int slots, LocalDateTime start) {
+        this.tickMillis = tick.toMillis();
+        this.buckets = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.cursor = tickOf(start);
+    }
+
+    // Overdue entries go into the next bucket to fire; returns false past the horizon
+    boolean schedule(DueRenewal renewal) {
+        long tick = Math.max(tickOf(renewal.dueAt()), cursor);
+        if (tick >= cursor + buckets.size()) {
+            return false;
+        }
+        buckets.get((int) Math.floorMod(tick, (long) buckets.size())).add(renewal);
+        size++;
+        return true;
+    }
+
+    // Fires every bucket whose whole tick lies before `now`, so nothing fires before it is due
+    List<DueRenewal> advance(LocalDateTime now) {
+        long target = tickOf(now);
+        if (target <= cursor) {
+            return List.of();
+        }
+        List<DueRenewal> due = new ArrayList<>();
+        long steps = Math.min(target - cursor, buckets.size());
+        for (long i = 0; i < steps; i++) {
+            List<DueRenewal> bucket = buckets.get((int) Math.floorMod(cursor + i, (long) buckets.size()));
+            due.addAll(bucket);
+            bucket.clear();
+        }
+        cursor = target;
+        size -= due.size();
+        return due;
+    }
+
+    // Everything due before this has been handed out
+    LocalDateTime firedThrough() {
+        return timeOf(cursor);
+    }
+
+    // Exclusive end of the window the wheel accepts
+    LocalDateTime horizon() {
+        return timeOf(cursor + buckets.size());
+    }
+
+    int size() {
+        return size;
+    }
+
+    private long tickOf(LocalDateTime time) {
+        long millis = time.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return Math.floorDiv(millis, tickMillis);
+    }
+
+    private LocalDateTime timeOf(long tick) {
+        return LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(Duration.ofMillis(tick * tickMillis));
+    }
+}
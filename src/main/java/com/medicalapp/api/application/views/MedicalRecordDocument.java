@@ -0,0 +1,30 @@
+package com.medicalapp.api.application.views;
+
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// A medical record with its history as sent to clients. Reading a record that was loaded lazily
+// fetches its history and patient name, so only map records that are loaded or off the event loop.
+public record MedicalRecordDocument(
+        UUID id,
+        UUID patientId,
+        String patientName,
+        UUID organizationId,
+        UUID doctorId,
+        String diagnosis,
+        String treatment,
+        String notes,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<HistoryRecord> historyRecords
+) {
+
+    public static MedicalRecordDocument of(MedicalRecord record) {
+        return new MedicalRecordDocument(record.getId(), record.getPatientId(), record.getPatientName(),
+                record.getOrganizationId(), record.getDoctorId(), record.getDiagnosis(), record.getTreatment(),
+                record.getNotes(), record.getCreatedAt(), record.getUpdatedAt(), record.getHistoryRecords());
+    }
+}
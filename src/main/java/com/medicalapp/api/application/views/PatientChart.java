@@ -0,0 +1,10 @@
+package com.medicalapp.api.application.views;
+
+import com.medicalapp.api.application.pagination.CursorPage;
+import com.medicalapp.api.domain.queries.MedicalRecordSummary;
+import com.medicalapp.api.domain.queries.PatientSummary;
+
+// The patient plus the first page of their medical records; later pages come from
+// GET /patients/{id}/medical-records with medicalRecords.nextCursor
+public record PatientChart(PatientSummary patient, CursorPage<MedicalRecordSummary> medicalRecords) {
+}
@@ -1,4 +1,23 @@
 package com.medicalapp.api.domain.contracts;
 
+import com.medicalapp.api.domain.entities.Appointment;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 public interface AppointmentRepositoryContract {
+    Appointment save(Appointment appointment);
+
+    // Inserts a scheduled appointment unless the doctor already has a scheduled one overlapping it.
+    // Holds across instances: the check and the insert run under a lock on the doctor.
+    boolean saveIfFree(Appointment appointment);
+
+    Optional<Appointment> findById(UUID id);
+
+    // Scheduled appointments that have not finished before the given instant, ordered by start
+    List<Appointment> findScheduledByDoctorId(UUID doctorId, LocalDateTime endingAfter);
+
+    List<Appointment> findScheduledByDoctorIds(Collection<UUID> doctorIds, LocalDateTime endingAfter);
 }
@@ -1,4 +1,35 @@
 package com.medicalapp.api.domain.contracts;
 
+import com.medicalapp.api.domain.entities.Charge;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.RevenueBucket;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 public interface ChargeRepositoryContract {
+    void saveAll(Collection<Charge> charges);
+
+    Optional<Charge> findById(UUID id);
+
+    // PENDING charges in (createdAt, id) order; after == null starts at the oldest
+    List<Charge> findPending(Keyset after, int limit);
+
+    // Writes status, gateway reference and updatedAt of the charges whose stored status is still
+    // the one they were read in, and returns those; the others were settled elsewhere
+    List<Charge> updateStatuses(Collection<Charge> charges);
+
+    // Revenue is read from rollups kept in step with every charge write. One bucket per day,
+    // currency and status; currency == null means every currency
+    List<RevenueBucket> dailyRevenue(LocalDate from, LocalDate to, String currency);
+
+    // One bucket per currency and status over the range; customerId == null means every customer
+    List<RevenueBucket> revenue(LocalDate from, LocalDate to, UUID customerId);
+
+    boolean hasRevenueRollups();
+
+    // Recomputes the rollups from the charges in one transaction
+    void rebuildRevenue();
 }
@@ -1,4 +1,15 @@
 package com.medicalapp.api.domain.contracts;
 
+import com.medicalapp.api.domain.entities.Customer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 public interface CustomerRepositoryContract {
+    Customer save(Customer customer);
+
+    Optional<Customer> findById(UUID id);
+
+    List<Customer> findAllById(Collection<UUID> ids);
 }
@@ -1,4 +1,14 @@
 package com.medicalapp.api.domain.contracts;
 
+import com.medicalapp.api.domain.entities.Doctor;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 public interface DoctorRepositoryContract {
+    Doctor save(Doctor doctor);
+
+    Optional<Doctor> findById(UUID id);
+
+    List<Doctor> findByOrganizationId(UUID organizationId);
 }
@@ -0,0 +1,11 @@
+package com.medicalapp.api.domain.contracts;
+
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import java.util.List;
+import java.util.UUID;
+
+// Supplies a medical record's history the first time it is read
+@FunctionalInterface
+public interface HistoryLoader {
+    List<HistoryRecord> load(UUID medicalRecordId);
+}
@@ -1,4 +1,16 @@
 package com.medicalapp.api.domain.contracts;
 
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 public interface HistoryRecordRepositoryContract {
+    // records.get(i) takes position firstPosition + i in the medical record's history
+    void append(UUID medicalRecordId, int firstPosition, List<HistoryRecord> records);
+
+    List<HistoryRecord> findByMedicalRecordId(UUID medicalRecordId);
+
+    Map<UUID, List<HistoryRecord>> findByMedicalRecordIds(Collection<UUID> medicalRecordIds);
 }
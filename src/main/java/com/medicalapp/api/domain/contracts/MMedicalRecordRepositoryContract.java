@@ -1,4 +1,33 @@
 package com.medicalapp.api.domain.contracts;
 
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.KeysetPage;
+import com.medicalapp.api.domain.queries.MedicalRecordSummary;
+import com.medicalapp.api.domain.queries.MedicalRecordText;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 public interface MMedicalRecordRepositoryContract {
+    MedicalRecord save(MedicalRecord medicalRecord);
+
+    void saveAll(Collection<MedicalRecord> medicalRecords);
+
+    Optional<MedicalRecord> findById(UUID id);
+
+    List<MedicalRecord> findByPatientId(UUID patientId);
+
+    // after == null starts at the first page
+    KeysetPage<MedicalRecordSummary> findSummariesByPatient(UUID patientId, Keyset after, int limit);
+
+    KeysetPage<MedicalRecordSummary> findSummariesByDoctor(UUID doctorId, Keyset after, int limit);
+
+    // Unordered; ids outside the organization are skipped
+    List<MedicalRecordSummary> findSummariesByIds(UUID organizationId, Collection<UUID> ids);
+
+    KeysetPage<MedicalRecordText> findTextsByOrganization(UUID organizationId, Keyset after, int limit);
+
+    List<UUID> findOrganizationIds();
 }
@@ -1,4 +1,14 @@
 package com.medicalapp.api.domain.contracts;
 
+import com.medicalapp.api.domain.entities.Organization;
+import com.medicalapp.api.domain.valueobjects.EIN;
+import java.util.Optional;
+import java.util.UUID;
+
 public interface OrganizationRepositoryContract {
+    Organization save(Organization organization);
+
+    Optional<Organization> findById(UUID id);
+
+    Optional<Organization> findByEin(EIN ein);
 }
@@ -0,0 +1,9 @@
+package com.medicalapp.api.domain.contracts;
+
+import java.util.UUID;
+
+// Supplies the patient name shown on a medical record the first time it is read; null if unknown
+@FunctionalInterface
+public interface PatientNameLoader {
+    String load(UUID patientId);
+}
@@ -1,4 +1,30 @@
 package com.medicalapp.api.domain.contracts;
 
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.KeysetPage;
+import com.medicalapp.api.domain.queries.PatientSummary;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
 public interface PatientRepositoryContract {
+    Patient save(Patient patient);
+
+    void saveAll(Collection<Patient> patients);
+
+    Optional<Patient> findById(UUID id);
+
+    // Ids without a patient are left out of the map
+    Map<UUID, String> findNamesByIds(Collection<UUID> ids);
+
+    Optional<Patient> findBySsn(UUID organizationId, SSN ssn);
+
+    Set<SSN> findExistingSsns(UUID organizationId, Collection<SSN> ssns);
+
+    // after == null starts at the first page
+    KeysetPage<PatientSummary> findSummariesByOrganization(UUID organizationId, Keyset after, int limit);
 }
@@ -1,4 +1,29 @@
 package com.medicalapp.api.domain.contracts;
 
+import com.medicalapp.api.domain.entities.Subscription;
+import com.medicalapp.api.domain.entities.SubscriptionRenewal;
+import com.medicalapp.api.domain.queries.DueRenewal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 public interface SubscriptionRepositoryContract {
+    // Inserts new subscriptions; for existing ones only the status is written, renewals go
+    // through saveRenewals
+    Subscription save(Subscription subscription);
+
+    Optional<Subscription> findById(UUID id);
+
+    List<Subscription> findAllById(Collection<UUID> ids);
+
+    // ACTIVE subscriptions of the given shards due in [from, until), in (dueAt, id) order.
+    // from == null includes everything overdue; after == null starts at the first row.
+    List<DueRenewal> findDue(Collection<Integer> shards, LocalDateTime from, LocalDateTime until,
+                             DueRenewal after, int limit);
+
+    // Advances each subscription whose stored renewal count still matches and inserts its
+    // charge, atomically; returns the renewals that were applied
+    List<SubscriptionRenewal> saveRenewals(Collection<SubscriptionRenewal> renewals);
 }
@@ -1,4 +1,106 @@
 package com.medicalapp.api.domain.entities;
 
-public class Appointment {
+import com.medicalapp.api.domain.valueobjects.AppointmentStatus;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+// Occupies the half-open interval [startsAt, endsAt) on the doctor's schedule
+public final class Appointment {
+    private static final Duration MAX_DURATION = Duration.ofHours(12);
+
+    private final UUID id;
+    private final UUID doctorId;
+    private final UUID patientId;
+    private final LocalDateTime startsAt;
+    private final LocalDateTime endsAt;
+    private AppointmentStatus status;
+    private final LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static Appointment schedule(UUID doctorId, UUID patientId, LocalDateTime startsAt, LocalDateTime endsAt) {
+        return new Appointment(
+                UUID.randomUUID(),
+                Objects.requireNonNull(doctorId, "Doctor ID cannot be null"),
+                Objects.requireNonNull(patientId, "Patient ID cannot be null"),
+                startsAt,
+                endsAt,
+                AppointmentStatus.SCHEDULED,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+
+    public Appointment(UUID id, UUID doctorId, UUID patientId, LocalDateTime startsAt, LocalDateTime endsAt,
+                       AppointmentStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = Objects.requireNonNull(id, "ID cannot be null");
+        this.doctorId = Objects.requireNonNull(doctorId, "Doctor ID cannot be null");
+        this.patientId = Objects.requireNonNull(patientId, "Patient ID cannot be null");
+        this.startsAt = Objects.requireNonNull(startsAt, "Start time cannot be null");
+        this.endsAt = validateEnd(startsAt, endsAt);
+        this.status = Objects.requireNonNull(status, "Status cannot be null");
+        this.createdAt = Objects.requireNonNull(createdAt, "Creation date cannot be null");
+        this.updatedAt = Objects.requireNonNull(updatedAt, "Update date cannot be null");
+    }
+
+    private LocalDateTime validateEnd(LocalDateTime startsAt, LocalDateTime endsAt) {
+        Objects.requireNonNull(endsAt, "End time cannot be null");
+        if (!endsAt.isAfter(startsAt)) {
+            throw new IllegalArgumentException("Appointment must end after it starts");
+        }
+        if (Duration.between(startsAt, endsAt).compareTo(MAX_DURATION) > 0) {
+            throw new IllegalArgumentException("Appointment cannot be longer than 12 hours");
+        }
+        return endsAt;
+    }
+
+    public UUID getId() { return id; }
+    public UUID getDoctorId() { return doctorId; }
+    public UUID getPatientId() { return patientId; }
+    public LocalDateTime getStartsAt() { return startsAt; }
+    public LocalDateTime getEndsAt() { return endsAt; }
+    public AppointmentStatus getStatus() { return status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public boolean isScheduled() {
+        return status == AppointmentStatus.SCHEDULED;
+    }
+
+    public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return startsAt.isBefore(to) && from.isBefore(endsAt);
+    }
+
+    public void cancel() {
+        if (status == AppointmentStatus.CANCELLED) {
+            throw new IllegalStateException("Appointment is already cancelled");
+        }
+        this.status = AppointmentStatus.CANCELLED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Appointment that = (Appointment) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Appointment{" +
+                "id=" + id +
+                ", doctorId=" + doctorId +
+                ", startsAt=" + startsAt +
+                ", endsAt=" + endsAt +
+                ", status=" + status +
+                '}';
+    }
 }
@@ -2,8 +2,12 @@ package com.medicalapp.api.domain.entities;
 
 
 
+import com.medicalapp.api.domain.events.ChargeEvent;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,18 +16,21 @@ import com.medicalapp.api.domain.valueobjects.ChargeStatus;
 public final class Charge {
     private final UUID id;
     private final BigDecimal amount;
+    private final long amountMinor;
     private final String currency;
     private final String description;
     private final Customer customer;
     private final String paymentMethod;
     private ChargeStatus status;
+    private String gatewayReference;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private final List<ChargeEvent> events = new ArrayList<>();
 
     public static Charge create(BigDecimal amount, String currency,
                                 Optional<String> description, Customer customer,
                                 String paymentMethod) {
-        return new Charge(
+        Charge charge = new Charge(
                 UUID.randomUUID(),
                 amount,
                 currency,
@@ -34,34 +41,75 @@ public final class Charge {
                 LocalDateTime.now(),
                 LocalDateTime.now()
         );
+        charge.record(null);
+        return charge;
     }
 
     public Charge(UUID id, BigDecimal amount, String currency,
                   String description, Customer customer,
                   String paymentMethod, ChargeStatus status,
                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, amount, currency, description, customer, paymentMethod, status, null, createdAt, updatedAt);
+    }
+
+    public Charge(UUID id, BigDecimal amount, String currency,
+                  String description, Customer customer,
+                  String paymentMethod, ChargeStatus status, String gatewayReference,
+                  LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = Objects.requireNonNull(id, "ID cannot be null");
-        this.amount = validateAmount(amount);
         this.currency = validateCurrency(currency);
+        this.amount = validateAmount(amount, currency);
+        this.amountMinor = toMinorUnits(this.amount, currency);
         this.description = description; // Optional field
         this.customer = Objects.requireNonNull(customer, "Customer cannot be null");
         this.paymentMethod = validatePaymentMethod(paymentMethod);
         this.status = Objects.requireNonNull(status, "Status cannot be null");
+        this.gatewayReference = gatewayReference;
         this.createdAt = Objects.requireNonNull(createdAt, "Creation date cannot be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "Update date cannot be null");
     }
 
-    private BigDecimal validateAmount(BigDecimal amount) {
+    // Money is never rounded silently: more decimals than the currency's minor unit has
+    // (two for USD, none for JPY) are rejected, and the amount has to fit in a long of minor units.
+    // Stored amounts keep two decimals, so currencies with finer minor units are not accepted.
+    public static BigDecimal validateAmount(BigDecimal amount, String currency) {
         if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Amount must be positive");
         }
-        return amount.setScale(2); // Ensure 2 decimal places
+        int digits = minorUnitDigits(currency);
+        if (amount.scale() > digits && amount.stripTrailingZeros().scale() > digits) {
+            throw new IllegalArgumentException("Amount cannot have more than " + digits + " decimal places in "
+                    + currency);
+        }
+        BigDecimal scaled = amount.setScale(2);
+        if (scaled.unscaledValue().bitLength() > 63) {
+            throw new IllegalArgumentException("Amount is too large");
+        }
+        return scaled;
+    }
+
+    public static long toMinorUnits(BigDecimal amount, String currency) {
+        return amount.movePointRight(minorUnitDigits(currency)).longValueExact();
+    }
+
+    private static int minorUnitDigits(String currency) {
+        int digits;
+        try {
+            digits = Currency.getInstance(currency).getDefaultFractionDigits();
+        } catch (IllegalArgumentException | NullPointerException e) {
+            digits = -1;
+        }
+        if (digits < 0 || digits > 2) {
+            throw new IllegalArgumentException("Currency " + currency + " is not supported");
+        }
+        return digits;
     }
 
     private String validateCurrency(String currency) {
         if (currency == null || currency.length() != 3 || !currency.matches("[A-Z]{3}")) {
             throw new IllegalArgumentException("Currency must be 3 uppercase letters");
         }
+        minorUnitDigits(currency);
         return currency;
     }
 
@@ -76,22 +124,56 @@ public final class Charge {
     }
 
     public void markAsSucceeded() {
-        this.status = ChargeStatus.SUCCEEDED;
-        this.updatedAt = LocalDateTime.now();
+        transitionTo(ChargeStatus.SUCCEEDED);
     }
 
     public void markAsFailed() {
-        this.status = ChargeStatus.FAILED;
+        transitionTo(ChargeStatus.FAILED);
+    }
+
+    // The gateway's id for the payment, kept so a charge still processing there is looked up
+    // rather than created again once the idempotency key has expired
+    public void recordGatewayReference(String reference) {
+        if (reference != null && !reference.equals(gatewayReference)) {
+            this.gatewayReference = reference;
+            this.updatedAt = LocalDateTime.now();
+        }
+    }
+
+    private void transitionTo(ChargeStatus next) {
+        ChargeStatus previous = this.status;
+        this.status = next;
         this.updatedAt = LocalDateTime.now();
+        if (previous != next) {
+            record(previous);
+        }
+    }
+
+    private void record(ChargeStatus previous) {
+        events.add(new ChargeEvent(id, customer.getId(), currency, amountMinor, createdAt, previous, status, updatedAt));
+    }
+
+    // Events raised since the last call, oldest first; repositories publish them once persisted
+    public List<ChargeEvent> pullEvents() {
+        List<ChargeEvent> pulled = List.copyOf(events);
+        events.clear();
+        return pulled;
+    }
+
+    // Stable across retries and restarts, so the gateway executes a charge at most once
+    public String getIdempotencyKey() {
+        return "charge-" + id;
     }
 
     public UUID getId() { return id; }
     public BigDecimal getAmount() { return amount; }
+    public long getAmountInMinorUnits() { return amountMinor; }
     public String getCurrency() { return currency; }
     public Optional<String> getDescription() { return Optional.ofNullable(description); }
     public Customer getCustomer() { return customer; }
     public String getPaymentMethod() { return paymentMethod; }
     public ChargeStatus getStatus() { return status; }
+    public Optional<String> getGatewayReference() { return Optional.ofNullable(gatewayReference); }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
 
@@ -1,22 +1,30 @@
 package com.medicalapp.api.domain.entities;
 
+import com.medicalapp.api.domain.time.DomainClock;
+import com.medicalapp.api.domain.validation.ValidationRules;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 public final class Customer {
+    // Mutable columns; setters record which ones changed so only those are written back
+    public enum Field { NAME, EMAIL }
+
     private final UUID id;
     private String name;
     private String email;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private final EnumSet<Field> changes = EnumSet.noneOf(Field.class);
 
     public Customer(String name, String email) {
         this(UUID.randomUUID(),
                 Objects.requireNonNull(name, "Name cannot be null"),
                 Objects.requireNonNull(email, "Email cannot be null"),
-                LocalDateTime.now(),
-                LocalDateTime.now());
+                DomainClock.now(),
+                DomainClock.now());
     }
 
     public Customer(UUID id, String name, String email,
@@ -39,16 +47,7 @@ public final class Customer {
     }
 
     private String validateEmail(String email) {
-        if (email == null || email.isBlank()) {
-            throw new IllegalArgumentException("Email cannot be empty");
-        }
-        if (!email.matches("^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,}$")) {
-            throw new IllegalArgumentException("Invalid email format");
-        }
-        if (email.length() > 100) {
-            throw new IllegalArgumentException("Email exceeds maximum length (100 chars)");
-        }
-        return email;
+        return ValidationRules.require(ValidationRules.email(email), email);
     }
 
     public UUID getId() { return id; }
@@ -56,19 +55,33 @@ public final class Customer {
     public String getEmail() { return email; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Set<Field> getChanges() { return EnumSet.copyOf(changes); }
+    public boolean hasChanges() { return !changes.isEmpty(); }
 
     public void setName(String name) {
-        this.name = validateName(name);
-        this.updatedAt = LocalDateTime.now();
+        String validated = validateName(name);
+        if (!validated.equals(this.name)) {
+            this.name = validated;
+            changes.add(Field.NAME);
+        }
     }
 
     public void setEmail(String email) {
-        this.email = validateEmail(email);
-        this.updatedAt = LocalDateTime.now();
+        String validated = validateEmail(email);
+        if (!validated.equals(this.email)) {
+            this.email = validated;
+            changes.add(Field.EMAIL);
+        }
     }
 
     public void updateTimestamp() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = DomainClock.now();
+    }
+
+    // Called by the repository once the changes are committed; updatedAt is stamped there, once per write
+    public void changesPersisted(LocalDateTime persistedAt) {
+        this.updatedAt = Objects.requireNonNull(persistedAt);
+        changes.clear();
     }
 
     @Override
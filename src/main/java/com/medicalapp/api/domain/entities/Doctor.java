@@ -1,4 +1,93 @@
 package com.medicalapp.api.domain.entities;
 
-public class Doctor {
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public final class Doctor {
+    private final UUID id;
+    private final UUID organizationId;
+    private String name;
+    private String specialty;
+    private final LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public Doctor(UUID organizationId, String name, String specialty) {
+        this(UUID.randomUUID(),
+                Objects.requireNonNull(organizationId, "Organization ID cannot be null"),
+                Objects.requireNonNull(name, "Name cannot be null"),
+                Objects.requireNonNull(specialty, "Specialty cannot be null"),
+                LocalDateTime.now(),
+                LocalDateTime.now());
+    }
+
+    public Doctor(UUID id, UUID organizationId, String name, String specialty,
+                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = Objects.requireNonNull(id, "ID cannot be null");
+        this.organizationId = Objects.requireNonNull(organizationId, "Organization ID cannot be null");
+        this.name = validateName(name);
+        this.specialty = validateSpecialty(specialty);
+        this.createdAt = Objects.requireNonNull(createdAt, "Creation date cannot be null");
+        this.updatedAt = Objects.requireNonNull(updatedAt, "Update date cannot be null");
+    }
+
+    private String validateName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Name cannot be empty");
+        }
+        if (name.length() > 100) {
+            throw new IllegalArgumentException("Name exceeds maximum length (100 chars)");
+        }
+        return name;
+    }
+
+    private String validateSpecialty(String specialty) {
+        if (specialty == null || specialty.isBlank()) {
+            throw new IllegalArgumentException("Specialty cannot be empty");
+        }
+        if (specialty.length() > 100) {
+            throw new IllegalArgumentException("Specialty exceeds maximum length (100 chars)");
+        }
+        return specialty;
+    }
+
+    public UUID getId() { return id; }
+    public UUID getOrganizationId() { return organizationId; }
+    public String getName() { return name; }
+    public String getSpecialty() { return specialty; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public void setName(String name) {
+        this.name = validateName(name);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void setSpecialty(String specialty) {
+        this.specialty = validateSpecialty(specialty);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Doctor doctor = (Doctor) o;
+        return id.equals(doctor.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Doctor{" +
+                "id=" + id +
+                ", organizationId=" + organizationId +
+                ", name='" + name + '\'' +
+                ", specialty='" + specialty + '\'' +
+                '}';
+    }
 }
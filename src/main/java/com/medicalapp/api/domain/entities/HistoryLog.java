@@ -0,0 +1,173 @@
+package com.medicalapp.api.domain.entities;
+
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// Append-only, chunked storage for a MedicalRecord's audit trail.
+// Records are never moved or overwritten once appended, so a snapshot is just
+// the chunk directory plus a bound and stays immutable while the log keeps growing.
+public final class HistoryLog {
+    private static final int CHUNK_SHIFT = 8;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private HistoryRecord[][] chunks;
+    private int size;
+    private boolean chronological = true;
+
+    private HistoryLog(HistoryRecord[][] chunks, int size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    public static HistoryLog empty() {
+        return new HistoryLog(new HistoryRecord[4][], 0);
+    }
+
+    public static HistoryLog copyOf(List<HistoryRecord> records) {
+        Objects.requireNonNull(records);
+        if (records instanceof Snapshot snapshot && snapshot.from == 0) {
+            return shareFullChunks(snapshot);
+        }
+        HistoryLog log = empty();
+        for (HistoryRecord record : records) {
+            log.append(record);
+        }
+        return log;
+    }
+
+    // Full chunks of another log can be shared as-is; only a partially filled tail chunk is copied,
+    // otherwise both logs would append into the same array
+    private static HistoryLog shareFullChunks(Snapshot snapshot) {
+        int size = snapshot.to;
+        int fullChunks = size >>> CHUNK_SHIFT;
+        HistoryRecord[][] chunks = new HistoryRecord[Math.max(4, fullChunks + 1)][];
+        System.arraycopy(snapshot.chunks, 0, chunks, 0, fullChunks);
+        int tail = size & CHUNK_MASK;
+        if (tail > 0) {
+            chunks[fullChunks] = new HistoryRecord[CHUNK_SIZE];
+            System.arraycopy(snapshot.chunks[fullChunks], 0, chunks[fullChunks], 0, tail);
+        }
+        HistoryLog log = new HistoryLog(chunks, size);
+        log.chronological = isChronological(snapshot);
+        return log;
+    }
+
+    private static boolean isChronological(List<HistoryRecord> records) {
+        for (int i = 1; i < records.size(); i++) {
+            if (records.get(i).timestamp().isBefore(records.get(i - 1).timestamp())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void append(HistoryRecord record) {
+        Objects.requireNonNull(record);
+        int chunk = size >>> CHUNK_SHIFT;
+        if (chunk == chunks.length) {
+            HistoryRecord[][] grown = new HistoryRecord[chunks.length << 1][];
+            System.arraycopy(chunks, 0, grown, 0, chunks.length);
+            chunks = grown;
+        }
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new HistoryRecord[CHUNK_SIZE];
+        }
+        if (chronological && size > 0 && record.timestamp().isBefore(get(size - 1).timestamp())) {
+            chronological = false;
+        }
+        chunks[chunk][size & CHUNK_MASK] = record;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public List<HistoryRecord> snapshot() {
+        return new Snapshot(chunks, 0, size);
+    }
+
+    public List<HistoryRecord> latest(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        return new Snapshot(chunks, Math.max(0, size - count), size);
+    }
+
+    public List<HistoryRecord> page(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit cannot be negative");
+        }
+        int from = Math.min(offset, size);
+        return new Snapshot(chunks, from, (int) Math.min((long) from + limit, size));
+    }
+
+    // Records with timestamp >= since. Binary search while appends arrived in order,
+    // a linear scan only for logs reconstructed out of order.
+    public List<HistoryRecord> since(LocalDateTime since) {
+        Objects.requireNonNull(since);
+        if (!chronological) {
+            List<HistoryRecord> matches = new ArrayList<>();
+            for (HistoryRecord record : snapshot()) {
+                if (!record.timestamp().isBefore(since)) {
+                    matches.add(record);
+                }
+            }
+            return List.copyOf(matches);
+        }
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (get(mid).timestamp().isBefore(since)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return new Snapshot(chunks, low, size);
+    }
+
+    private HistoryRecord get(int index) {
+        return chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    private static final class Snapshot extends AbstractList<HistoryRecord> implements RandomAccess {
+        private final HistoryRecord[][] chunks;
+        private final int from;
+        private final int to;
+
+        private Snapshot(HistoryRecord[][] chunks, int from, int to) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public HistoryRecord get(int index) {
+            Objects.checkIndex(index, to - from);
+            int position = from + index;
+            return chunks[position >>> CHUNK_SHIFT][position & CHUNK_MASK];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public List<HistoryRecord> subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, to - from);
+            return new Snapshot(chunks, from + fromIndex, from + toIndex);
+        }
+    }
+}
@@ -1,27 +1,44 @@
 package com.medicalapp.api.domain.entities;
 
+import com.medicalapp.api.domain.contracts.HistoryLoader;
+import com.medicalapp.api.domain.contracts.PatientNameLoader;
+import com.medicalapp.api.domain.events.MedicalRecordTextChanged;
+import com.medicalapp.api.domain.time.DomainClock;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 public final class MedicalRecord {
+    // Mutable columns; updates record which ones changed so only those are written back.
+    // HISTORY means entries were appended, which moves history_count.
+    public enum Field { TREATMENT, NOTES, HISTORY }
+
     private final UUID id;
     private final UUID patientId;
     private final UUID organizationId;
-    private String patientName; // Transient field
+    private String patientName; // Transient field, resolved through patientNameLoader when set
+    private PatientNameLoader patientNameLoader;
     private final UUID doctorId;
     private String diagnosis;
     private String treatment;
     private String notes;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-    private final List<HistoryRecord> historyRecords;
+    private HistoryLog historyRecords; // null until historyLoader has run
+    private HistoryLoader historyLoader;
+    private final int unloadedHistorySize;
+    private HistoryLog appendedUnloaded; // entries added before the history was loaded
+    private int storedHistorySize; // entries known to be in storage; later ones still have to be written
+    private boolean textChanged;
+    private final EnumSet<Field> changes = EnumSet.noneOf(Field.class);
 
     public static MedicalRecord create(UUID patientId, UUID organizationId,
                                        UUID doctorId, String diagnosis) {
-        return new MedicalRecord(
+        MedicalRecord record = new MedicalRecord(
                 UUID.randomUUID(),
                 patientId,
                 organizationId,
@@ -30,10 +47,12 @@ public final class MedicalRecord {
                 diagnosis,
                 null, // treatment
                 null, // notes
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                new ArrayList<>()
+                DomainClock.now(),
+                DomainClock.now(),
+                List.of()
         );
+        record.textChanged = true;
+        return record;
     }
 
     public MedicalRecord(UUID id, UUID patientId, UUID organizationId,
@@ -50,7 +69,32 @@ public final class MedicalRecord {
         this.notes = notes;
         this.createdAt = Objects.requireNonNull(createdAt);
         this.updatedAt = Objects.requireNonNull(updatedAt);
-        this.historyRecords = new ArrayList<>(Objects.requireNonNull(historyRecords));
+        this.historyRecords = HistoryLog.copyOf(historyRecords);
+        this.unloadedHistorySize = 0;
+        this.storedHistorySize = this.historyRecords.size();
+    }
+
+    // History and patient name are fetched on first access; historySize is the number of stored
+    // entries, so the size is known without loading them
+    public MedicalRecord(UUID id, UUID patientId, UUID organizationId, UUID doctorId, String diagnosis,
+                         String treatment, String notes, LocalDateTime createdAt, LocalDateTime updatedAt,
+                         int historySize, HistoryLoader historyLoader, PatientNameLoader patientNameLoader) {
+        this.id = Objects.requireNonNull(id);
+        this.patientId = Objects.requireNonNull(patientId);
+        this.organizationId = Objects.requireNonNull(organizationId);
+        this.patientNameLoader = Objects.requireNonNull(patientNameLoader);
+        this.doctorId = Objects.requireNonNull(doctorId);
+        this.diagnosis = validateDiagnosis(diagnosis);
+        this.treatment = treatment;
+        this.notes = notes;
+        this.createdAt = Objects.requireNonNull(createdAt);
+        this.updatedAt = Objects.requireNonNull(updatedAt);
+        this.historyLoader = Objects.requireNonNull(historyLoader);
+        if (historySize < 0) {
+            throw new IllegalArgumentException("History size cannot be negative");
+        }
+        this.unloadedHistorySize = historySize;
+        this.storedHistorySize = historySize;
     }
 
     private String validateDiagnosis(String diagnosis) {
@@ -63,36 +107,152 @@ public final class MedicalRecord {
         return diagnosis;
     }
 
+    // Appending never loads the stored history; the entries wait in a tail until it is read
     public void addHistoryRecord(HistoryRecord record) {
-        this.historyRecords.add(Objects.requireNonNull(record));
-        this.updatedAt = LocalDateTime.now();
+        if (historyRecords != null) {
+            historyRecords.append(record);
+        } else {
+            if (appendedUnloaded == null) {
+                appendedUnloaded = HistoryLog.empty();
+            }
+            appendedUnloaded.append(record);
+        }
+        changes.add(Field.HISTORY);
     }
 
     public void updateTreatment(String treatment) {
-        this.treatment = treatment;
-        this.updatedAt = LocalDateTime.now();
+        if (!Objects.equals(treatment, this.treatment)) {
+            this.treatment = treatment;
+            changes.add(Field.TREATMENT);
+            this.textChanged = true;
+        }
     }
 
     public void updateNotes(String notes) {
-        this.notes = notes;
-        this.updatedAt = LocalDateTime.now();
+        if (!Objects.equals(notes, this.notes)) {
+            this.notes = notes;
+            changes.add(Field.NOTES);
+            this.textChanged = true;
+        }
+    }
+
+    // Called by the repository once the changes are committed; updatedAt is stamped there, once per write
+    public void changesPersisted(LocalDateTime persistedAt) {
+        this.updatedAt = Objects.requireNonNull(persistedAt);
+        changes.clear();
+    }
+
+    // Called by the repository once the appended entries are handed to storage, so saving again
+    // in the same transaction doesn't append them twice
+    public void historyWritten() {
+        this.storedHistorySize = getHistorySize();
+    }
+
+    // Called by the repository when the transaction of a write did not commit: the entries and the
+    // text event it took are due again
+    public void writeRolledBack(int storedHistorySize, boolean textChanged) {
+        this.storedHistorySize = storedHistorySize;
+        this.textChanged |= textChanged;
     }
 
     public void setPatientName(String name) {
         this.patientName = name;
+        this.patientNameLoader = null;
+    }
+
+    public boolean isHistoryLoaded() {
+        return historyRecords != null;
+    }
+
+    // Entries appended before the load that were already handed to storage may or may not be among
+    // the loaded ones, so they are matched by id; they precede the unwritten ones, which keeps the
+    // stored entries a prefix of the log
+    private HistoryLog history() {
+        if (historyRecords == null) {
+            List<HistoryRecord> loaded = historyLoader.load(id);
+            HistoryLog log = HistoryLog.copyOf(loaded);
+            int stored = log.size();
+            if (appendedUnloaded != null) {
+                int written = Math.max(0, storedHistorySize - unloadedHistorySize);
+                Set<UUID> loadedIds = new HashSet<>();
+                if (written > 0) {
+                    loaded.forEach(entry -> loadedIds.add(entry.id()));
+                }
+                List<HistoryRecord> appended = appendedUnloaded.snapshot();
+                for (int i = 0; i < appended.size(); i++) {
+                    HistoryRecord entry = appended.get(i);
+                    if (i >= written) {
+                        log.append(entry);
+                    } else if (!loadedIds.contains(entry.id())) {
+                        log.append(entry);
+                        stored++;
+                    }
+                }
+                appendedUnloaded = null;
+            }
+            historyRecords = log;
+            historyLoader = null;
+            storedHistorySize = stored;
+        }
+        return historyRecords;
+    }
+
+    // At most one snapshot of the current text since the last call, as written at writtenAt;
+    // repositories publish it once persisted
+    public List<MedicalRecordTextChanged> pullEvents(LocalDateTime writtenAt) {
+        if (!textChanged) {
+            return List.of();
+        }
+        textChanged = false;
+        return List.of(new MedicalRecordTextChanged(id, organizationId, diagnosis, treatment, notes, writtenAt));
     }
 
     public UUID getId() { return id; }
     public UUID getPatientId() { return patientId; }
     public UUID getOrganizationId() { return organizationId; }
-    public String getPatientName() { return patientName; }
     public UUID getDoctorId() { return doctorId; }
     public String getDiagnosis() { return diagnosis; }
     public String getTreatment() { return treatment; }
     public String getNotes() { return notes; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
-    public List<HistoryRecord> getHistoryRecords() { return new ArrayList<>(historyRecords); }
+    public Set<Field> getChanges() { return EnumSet.copyOf(changes); }
+    public boolean hasChanges() { return !changes.isEmpty(); }
+    public List<HistoryRecord> getHistoryRecords() { return history().snapshot(); }
+    public int getStoredHistorySize() { return storedHistorySize; }
+
+    // Known without loading: the stored size it was read with plus what was appended since
+    public int getHistorySize() {
+        if (historyRecords != null) {
+            return historyRecords.size();
+        }
+        return unloadedHistorySize + (appendedUnloaded == null ? 0 : appendedUnloaded.size());
+    }
+
+    public String getPatientName() {
+        if (patientNameLoader != null) {
+            patientName = patientNameLoader.load(patientId);
+            patientNameLoader = null;
+        }
+        return patientName;
+    }
+
+    public List<HistoryRecord> historySince(LocalDateTime since) {
+        return history().since(since);
+    }
+
+    public List<HistoryRecord> latestHistory(int count) {
+        return history().latest(count);
+    }
+
+    // Pages past the stored entries of an unloaded record, which is what a write asks for, come
+    // from the appended tail without loading
+    public List<HistoryRecord> historyPage(int offset, int limit) {
+        if (historyRecords == null && offset >= unloadedHistorySize) {
+            return appendedUnloaded == null ? List.of() : appendedUnloaded.page(offset - unloadedHistorySize, limit);
+        }
+        return history().page(offset, limit);
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -1,26 +1,33 @@
 package com.medicalapp.api.domain.entities;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import com.medicalapp.api.domain.time.DomainClock;
 import com.medicalapp.api.domain.valueobjects.EIN;
 
 
 public final class Organization {
+    // Mutable columns; setters record which ones changed so only those are written back
+    public enum Field { NAME, ADDRESS }
+
     private final UUID id;
     private String name;
     private String address;
     private final EIN ein;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private final EnumSet<Field> changes = EnumSet.noneOf(Field.class);
 
     public Organization(String name, String address, EIN ein) {
         this(UUID.randomUUID(),
                 Objects.requireNonNull(name, "Name cannot be null"),
                 Objects.requireNonNull(address, "Address cannot be null"),
                 Objects.requireNonNull(ein, "EIN cannot be null"),
-                LocalDateTime.now(),
-                LocalDateTime.now());
+                DomainClock.now(),
+                DomainClock.now());
     }
 
     public Organization(UUID id, String name, String address, EIN ein,
@@ -59,19 +66,33 @@ public final class Organization {
     public EIN getEin() { return ein; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Set<Field> getChanges() { return EnumSet.copyOf(changes); }
+    public boolean hasChanges() { return !changes.isEmpty(); }
 
     public void setName(String name) {
-        this.name = validateName(name);
-        this.updatedAt = LocalDateTime.now();
+        String validated = validateName(name);
+        if (!validated.equals(this.name)) {
+            this.name = validated;
+            changes.add(Field.NAME);
+        }
     }
 
     public void setAddress(String address) {
-        this.address = validateAddress(address);
-        this.updatedAt = LocalDateTime.now();
+        String validated = validateAddress(address);
+        if (!validated.equals(this.address)) {
+            this.address = validated;
+            changes.add(Field.ADDRESS);
+        }
     }
 
     public void updateTimestamp() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = DomainClock.now();
+    }
+
+    // Called by the repository once the changes are committed; updatedAt is stamped there, once per write
+    public void changesPersisted(LocalDateTime persistedAt) {
+        this.updatedAt = Objects.requireNonNull(persistedAt);
+        changes.clear();
     }
 
     @Override
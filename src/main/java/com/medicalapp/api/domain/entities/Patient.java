@@ -1,23 +1,31 @@
 package com.medicalapp.api.domain.entities;
 
+import com.medicalapp.api.domain.time.DomainClock;
+import com.medicalapp.api.domain.validation.ValidationRules;
+import com.medicalapp.api.domain.valueobjects.Gender;
 import com.medicalapp.api.domain.valueobjects.SSN;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import java.util.List;
 
 public final class Patient {
+    // Mutable columns; setters record which ones changed so only those are written back
+    public enum Field { NAME, DATE_OF_BIRTH, GENDER, ADDRESS, CONTACT }
+
     private final UUID id;
     private final UUID organizationId;
     private String name;
     private final SSN ssn;
     private LocalDate dateOfBirth;
-    private String gender;
+    private Gender gender;
     private String address;
     private String contact;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private final EnumSet<Field> changes = EnumSet.noneOf(Field.class);
 
     // Factory method for new patients
     public static Patient create(UUID organizationId, String name, SSN ssn,
@@ -32,8 +40,8 @@ public final class Patient {
                 gender,
                 address,
                 contact,
-                LocalDateTime.now(),
-                LocalDateTime.now()
+                DomainClock.now(),
+                DomainClock.now()
         );
     }
 
@@ -55,53 +63,24 @@ public final class Patient {
 
     // Validation methods
     private String validateName(String name) {
-        if (name == null || name.isBlank()) {
-            throw new IllegalArgumentException("Patient name cannot be blank");
-        }
-        if (name.length() > 100) {
-            throw new IllegalArgumentException("Name exceeds maximum length (100 chars)");
-        }
-        return name;
+        return ValidationRules.require(ValidationRules.patientName(name), name);
     }
 
     private LocalDate validateDateOfBirth(LocalDate dob) {
-        if (dob == null) {
-            throw new IllegalArgumentException("Date of birth cannot be null");
-        }
-        if (dob.isAfter(LocalDate.now())) {
-            throw new IllegalArgumentException("Date of birth cannot be in the future");
-        }
-        return dob;
+        return ValidationRules.require(ValidationRules.dateOfBirth(dob, LocalDate.now()), dob);
     }
 
-    private String validateGender(String gender) {
-        if (gender == null || gender.isBlank()) {
-            throw new IllegalArgumentException("Gender cannot be blank");
-        }
-        if (!List.of("M", "F", "NB", "OTHER").contains(gender.toUpperCase())) {
-            throw new IllegalArgumentException("Invalid gender specification");
-        }
-        return gender;
+    private Gender validateGender(String gender) {
+        ValidationRules.require(ValidationRules.gender(gender), gender);
+        return Gender.lookup(gender);
     }
 
     private String validateAddress(String address) {
-        if (address == null || address.isBlank()) {
-            throw new IllegalArgumentException("Address cannot be blank");
-        }
-        if (address.length() > 200) {
-            throw new IllegalArgumentException("Address exceeds maximum length (200 chars)");
-        }
-        return address;
+        return ValidationRules.require(ValidationRules.address(address), address);
     }
 
     private String validateContact(String contact) {
-        if (contact == null || contact.isBlank()) {
-            throw new IllegalArgumentException("Contact cannot be blank");
-        }
-        if (!contact.matches("^\\+?[0-9\\s-]{10,15}$")) {
-            throw new IllegalArgumentException("Invalid contact format");
-        }
-        return contact;
+        return ValidationRules.require(ValidationRules.contact(contact), contact);
     }
 
     // Getters
@@ -110,40 +89,64 @@ public final class Patient {
     public String getName() { return name; }
     public SSN getSsn() { return ssn; }
     public LocalDate getDateOfBirth() { return dateOfBirth; }
-    public String getGender() { return gender; }
+    public Gender getGender() { return gender; }
     public String getAddress() { return address; }
     public String getContact() { return contact; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
 
-    // Setters with validation
+    public Set<Field> getChanges() { return EnumSet.copyOf(changes); }
+    public boolean hasChanges() { return !changes.isEmpty(); }
+
+    // Setters with validation; assigning the current value is not a change
     public void setName(String name) {
-        this.name = validateName(name);
-        updateTimestamp();
+        String validated = validateName(name);
+        if (!validated.equals(this.name)) {
+            this.name = validated;
+            changes.add(Field.NAME);
+        }
     }
 
     public void setDateOfBirth(LocalDate dateOfBirth) {
-        this.dateOfBirth = validateDateOfBirth(dateOfBirth);
-        updateTimestamp();
+        LocalDate validated = validateDateOfBirth(dateOfBirth);
+        if (!validated.equals(this.dateOfBirth)) {
+            this.dateOfBirth = validated;
+            changes.add(Field.DATE_OF_BIRTH);
+        }
     }
 
     public void setGender(String gender) {
-        this.gender = validateGender(gender);
-        updateTimestamp();
+        setGender(validateGender(gender));
+    }
+
+    public void setGender(Gender gender) {
+        Objects.requireNonNull(gender, "Gender cannot be null");
+        if (gender != this.gender) {
+            this.gender = gender;
+            changes.add(Field.GENDER);
+        }
     }
 
     public void setAddress(String address) {
-        this.address = validateAddress(address);
-        updateTimestamp();
+        String validated = validateAddress(address);
+        if (!validated.equals(this.address)) {
+            this.address = validated;
+            changes.add(Field.ADDRESS);
+        }
     }
 
     public void setContact(String contact) {
-        this.contact = validateContact(contact);
-        updateTimestamp();
+        String validated = validateContact(contact);
+        if (!validated.equals(this.contact)) {
+            this.contact = validated;
+            changes.add(Field.CONTACT);
+        }
     }
 
-    private void updateTimestamp() {
-        this.updatedAt = LocalDateTime.now();
+    // Called by the repository once the changes are committed; updatedAt is stamped there, once per write
+    public void changesPersisted(LocalDateTime persistedAt) {
+        this.updatedAt = Objects.requireNonNull(persistedAt);
+        changes.clear();
     }
 
     // equals and hashCode
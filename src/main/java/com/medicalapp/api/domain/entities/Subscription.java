@@ -1,4 +1,155 @@
 package com.medicalapp.api.domain.entities;
 
-public class Subscription {
+import com.medicalapp.api.domain.time.DomainClock;
+import com.medicalapp.api.domain.valueobjects.BillingInterval;
+import com.medicalapp.api.domain.valueobjects.SubscriptionStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+// Recurring billing for a customer. Period n starts at interval.periodStart(startsAt, n); the
+// first period is billed when the subscription starts. `renewals` counts billed periods and
+// doubles as the version the renewal write is conditioned on.
+public final class Subscription {
+    // Renewal work is split into this many shards, each leased by one node at a time. The shard
+    // is stored with the row, so changing this needs the existing rows re-sharded.
+    public static final int SHARDS = 128;
+
+    private final UUID id;
+    private final Customer customer;
+    private final String plan;
+    private final BigDecimal amount;
+    private final String currency;
+    private final String paymentMethod;
+    private final BillingInterval interval;
+    private SubscriptionStatus status;
+    private final LocalDateTime startsAt;
+    private int renewals;
+    private final LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static Subscription start(Customer customer, String plan, BigDecimal amount, String currency,
+                                     String paymentMethod, BillingInterval interval, LocalDateTime startsAt) {
+        LocalDateTime now = DomainClock.now();
+        return new Subscription(UUID.randomUUID(), customer, plan, amount, currency, paymentMethod, interval,
+                SubscriptionStatus.ACTIVE, Objects.requireNonNull(startsAt, "Start date cannot be null"), 0, now, now);
+    }
+
+    public Subscription(UUID id, Customer customer, String plan, BigDecimal amount, String currency,
+                        String paymentMethod, BillingInterval interval, SubscriptionStatus status,
+                        LocalDateTime startsAt, int renewals, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = Objects.requireNonNull(id, "ID cannot be null");
+        this.customer = Objects.requireNonNull(customer, "Customer cannot be null");
+        this.plan = validatePlan(plan);
+        this.currency = validateCurrency(currency);
+        this.amount = Charge.validateAmount(amount, currency);
+        this.paymentMethod = validatePaymentMethod(paymentMethod);
+        this.interval = Objects.requireNonNull(interval, "Interval cannot be null");
+        this.status = Objects.requireNonNull(status, "Status cannot be null");
+        this.startsAt = Objects.requireNonNull(startsAt, "Start date cannot be null");
+        if (renewals < 0) {
+            throw new IllegalArgumentException("Renewals cannot be negative");
+        }
+        this.renewals = renewals;
+        this.createdAt = Objects.requireNonNull(createdAt, "Creation date cannot be null");
+        this.updatedAt = Objects.requireNonNull(updatedAt, "Update date cannot be null");
+    }
+
+    private String validatePlan(String plan) {
+        if (plan == null || plan.isBlank()) {
+            throw new IllegalArgumentException("Plan cannot be empty");
+        }
+        if (plan.length() > 100) {
+            throw new IllegalArgumentException("Plan too long");
+        }
+        return plan;
+    }
+
+    // The amount follows Charge's rules, so every renewal produces a valid charge
+    private String validateCurrency(String currency) {
+        if (currency == null || !currency.matches("[A-Z]{3}")) {
+            throw new IllegalArgumentException("Currency must be 3 uppercase letters");
+        }
+        return currency;
+    }
+
+    private String validatePaymentMethod(String paymentMethod) {
+        if (paymentMethod == null || paymentMethod.isBlank()) {
+            throw new IllegalArgumentException("Payment method cannot be empty");
+        }
+        if (paymentMethod.length() > 50) {
+            throw new IllegalArgumentException("Payment method too long");
+        }
+        return paymentMethod;
+    }
+
+    public static int shardOf(UUID id) {
+        return Math.floorMod(id.hashCode(), SHARDS);
+    }
+
+    public boolean isDueAt(LocalDateTime time) {
+        return status == SubscriptionStatus.ACTIVE && !getNextRenewalAt().isAfter(time);
+    }
+
+    // Bills the current period and moves on to the next one
+    public SubscriptionRenewal renew() {
+        if (status != SubscriptionStatus.ACTIVE) {
+            throw new IllegalStateException("Subscription " + id + " is not active");
+        }
+        int period = renewals;
+        Charge charge = Charge.create(amount, currency,
+                Optional.of(plan + " " + getNextRenewalAt().toLocalDate()), customer, paymentMethod);
+        renewals++;
+        updatedAt = DomainClock.now();
+        return new SubscriptionRenewal(this, period, charge);
+    }
+
+    public void cancel() {
+        if (status != SubscriptionStatus.CANCELLED) {
+            status = SubscriptionStatus.CANCELLED;
+            updatedAt = DomainClock.now();
+        }
+    }
+
+    public UUID getId() { return id; }
+    public int getShard() { return shardOf(id); }
+    public Customer getCustomer() { return customer; }
+    public String getPlan() { return plan; }
+    public BigDecimal getAmount() { return amount; }
+    public String getCurrency() { return currency; }
+    public String getPaymentMethod() { return paymentMethod; }
+    public BillingInterval getInterval() { return interval; }
+    public SubscriptionStatus getStatus() { return status; }
+    public boolean isActive() { return status == SubscriptionStatus.ACTIVE; }
+    public LocalDateTime getStartsAt() { return startsAt; }
+    public int getRenewals() { return renewals; }
+    public LocalDateTime getNextRenewalAt() { return interval.periodStart(startsAt, renewals); }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Subscription that = (Subscription) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Subscription{" +
+                "id=" + id +
+                ", plan='" + plan + '\'' +
+                ", interval=" + interval +
+                ", status=" + status +
+                ", renewals=" + renewals +
+                '}';
+    }
 }
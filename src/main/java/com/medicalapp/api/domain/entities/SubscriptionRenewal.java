@@ -0,0 +1,13 @@
+package com.medicalapp.api.domain.entities;
+
+import java.util.Objects;
+
+// One billed period: the charge to create and the renewal count the stored row must still have,
+// so a renewal computed from a stale read is rejected instead of billed twice
+public record SubscriptionRenewal(Subscription subscription, int expectedRenewals, Charge charge) {
+
+    public SubscriptionRenewal {
+        Objects.requireNonNull(subscription, "Subscription cannot be null");
+        Objects.requireNonNull(charge, "Charge cannot be null");
+    }
+}
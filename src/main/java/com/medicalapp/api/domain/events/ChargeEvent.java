@@ -0,0 +1,18 @@
+package com.medicalapp.api.domain.events;
+
+import com.medicalapp.api.domain.valueobjects.ChargeStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// previousStatus is null when the charge was just created
+public record ChargeEvent(
+        UUID chargeId,
+        UUID customerId,
+        String currency,
+        long amountMinor,
+        LocalDateTime chargeCreatedAt,
+        ChargeStatus previousStatus,
+        ChargeStatus status,
+        LocalDateTime occurredAt
+) {
+}
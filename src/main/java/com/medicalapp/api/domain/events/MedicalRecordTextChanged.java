@@ -0,0 +1,15 @@
+package com.medicalapp.api.domain.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Current searchable text of a record; updatedAt orders snapshots of the same record
+public record MedicalRecordTextChanged(
+        UUID medicalRecordId,
+        UUID organizationId,
+        String diagnosis,
+        String treatment,
+        String notes,
+        LocalDateTime updatedAt
+) {
+}
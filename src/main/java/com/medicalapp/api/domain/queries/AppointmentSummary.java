@@ -0,0 +1,21 @@
+package com.medicalapp.api.domain.queries;
+
+import com.medicalapp.api.domain.entities.Appointment;
+import com.medicalapp.api.domain.valueobjects.AppointmentStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AppointmentSummary(
+        UUID id,
+        UUID doctorId,
+        UUID patientId,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        AppointmentStatus status
+) {
+
+    public static AppointmentSummary of(Appointment appointment) {
+        return new AppointmentSummary(appointment.getId(), appointment.getDoctorId(), appointment.getPatientId(),
+                appointment.getStartsAt(), appointment.getEndsAt(), appointment.getStatus());
+    }
+}
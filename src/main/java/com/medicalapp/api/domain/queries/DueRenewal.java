@@ -0,0 +1,14 @@
+package com.medicalapp.api.domain.queries;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+// Just enough of a subscription to schedule it; rows are ordered by (dueAt, id)
+public record DueRenewal(UUID id, int shard, LocalDateTime dueAt) {
+
+    public DueRenewal {
+        Objects.requireNonNull(id, "ID cannot be null");
+        Objects.requireNonNull(dueAt, "Due date cannot be null");
+    }
+}
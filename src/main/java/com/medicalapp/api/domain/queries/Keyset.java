@@ -0,0 +1,14 @@
+package com.medicalapp.api.domain.queries;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+// Position after the last row of a page, in (createdAt, id) order
+public record Keyset(LocalDateTime createdAt, UUID id) {
+
+    public Keyset {
+        Objects.requireNonNull(createdAt, "Creation date cannot be null");
+        Objects.requireNonNull(id, "ID cannot be null");
+    }
+}
@@ -0,0 +1,24 @@
+package com.medicalapp.api.domain.queries;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record KeysetPage<T>(List<T> items, Keyset next) {
+
+    public KeysetPage {
+        items = List.copyOf(items);
+    }
+
+    // Repositories fetch limit + 1 rows; the extra row only tells whether another page exists
+    public static <T> KeysetPage<T> of(List<T> rows, int limit, Function<T, Keyset> keyOf) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> page = rows.subList(0, limit);
+        return new KeysetPage<>(page, keyOf.apply(page.get(limit - 1)));
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.medicalapp.api.domain.queries;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// diagnosisExcerpt holds at most the first 200 characters of the diagnosis
+public record MedicalRecordSummary(
+        UUID id,
+        UUID patientId,
+        UUID organizationId,
+        UUID doctorId,
+        String diagnosisExcerpt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public Keyset keyset() {
+        return new Keyset(createdAt, id);
+    }
+}
@@ -0,0 +1,19 @@
+package com.medicalapp.api.domain.queries;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record MedicalRecordText(
+        UUID id,
+        UUID organizationId,
+        String diagnosis,
+        String treatment,
+        String notes,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public Keyset keyset() {
+        return new Keyset(createdAt, id);
+    }
+}
@@ -0,0 +1,26 @@
+package com.medicalapp.api.domain.queries;
+
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.valueobjects.Gender;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PatientSummary(
+        UUID id,
+        UUID organizationId,
+        String name,
+        LocalDate dateOfBirth,
+        Gender gender,
+        LocalDateTime createdAt
+) {
+
+    public static PatientSummary of(Patient patient) {
+        return new PatientSummary(patient.getId(), patient.getOrganizationId(), patient.getName(),
+                patient.getDateOfBirth(), patient.getGender(), patient.getCreatedAt());
+    }
+
+    public Keyset keyset() {
+        return new Keyset(createdAt, id);
+    }
+}
@@ -0,0 +1,17 @@
+package com.medicalapp.api.domain.queries;
+
+import com.medicalapp.api.domain.valueobjects.ChargeStatus;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Charges created on one day by one customer, per currency and status; day or customerId is null
+// when the bucket sums over days or customers
+public record RevenueBucket(
+        LocalDate day,
+        UUID customerId,
+        String currency,
+        ChargeStatus status,
+        long charges,
+        long amountMinor
+) {
+}
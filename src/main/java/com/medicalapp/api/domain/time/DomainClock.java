@@ -0,0 +1,35 @@
+package com.medicalapp.api.domain.time;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// Source of entity timestamps. LocalDateTime.now() resolves the zone offset and builds a new
+// date-time on every call; this hands out the same instance while the wall clock stays within
+// one millisecond, so hot write paths read a volatile instead.
+public final class DomainClock {
+    private static volatile Tick last = new Tick(Clock.systemDefaultZone(), Long.MIN_VALUE, LocalDateTime.MIN);
+
+    private DomainClock() {
+    }
+
+    public static LocalDateTime now() {
+        Tick tick = last;
+        long millis = tick.clock.millis();
+        if (millis == tick.millis) {
+            return tick.time;
+        }
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), tick.clock.getZone());
+        last = new Tick(tick.clock, millis, time);
+        return time;
+    }
+
+    // Tests pin or advance time through a fixed or offset clock
+    public static void use(Clock clock) {
+        last = new Tick(Objects.requireNonNull(clock, "Clock cannot be null"), Long.MIN_VALUE, LocalDateTime.MIN);
+    }
+
+    private record Tick(Clock clock, long millis, LocalDateTime time) {
+    }
+}
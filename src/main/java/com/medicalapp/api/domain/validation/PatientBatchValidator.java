@@ -0,0 +1,59 @@
+package com.medicalapp.api.domain.validation;
+
+import com.medicalapp.api.domain.valueobjects.SSN;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public final class PatientBatchValidator {
+    private final Clock clock;
+
+    public PatientBatchValidator() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public PatientBatchValidator(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+    }
+
+    // Collects every violation of every input instead of stopping at the first one
+    public List<Violation> validateAll(List<PatientInput> inputs) {
+        Objects.requireNonNull(inputs, "Inputs cannot be null");
+        LocalDate today = LocalDate.now(clock);
+        List<Violation> violations = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            validate(i, inputs.get(i), today, violations);
+        }
+        return violations;
+    }
+
+    public List<Violation> validate(PatientInput input) {
+        List<Violation> violations = new ArrayList<>();
+        validate(0, input, LocalDate.now(clock), violations);
+        return violations;
+    }
+
+    private static void validate(int index, PatientInput input, LocalDate today, List<Violation> violations) {
+        if (input == null) {
+            violations.add(new Violation(index, "patient", "Patient cannot be null"));
+            return;
+        }
+        if (input.organizationId() == null) {
+            violations.add(new Violation(index, "organizationId", "Organization ID cannot be null"));
+        }
+        add(violations, index, "name", ValidationRules.patientName(input.name()));
+        add(violations, index, "ssn", input.ssn() == null ? "SSN não pode ser nulo" : SSN.violation(input.ssn()));
+        add(violations, index, "dateOfBirth", ValidationRules.dateOfBirth(input.dateOfBirth(), today));
+        add(violations, index, "gender", ValidationRules.gender(input.gender()));
+        add(violations, index, "address", ValidationRules.address(input.address()));
+        add(violations, index, "contact", ValidationRules.contact(input.contact()));
+    }
+
+    private static void add(List<Violation> violations, int index, String field, String message) {
+        if (message != null) {
+            violations.add(new Violation(index, field, message));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.medicalapp.api.domain.validation;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Unvalidated patient fields as they arrive from imports or API payloads
+public record PatientInput(
+        UUID organizationId,
+        String name,
+        String ssn,
+        LocalDate dateOfBirth,
+        String gender,
+        String address,
+        String contact
+) {
+
+    public PatientInput withOrganizationId(UUID organizationId) {
+        return new PatientInput(organizationId, name, ssn, dateOfBirth, gender, address, contact);
+    }
+}
@@ -0,0 +1,139 @@
+package com.medicalapp.api.domain.validation;
+
+import com.medicalapp.api.domain.valueobjects.Gender;
+import java.time.LocalDate;
+
+// Shared field rules. Each check returns null when the value is valid and the
+// violation message otherwise, so entities can fail fast and batch validation
+// can collect every violation without exceptions.
+public final class ValidationRules {
+
+    private ValidationRules() {
+    }
+
+    public static <T> T require(String violation, T value) {
+        if (violation != null) {
+            throw new IllegalArgumentException(violation);
+        }
+        return value;
+    }
+
+    public static String patientName(String name) {
+        if (name == null || name.isBlank()) {
+            return "Patient name cannot be blank";
+        }
+        if (name.length() > 100) {
+            return "Name exceeds maximum length (100 chars)";
+        }
+        return null;
+    }
+
+    public static String dateOfBirth(LocalDate dob, LocalDate today) {
+        if (dob == null) {
+            return "Date of birth cannot be null";
+        }
+        if (dob.isAfter(today)) {
+            return "Date of birth cannot be in the future";
+        }
+        return null;
+    }
+
+    public static String gender(String gender) {
+        if (gender == null || gender.isBlank()) {
+            return "Gender cannot be blank";
+        }
+        if (Gender.lookup(gender) == null) {
+            return "Invalid gender specification";
+        }
+        return null;
+    }
+
+    public static String address(String address) {
+        if (address == null || address.isBlank()) {
+            return "Address cannot be blank";
+        }
+        if (address.length() > 200) {
+            return "Address exceeds maximum length (200 chars)";
+        }
+        return null;
+    }
+
+    public static String contact(String contact) {
+        if (contact == null || contact.isBlank()) {
+            return "Contact cannot be blank";
+        }
+        if (!isContact(contact)) {
+            return "Invalid contact format";
+        }
+        return null;
+    }
+
+    public static String email(String email) {
+        if (email == null || email.isBlank()) {
+            return "Email cannot be empty";
+        }
+        if (!isEmail(email)) {
+            return "Invalid email format";
+        }
+        if (email.length() > 100) {
+            return "Email exceeds maximum length (100 chars)";
+        }
+        return null;
+    }
+
+    // Equivalent to ^\+?[0-9\s-]{10,15}$
+    public static boolean isContact(CharSequence value) {
+        int start = value.length() > 0 && value.charAt(0) == '+' ? 1 : 0;
+        int length = value.length() - start;
+        if (length < 10 || length > 15) {
+            return false;
+        }
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!(c >= '0' && c <= '9') && c != '-' && !isRegexWhitespace(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Equivalent to ^[\w.-]+@[\w.-]+\.[a-zA-Z]{2,}$: the top-level label has to
+    // follow the last dot of the domain, since letters can't contain one
+    public static boolean isEmail(CharSequence value) {
+        int at = -1;
+        int lastDot = -1;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+                at = i;
+            } else if (c == '.') {
+                if (at >= 0) {
+                    lastDot = i;
+                }
+            } else if (!isWordChar(c) && c != '-') {
+                return false;
+            }
+        }
+        if (at < 1 || lastDot < at + 2 || value.length() - lastDot - 1 < 2) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+}
@@ -0,0 +1,4 @@
+package com.medicalapp.api.domain.validation;
+
+public record Violation(int index, String field, String message) {
+}
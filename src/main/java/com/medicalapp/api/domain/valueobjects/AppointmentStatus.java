@@ -0,0 +1,6 @@
+package com.medicalapp.api.domain.valueobjects;
+
+public enum AppointmentStatus {
+    SCHEDULED,
+    CANCELLED
+}
@@ -0,0 +1,21 @@
+package com.medicalapp.api.domain.valueobjects;
+
+import java.time.LocalDateTime;
+
+public enum BillingInterval {
+    MONTHLY(1),
+    QUARTERLY(3),
+    YEARLY(12);
+
+    private final int months;
+
+    BillingInterval(int months) {
+        this.months = months;
+    }
+
+    // Always counted from the anchor, so a subscription started on the 31st bills on the last
+    // day of short months and goes back to the 31st afterwards instead of drifting
+    public LocalDateTime periodStart(LocalDateTime anchor, int period) {
+        return anchor.plusMonths((long) months * period);
+    }
+}
@@ -1,72 +1,131 @@
 package com.medicalapp.api.domain.valueobjects;
 
-import java.util.regex.Pattern;
 import java.util.Objects;
 
 public final class EIN {
-    private static final Pattern EIN_PATTERN = Pattern.compile("^\\d{2}-?\\d{7}$");
-    private static final String[] INVALID_EINS = {
-            "00-0000000", "07-7777777",
-            "11-1111111", "22-2222222",
-            "33-3333333", "44-4444444",
-            "55-5555555", "66-6666666",
-            "77-7777777", "88-8888888",
-            "99-9999999"
-    };
-
-    private final String value;
+    private static final int OK = 0;
+    private static final int INVALID_LENGTH = -1;
+    private static final int INVALID_FORMAT = -2;
+    private static final int ZERO_PREFIX = -3;
+    private static final int SEQUENTIAL = -4;
+
+    // Packed as the 9-digit decimal number; prefix = packed / 10_000_000
+    private final int packed;
+    private String value;
+    private String formatted;
 
     public EIN(String value) {
-        String cleanedValue = cleanInput(value);
-        validate(cleanedValue);
-        this.value = cleanedValue;
+        Objects.requireNonNull(value);
+        long parsed = parse(value);
+        int packed = (int) parsed;
+        int status = (int) (parsed >> 32);
+        if (status != OK) {
+            throw failure(status, packed);
+        }
+        this.packed = packed;
     }
 
     public static EIN of(String value) {
         return new EIN(value);
     }
 
+    public static boolean isValid(String ein) {
+        Objects.requireNonNull(ein);
+        return (int) (parse(ein) >> 32) == OK;
+    }
+
     public String formatted() {
-        return value.substring(0, 2) + "-" + value.substring(2);
+        String f = formatted;
+        if (f == null) {
+            formatted = f = format(packed);
+        }
+        return f;
     }
 
     public String raw() {
-        return value;
+        String v = value;
+        if (v == null) {
+            char[] digits = new char[9];
+            writeDigits(packed, digits, 0, 9);
+            value = v = new String(digits);
+        }
+        return v;
+    }
+
+    public int packed() {
+        return packed;
     }
 
-    private static void validate(String ein) {
-        if (ein.length() != 9) {
-            throw new IllegalArgumentException("EIN deve conter exatamente 9 dígitos");
+    // Returns the status code in the high word and the packed digits in the low word
+    private static long parse(String input) {
+        int length = 0;
+        boolean numeric = true;
+        int packed = 0;
+        for (int i = 0, n = input.length(); i < n; i++) {
+            char c = input.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            length++;
+            if (c >= '0' && c <= '9') {
+                if (length <= 9) {
+                    packed = packed * 10 + (c - '0');
+                }
+            } else {
+                numeric = false;
+            }
         }
 
-        if (!EIN_PATTERN.matcher(ein).matches()) {
-            throw new IllegalArgumentException("Formato de EIN inválido (use XX-XXXXXXX ou XXXXXXXXX)");
+        if (length != 9) {
+            return result(INVALID_LENGTH, 0);
         }
+        if (!numeric) {
+            return result(INVALID_FORMAT, 0);
+        }
+        if (packed < 100_000_000) {
+            return result(ZERO_PREFIX, packed);
+        }
+        if (isSequential(packed)) {
+            return result(SEQUENTIAL, packed);
+        }
+        return result(OK, packed);
+    }
 
-        validatePrefix(ein.substring(0, 2));
-        checkForInvalidSequences(ein);
+    // Same blacklist as before: 00-0000000, 07-7777777 and 11-1111111 through 99-9999999
+    private static boolean isSequential(int packed) {
+        return switch (packed) {
+            case 0, 77777777, 111111111, 222222222, 333333333, 444444444,
+                 555555555, 666666666, 777777777, 888888888, 999999999 -> true;
+            default -> false;
+        };
     }
 
-    private static void validatePrefix(String prefix) {
-        if (prefix.startsWith("0")) {
-            throw new IllegalArgumentException("EIN não pode começar com 0");
-        }
+    private static long result(int status, int packed) {
+        return ((long) status << 32) | (packed & 0xFFFFFFFFL);
+    }
 
-        if (prefix.equals("00")) {
-            throw new IllegalArgumentException("EIN não pode começar com 00");
-        }
+    private static IllegalArgumentException failure(int status, int packed) {
+        return switch (status) {
+            case INVALID_LENGTH -> new IllegalArgumentException("EIN deve conter exatamente 9 dígitos");
+            case INVALID_FORMAT -> new IllegalArgumentException("Formato de EIN inválido (use XX-XXXXXXX ou XXXXXXXXX)");
+            case ZERO_PREFIX -> new IllegalArgumentException("EIN não pode começar com 0");
+            default -> new IllegalArgumentException("EIN sequencial inválido: " + format(packed));
+        };
     }
 
-    private static void checkForInvalidSequences(String ein) {
-        for (String invalid : INVALID_EINS) {
-            if (ein.equals(invalid.replace("-", ""))) {
-                throw new IllegalArgumentException("EIN sequencial inválido: " + invalid);
-            }
-        }
+    private static String format(int packed) {
+        char[] chars = new char[10];
+        writeDigits(packed / 10_000_000, chars, 0, 2);
+        chars[2] = '-';
+        writeDigits(packed % 10_000_000, chars, 3, 7);
+        return new String(chars);
     }
 
-    private static String cleanInput(String input) {
-        return input.replace("-", "");
+    private static void writeDigits(int number, char[] target, int offset, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            target[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
     }
 
     @Override
@@ -74,16 +133,16 @@ public final class EIN {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         EIN ein = (EIN) o;
-        return value.equals(ein.value);
+        return packed == ein.packed;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(packed);
     }
 
     @Override
     public String toString() {
         return formatted();
     }
-}
\ No newline at end of file
+}
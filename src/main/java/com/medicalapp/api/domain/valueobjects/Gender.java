@@ -0,0 +1,33 @@
+package com.medicalapp.api.domain.valueobjects;
+
+public enum Gender {
+    M,
+    F,
+    NB,
+    OTHER;
+
+    public static Gender of(String value) {
+        Gender gender = lookup(value);
+        if (gender == null) {
+            throw new IllegalArgumentException("Invalid gender specification");
+        }
+        return gender;
+    }
+
+    // Case-insensitive match without allocating an upper-cased copy; null when unknown
+    public static Gender lookup(String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (value.length()) {
+            case 1 -> switch (value.charAt(0)) {
+                case 'M', 'm' -> M;
+                case 'F', 'f' -> F;
+                default -> null;
+            };
+            case 2 -> value.equalsIgnoreCase("NB") ? NB : null;
+            case 5 -> value.equalsIgnoreCase("OTHER") ? OTHER : null;
+            default -> null;
+        };
+    }
+}
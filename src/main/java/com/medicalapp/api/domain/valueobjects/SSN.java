@@ -1,95 +1,186 @@
 package com.medicalapp.api.domain.valueobjects;
 
-import java.util.regex.Pattern;
 import java.util.Objects;
 
-public record SSN(String value) {
+public final class SSN {
 
-    private static final Pattern SSN_PATTERN = Pattern.compile("^\\d{9}$");
-    private static final Pattern FORMATTED_SSN_PATTERN = Pattern.compile("^\\d{3}-\\d{2}-\\d{4}$");
+    private static final int OK = 0;
+    private static final int INVALID_LENGTH = -1;
+    private static final int NOT_NUMERIC = -2;
+    private static final int INVALID_AREA = -3;
+    private static final int RESERVED_AREA = -4;
+    private static final int INVALID_GROUP = -5;
+    private static final int INVALID_SERIAL = -6;
+    private static final int BLACKLISTED = -7;
 
-    private static final String[] INVALID_SSNS = {
-            "111111111", "123456789", "999999999", "000000000", "123123123"
-    };
+    // Packed as the 9-digit decimal number; area = packed / 1_000_000
+    private final int packed;
+    private String value;
+    private String formatted;
 
-    public SSN {
+    public SSN(String value) {
         Objects.requireNonNull(value, "SSN não pode ser nulo");
-        String cleanValue = cleanInput(value);
-        validate(cleanValue);
-        value = cleanValue;
+        long parsed = parse(value);
+        int packed = (int) parsed;
+        int status = (int) (parsed >> 32);
+        if (status != OK) {
+            throw failure(status, packed);
+        }
+        this.packed = packed;
     }
 
     public static SSN of(String value) {
         return new SSN(value);
     }
 
+    public String value() {
+        String v = value;
+        if (v == null) {
+            char[] digits = new char[9];
+            writeDigits(packed, digits, 0, 9);
+            value = v = new String(digits);
+        }
+        return v;
+    }
+
+    public int packed() {
+        return packed;
+    }
+
     public String formatted() {
-        return value.substring(0, 3) + "-" +
-                value.substring(3, 5) + "-" +
-                value.substring(5);
+        String f = formatted;
+        if (f == null) {
+            char[] chars = new char[11];
+            writeDigits(packed / 1_000_000, chars, 0, 3);
+            chars[3] = '-';
+            writeDigits((packed / 10_000) % 100, chars, 4, 2);
+            chars[6] = '-';
+            writeDigits(packed % 10_000, chars, 7, 4);
+            formatted = f = new String(chars);
+        }
+        return f;
     }
 
     public static boolean isValid(String ssn) {
-        try {
-            new SSN(ssn);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        Objects.requireNonNull(ssn, "SSN não pode ser nulo");
+        return (int) (parse(ssn) >> 32) == OK;
     }
 
-    private static String cleanInput(String input) {
-        return input.replaceAll("[\\s-]", "");
+    // Null when the input is a valid SSN, the constructor's error message otherwise
+    public static String violation(String ssn) {
+        Objects.requireNonNull(ssn, "SSN não pode ser nulo");
+        long parsed = parse(ssn);
+        int status = (int) (parsed >> 32);
+        return status == OK ? null : message(status, (int) parsed);
     }
 
-    private static void validate(String ssn) {
-        if (ssn.length() != 9) {
-            throw new IllegalArgumentException("SSN deve conter exatamente 9 dígitos");
+    // Returns the status code in the high word and the packed digits in the low word
+    private static long parse(String input) {
+        int length = 0;
+        boolean numeric = true;
+        int packed = 0;
+        for (int i = 0, n = input.length(); i < n; i++) {
+            char c = input.charAt(i);
+            if (c == '-' || c == ' ' || (c >= '\t' && c <= '\r')) {
+                continue;
+            }
+            length++;
+            if (c >= '0' && c <= '9') {
+                if (length <= 9) {
+                    packed = packed * 10 + (c - '0');
+                }
+            } else {
+                numeric = false;
+            }
         }
 
-        if (!SSN_PATTERN.matcher(ssn).matches()) {
-            throw new IllegalArgumentException("SSN deve conter apenas dígitos numéricos");
+        if (length != 9) {
+            return result(INVALID_LENGTH, 0);
+        }
+        if (!numeric) {
+            return result(NOT_NUMERIC, 0);
         }
 
-        validateAreaNumber(ssn.substring(0, 3));
-        validateGroupNumber(ssn.substring(3, 5));
-        validateSerialNumber(ssn.substring(5));
-        checkForInvalidSequences(ssn);
+        int area = packed / 1_000_000;
+        if (area == 0 || area == 666) {
+            return result(INVALID_AREA, packed);
+        }
+        if (area >= 900) {
+            return result(RESERVED_AREA, packed);
+        }
+        if ((packed / 10_000) % 100 == 0) {
+            return result(INVALID_GROUP, packed);
+        }
+        if (packed % 10_000 == 0) {
+            return result(INVALID_SERIAL, packed);
+        }
+        if (isBlacklisted(packed)) {
+            return result(BLACKLISTED, packed);
+        }
+        return result(OK, packed);
     }
 
-    private static void validateAreaNumber(String area) {
-        switch (area) {
-            case "000", "666" -> throw new IllegalArgumentException("Área " + area + " é inválida para SSN");
-            default -> {
-                if (area.compareTo("900") >= 0) {
-                    throw new IllegalArgumentException("Área " + area + " é reservada");
-                }
-            }
-        }
+    private static boolean isBlacklisted(int packed) {
+        return switch (packed) {
+            case 111111111, 123456789, 999999999, 0, 123123123 -> true;
+            default -> false;
+        };
     }
 
-    private static void validateGroupNumber(String group) {
-        if ("00".equals(group)) {
-            throw new IllegalArgumentException("Número de grupo não pode ser 00");
-        }
+    private static long result(int status, int packed) {
+        return ((long) status << 32) | (packed & 0xFFFFFFFFL);
     }
 
-    private static void validateSerialNumber(String serial) {
-        if ("0000".equals(serial)) {
-            throw new IllegalArgumentException("Número serial não pode ser 0000");
-        }
+    private static IllegalArgumentException failure(int status, int packed) {
+        return new IllegalArgumentException(message(status, packed));
     }
 
-    private static void checkForInvalidSequences(String ssn) {
-        for (String invalid : INVALID_SSNS) {
-            if (invalid.equals(ssn)) {
-                throw new IllegalArgumentException("SSN " + ssn + " é inválido ou reservado");
-            }
+    private static String message(int status, int packed) {
+        return switch (status) {
+            case INVALID_LENGTH -> "SSN deve conter exatamente 9 dígitos";
+            case NOT_NUMERIC -> "SSN deve conter apenas dígitos numéricos";
+            case INVALID_AREA -> "Área " + area(packed) + " é inválida para SSN";
+            case RESERVED_AREA -> "Área " + area(packed) + " é reservada";
+            case INVALID_GROUP -> "Número de grupo não pode ser 00";
+            case INVALID_SERIAL -> "Número serial não pode ser 0000";
+            default -> "SSN " + digits(packed) + " é inválido ou reservado";
+        };
+    }
+
+    private static String area(int packed) {
+        char[] chars = new char[3];
+        writeDigits(packed / 1_000_000, chars, 0, 3);
+        return new String(chars);
+    }
+
+    private static String digits(int packed) {
+        char[] chars = new char[9];
+        writeDigits(packed, chars, 0, 9);
+        return new String(chars);
+    }
+
+    private static void writeDigits(int number, char[] target, int offset, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            target[i] = (char) ('0' + number % 10);
+            number /= 10;
         }
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SSN ssn = (SSN) o;
+        return packed == ssn.packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(packed);
+    }
+
     @Override
     public String toString() {
         return formatted();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.medicalapp.api.infrastructure.aot;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+// Reflection hints for the types Jackson binds in a native image, generated during AOT
+// processing instead of kept by hand: every record and enum under the scanned packages, plus
+// the domain entities. Binding hints follow properties, so nested types are covered as well.
+// Spring AOT already handles beans, their CGLIB proxies, JPA entities and Spring Data proxies.
+public class BindingRuntimeHints implements RuntimeHintsRegistrar {
+    private static final List<String> PACKAGES = List.of(
+            "com.medicalapp.api.domain",
+            "com.medicalapp.api.application",
+            "com.medicalapp.api.presentation");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+        for (Class<?> type : bindingTypes(classLoader)) {
+            binding.registerReflectionHints(hints.reflection(), type);
+        }
+    }
+
+    static List<Class<?>> bindingTypes(ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+                return definition.getMetadata().isIndependent();
+            }
+        };
+        scanner.addIncludeFilter((reader, factory) -> true);
+        List<Class<?>> types = new ArrayList<>();
+        for (String basePackage : PACKAGES) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+                if (type.isRecord() || type.isEnum() || type.getPackageName().endsWith(".domain.entities")) {
+                    types.add(type);
+                }
+            }
+        }
+        return types;
+    }
+}
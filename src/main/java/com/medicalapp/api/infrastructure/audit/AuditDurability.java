@@ -0,0 +1,11 @@
+package com.medicalapp.api.infrastructure.audit;
+
+public enum AuditDurability {
+    // Audit rows are inserted in the business transaction: they commit or roll back with the
+    // change, and every mutation pays for its inserts
+    FLUSH_ON_COMMIT,
+    // Rows are queued after commit and group-committed in the background. A crash, or a batch
+    // that keeps failing, loses rows whose change is already committed. history_count, and history
+    // read by other nodes, the reactive API or exports, trail the queue by about flush-interval
+    ASYNC
+}
@@ -0,0 +1,284 @@
+package com.medicalapp.api.infrastructure.audit;
+
+import com.medicalapp.api.infrastructure.persistence.entities.HistoryRecordEntity;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Group commit for audit rows. Producers append to a lock-free queue whose row count is
+// bounded by a CAS-reserved counter (a full queue makes producers back off, never drops);
+// a single flusher writes whatever arrived within flush-interval, or batch-size rows,
+// in one transaction. Stopping drains the queue before the data source goes away, and
+// submissions after that are written on the caller's thread.
+@Component
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditLogWriter implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(AuditLogWriter.class);
+    private static final long FULL_QUEUE_BACKOFF_NANOS = 50_000;
+
+    private final Consumer<List<HistoryRecordEntity>> sink;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AuditMetrics metrics = new AuditMetrics(depth::get);
+    private volatile CompletableFuture<Void> lastSubmitted = CompletableFuture.completedFuture(null);
+    private volatile boolean running;
+    private volatile Thread flusher;
+
+    @Autowired
+    public AuditLogWriter(EntityManager entityManager, PlatformTransactionManager transactionManager,
+                          AuditProperties properties) {
+        this(properties, jpaSink(entityManager, transactionManager));
+    }
+
+    AuditLogWriter(AuditProperties properties, Consumer<List<HistoryRecordEntity>> sink) {
+        this.sink = sink;
+        this.capacity = properties.queueCapacity();
+        this.batchSize = properties.batchSize();
+        this.flushIntervalNanos = properties.flushInterval().toNanos();
+    }
+
+    private static Consumer<List<HistoryRecordEntity>> jpaSink(EntityManager entityManager,
+                                                               PlatformTransactionManager transactionManager) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return rows -> transaction.executeWithoutResult(status -> {
+            placeAfterStoredHistory(entityManager, rows);
+            for (HistoryRecordEntity row : rows) {
+                entityManager.persist(row);
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    // The rows go after the entries already stored for their medical record, and history_count
+    // moves in the same transaction, so the count never claims rows that were not written. The
+    // positions the rows were queued with are only provisional: the record's count may still lag
+    // behind rows queued earlier. Records are locked in id order.
+    private static void placeAfterStoredHistory(EntityManager entityManager, List<HistoryRecordEntity> rows) {
+        Map<UUID, List<HistoryRecordEntity>> byRecord = new TreeMap<>();
+        for (HistoryRecordEntity row : rows) {
+            byRecord.computeIfAbsent(row.getMedicalRecordId(), id -> new ArrayList<>()).add(row);
+        }
+        for (Map.Entry<UUID, List<HistoryRecordEntity>> record : byRecord.entrySet()) {
+            List<HistoryRecordEntity> appended = record.getValue();
+            int updated = entityManager
+                    .createNativeQuery("update medical_records set history_count = history_count + ?1 where id = ?2")
+                    .setParameter(1, appended.size())
+                    .setParameter(2, record.getKey())
+                    .executeUpdate();
+            if (updated == 0) {
+                continue;
+            }
+            int count = ((Number) entityManager
+                    .createNativeQuery("select history_count from medical_records where id = ?1")
+                    .setParameter(1, record.getKey())
+                    .getSingleResult()).intValue();
+            int first = count - appended.size();
+            for (int i = 0; i < appended.size(); i++) {
+                appended.get(i).placeAt(first + i);
+            }
+        }
+    }
+
+    // Completes once the rows are committed, or exceptionally if they could not be written
+    public CompletableFuture<Void> submit(List<HistoryRecordEntity> rows) {
+        Pending pending = new Pending(List.copyOf(rows), new CompletableFuture<>());
+        if (pending.rows.isEmpty()) {
+            pending.done.complete(null);
+            return pending.done;
+        }
+        int before = reserve(pending.rows.size());
+        queue.offer(pending);
+        lastSubmitted = pending.done;
+        if (!running) {
+            drainRemaining();
+        } else if (before == 0 || before + pending.rows.size() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+        return pending.done;
+    }
+
+    // Lets readers see everything submitted before the call
+    public void awaitSubmitted() {
+        lastSubmitted.handle((result, failure) -> null).join();
+    }
+
+    public AuditMetrics getMetrics() {
+        return metrics;
+    }
+
+    private int reserve(int rows) {
+        while (true) {
+            int current = depth.get();
+            if (current > 0 && current + rows > capacity) {
+                if (!running) {
+                    drainRemaining();
+                } else {
+                    LockSupport.unpark(flusher);
+                    LockSupport.parkNanos(this, FULL_QUEUE_BACKOFF_NANOS);
+                }
+                continue;
+            }
+            if (depth.compareAndSet(current, current + rows)) {
+                return current;
+            }
+        }
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>();
+        while (running) {
+            Pending first = queue.poll();
+            if (first == null) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+            batch.add(first);
+            int rows = first.rows.size();
+            long deadline = System.nanoTime() + flushIntervalNanos;
+            while (rows < batchSize) {
+                Pending next = queue.poll();
+                if (next != null) {
+                    batch.add(next);
+                    rows += next.rows.size();
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    break;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            flush(batch, rows);
+            batch.clear();
+        }
+    }
+
+    private synchronized void drainRemaining() {
+        List<Pending> batch = new ArrayList<>();
+        int rows = 0;
+        Pending next;
+        while ((next = queue.poll()) != null) {
+            batch.add(next);
+            rows += next.rows.size();
+            if (rows >= batchSize) {
+                flush(batch, rows);
+                batch.clear();
+                rows = 0;
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch, rows);
+        }
+    }
+
+    // A failed batch is retried one submission at a time, so a bad row only fails its own submission
+    private void flush(List<Pending> batch, int rows) {
+        try {
+            if (batch.size() > 1 && write(concat(batch, rows), batch) == null) {
+                return;
+            }
+            for (Pending pending : batch) {
+                RuntimeException failure = write(pending.rows, List.of(pending));
+                if (failure != null) {
+                    metrics.rowsFailed(pending.rows.size());
+                    log.error("Could not write {} audit rows", pending.rows.size(), failure);
+                    pending.done.completeExceptionally(failure);
+                }
+            }
+        } finally {
+            depth.addAndGet(-rows);
+        }
+    }
+
+    private RuntimeException write(List<HistoryRecordEntity> rows, List<Pending> submissions) {
+        long started = System.nanoTime();
+        try {
+            sink.accept(rows);
+        } catch (RuntimeException e) {
+            return e;
+        }
+        metrics.batchWritten(rows.size(), System.nanoTime() - started);
+        for (Pending pending : submissions) {
+            pending.done.complete(null);
+        }
+        return null;
+    }
+
+    private static List<HistoryRecordEntity> concat(List<Pending> batch, int rows) {
+        List<HistoryRecordEntity> all = new ArrayList<>(rows);
+        for (Pending pending : batch) {
+            all.addAll(pending.rows);
+        }
+        return all;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("audit-writer").daemon().start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        Thread thread;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            thread = flusher;
+        }
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        drainRemaining();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // After the web server has finished its in-flight requests, before the data source closes
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    private record Pending(List<HistoryRecordEntity> rows, CompletableFuture<Void> done) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.medicalapp.api.infrastructure.audit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+public class AuditMetrics {
+    private final IntSupplier queueDepth;
+    private final LongAdder rowsWritten = new LongAdder();
+    private final LongAdder batchesWritten = new LongAdder();
+    private final LongAdder rowsFailed = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+    private final LongAccumulator maxFlushNanos = new LongAccumulator(Math::max, 0);
+    private volatile long lastFlushNanos;
+
+    AuditMetrics(IntSupplier queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    void batchWritten(int rows, long nanos) {
+        rowsWritten.add(rows);
+        batchesWritten.increment();
+        flushNanos.add(nanos);
+        maxFlushNanos.accumulate(nanos);
+        lastFlushNanos = nanos;
+    }
+
+    void rowsFailed(int rows) {
+        rowsFailed.add(rows);
+    }
+
+    public int getQueueDepth() { return queueDepth.getAsInt(); }
+    public long getRowsWritten() { return rowsWritten.sum(); }
+    public long getBatchesWritten() { return batchesWritten.sum(); }
+    public long getRowsFailed() { return rowsFailed.sum(); }
+    public Duration getLastFlushLatency() { return Duration.ofNanos(lastFlushNanos); }
+    public Duration getMaxFlushLatency() { return Duration.ofNanos(maxFlushNanos.get()); }
+
+    public Duration getAverageFlushLatency() {
+        long batches = getBatchesWritten();
+        return batches == 0 ? Duration.ZERO : Duration.ofNanos(flushNanos.sum() / batches);
+    }
+}
@@ -0,0 +1,27 @@
+package com.medicalapp.api.infrastructure.audit;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "medicalapp.audit")
+public record AuditProperties(AuditDurability durability, Integer queueCapacity, Integer batchSize,
+                              Duration flushInterval) {
+
+    public AuditProperties {
+        if (durability == null) {
+            durability = AuditDurability.ASYNC;
+        }
+        if (queueCapacity == null) {
+            queueCapacity = 65_536;
+        }
+        if (batchSize == null) {
+            batchSize = 500;
+        }
+        if (flushInterval == null) {
+            flushInterval = Duration.ofMillis(5);
+        }
+        if (queueCapacity < 1 || batchSize < 1 || !flushInterval.isPositive()) {
+            throw new IllegalArgumentException("Invalid audit settings");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.medicalapp.api.infrastructure.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+final class CacheInvalidation {
+
+    private CacheInvalidation() {
+    }
+
+    // Invalidates now and, inside a surrounding transaction, once more after it completes:
+    // a reader that missed between the write and the commit would otherwise cache the old row
+    static void afterWrite(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.medicalapp.api.infrastructure.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "medicalapp.cache")
+public record CacheProperties(Duration ttl, Integer maxTenants, Integer maxEntriesPerTenant) {
+
+    public CacheProperties {
+        if (ttl == null) {
+            ttl = Duration.ofMinutes(5);
+        }
+        if (maxTenants == null) {
+            maxTenants = 1000;
+        }
+        if (maxEntriesPerTenant == null) {
+            maxEntriesPerTenant = 10_000;
+        }
+        if (ttl.isNegative() || ttl.isZero() || maxTenants < 1 || maxEntriesPerTenant < 1) {
+            throw new IllegalArgumentException("Invalid cache settings");
+        }
+    }
+}
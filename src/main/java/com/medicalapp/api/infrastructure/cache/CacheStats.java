@@ -0,0 +1,35 @@
+package com.medicalapp.api.infrastructure.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CacheStats {
+    private final String name;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public CacheStats(String name) {
+        this.name = name;
+    }
+
+    void hit() { hits.increment(); }
+    void miss() { misses.increment(); }
+    void evicted(long entries) { evictions.add(entries); }
+    void expired() { expirations.increment(); }
+    void invalidated() { invalidations.increment(); }
+
+    public String getName() { return name; }
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+    public long getExpirations() { return expirations.sum(); }
+    public long getInvalidations() { return invalidations.sum(); }
+
+    public double getHitRatio() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
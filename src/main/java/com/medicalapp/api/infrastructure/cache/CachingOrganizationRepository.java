@@ -0,0 +1,77 @@
+package com.medicalapp.api.infrastructure.cache;
+
+import com.medicalapp.api.domain.contracts.OrganizationRepositoryContract;
+import com.medicalapp.api.domain.entities.Organization;
+import com.medicalapp.api.domain.valueobjects.EIN;
+import com.medicalapp.api.infrastructure.persistence.repositories.OrganizationRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+// Same copy-on-read, invalidate-on-save scheme as CachingPatientRepository; every
+// organization is its own tenant, so max-tenants bounds how many are kept
+@Primary
+@Repository
+public class CachingOrganizationRepository implements OrganizationRepositoryContract {
+    private final OrganizationRepositoryContract delegate;
+    private final TenantCache<Object, Organization> cache;
+
+    public CachingOrganizationRepository(OrganizationRepository delegate, CacheProperties properties) {
+        this.delegate = delegate;
+        this.cache = new TenantCache<>("organizations", properties);
+    }
+
+    @Override
+    public Organization save(Organization organization) {
+        Organization saved = delegate.save(organization);
+        CacheInvalidation.afterWrite(() -> invalidate(organization));
+        return saved;
+    }
+
+    @Override
+    public Optional<Organization> findById(UUID id) {
+        return lookup(new ById(id), () -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<Organization> findByEin(EIN ein) {
+        return lookup(new ByEin(ein), () -> delegate.findByEin(ein));
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
+
+    private Optional<Organization> lookup(Object key, Supplier<Optional<Organization>> loader) {
+        Organization cached = cache.get(key);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        long stamp = cache.stamp();
+        Optional<Organization> loaded = loader.get();
+        loaded.ifPresent(organization -> cache.putAll(stamp, organization.getId(), keys(organization), copy(organization)));
+        return loaded;
+    }
+
+    private void invalidate(Organization organization) {
+        cache.invalidate(organization.getId(), keys(organization));
+    }
+
+    private static List<Object> keys(Organization organization) {
+        return List.of(new ById(organization.getId()), new ByEin(organization.getEin()));
+    }
+
+    private static Organization copy(Organization organization) {
+        return new Organization(organization.getId(), organization.getName(), organization.getAddress(),
+                organization.getEin(), organization.getCreatedAt(), organization.getUpdatedAt());
+    }
+
+    private record ById(UUID id) {
+    }
+
+    private record ByEin(EIN ein) {
+    }
+}
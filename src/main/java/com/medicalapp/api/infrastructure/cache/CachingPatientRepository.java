@@ -0,0 +1,124 @@
+package com.medicalapp.api.infrastructure.cache;
+
+import com.medicalapp.api.domain.contracts.PatientRepositoryContract;
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.KeysetPage;
+import com.medicalapp.api.domain.queries.PatientSummary;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import com.medicalapp.api.infrastructure.persistence.repositories.PatientRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+// Read-through cache for single-patient lookups, partitioned by organization.
+// Callers always get their own copy, so setter calls on a loaded patient never leak
+// into the cache; the change becomes visible to other readers once it is saved,
+// which invalidates the cached entry.
+@Primary
+@Repository
+public class CachingPatientRepository implements PatientRepositoryContract {
+    private final PatientRepositoryContract delegate;
+    private final TenantCache<Object, Patient> cache;
+
+    public CachingPatientRepository(PatientRepository delegate, CacheProperties properties) {
+        this.delegate = delegate;
+        this.cache = new TenantCache<>("patients", properties);
+    }
+
+    @Override
+    public Patient save(Patient patient) {
+        Patient saved = delegate.save(patient);
+        CacheInvalidation.afterWrite(() -> invalidate(patient));
+        return saved;
+    }
+
+    @Override
+    public void saveAll(Collection<Patient> patients) {
+        delegate.saveAll(patients);
+        List<Patient> written = List.copyOf(patients);
+        CacheInvalidation.afterWrite(() -> written.forEach(this::invalidate));
+    }
+
+    @Override
+    public Optional<Patient> findById(UUID id) {
+        return lookup(new ById(id), () -> delegate.findById(id));
+    }
+
+    // Cached patients answer from memory; the rest are fetched in one query
+    @Override
+    public Map<UUID, String> findNamesByIds(Collection<UUID> ids) {
+        Map<UUID, String> names = new HashMap<>(ids.size() * 2);
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            Patient cached = cache.peek(new ById(id));
+            if (cached != null) {
+                names.put(id, cached.getName());
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            names.putAll(delegate.findNamesByIds(missing));
+        }
+        return names;
+    }
+
+    @Override
+    public Optional<Patient> findBySsn(UUID organizationId, SSN ssn) {
+        return lookup(new BySsn(organizationId, ssn), () -> delegate.findBySsn(organizationId, ssn));
+    }
+
+    @Override
+    public Set<SSN> findExistingSsns(UUID organizationId, Collection<SSN> ssns) {
+        return delegate.findExistingSsns(organizationId, ssns);
+    }
+
+    @Override
+    public KeysetPage<PatientSummary> findSummariesByOrganization(UUID organizationId, Keyset after, int limit) {
+        return delegate.findSummariesByOrganization(organizationId, after, limit);
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
+
+    private Optional<Patient> lookup(Object key, Supplier<Optional<Patient>> loader) {
+        Patient cached = cache.get(key);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        long stamp = cache.stamp();
+        Optional<Patient> loaded = loader.get();
+        loaded.ifPresent(patient -> cache.putAll(stamp, patient.getOrganizationId(), keys(patient), copy(patient)));
+        return loaded;
+    }
+
+    private void invalidate(Patient patient) {
+        cache.invalidate(patient.getOrganizationId(), keys(patient));
+    }
+
+    private static List<Object> keys(Patient patient) {
+        return List.of(new ById(patient.getId()), new BySsn(patient.getOrganizationId(), patient.getSsn()));
+    }
+
+    private static Patient copy(Patient patient) {
+        return new Patient(patient.getId(), patient.getOrganizationId(), patient.getName(), patient.getSsn(),
+                patient.getDateOfBirth(), patient.getGender().name(), patient.getAddress(), patient.getContact(),
+                patient.getCreatedAt(), patient.getUpdatedAt());
+    }
+
+    private record ById(UUID id) {
+    }
+
+    private record BySsn(UUID organizationId, SSN ssn) {
+    }
+}
@@ -0,0 +1,229 @@
+package com.medicalapp.api.infrastructure.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+// Size- and TTL-bounded cache split into one LRU segment per tenant, so a tenant can
+// only ever evict its own entries. When more than maxTenants segments exist the least
+// recently used tenant is dropped as a whole. Segments are locked individually; the only
+// shared structures are concurrent maps and the invalidation counters, so lookups for
+// different tenants don't contend.
+public final class TenantCache<K, V> {
+    private final CacheStats stats;
+    private final int maxTenants;
+    private final int maxEntriesPerTenant;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<Object, Segment<K, V>> segments = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, Segment<K, V>> locator = new ConcurrentHashMap<>();
+    private static final int STRIPES = 1024;
+
+    private final AtomicLong invalidations = new AtomicLong();
+    // Latest invalidation per tenant hash, and the latest invalidateAll; a tenant's segment
+    // starts from these, so it knows about invalidations made while it didn't exist
+    private final AtomicLongArray tenantInvalidations = new AtomicLongArray(STRIPES);
+    private final AtomicLong allInvalidated = new AtomicLong();
+
+    public TenantCache(String name, CacheProperties properties) {
+        this(name, properties, System::nanoTime);
+    }
+
+    TenantCache(String name, CacheProperties properties, LongSupplier ticker) {
+        this.stats = new CacheStats(name);
+        this.maxTenants = properties.maxTenants();
+        this.maxEntriesPerTenant = properties.maxEntriesPerTenant();
+        this.ttlNanos = properties.ttl().toNanos();
+        this.ticker = ticker;
+    }
+
+    public V get(K key) {
+        V value = find(key);
+        if (value == null) {
+            stats.miss();
+        } else {
+            stats.hit();
+        }
+        return value;
+    }
+
+    // A lookup that isn't counted as a hit or miss, for callers that only borrow cached values
+    public V peek(K key) {
+        return find(key);
+    }
+
+    private V find(K key) {
+        Segment<K, V> segment = locator.get(key);
+        if (segment == null) {
+            return null;
+        }
+        long now = ticker.getAsLong();
+        synchronized (segment) {
+            Entry<V> entry = segment.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now - entry.expiresAt >= 0) {
+                segment.entries.remove(key);
+                locator.remove(key, segment);
+                stats.expired();
+                return null;
+            }
+            segment.lastAccess = now;
+            return entry.value;
+        }
+    }
+
+    // Read before loading from the store, when the tenant may not be known yet; putAll ignores
+    // the load if the tenant had an invalidation meanwhile, so a slow reader can't reinstate a
+    // value a writer just replaced. Invalidations in other tenants only affect it when they share
+    // a stripe and the tenant has no segment yet.
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    public void putAll(long stamp, Object tenant, List<K> keys, V value) {
+        Objects.requireNonNull(tenant, "Tenant cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+        long now = ticker.getAsLong();
+        while (true) {
+            Segment<K, V> segment = segments.computeIfAbsent(tenant, t -> new Segment<>(now, lastInvalidation(t)));
+            synchronized (segment) {
+                if (segment.retired) {
+                    continue;
+                }
+                if (segment.invalidatedAt > stamp) {
+                    return;
+                }
+                Entry<V> entry = new Entry<>(value, now + ttlNanos);
+                for (K key : keys) {
+                    segment.entries.put(key, entry);
+                    locator.put(key, segment);
+                }
+                segment.lastAccess = now;
+                trim(segment);
+            }
+            if (segments.size() > maxTenants) {
+                evictColdestTenant(tenant);
+            }
+            return;
+        }
+    }
+
+    // The tenant's stripe moves first, so a segment created for the tenant afterwards starts past
+    // every load that began before; an existing segment records it under its lock along with the removal
+    public void invalidate(Object tenant, List<K> keys) {
+        Objects.requireNonNull(tenant, "Tenant cannot be null");
+        long invalidation = invalidations.incrementAndGet();
+        tenantInvalidations.accumulateAndGet(stripe(tenant), invalidation, Math::max);
+        Segment<K, V> segment = segments.get(tenant);
+        if (segment == null) {
+            return;
+        }
+        synchronized (segment) {
+            segment.invalidatedAt = Math.max(segment.invalidatedAt, invalidation);
+            for (K key : keys) {
+                if (segment.entries.remove(key) != null) {
+                    locator.remove(key, segment);
+                    stats.invalidated();
+                }
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        allInvalidated.accumulateAndGet(invalidations.incrementAndGet(), Math::max);
+        for (Object tenant : segments.keySet()) {
+            retire(tenant);
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments.values()) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    private long lastInvalidation(Object tenant) {
+        return Math.max(tenantInvalidations.get(stripe(tenant)), allInvalidated.get());
+    }
+
+    private static int stripe(Object tenant) {
+        int h = tenant.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    private void trim(Segment<K, V> segment) {
+        Iterator<Map.Entry<K, Entry<V>>> eldest = segment.entries.entrySet().iterator();
+        while (segment.entries.size() > maxEntriesPerTenant && eldest.hasNext()) {
+            K key = eldest.next().getKey();
+            eldest.remove();
+            locator.remove(key, segment);
+            stats.evicted(1);
+        }
+    }
+
+    // Linear scan, but only runs when a new tenant pushes the cache over its tenant bound
+    private void evictColdestTenant(Object justWritten) {
+        while (segments.size() > maxTenants) {
+            Object coldest = null;
+            long oldest = Long.MAX_VALUE;
+            for (Map.Entry<Object, Segment<K, V>> candidate : segments.entrySet()) {
+                long lastAccess = candidate.getValue().lastAccess;
+                if (!candidate.getKey().equals(justWritten) && lastAccess < oldest) {
+                    oldest = lastAccess;
+                    coldest = candidate.getKey();
+                }
+            }
+            if (coldest == null) {
+                return;
+            }
+            stats.evicted(retire(coldest));
+        }
+    }
+
+    private int retire(Object tenant) {
+        Segment<K, V> segment = segments.remove(tenant);
+        if (segment == null) {
+            return 0;
+        }
+        synchronized (segment) {
+            segment.retired = true;
+            int removed = segment.entries.size();
+            for (K key : segment.entries.keySet()) {
+                locator.remove(key, segment);
+            }
+            segment.entries.clear();
+            return removed;
+        }
+    }
+
+    private static final class Segment<K, V> {
+        private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private volatile long lastAccess;
+        private long invalidatedAt;
+        private boolean retired;
+
+        private Segment(long now, long invalidatedAt) {
+            this.lastAccess = now;
+            this.invalidatedAt = invalidatedAt;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.medicalapp.api.infrastructure.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+// Reads what BinaryWriter wrote; truncated or malformed input is an IllegalArgumentException
+final class BinaryReader {
+    private final byte[] bytes;
+    private final int limit;
+    private int position;
+
+    BinaryReader(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IllegalArgumentException("Invalid payload bounds");
+        }
+        this.bytes = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    int readByte() {
+        require(1);
+        return bytes[position++] & 0xFF;
+    }
+
+    long readLong() {
+        require(Long.BYTES);
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = value << 8 | (bytes[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    UUID readUuid() {
+        return new UUID(readLong(), readLong());
+    }
+
+    long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw malformed();
+    }
+
+    long readSignedVarint() {
+        long value = readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    int readCount() {
+        long value = readVarint();
+        // Every element takes at least a byte, so a count past the remaining bytes is corrupt
+        if (value > limit - position) {
+            throw malformed();
+        }
+        return (int) value;
+    }
+
+    String readString() {
+        long length = readVarint();
+        if (length == 0) {
+            return null;
+        }
+        if (length - 1 > limit - position) {
+            throw malformed();
+        }
+        int bytesLength = (int) (length - 1);
+        String value = new String(bytes, position, bytesLength, StandardCharsets.UTF_8);
+        position += bytesLength;
+        return value;
+    }
+
+    LocalDateTime readTime() {
+        return time(readSignedVarint());
+    }
+
+    LocalDateTime readTime(LocalDateTime base) {
+        return time(base.toEpochSecond(ZoneOffset.UTC) + readSignedVarint());
+    }
+
+    boolean exhausted() {
+        return position == limit;
+    }
+
+    IllegalArgumentException malformed() {
+        return new IllegalArgumentException("Malformed binary payload");
+    }
+
+    private LocalDateTime time(long seconds) {
+        long encoded = readVarint();
+        boolean micros = (encoded & 1) == 0;
+        long nanos = encoded >>> 1;
+        if (micros && nanos <= 999_999) {
+            nanos *= 1000;
+        } else if (micros || nanos > 999_999_999) {
+            throw malformed();
+        }
+        try {
+            return LocalDateTime.ofEpochSecond(seconds, (int) nanos, ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw malformed();
+        }
+    }
+
+    private void require(int length) {
+        if (limit - position < length) {
+            throw malformed();
+        }
+    }
+}
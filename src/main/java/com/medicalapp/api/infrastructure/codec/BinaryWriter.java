@@ -0,0 +1,151 @@
+package com.medicalapp.api.infrastructure.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+// Growable buffer with the primitive encodings of MedicalRecordCodec. Strings are encoded to
+// UTF-8 in place, without an intermediate byte[] per field.
+final class BinaryWriter {
+    private byte[] bytes;
+    private int size;
+
+    BinaryWriter(int capacity) {
+        bytes = new byte[capacity];
+    }
+
+    void writeByte(int value) {
+        ensure(1);
+        bytes[size++] = (byte) value;
+    }
+
+    void writeLong(long value) {
+        ensure(Long.BYTES);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            bytes[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    void writeUuid(UUID value) {
+        writeLong(value.getMostSignificantBits());
+        writeLong(value.getLeastSignificantBits());
+    }
+
+    void writeVarint(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    void writeSignedVarint(long value) {
+        writeVarint((value << 1) ^ (value >> 63));
+    }
+
+    // Length + 1, so that 0 is null
+    void writeString(String value) {
+        if (value == null) {
+            writeVarint(0);
+            return;
+        }
+        int length = utf8Length(value);
+        writeVarint(length + 1L);
+        ensure(length);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[size++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[size++] = (byte) (0xC0 | c >> 6);
+                bytes[size++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                bytes[size++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[size++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                bytes[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                bytes[size++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogate, replaced like String.getBytes does
+                bytes[size++] = '?';
+            } else {
+                bytes[size++] = (byte) (0xE0 | c >> 12);
+                bytes[size++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[size++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+    }
+
+    void writeTime(LocalDateTime value) {
+        writeSignedVarint(value.toEpochSecond(ZoneOffset.UTC));
+        writeNanos(value.getNano());
+    }
+
+    // Seconds relative to `base`, which keeps timestamps close to each other down to a byte or two
+    void writeTime(LocalDateTime value, LocalDateTime base) {
+        writeSignedVarint(value.toEpochSecond(ZoneOffset.UTC) - base.toEpochSecond(ZoneOffset.UTC));
+        writeNanos(value.getNano());
+    }
+
+    // Stored timestamps have microsecond precision, which takes three bytes at most instead of five
+    private void writeNanos(int nanos) {
+        if (nanos % 1000 == 0) {
+            writeVarint((long) (nanos / 1000) << 1);
+        } else {
+            writeVarint((long) nanos << 1 | 1);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    // The content prefixed with its varint length
+    byte[] toFrame() {
+        BinaryWriter prefix = new BinaryWriter(5);
+        prefix.writeVarint(size);
+        byte[] frame = Arrays.copyOf(prefix.bytes, prefix.size + size);
+        System.arraycopy(bytes, 0, frame, prefix.size, size);
+        return frame;
+    }
+
+    void writeTo(OutputStream output) throws IOException {
+        output.write(bytes, 0, size);
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,50 @@
+package com.medicalapp.api.infrastructure.codec;
+
+import com.medicalapp.api.application.views.MedicalRecordDocument;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+// Reactive mode: a single record is written as is, a stream as length-prefixed frames that are
+// flushed one by one like NDJSON lines
+public final class MedicalRecordBinaryEncoder implements HttpMessageEncoder<MedicalRecordDocument> {
+    private static final MediaType RECORD = MediaType.parseMediaType(MedicalRecordCodec.MEDIA_TYPE);
+    private static final MediaType STREAM = MediaType.parseMediaType(MedicalRecordCodec.STREAM_MEDIA_TYPE);
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return MedicalRecordDocument.class.equals(elementType.toClass()) && mimeType != null
+                && (RECORD.equalsTypeAndSubtype(mimeType) || STREAM.equalsTypeAndSubtype(mimeType));
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends MedicalRecordDocument> records, DataBufferFactory factory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return Flux.from(records).map(record -> STREAM.equalsTypeAndSubtype(mimeType)
+                ? factory.wrap(MedicalRecordCodec.encodeFrame(record))
+                : encodeValue(record, factory, elementType, mimeType, hints));
+    }
+
+    @Override
+    public DataBuffer encodeValue(MedicalRecordDocument record, DataBufferFactory factory, ResolvableType valueType,
+                                  MimeType mimeType, Map<String, Object> hints) {
+        return factory.wrap(MedicalRecordCodec.encode(record));
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes() {
+        return List.of(RECORD, STREAM);
+    }
+
+    @Override
+    public List<MediaType> getStreamingMediaTypes() {
+        return List.of(STREAM);
+    }
+}
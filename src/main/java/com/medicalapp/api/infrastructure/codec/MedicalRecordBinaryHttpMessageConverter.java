@@ -0,0 +1,42 @@
+package com.medicalapp.api.infrastructure.codec;
+
+import com.medicalapp.api.application.views.MedicalRecordDocument;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+// Servlet mode: picked up by Boot's HttpMessageConverters, so handlers returning a
+// MedicalRecordDocument answer in binary when the client asks for MedicalRecordCodec.MEDIA_TYPE
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MedicalRecordBinaryHttpMessageConverter extends AbstractHttpMessageConverter<MedicalRecordDocument> {
+
+    public MedicalRecordBinaryHttpMessageConverter() {
+        super(MediaType.parseMediaType(MedicalRecordCodec.MEDIA_TYPE));
+    }
+
+    @Override
+    protected boolean supports(Class<?> type) {
+        return MedicalRecordDocument.class.equals(type);
+    }
+
+    @Override
+    protected MedicalRecordDocument readInternal(Class<? extends MedicalRecordDocument> type,
+                                                 HttpInputMessage input) throws IOException {
+        try {
+            return MedicalRecordCodec.decode(input.getBody().readAllBytes());
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, input);
+        }
+    }
+
+    @Override
+    protected void writeInternal(MedicalRecordDocument record, HttpOutputMessage output) throws IOException {
+        MedicalRecordCodec.encode(record, output.getBody());
+    }
+}
@@ -0,0 +1,184 @@
+package com.medicalapp.api.infrastructure.codec;
+
+import com.medicalapp.api.application.views.MedicalRecordDocument;
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Compact binary form of a medical record and its history, the same content as the JSON
+// MedicalRecordDocument at a fraction of the size:
+//   record  = version, uuid id, patientId, organizationId, doctorId, string patientName, diagnosis,
+//             treatment, notes, time createdAt, time updatedAt (from createdAt), count, entry*
+//   entry   = uuid id, action, string details, time timestamp (from the previous entry, the first
+//             from createdAt); medicalRecordId is the record's id
+//   action  = varint i: the i-th distinct action of this record, or when i is the number seen so far,
+//             a new one spelled out as a string
+//   uuid    = two big-endian longs; string = varint UTF-8 length + 1, 0 for null
+//   time    = zig-zag varint epoch seconds (UTC), varint micros << 1, or nanos << 1 | 1 when not whole
+// A stream of records is a sequence of frames, each a varint length followed by one record.
+public final class MedicalRecordCodec {
+    public static final String MEDIA_TYPE = "application/vnd.medicalapp.medical-record";
+    public static final String STREAM_MEDIA_TYPE = "application/vnd.medicalapp.medical-record-stream";
+
+    private static final int VERSION = 1;
+    private static final int HISTORY_RECORD_VERSION = 1;
+
+    private MedicalRecordCodec() {
+    }
+
+    public static byte[] encode(MedicalRecordDocument record) {
+        return write(record).toByteArray();
+    }
+
+    public static void encode(MedicalRecordDocument record, OutputStream output) throws IOException {
+        write(record).writeTo(output);
+    }
+
+    public static byte[] encodeFrame(MedicalRecordDocument record) {
+        return write(record).toFrame();
+    }
+
+    // The next record of a stream, or null at its end
+    public static MedicalRecordDocument readFrame(InputStream input) throws IOException {
+        long length = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = input.read();
+            if (b < 0 && shift == 0) {
+                return null;
+            }
+            if (b < 0 || shift > 28) {
+                throw new IOException("Truncated medical record stream");
+            }
+            length |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Medical record frame too large");
+        }
+        byte[] bytes = input.readNBytes((int) length);
+        if (bytes.length != length) {
+            throw new IOException("Truncated medical record stream");
+        }
+        return decode(bytes);
+    }
+
+    public static MedicalRecordDocument decode(byte[] bytes) {
+        return decode(bytes, 0, bytes.length);
+    }
+
+    public static MedicalRecordDocument decode(byte[] bytes, int offset, int length) {
+        BinaryReader in = new BinaryReader(bytes, offset, length);
+        if (in.readByte() != VERSION) {
+            throw new IllegalArgumentException("Unsupported medical record encoding");
+        }
+        UUID id = in.readUuid();
+        UUID patientId = in.readUuid();
+        UUID organizationId = in.readUuid();
+        UUID doctorId = in.readUuid();
+        String patientName = in.readString();
+        String diagnosis = in.readString();
+        String treatment = in.readString();
+        String notes = in.readString();
+        LocalDateTime createdAt = in.readTime();
+        LocalDateTime updatedAt = in.readTime(createdAt);
+        int count = in.readCount();
+        List<HistoryRecord> history = new ArrayList<>(count);
+        List<String> actions = new ArrayList<>();
+        LocalDateTime previous = createdAt;
+        for (int i = 0; i < count; i++) {
+            UUID historyId = in.readUuid();
+            long reference = in.readVarint();
+            String action;
+            if (reference < actions.size()) {
+                action = actions.get((int) reference);
+            } else if (reference == actions.size()) {
+                action = in.readString();
+                actions.add(action);
+            } else {
+                throw in.malformed();
+            }
+            String details = in.readString();
+            previous = in.readTime(previous);
+            history.add(new HistoryRecord(historyId, id, action, details, previous));
+        }
+        if (!in.exhausted()) {
+            throw in.malformed();
+        }
+        return new MedicalRecordDocument(id, patientId, patientName, organizationId, doctorId, diagnosis, treatment,
+                notes, createdAt, updatedAt, history);
+    }
+
+    // A history entry on its own, for callers that ship entries rather than whole records
+    public static byte[] encode(HistoryRecord historyRecord) {
+        BinaryWriter out = new BinaryWriter(64 + historyRecord.details().length());
+        out.writeByte(HISTORY_RECORD_VERSION);
+        out.writeUuid(historyRecord.id());
+        out.writeUuid(historyRecord.medicalRecordId());
+        out.writeString(historyRecord.action());
+        out.writeString(historyRecord.details());
+        out.writeTime(historyRecord.timestamp());
+        return out.toByteArray();
+    }
+
+    public static HistoryRecord decodeHistoryRecord(byte[] bytes) {
+        BinaryReader in = new BinaryReader(bytes, 0, bytes.length);
+        if (in.readByte() != HISTORY_RECORD_VERSION) {
+            throw new IllegalArgumentException("Unsupported history record encoding");
+        }
+        HistoryRecord historyRecord = new HistoryRecord(in.readUuid(), in.readUuid(), in.readString(),
+                in.readString(), in.readTime());
+        if (!in.exhausted()) {
+            throw in.malformed();
+        }
+        return historyRecord;
+    }
+
+    private static BinaryWriter write(MedicalRecordDocument record) {
+        List<HistoryRecord> history = record.historyRecords();
+        BinaryWriter out = new BinaryWriter(128 + length(record.diagnosis()) + length(record.treatment())
+                + length(record.notes()) + history.size() * 48);
+        out.writeByte(VERSION);
+        out.writeUuid(record.id());
+        out.writeUuid(record.patientId());
+        out.writeUuid(record.organizationId());
+        out.writeUuid(record.doctorId());
+        out.writeString(record.patientName());
+        out.writeString(record.diagnosis());
+        out.writeString(record.treatment());
+        out.writeString(record.notes());
+        out.writeTime(record.createdAt());
+        out.writeTime(record.updatedAt(), record.createdAt());
+        out.writeVarint(history.size());
+        // Records carry a handful of distinct actions over many entries
+        Map<String, Integer> actions = new HashMap<>();
+        LocalDateTime previous = record.createdAt();
+        for (HistoryRecord entry : history) {
+            out.writeUuid(entry.id());
+            Integer reference = actions.get(entry.action());
+            if (reference != null) {
+                out.writeVarint(reference);
+            } else {
+                out.writeVarint(actions.size());
+                out.writeString(entry.action());
+                actions.put(entry.action(), actions.size());
+            }
+            out.writeString(entry.details());
+            out.writeTime(entry.timestamp(), previous);
+            previous = entry.timestamp();
+        }
+        return out;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
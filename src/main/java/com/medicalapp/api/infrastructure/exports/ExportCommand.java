@@ -0,0 +1,110 @@
+package com.medicalapp.api.infrastructure.exports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medicalapp.api.application.exports.ExportCheckpoint;
+import com.medicalapp.api.application.exports.ExportSummary;
+import com.medicalapp.api.application.services.contracts.ClinicalExportServiceContract;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+// Command-line export of one organization; the application exits once the command ran:
+//   --export=<organizationId> --file=<path>   NDJSON, gzip-compressed when the path ends in .gz
+// <path>.checkpoint holds the file length and token of the last checkpoint, written once the file
+// is synced. Running the same command after a failure cuts the file back to that length and carries
+// on from the token; the checkpoint file is removed when the export completes.
+// Run it with --spring.main.web-application-type=none so no server is started.
+@Component
+public class ExportCommand implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(ExportCommand.class);
+
+    private final ClinicalExportServiceContract exportService;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext context;
+
+    public ExportCommand(ClinicalExportServiceContract exportService, ObjectMapper objectMapper,
+                         ConfigurableApplicationContext context) {
+        this.exportService = exportService;
+        this.objectMapper = objectMapper;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String organization = single(args, "export");
+        if (organization == null) {
+            return;
+        }
+        int status = 0;
+        try {
+            String file = single(args, "file");
+            if (file == null) {
+                throw new IllegalArgumentException("Missing --file");
+            }
+            Path path = Path.of(file);
+            ExportSummary summary = exportToFile(UUID.fromString(organization), path, file.endsWith(".gz"));
+            log.info("Exported organization {} to {}: {} patients, {} medical records, {} history records",
+                    organization, path, summary.patients(), summary.medicalRecords(), summary.historyRecords());
+        } catch (RuntimeException | IOException e) {
+            log.error("Export of organization {} failed", organization, e);
+            status = 1;
+        }
+        int exitCode = status;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+
+    ExportSummary exportToFile(UUID organizationId, Path path, boolean gzip) throws IOException {
+        Path progress = path.resolveSibling(path.getFileName() + ".checkpoint");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            ExportCheckpoint from = ExportCheckpoint.decode(null);
+            long length = 0;
+            if (Files.exists(progress)) {
+                String[] saved = Files.readString(progress, StandardCharsets.US_ASCII).trim().split(" ");
+                length = Long.parseLong(saved[0]);
+                from = ExportCheckpoint.decode(saved[1]);
+                log.info("Resuming export of organization {} at byte {} of {}", organizationId, length, path);
+            }
+            channel.truncate(length);
+            channel.position(length);
+            ExportSummary summary;
+            try (NdjsonExportWriter writer = new NdjsonExportWriter(objectMapper, Channels.newOutputStream(channel),
+                    gzip, checkpoint -> saveProgress(channel, progress, checkpoint))) {
+                summary = exportService.export(organizationId, from, writer);
+            }
+            channel.force(false);
+            Files.deleteIfExists(progress);
+            return summary;
+        }
+    }
+
+    private static void saveProgress(FileChannel channel, Path progress, ExportCheckpoint checkpoint) {
+        try {
+            channel.force(false);
+            Path next = progress.resolveSibling(progress.getFileName() + ".tmp");
+            Files.writeString(next, channel.position() + " " + checkpoint.encode() + "\n", StandardCharsets.US_ASCII);
+            Files.move(next, progress, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String single(ApplicationArguments args, String name) {
+        List<String> values = args.getOptionValues(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+}
@@ -0,0 +1,129 @@
+package com.medicalapp.api.infrastructure.exports;
+
+import com.medicalapp.api.application.exports.ClinicalExportSource;
+import com.medicalapp.api.application.exports.ExportCheckpoint;
+import com.medicalapp.api.application.exports.ExportCheckpoint.Section;
+import com.medicalapp.api.application.exports.ExportProperties;
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import javax.sql.DataSource;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// One forward-only query per section, read through a server-side cursor: PostgreSQL only fetches
+// `fetchSize` rows at a time when the statement runs inside a transaction, hence the read-only
+// transaction around each section. Rows are mapped and handed over one by one.
+@Component
+@EnableConfigurationProperties(ExportProperties.class)
+public class JdbcClinicalExportSource implements ClinicalExportSource {
+    private static final String PATIENTS = """
+            select id, organization_id, name, ssn, date_of_birth, gender, address, contact, created_at, updated_at
+            from patients where organization_id = ?
+            """;
+    private static final String MEDICAL_RECORDS = """
+            select id, patient_id, organization_id, doctor_id, diagnosis, treatment, notes, history_count,
+                   created_at, updated_at
+            from medical_records where organization_id = ?
+            """;
+    private static final String HISTORY_RECORDS = """
+            select h.id, h.medical_record_id, h.action, h.details, h.recorded_at, h.seq, m.created_at
+            from medical_records m join history_records h on h.medical_record_id = m.id
+            where m.organization_id = ?
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate readOnly;
+
+    public JdbcClinicalExportSource(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                    ExportProperties properties) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(properties.fetchSize());
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    @Override
+    public void patients(UUID organizationId, ExportCheckpoint from, BiConsumer<Patient, ExportCheckpoint> rows) {
+        stream(keyset(PATIENTS, "created_at, id", organizationId, require(from, Section.PATIENTS)), row -> {
+            Patient patient = new Patient(row.getObject(1, UUID.class), row.getObject(2, UUID.class),
+                    row.getString(3), SSN.of(row.getString(4)), row.getObject(5, LocalDate.class), row.getString(6),
+                    row.getString(7), row.getString(8), row.getObject(9, LocalDateTime.class),
+                    row.getObject(10, LocalDateTime.class));
+            rows.accept(patient, ExportCheckpoint.after(Section.PATIENTS,
+                    new Keyset(patient.getCreatedAt(), patient.getId())));
+        });
+    }
+
+    @Override
+    public void medicalRecords(UUID organizationId, ExportCheckpoint from,
+                               BiConsumer<MedicalRecord, ExportCheckpoint> rows) {
+        stream(keyset(MEDICAL_RECORDS, "created_at, id", organizationId, require(from, Section.MEDICAL_RECORDS)),
+                row -> {
+                    MedicalRecord medicalRecord = new MedicalRecord(row.getObject(1, UUID.class),
+                            row.getObject(2, UUID.class), row.getObject(3, UUID.class), row.getObject(4, UUID.class),
+                            row.getString(5), row.getString(6), row.getString(7),
+                            row.getObject(9, LocalDateTime.class), row.getObject(10, LocalDateTime.class),
+                            row.getInt(8), JdbcClinicalExportSource::historyNotLoaded, patientId -> null);
+                    rows.accept(medicalRecord, ExportCheckpoint.after(Section.MEDICAL_RECORDS,
+                            new Keyset(medicalRecord.getCreatedAt(), medicalRecord.getId())));
+                });
+    }
+
+    @Override
+    public void historyRecords(UUID organizationId, ExportCheckpoint from,
+                               BiConsumer<HistoryRecord, ExportCheckpoint> rows) {
+        require(from, Section.HISTORY_RECORDS);
+        Query query = from.atStart()
+                ? new Query(HISTORY_RECORDS + "order by m.created_at, m.id, h.seq", organizationId)
+                : new Query(HISTORY_RECORDS + """
+                        and (m.created_at, m.id, h.seq) > (?, ?, ?)
+                        order by m.created_at, m.id, h.seq""",
+                        organizationId, Timestamp.valueOf(from.createdAt()), from.id(), from.seq());
+        stream(query, row -> {
+            HistoryRecord historyRecord = new HistoryRecord(row.getObject(1, UUID.class),
+                    row.getObject(2, UUID.class), row.getString(3), row.getString(4),
+                    row.getObject(5, LocalDateTime.class));
+            rows.accept(historyRecord, new ExportCheckpoint(Section.HISTORY_RECORDS,
+                    row.getObject(7, LocalDateTime.class), historyRecord.medicalRecordId(), row.getInt(6)));
+        });
+    }
+
+    private void stream(Query query, RowCallbackHandler rows) {
+        readOnly.executeWithoutResult(status -> jdbc.query(query.sql(), rows, query.arguments()));
+    }
+
+    private static Query keyset(String select, String order, UUID organizationId, ExportCheckpoint from) {
+        if (from.atStart()) {
+            return new Query(select + "order by " + order, organizationId);
+        }
+        return new Query(select + "and (" + order + ") > (?, ?) order by " + order,
+                organizationId, Timestamp.valueOf(from.createdAt()), from.id());
+    }
+
+    private static ExportCheckpoint require(ExportCheckpoint from, Section section) {
+        if (from.section() != section) {
+            throw new IllegalArgumentException("Checkpoint is not in the " + section + " section");
+        }
+        return from;
+    }
+
+    private static List<HistoryRecord> historyNotLoaded(UUID medicalRecordId) {
+        throw new IllegalStateException("History is exported in its own section");
+    }
+
+    private record Query(String sql, Object... arguments) {
+    }
+}
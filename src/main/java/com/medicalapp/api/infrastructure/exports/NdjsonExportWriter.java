@@ -0,0 +1,202 @@
+package com.medicalapp.api.infrastructure.exports;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medicalapp.api.application.exports.ClinicalExportWriter;
+import com.medicalapp.api.application.exports.ExportCheckpoint;
+import com.medicalapp.api.application.exports.ExportSummary;
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.domain.entities.Patient;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.temporal.Temporal;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+// One JSON object per line, each tagged with its type:
+//   {"type":"patient",...} {"type":"medicalRecord",...} {"type":"historyRecord",...}
+//   {"type":"checkpoint","checkpoint":"<token>"}  resume from here, dropping any lines after it
+//   {"type":"complete","patients":n,...}           last line of a finished export
+// Gzip output is one gzip member per checkpoint. Concatenated members are a valid gzip stream,
+// and everything up to a checkpoint decodes on its own, so a file cut back to a checkpoint can be
+// appended to.
+public final class NdjsonExportWriter implements ClinicalExportWriter {
+    private static final int GZIP_BUFFER = 64 * 1024;
+
+    private final OutputStream output;
+    private final boolean gzip;
+    private final Consumer<ExportCheckpoint> onCheckpoint;
+    private final JsonGenerator json;
+    private OutputStream member;
+
+    // onCheckpoint runs once everything up to the checkpoint has been flushed to the output
+    public NdjsonExportWriter(ObjectMapper objectMapper, OutputStream output, boolean gzip,
+                              Consumer<ExportCheckpoint> onCheckpoint) throws IOException {
+        this.output = Objects.requireNonNull(output, "Output cannot be null");
+        this.gzip = gzip;
+        this.onCheckpoint = Objects.requireNonNull(onCheckpoint, "Checkpoint listener cannot be null");
+        this.json = objectMapper.getFactory().createGenerator(new MemberStream(), JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.json.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void patient(Patient patient) throws IOException {
+        start("patient");
+        field("id", patient.getId());
+        field("organizationId", patient.getOrganizationId());
+        json.writeStringField("name", patient.getName());
+        json.writeStringField("ssn", patient.getSsn().value());
+        field("dateOfBirth", patient.getDateOfBirth());
+        json.writeStringField("gender", patient.getGender().name());
+        json.writeStringField("address", patient.getAddress());
+        json.writeStringField("contact", patient.getContact());
+        field("createdAt", patient.getCreatedAt());
+        field("updatedAt", patient.getUpdatedAt());
+        end();
+    }
+
+    @Override
+    public void medicalRecord(MedicalRecord medicalRecord) throws IOException {
+        start("medicalRecord");
+        field("id", medicalRecord.getId());
+        field("patientId", medicalRecord.getPatientId());
+        field("organizationId", medicalRecord.getOrganizationId());
+        field("doctorId", medicalRecord.getDoctorId());
+        json.writeStringField("diagnosis", medicalRecord.getDiagnosis());
+        json.writeStringField("treatment", medicalRecord.getTreatment());
+        json.writeStringField("notes", medicalRecord.getNotes());
+        json.writeNumberField("historySize", medicalRecord.getHistorySize());
+        field("createdAt", medicalRecord.getCreatedAt());
+        field("updatedAt", medicalRecord.getUpdatedAt());
+        end();
+    }
+
+    @Override
+    public void historyRecord(HistoryRecord historyRecord) throws IOException {
+        start("historyRecord");
+        field("id", historyRecord.id());
+        field("medicalRecordId", historyRecord.medicalRecordId());
+        json.writeStringField("action", historyRecord.action());
+        json.writeStringField("details", historyRecord.details());
+        field("timestamp", historyRecord.timestamp());
+        end();
+    }
+
+    @Override
+    public void checkpoint(ExportCheckpoint checkpoint) throws IOException {
+        start("checkpoint");
+        json.writeStringField("checkpoint", checkpoint.encode());
+        end();
+        flush();
+        onCheckpoint.accept(checkpoint);
+    }
+
+    @Override
+    public void complete(ExportSummary summary) throws IOException {
+        start("complete");
+        json.writeNumberField("patients", summary.patients());
+        json.writeNumberField("medicalRecords", summary.medicalRecords());
+        json.writeNumberField("historyRecords", summary.historyRecords());
+        end();
+        flush();
+    }
+
+    // The output belongs to the caller and stays open
+    @Override
+    public void close() throws IOException {
+        json.close();
+        if (member != null) {
+            member.close();
+            member = null;
+        }
+    }
+
+    private void start(String type) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("type", type);
+    }
+
+    private void end() throws IOException {
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private void field(String name, UUID value) throws IOException {
+        json.writeStringField(name, value.toString());
+    }
+
+    private void field(String name, Temporal value) throws IOException {
+        json.writeStringField(name, value.toString());
+    }
+
+    private void flush() throws IOException {
+        json.flush();
+        if (member != null) {
+            // Ends the gzip member and releases its deflater
+            member.close();
+            member = null;
+        }
+        output.flush();
+    }
+
+    // What the generator writes to: the output itself, or the current gzip member over it
+    private final class MemberStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            current().write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            current().write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (member != null) {
+                member.flush();
+            }
+            output.flush();
+        }
+
+        private OutputStream current() throws IOException {
+            if (!gzip) {
+                return output;
+            }
+            if (member == null) {
+                member = new GZIPOutputStream(new Unclosed(output), GZIP_BUFFER);
+            }
+            return member;
+        }
+    }
+
+    // Lets a gzip member be closed without closing the output under it
+    private static final class Unclosed extends OutputStream {
+        private final OutputStream output;
+
+        Unclosed(OutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            output.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            output.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.medicalapp.api.infrastructure.imports;
+
+import com.medicalapp.api.application.imports.ImportRow;
+import com.medicalapp.api.application.imports.PatientRowReader;
+import com.medicalapp.api.application.imports.RowError;
+import com.medicalapp.api.domain.validation.PatientInput;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+// RFC 4180 CSV with a header row naming the columns:
+// name, ssn, date_of_birth (ISO yyyy-MM-dd), gender, address, contact
+public final class CsvPatientRowReader implements PatientRowReader {
+    private static final String[] COLUMNS = {"name", "ssn", "date_of_birth", "gender", "address", "contact"};
+
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder(64);
+    private final List<String> values = new ArrayList<>(COLUMNS.length);
+    private int[] columnIndexes;
+    private long rowNumber;
+
+    public CsvPatientRowReader(Reader reader) {
+        Objects.requireNonNull(reader, "Reader cannot be null");
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 1 << 16);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (columnIndexes == null) {
+            readHeader();
+        }
+        while (readRecord()) {
+            rowNumber++;
+            if (values.size() == 1 && values.get(0).isEmpty()) {
+                continue;
+            }
+            return toRow();
+        }
+        return null;
+    }
+
+    private void readHeader() throws IOException {
+        columnIndexes = new int[COLUMNS.length];
+        Arrays.fill(columnIndexes, -1);
+        if (!readRecord()) {
+            return;
+        }
+        rowNumber++;
+        for (int i = 0; i < values.size(); i++) {
+            String name = values.get(i).trim().toLowerCase(Locale.ROOT).replace("dateofbirth", "date_of_birth");
+            for (int c = 0; c < COLUMNS.length; c++) {
+                if (COLUMNS[c].equals(name)) {
+                    columnIndexes[c] = i;
+                }
+            }
+        }
+    }
+
+    private ImportRow toRow() {
+        List<RowError> errors = new ArrayList<>(0);
+        String dateOfBirth = column(2);
+        LocalDate parsedDate = null;
+        if (dateOfBirth != null && !dateOfBirth.isBlank()) {
+            try {
+                parsedDate = LocalDate.parse(dateOfBirth.trim());
+            } catch (DateTimeParseException e) {
+                errors.add(new RowError(rowNumber, "dateOfBirth", "Date of birth must be formatted as yyyy-MM-dd"));
+            }
+        }
+        PatientInput input = new PatientInput(null, column(0), column(1), parsedDate, column(3), column(4), column(5));
+        return new ImportRow(rowNumber, input, errors);
+    }
+
+    private String column(int column) {
+        int index = columnIndexes[column];
+        return index >= 0 && index < values.size() ? values.get(index) : null;
+    }
+
+    // Reads one record into `values`, following quoted fields across line breaks; false at end of input
+    private boolean readRecord() throws IOException {
+        values.clear();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean any = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (following != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!any) {
+            return false;
+        }
+        values.add(field.toString());
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
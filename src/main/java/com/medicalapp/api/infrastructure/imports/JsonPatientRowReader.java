@@ -0,0 +1,74 @@
+package com.medicalapp.api.infrastructure.imports;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medicalapp.api.application.imports.ImportRow;
+import com.medicalapp.api.application.imports.PatientRowReader;
+import com.medicalapp.api.application.imports.RowError;
+import com.medicalapp.api.domain.validation.PatientInput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// A top-level JSON array of patient objects, read one element at a time:
+// [{"name": ..., "ssn": ..., "dateOfBirth": "yyyy-MM-dd", "gender": ..., "address": ..., "contact": ...}, ...]
+public final class JsonPatientRowReader implements PatientRowReader {
+    private final JsonParser parser;
+    private final ObjectMapper objectMapper;
+    private long rowNumber;
+    private boolean started;
+
+    public JsonPatientRowReader(ObjectMapper objectMapper, InputStream input) throws IOException {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "ObjectMapper cannot be null");
+        this.parser = objectMapper.getFactory().createParser(Objects.requireNonNull(input, "Input cannot be null"));
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (!started) {
+            started = true;
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of patients");
+            }
+        }
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        rowNumber++;
+        JsonNode node = objectMapper.readTree(parser);
+        List<RowError> errors = new ArrayList<>(0);
+        if (!node.isObject()) {
+            errors.add(new RowError(rowNumber, "patient", "Expected a JSON object"));
+            return new ImportRow(rowNumber, new PatientInput(null, null, null, null, null, null, null), errors);
+        }
+        LocalDate dateOfBirth = null;
+        String rawDate = text(node, "dateOfBirth");
+        if (rawDate != null && !rawDate.isBlank()) {
+            try {
+                dateOfBirth = LocalDate.parse(rawDate.trim());
+            } catch (DateTimeParseException e) {
+                errors.add(new RowError(rowNumber, "dateOfBirth", "Date of birth must be formatted as yyyy-MM-dd"));
+            }
+        }
+        PatientInput input = new PatientInput(null, text(node, "name"), text(node, "ssn"), dateOfBirth,
+                text(node, "gender"), text(node, "address"), text(node, "contact"));
+        return new ImportRow(rowNumber, input, errors);
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
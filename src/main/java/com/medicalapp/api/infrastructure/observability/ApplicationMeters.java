@@ -0,0 +1,121 @@
+package com.medicalapp.api.infrastructure.observability;
+
+import com.medicalapp.api.application.imports.PatientImportMetrics;
+import com.medicalapp.api.application.payments.ChargeEngineMetrics;
+import com.medicalapp.api.application.payments.PaymentMethodCache;
+import com.medicalapp.api.application.services.implementations.StripeListPaymentMethodService;
+import com.medicalapp.api.application.subscriptions.RenewalMetrics;
+import com.medicalapp.api.application.subscriptions.RenewalScheduler;
+import com.medicalapp.api.infrastructure.audit.AuditLogWriter;
+import com.medicalapp.api.infrastructure.audit.AuditMetrics;
+import com.medicalapp.api.infrastructure.cache.CacheStats;
+import com.medicalapp.api.infrastructure.cache.CachingOrganizationRepository;
+import com.medicalapp.api.infrastructure.cache.CachingPatientRepository;
+import com.medicalapp.api.infrastructure.tenancy.TenantQueryMetrics;
+import com.medicalapp.api.infrastructure.threading.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import org.springframework.stereotype.Component;
+
+// Publishes the counters the application already keeps in LongAdders; meters read them on
+// scrape, so nothing is added to the paths that update them
+@Component
+public class ApplicationMeters implements MeterBinder {
+    private final PatientImportMetrics imports;
+    private final ChargeEngineMetrics charges;
+    private final AuditMetrics audit;
+    private final List<CacheStats> caches;
+    private final VirtualThreadPinningMonitor pinning;
+    private final TenantQueryMetrics tenants;
+    private final RenewalMetrics renewals;
+    private final PaymentMethodCache paymentMethods;
+
+    public ApplicationMeters(PatientImportMetrics imports, ChargeEngineMetrics charges, AuditLogWriter auditLogWriter,
+                             CachingOrganizationRepository organizations, CachingPatientRepository patients,
+                             VirtualThreadPinningMonitor pinning, TenantQueryMetrics tenants,
+                             RenewalScheduler renewalScheduler, StripeListPaymentMethodService paymentMethodListing) {
+        this.imports = imports;
+        this.charges = charges;
+        this.audit = auditLogWriter.getMetrics();
+        this.caches = List.of(organizations.getCacheStats(), patients.getCacheStats());
+        this.pinning = pinning;
+        this.tenants = tenants;
+        this.renewals = renewalScheduler.getMetrics();
+        this.paymentMethods = paymentMethodListing.getCache();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "medicalapp.imports.rows.read", imports, PatientImportMetrics::getRowsRead);
+        counter(registry, "medicalapp.imports.rows.imported", imports, PatientImportMetrics::getRowsImported);
+        counter(registry, "medicalapp.imports.rows.rejected", imports, PatientImportMetrics::getRowsRejected);
+        counter(registry, "medicalapp.imports.rows.duplicate", imports, PatientImportMetrics::getDuplicateRows);
+        gauge(registry, "medicalapp.imports.active", imports, PatientImportMetrics::getActiveImports);
+        gauge(registry, "medicalapp.imports.last.rows.per.second", imports, PatientImportMetrics::getLastRowsPerSecond);
+
+        counter(registry, "medicalapp.charges.succeeded", charges, ChargeEngineMetrics::getChargesSucceeded);
+        counter(registry, "medicalapp.charges.failed", charges, ChargeEngineMetrics::getChargesFailed);
+        counter(registry, "medicalapp.charges.retries", charges, ChargeEngineMetrics::getRetries);
+        gauge(registry, "medicalapp.charges.in.flight", charges, ChargeEngineMetrics::getInFlight);
+        gauge(registry, "medicalapp.charges.last.charges.per.second", charges, ChargeEngineMetrics::getLastChargesPerSecond);
+
+        gauge(registry, "medicalapp.audit.queue.depth", audit, AuditMetrics::getQueueDepth);
+        counter(registry, "medicalapp.audit.rows.written", audit, AuditMetrics::getRowsWritten);
+        counter(registry, "medicalapp.audit.rows.failed", audit, AuditMetrics::getRowsFailed);
+        counter(registry, "medicalapp.audit.batches.written", audit, AuditMetrics::getBatchesWritten);
+        Gauge.builder("medicalapp.audit.flush.max", audit, metrics -> metrics.getMaxFlushLatency().toNanos())
+                .baseUnit("nanoseconds").register(registry);
+
+        for (CacheStats cache : caches) {
+            FunctionCounter.builder("medicalapp.cache.requests", cache, CacheStats::getHits)
+                    .tag("cache", cache.getName()).tag("result", "hit").register(registry);
+            FunctionCounter.builder("medicalapp.cache.requests", cache, CacheStats::getMisses)
+                    .tag("cache", cache.getName()).tag("result", "miss").register(registry);
+            FunctionCounter.builder("medicalapp.cache.evictions", cache, CacheStats::getEvictions)
+                    .tag("cache", cache.getName()).register(registry);
+            FunctionCounter.builder("medicalapp.cache.expirations", cache, CacheStats::getExpirations)
+                    .tag("cache", cache.getName()).register(registry);
+            FunctionCounter.builder("medicalapp.cache.invalidations", cache, CacheStats::getInvalidations)
+                    .tag("cache", cache.getName()).register(registry);
+            Gauge.builder("medicalapp.cache.hit.ratio", cache, CacheStats::getHitRatio)
+                    .tag("cache", cache.getName()).register(registry);
+        }
+
+        counter(registry, "medicalapp.threads.pinned", pinning, VirtualThreadPinningMonitor::getPinnedEvents);
+        FunctionCounter.builder("medicalapp.threads.pinned.time", pinning,
+                        monitor -> monitor.getPinnedTime().toNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+                .baseUnit("seconds").register(registry);
+
+        gauge(registry, "medicalapp.tenants.tracked", tenants, TenantQueryMetrics::getTrackedTenants);
+
+        counter(registry, "medicalapp.subscriptions.renewed", renewals, RenewalMetrics::getRenewed);
+        counter(registry, "medicalapp.subscriptions.superseded", renewals, RenewalMetrics::getSuperseded);
+        counter(registry, "medicalapp.subscriptions.failed.batches", renewals, RenewalMetrics::getFailedBatches);
+        counter(registry, "medicalapp.subscriptions.rows.scheduled", renewals, RenewalMetrics::getRowsScheduled);
+        gauge(registry, "medicalapp.subscriptions.shards.owned", renewals, RenewalMetrics::getOwnedShards);
+        gauge(registry, "medicalapp.subscriptions.wheel.size", renewals, RenewalMetrics::getWheelSize);
+
+        FunctionCounter.builder("medicalapp.payment.methods.requests", paymentMethods, PaymentMethodCache::getHits)
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("medicalapp.payment.methods.requests", paymentMethods, PaymentMethodCache::getCoalesced)
+                .tag("result", "coalesced").register(registry);
+        FunctionCounter.builder("medicalapp.payment.methods.requests", paymentMethods, PaymentMethodCache::getLoads)
+                .tag("result", "load").register(registry);
+        counter(registry, "medicalapp.payment.methods.invalidations", paymentMethods,
+                PaymentMethodCache::getInvalidations);
+        gauge(registry, "medicalapp.payment.methods.cached.customers", paymentMethods, PaymentMethodCache::size);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T source, ToDoubleFunction<T> count) {
+        FunctionCounter.builder(name, source, count).register(registry);
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, T source, ToDoubleFunction<T> value) {
+        Gauge.builder(name, source, value).register(registry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.medicalapp.api.infrastructure.observability;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// One observation per *ServiceContract / *RepositoryContract call: a timer tagged with
+// contract, implementation and method, and a span when tracing samples the request. Runs
+// outside @Transactional so repository timings include the commit. Tags are resolved once
+// per method; an unsampled call costs the timer update and an interceptor hop.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ContractObservationAspect {
+    static final String SERVICE_OBSERVATION = "medicalapp.service";
+    static final String REPOSITORY_OBSERVATION = "medicalapp.repository";
+
+    private final ObservationRegistry registry;
+    private final Map<Method, Target> targets = new ConcurrentHashMap<>();
+
+    public ContractObservationAspect(ObservationRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(* com.medicalapp.api.application.services.contracts.*ServiceContract.*(..))")
+    public Object observeService(ProceedingJoinPoint call) throws Throwable {
+        return observe(SERVICE_OBSERVATION, call);
+    }
+
+    @Around("execution(* com.medicalapp.api.domain.contracts.*RepositoryContract.*(..))")
+    public Object observeRepository(ProceedingJoinPoint call) throws Throwable {
+        return observe(REPOSITORY_OBSERVATION, call);
+    }
+
+    private Object observe(String name, ProceedingJoinPoint call) throws Throwable {
+        if (registry.isNoop()) {
+            return call.proceed();
+        }
+        Method method = ((MethodSignature) call.getSignature()).getMethod();
+        Target target = targets.computeIfAbsent(method, m -> Target.of(AopUtils.getTargetClass(call.getTarget()), m));
+        return Observation.createNotStarted(name, registry)
+                .contextualName(target.spanName())
+                .lowCardinalityKeyValues(target.tags())
+                .observeChecked((Observation.CheckedCallable<Object, Throwable>) call::proceed);
+    }
+
+    private record Target(String spanName, KeyValues tags) {
+
+        static Target of(Class<?> implementation, Method method) {
+            String contract = contractOf(implementation);
+            return new Target(implementation.getSimpleName() + "." + method.getName(), KeyValues.of(
+                    "contract", contract,
+                    "implementation", implementation.getSimpleName(),
+                    "method", method.getName()));
+        }
+
+        private static String contractOf(Class<?> implementation) {
+            for (Class<?> type = implementation; type != null; type = type.getSuperclass()) {
+                for (Class<?> contract : type.getInterfaces()) {
+                    if (contract.getSimpleName().endsWith("Contract")) {
+                        return contract.getSimpleName();
+                    }
+                }
+            }
+            return "none";
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.medicalapp.api.infrastructure.observability;
+
+import com.medicalapp.api.infrastructure.tenancy.TenantLatency;
+import com.medicalapp.api.infrastructure.tenancy.TenantQueryMetrics;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+// /actuator/tenants: organizations ranked by time spent in queries. Kept out of the meter
+// registry because one series per organization would swamp Prometheus.
+@Component
+@Endpoint(id = "tenants")
+public class TenantLatencyEndpoint {
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final TenantQueryMetrics metrics;
+
+    public TenantLatencyEndpoint(TenantQueryMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @ReadOperation
+    public List<TenantLatency> busiest(@Nullable Integer limit) {
+        return metrics.busiest(limit == null ? DEFAULT_LIMIT : limit);
+    }
+}
@@ -0,0 +1,55 @@
+package com.medicalapp.api.infrastructure.payments;
+
+import com.medicalapp.api.application.payments.ChargeRunLease;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// The charge_run_lease row, updated with single conditional statements in auto-commit like the
+// renewal leases
+@Component
+public class JdbcChargeRunLease implements ChargeRunLease {
+    private static final Timestamp NEVER = Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0));
+
+    private final JdbcTemplate jdbc;
+    private volatile boolean seeded;
+
+    public JdbcChargeRunLease(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public boolean tryAcquire(String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        if (!seeded) {
+            seed();
+        }
+        return jdbc.update("""
+                        update charge_run_lease set owner = ?, expires_at = ?
+                        where id = 1 and (owner is null or expires_at <= ?)""",
+                owner, Timestamp.valueOf(expiresAt), Timestamp.valueOf(now)) == 1;
+    }
+
+    // Nodes starting at the same time may both insert the row; the loser just moves on
+    private void seed() {
+        try {
+            jdbc.update("insert into charge_run_lease (id, owner, expires_at) values (1, null, ?)", NEVER);
+        } catch (DuplicateKeyException e) {
+            // Seeded by another node, or by an earlier start
+        }
+        seeded = true;
+    }
+
+    @Override
+    public boolean extend(String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        return jdbc.update("update charge_run_lease set expires_at = ? where id = 1 and owner = ? and expires_at > ?",
+                Timestamp.valueOf(expiresAt), owner, Timestamp.valueOf(now)) == 1;
+    }
+
+    @Override
+    public void release(String owner) {
+        jdbc.update("update charge_run_lease set owner = null, expires_at = ? where id = 1 and owner = ?",
+                NEVER, owner);
+    }
+}
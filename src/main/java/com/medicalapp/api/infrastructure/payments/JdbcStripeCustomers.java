@@ -0,0 +1,31 @@
+package com.medicalapp.api.infrastructure.payments;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// customers.stripe_customer_id, read and claimed with single statements in auto-commit. The first
+// claim wins; a racing instance reads back the winner instead of overwriting it.
+public class JdbcStripeCustomers {
+    private final JdbcTemplate jdbc;
+
+    public JdbcStripeCustomers(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    // Null when the customer has no Stripe customer yet
+    public String find(UUID customerId) {
+        List<String> found = jdbc.queryForList("select stripe_customer_id from customers where id = ?",
+                String.class, customerId);
+        if (found.isEmpty()) {
+            throw new IllegalArgumentException("Unknown customer " + customerId);
+        }
+        return found.get(0);
+    }
+
+    public String claim(UUID customerId, String stripeCustomerId) {
+        jdbc.update("update customers set stripe_customer_id = ? where id = ? and stripe_customer_id is null",
+                stripeCustomerId, customerId);
+        return find(customerId);
+    }
+}
@@ -0,0 +1,46 @@
+package com.medicalapp.api.infrastructure.payments;
+
+import com.medicalapp.api.application.payments.PaymentGateway;
+import com.medicalapp.api.application.payments.PaymentMethodGateway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableConfigurationProperties(PaymentGatewayProperties.class)
+public class PaymentGatewayConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "medicalapp.payments", name = "gateway", havingValue = "stripe")
+    public JdbcStripeCustomers stripeCustomers(JdbcTemplate jdbc) {
+        return new JdbcStripeCustomers(jdbc);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "medicalapp.payments", name = "gateway", havingValue = "stripe")
+    public PaymentGateway stripePaymentGateway(PaymentGatewayProperties properties,
+                                               JdbcStripeCustomers stripeCustomers) {
+        return new StripePaymentGateway(properties.stripe(), stripeCustomers);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "medicalapp.payments", name = "gateway", havingValue = "stub", matchIfMissing = true)
+    public PaymentGateway stubPaymentGateway(PaymentGatewayProperties properties) {
+        return new StubPaymentGateway(properties.stub());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "medicalapp.payments", name = "gateway", havingValue = "stripe")
+    public PaymentMethodGateway stripePaymentMethodGateway(PaymentGatewayProperties properties,
+                                                           JdbcStripeCustomers stripeCustomers) {
+        return new StripePaymentMethodGateway(properties.stripe(), stripeCustomers);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "medicalapp.payments", name = "gateway", havingValue = "stub", matchIfMissing = true)
+    public PaymentMethodGateway stubPaymentMethodGateway(PaymentGatewayProperties properties) {
+        return new StubPaymentMethodGateway(properties.stub());
+    }
+}
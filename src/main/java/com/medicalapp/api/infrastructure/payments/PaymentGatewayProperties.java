@@ -0,0 +1,54 @@
+package com.medicalapp.api.infrastructure.payments;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// medicalapp.payments.gateway selects the implementation: stub (default) or stripe
+@ConfigurationProperties(prefix = "medicalapp.payments")
+public record PaymentGatewayProperties(String gateway, Stripe stripe, Stub stub) {
+
+    public PaymentGatewayProperties {
+        if (gateway == null) {
+            gateway = "stub";
+        }
+        if (stripe == null) {
+            stripe = new Stripe(null, null, null, null);
+        }
+        if (stub == null) {
+            stub = new Stub(null, null, null);
+        }
+    }
+
+    public record Stripe(String apiKey, String baseUrl, Duration connectTimeout, Duration readTimeout) {
+
+        public Stripe {
+            if (baseUrl == null) {
+                baseUrl = "https://api.stripe.com";
+            }
+            if (connectTimeout == null) {
+                connectTimeout = Duration.ofSeconds(5);
+            }
+            if (readTimeout == null) {
+                readTimeout = Duration.ofSeconds(30);
+            }
+        }
+    }
+
+    public record Stub(Duration latency, Double declineRate, Double failureRate) {
+
+        public Stub {
+            if (latency == null) {
+                latency = Duration.ZERO;
+            }
+            if (declineRate == null) {
+                declineRate = 0d;
+            }
+            if (failureRate == null) {
+                failureRate = 0d;
+            }
+            if (latency.isNegative() || declineRate < 0 || declineRate > 1 || failureRate < 0 || failureRate > 1) {
+                throw new IllegalArgumentException("Invalid stub gateway settings");
+            }
+        }
+    }
+}
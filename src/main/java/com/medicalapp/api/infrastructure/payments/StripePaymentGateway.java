@@ -0,0 +1,112 @@
+package com.medicalapp.api.infrastructure.payments;
+
+import com.medicalapp.api.application.payments.ChargeRequest;
+import com.medicalapp.api.application.payments.GatewayResult;
+import com.medicalapp.api.application.payments.PaymentGateway;
+import com.medicalapp.api.application.payments.PaymentGatewayException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+// Confirms an off-session PaymentIntent per charge, on the customer's Stripe customer when one is
+// recorded. Card errors (402) are declines; rate limits, 5xx, transport errors and anything else
+// unexpected are PaymentGatewayExceptions, so the charge stays PENDING rather than being failed by
+// a configuration problem. An intent still processing is fetched by id on later runs: Stripe
+// forgets idempotency keys after 24 hours, and confirming again then would charge twice.
+public class StripePaymentGateway implements PaymentGateway {
+    private final RestClient restClient;
+    private final JdbcStripeCustomers stripeCustomers;
+
+    public StripePaymentGateway(PaymentGatewayProperties.Stripe settings, JdbcStripeCustomers stripeCustomers) {
+        this.stripeCustomers = stripeCustomers;
+        Objects.requireNonNull(settings.apiKey(), "medicalapp.payments.stripe.api-key must be set");
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(settings.connectTimeout());
+        requestFactory.setReadTimeout(settings.readTimeout());
+        this.restClient = RestClient.builder()
+                .baseUrl(settings.baseUrl())
+                .requestFactory(requestFactory)
+                .defaultHeader("Authorization", "Bearer " + settings.apiKey())
+                .build();
+    }
+
+    @Override
+    public GatewayResult charge(ChargeRequest request) {
+        if (request.gatewayReference() != null) {
+            return lookUp(request.gatewayReference());
+        }
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("amount", Long.toString(request.amountMinor()));
+        form.add("currency", request.currency().toLowerCase(Locale.ROOT));
+        String stripeCustomer = stripeCustomers.find(request.customerId());
+        if (stripeCustomer != null) {
+            form.add("customer", stripeCustomer);
+        }
+        form.add("payment_method", request.paymentMethod());
+        form.add("confirm", "true");
+        form.add("off_session", "true");
+        form.add("metadata[customer_id]", request.customerId().toString());
+        if (request.description() != null) {
+            form.add("description", request.description());
+        }
+        try {
+            return restClient.post()
+                    .uri("/v1/payment_intents")
+                    .header("Idempotency-Key", request.idempotencyKey())
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .body(form)
+                    .exchange((httpRequest, response) -> {
+                        int status = response.getStatusCode().value();
+                        Map<?, ?> body = response.bodyTo(Map.class);
+                        if (status == 200) {
+                            return toResult(body);
+                        }
+                        if (status == 402 && body != null && body.get("error") instanceof Map<?, ?> error) {
+                            String reference = error.get("payment_intent") instanceof Map<?, ?> intent
+                                    ? (String) intent.get("id") : null;
+                            return GatewayResult.declined(reference, (String) error.get("message"));
+                        }
+                        throw new PaymentGatewayException("Stripe responded with HTTP " + status);
+                    });
+        } catch (RestClientException e) {
+            throw new PaymentGatewayException("Stripe request failed: " + e.getMessage(), e);
+        }
+    }
+
+    private GatewayResult lookUp(String reference) {
+        try {
+            return restClient.get()
+                    .uri("/v1/payment_intents/{id}", reference)
+                    .exchange((httpRequest, response) -> {
+                        int status = response.getStatusCode().value();
+                        if (status == 200) {
+                            return toResult(response.bodyTo(Map.class));
+                        }
+                        throw new PaymentGatewayException("Stripe responded with HTTP " + status);
+                    });
+        } catch (RestClientException e) {
+            throw new PaymentGatewayException("Stripe request failed: " + e.getMessage(), e);
+        }
+    }
+
+    private static GatewayResult toResult(Map<?, ?> intent) {
+        if (intent == null) {
+            throw new PaymentGatewayException("Empty response from Stripe");
+        }
+        String reference = (String) intent.get("id");
+        Object status = intent.get("status");
+        if ("succeeded".equals(status)) {
+            return GatewayResult.succeeded(reference);
+        }
+        if ("processing".equals(status)) {
+            return GatewayResult.processing(reference);
+        }
+        return GatewayResult.declined(reference, "Payment intent ended in status " + status);
+    }
+}
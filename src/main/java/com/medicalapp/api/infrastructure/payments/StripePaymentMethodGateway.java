@@ -0,0 +1,177 @@
+package com.medicalapp.api.infrastructure.payments;
+
+import com.medicalapp.api.application.payments.PaymentGatewayException;
+import com.medicalapp.api.application.payments.PaymentMethod;
+import com.medicalapp.api.application.payments.PaymentMethodGateway;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+// Our customers are Stripe customers tagged with metadata[customer_id], the same tag
+// StripePaymentGateway puts on payment intents. The Stripe ID is kept on the customers row:
+// the first attach creates the Stripe customer under an idempotency key derived from our id and
+// records it there, so every instance and every restart sees the same one. The mapping never
+// changes once recorded, so it is also kept in memory.
+// 4xx answers other than 429 are the caller's mistake and become IllegalArgumentExceptions.
+public class StripePaymentMethodGateway implements PaymentMethodGateway {
+    private static final int MAX_REMEMBERED_CUSTOMERS = 100_000;
+
+    private final RestClient restClient;
+    private final JdbcStripeCustomers recorded;
+    private final Map<UUID, String> stripeCustomers = new ConcurrentHashMap<>();
+
+    public StripePaymentMethodGateway(PaymentGatewayProperties.Stripe settings, JdbcStripeCustomers recorded) {
+        this.recorded = recorded;
+        Objects.requireNonNull(settings.apiKey(), "medicalapp.payments.stripe.api-key must be set");
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(settings.connectTimeout());
+        requestFactory.setReadTimeout(settings.readTimeout());
+        this.restClient = RestClient.builder()
+                .baseUrl(settings.baseUrl())
+                .requestFactory(requestFactory)
+                .defaultHeader("Authorization", "Bearer " + settings.apiKey())
+                .build();
+    }
+
+    @Override
+    public List<PaymentMethod> list(UUID customerId) {
+        String stripeCustomer = findStripeCustomer(customerId);
+        if (stripeCustomer == null) {
+            return List.of();
+        }
+        Map<?, ?> page = get("/v1/payment_methods?customer={customer}&type=card&limit=100", stripeCustomer);
+        List<PaymentMethod> methods = new ArrayList<>();
+        if (page.get("data") instanceof List<?> data) {
+            for (Object method : data) {
+                methods.add(toPaymentMethod((Map<?, ?>) method));
+            }
+        }
+        return methods;
+    }
+
+    @Override
+    public PaymentMethod attach(UUID customerId, String paymentMethodId) {
+        String stripeCustomer = findStripeCustomer(customerId);
+        if (stripeCustomer == null) {
+            stripeCustomer = createStripeCustomer(customerId);
+        }
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("customer", stripeCustomer);
+        return toPaymentMethod(post("/v1/payment_methods/{id}/attach", null, form, paymentMethodId));
+    }
+
+    // Stripe detaches a method from whoever owns it, so ownership is checked first
+    @Override
+    public void detach(UUID customerId, String paymentMethodId) {
+        Map<?, ?> method = get("/v1/payment_methods/{id}", paymentMethodId);
+        String stripeCustomer = findStripeCustomer(customerId);
+        if (stripeCustomer == null || !stripeCustomer.equals(method.get("customer"))) {
+            throw new IllegalArgumentException("Payment method " + paymentMethodId + " is not attached to customer "
+                    + customerId);
+        }
+        post("/v1/payment_methods/{id}/detach", null, new LinkedMultiValueMap<>(), paymentMethodId);
+    }
+
+    private String findStripeCustomer(UUID customerId) {
+        String known = stripeCustomers.get(customerId);
+        if (known != null) {
+            return known;
+        }
+        String stripeCustomer = recorded.find(customerId);
+        if (stripeCustomer == null) {
+            stripeCustomer = findUnrecorded(customerId);
+        }
+        return stripeCustomer == null ? null : remember(customerId, stripeCustomer);
+    }
+
+    // Customers whose cards were attached before the mapping was recorded. Search only trails
+    // writes by about a minute, and these were written long before; the oldest match wins, so
+    // every instance settles on the same one.
+    private String findUnrecorded(UUID customerId) {
+        Map<?, ?> result = get("/v1/customers/search?query={query}", "metadata['customer_id']:'" + customerId + "'");
+        String oldest = null;
+        long oldestCreated = Long.MAX_VALUE;
+        if (result.get("data") instanceof List<?> data) {
+            for (Object match : data) {
+                Map<?, ?> customer = (Map<?, ?>) match;
+                long created = customer.get("created") instanceof Number number ? number.longValue() : Long.MAX_VALUE;
+                if (oldest == null || created < oldestCreated) {
+                    oldest = (String) customer.get("id");
+                    oldestCreated = created;
+                }
+            }
+        }
+        return oldest == null ? null : recorded.claim(customerId, oldest);
+    }
+
+    // A retry, or another instance creating the same customer, replays the first creation
+    private String createStripeCustomer(UUID customerId) {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("metadata[customer_id]", customerId.toString());
+        String created = (String) post("/v1/customers", "customer-" + customerId, form).get("id");
+        return remember(customerId, recorded.claim(customerId, created));
+    }
+
+    private String remember(UUID customerId, String stripeCustomer) {
+        if (stripeCustomers.size() >= MAX_REMEMBERED_CUSTOMERS) {
+            stripeCustomers.clear();
+        }
+        stripeCustomers.put(customerId, stripeCustomer);
+        return stripeCustomer;
+    }
+
+    private Map<?, ?> get(String uri, Object... variables) {
+        try {
+            return restClient.get().uri(uri, variables).exchange((request, response) ->
+                    body(response.getStatusCode().value(), response.bodyTo(Map.class)));
+        } catch (RestClientException e) {
+            throw new PaymentGatewayException("Stripe request failed: " + e.getMessage(), e);
+        }
+    }
+
+    private Map<?, ?> post(String uri, String idempotencyKey, MultiValueMap<String, String> form,
+                           Object... variables) {
+        try {
+            return restClient.post().uri(uri, variables)
+                    .headers(headers -> {
+                        if (idempotencyKey != null) {
+                            headers.set("Idempotency-Key", idempotencyKey);
+                        }
+                    })
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                    .body(form)
+                    .exchange((request, response) ->
+                            body(response.getStatusCode().value(), response.bodyTo(Map.class)));
+        } catch (RestClientException e) {
+            throw new PaymentGatewayException("Stripe request failed: " + e.getMessage(), e);
+        }
+    }
+
+    private static Map<?, ?> body(int status, Map<?, ?> body) {
+        if (status == 200 && body != null) {
+            return body;
+        }
+        if (status >= 400 && status < 500 && status != 429) {
+            String message = body != null && body.get("error") instanceof Map<?, ?> error
+                    ? (String) error.get("message") : "HTTP " + status;
+            throw new IllegalArgumentException("Stripe rejected the request: " + message);
+        }
+        throw new PaymentGatewayException("Stripe responded with HTTP " + status);
+    }
+
+    private static PaymentMethod toPaymentMethod(Map<?, ?> method) {
+        Map<?, ?> card = method.get("card") instanceof Map<?, ?> details ? details : Map.of();
+        return new PaymentMethod((String) method.get("id"), (String) card.get("brand"), (String) card.get("last4"),
+                card.get("exp_month") instanceof Number month ? month.intValue() : 0,
+                card.get("exp_year") instanceof Number year ? year.intValue() : 0);
+    }
+}
@@ -0,0 +1,52 @@
+package com.medicalapp.api.infrastructure.payments;
+
+import com.medicalapp.api.application.payments.ChargeRequest;
+import com.medicalapp.api.application.payments.GatewayResult;
+import com.medicalapp.api.application.payments.PaymentGateway;
+import com.medicalapp.api.application.payments.PaymentGatewayException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// In-memory gateway for tests and load runs: simulated latency, random declines and
+// transient failures, and Stripe's idempotency semantics (a repeated key replays the
+// first outcome). "pm_card_chargeDeclined" is always declined, as in Stripe's test mode.
+public class StubPaymentGateway implements PaymentGateway {
+    private final PaymentGatewayProperties.Stub settings;
+    private final Map<String, GatewayResult> results = new ConcurrentHashMap<>();
+    private final LongAdder executedCharges = new LongAdder();
+
+    public StubPaymentGateway(PaymentGatewayProperties.Stub settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public GatewayResult charge(ChargeRequest request) {
+        if (!settings.latency().isZero()) {
+            try {
+                Thread.sleep(settings.latency());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PaymentGatewayException("Interrupted", e);
+            }
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < settings.failureRate()) {
+            throw new PaymentGatewayException("Simulated gateway failure");
+        }
+        return results.computeIfAbsent(request.idempotencyKey(), key -> {
+            executedCharges.increment();
+            String reference = "pi_stub_" + key;
+            if ("pm_card_chargeDeclined".equals(request.paymentMethod()) || random.nextDouble() < settings.declineRate()) {
+                return GatewayResult.declined(reference, "Your card was declined.");
+            }
+            return GatewayResult.succeeded(reference);
+        });
+    }
+
+    // Distinct idempotency keys actually charged, as opposed to calls made
+    public long getExecutedCharges() {
+        return executedCharges.sum();
+    }
+}
@@ -0,0 +1,90 @@
+package com.medicalapp.api.infrastructure.payments;
+
+import com.medicalapp.api.application.payments.PaymentGatewayException;
+import com.medicalapp.api.application.payments.PaymentMethod;
+import com.medicalapp.api.application.payments.PaymentMethodGateway;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// In-memory stand-in for Stripe's payment method endpoints with the stub's simulated latency.
+// Stripe's test tokens map to their test cards ("pm_card_visa" is a Visa ending in 4242);
+// any other ID is attached as a generic card.
+public class StubPaymentMethodGateway implements PaymentMethodGateway {
+    private static final Map<String, PaymentMethod> TEST_CARDS = Map.of(
+            "pm_card_visa", new PaymentMethod("pm_card_visa", "visa", "4242", 12, 2034),
+            "pm_card_mastercard", new PaymentMethod("pm_card_mastercard", "mastercard", "4444", 12, 2034),
+            "pm_card_amex", new PaymentMethod("pm_card_amex", "amex", "8431", 12, 2034),
+            "pm_card_chargeDeclined", new PaymentMethod("pm_card_chargeDeclined", "visa", "0002", 12, 2034));
+
+    private final PaymentGatewayProperties.Stub settings;
+    private final Map<UUID, Map<String, PaymentMethod>> methods = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+
+    public StubPaymentMethodGateway(PaymentGatewayProperties.Stub settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public List<PaymentMethod> list(UUID customerId) {
+        call();
+        Map<String, PaymentMethod> attached = methods.get(customerId);
+        if (attached == null) {
+            return List.of();
+        }
+        synchronized (attached) {
+            return new ArrayList<>(attached.values());
+        }
+    }
+
+    @Override
+    public PaymentMethod attach(UUID customerId, String paymentMethodId) {
+        call();
+        PaymentMethod method = TEST_CARDS.getOrDefault(paymentMethodId,
+                new PaymentMethod(paymentMethodId, "unknown", "0000", 12, 2034));
+        Map<String, PaymentMethod> attached = methods.computeIfAbsent(customerId, id -> new LinkedHashMap<>());
+        synchronized (attached) {
+            attached.put(paymentMethodId, method);
+        }
+        return method;
+    }
+
+    @Override
+    public void detach(UUID customerId, String paymentMethodId) {
+        call();
+        Map<String, PaymentMethod> attached = methods.get(customerId);
+        boolean removed;
+        if (attached == null) {
+            removed = false;
+        } else {
+            synchronized (attached) {
+                removed = attached.remove(paymentMethodId) != null;
+            }
+        }
+        if (!removed) {
+            throw new IllegalArgumentException("Payment method " + paymentMethodId + " is not attached to customer "
+                    + customerId);
+        }
+    }
+
+    // Requests that reached the "provider", for checking what the cache saved
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    private void call() {
+        calls.increment();
+        if (!settings.latency().isZero()) {
+            try {
+                Thread.sleep(settings.latency());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PaymentGatewayException("Interrupted", e);
+            }
+        }
+    }
+}
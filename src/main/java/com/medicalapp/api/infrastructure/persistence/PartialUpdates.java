@@ -0,0 +1,112 @@
+package com.medicalapp.api.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Unit of work for updates of one table: each row keeps only the columns its entity marked as
+// changed, repeated changes of a row coalesce, and flush() sends one JDBC batch per distinct set
+// of columns, so a bulk edit of the same field is a single statement. Rows are matched on the
+// scope column too when the table has one, which prunes to a single partition on PostgreSQL.
+// Not thread-safe; repositories use one per write.
+public final class PartialUpdates<F extends Enum<F>> {
+    private final String table;
+    private final String scopeColumn;
+    private final Class<F> fields;
+    private final Function<F, String> columns;
+    private final Map<UUID, Row<F>> rows = new LinkedHashMap<>();
+
+    public PartialUpdates(String table, String scopeColumn, Class<F> fields, Function<F, String> columns) {
+        this.table = Objects.requireNonNull(table);
+        this.scopeColumn = scopeColumn;
+        this.fields = Objects.requireNonNull(fields);
+        this.columns = Objects.requireNonNull(columns);
+    }
+
+    public void add(UUID scope, UUID id, Set<F> changed, Function<F, Object> value, LocalDateTime updatedAt) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        Row<F> row = rows.computeIfAbsent(id, key -> new Row<>(scope, key, new EnumMap<>(fields)));
+        for (F field : changed) {
+            row.values.put(field, value.apply(field));
+        }
+        row.updatedAt = updatedAt;
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    // Returns the number of statements sent, one per column set
+    public int flush(JdbcTemplate jdbc) {
+        Map<Set<F>, List<Row<F>>> shapes = new LinkedHashMap<>();
+        for (Row<F> row : rows.values()) {
+            shapes.computeIfAbsent(EnumSet.copyOf(row.values.keySet()), shape -> new ArrayList<>()).add(row);
+        }
+        for (Map.Entry<Set<F>, List<Row<F>>> shape : shapes.entrySet()) {
+            String sql = sql(shape.getKey());
+            int[][] counts = jdbc.batchUpdate(sql, shape.getValue(), shape.getValue().size(), (statement, row) -> {
+                int index = 1;
+                for (Object value : row.values.values()) {
+                    statement.setObject(index++, value);
+                }
+                statement.setObject(index++, row.updatedAt);
+                if (scopeColumn != null) {
+                    statement.setObject(index++, row.scope);
+                }
+                statement.setObject(index, row.id);
+            });
+            checkEveryRowMatched(sql, counts);
+        }
+        rows.clear();
+        return shapes.size();
+    }
+
+    // A row deleted under us would otherwise be an update that silently did nothing. Drivers that
+    // only report SUCCESS_NO_INFO for a batch can't be checked.
+    private static void checkEveryRowMatched(String sql, int[][] counts) {
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(sql, 1, 0);
+                }
+            }
+        }
+    }
+
+    String sql(Set<F> shape) {
+        StringBuilder sql = new StringBuilder("update ").append(table).append(" set ");
+        for (F field : shape) {
+            sql.append(columns.apply(field)).append(" = ?, ");
+        }
+        sql.append("updated_at = ? where ");
+        if (scopeColumn != null) {
+            sql.append(scopeColumn).append(" = ? and ");
+        }
+        return sql.append("id = ?").toString();
+    }
+
+    private static final class Row<F extends Enum<F>> {
+        private final UUID scope;
+        private final UUID id;
+        private final EnumMap<F, Object> values;
+        private LocalDateTime updatedAt;
+
+        Row(UUID scope, UUID id, EnumMap<F, Object> values) {
+            this.scope = scope;
+            this.id = id;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.medicalapp.api.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PersistenceProperties.class)
+public class PersistenceConfiguration {
+}
@@ -0,0 +1,16 @@
+package com.medicalapp.api.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "medicalapp.persistence")
+public record PersistenceProperties(Integer batchSize) {
+
+    public PersistenceProperties {
+        if (batchSize == null) {
+            batchSize = 500;
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+    }
+}
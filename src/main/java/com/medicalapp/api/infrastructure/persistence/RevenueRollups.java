@@ -0,0 +1,143 @@
+package com.medicalapp.api.infrastructure.persistence;
+
+import com.medicalapp.api.domain.events.ChargeEvent;
+import com.medicalapp.api.domain.queries.RevenueBucket;
+import com.medicalapp.api.domain.valueobjects.ChargeStatus;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// The revenue_rollups table. apply() runs in the transaction that writes the charges, so a
+// rolled-back write leaves the totals untouched. Reads group the per-customer rows on the
+// database side, so they cost the customers and days in range rather than the charges.
+public final class RevenueRollups {
+    private static final String INSERT = """
+            insert into revenue_rollups (charge_date, currency, status, customer_id, charges, amount_minor)
+            values (?, ?, ?, ?, ?, ?) on conflict do nothing""";
+    private static final String ADD = """
+            update revenue_rollups set charges = charges + ?, amount_minor = amount_minor + ?
+            where charge_date = ? and currency = ? and status = ? and customer_id = ?""";
+
+    private final JdbcTemplate jdbc;
+
+    public RevenueRollups(JdbcTemplate jdbc) {
+        this.jdbc = Objects.requireNonNull(jdbc);
+    }
+
+    // Deltas are summed per row and sent in one order, so concurrent writers lock rows in the
+    // same order. A row that disappears between the insert and the update was replaced by a
+    // rebuild, which could not see this uncommitted change, so the delta goes to the rebuilt row.
+    public void apply(Collection<ChargeEvent> events) {
+        Map<Row, long[]> deltas = new TreeMap<>();
+        for (ChargeEvent event : events) {
+            LocalDate day = event.chargeCreatedAt().toLocalDate();
+            if (event.previousStatus() != null) {
+                add(deltas, new Row(day, event.currency(), event.previousStatus(), event.customerId()),
+                        -1, -event.amountMinor());
+            }
+            add(deltas, new Row(day, event.currency(), event.status(), event.customerId()), 1, event.amountMinor());
+        }
+        deltas.values().removeIf(delta -> delta[0] == 0 && delta[1] == 0);
+        List<Map.Entry<Row, long[]>> pending = new ArrayList<>(deltas.entrySet());
+        while (!pending.isEmpty()) {
+            jdbc.batchUpdate(INSERT, pending, pending.size(), (statement, delta) -> {
+                setRow(statement, 1, delta.getKey());
+                statement.setLong(5, 0);
+                statement.setLong(6, 0);
+            });
+            int[][] counts = jdbc.batchUpdate(ADD, pending, pending.size(), (statement, delta) -> {
+                statement.setLong(1, delta.getValue()[0]);
+                statement.setLong(2, delta.getValue()[1]);
+                setRow(statement, 3, delta.getKey());
+            });
+            List<Map.Entry<Row, long[]>> missed = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                if (counts[0][i] == 0) {
+                    missed.add(pending.get(i));
+                }
+            }
+            pending = missed;
+        }
+    }
+
+    // Replaces every row in the caller's transaction. The delete comes first: it waits for writers
+    // holding rows, so the scan that follows sees their charges, and writers that come later apply
+    // their changes on top of the rebuilt rows.
+    public void rebuild(Supplier<List<RevenueBucket>> scan) {
+        jdbc.update("delete from revenue_rollups");
+        List<RevenueBucket> buckets = scan.get();
+        jdbc.batchUpdate(INSERT, buckets, 500, (statement, bucket) -> {
+            setRow(statement, 1, new Row(bucket.day(), bucket.currency(), bucket.status(), bucket.customerId()));
+            statement.setLong(5, bucket.charges());
+            statement.setLong(6, bucket.amountMinor());
+        });
+    }
+
+    public boolean isEmpty() {
+        return jdbc.queryForList("select 1 from revenue_rollups fetch first 1 rows only", Integer.class).isEmpty();
+    }
+
+    // One bucket per day, currency and status, summed over customers
+    public List<RevenueBucket> daily(LocalDate from, LocalDate to, String currency) {
+        List<Object> arguments = new ArrayList<>(List.of(Date.valueOf(from), Date.valueOf(to)));
+        if (currency != null) {
+            arguments.add(currency);
+        }
+        String sql = "select charge_date, currency, status, sum(charges), sum(amount_minor) from revenue_rollups"
+                + " where charge_date between ? and ?" + (currency == null ? "" : " and currency = ?")
+                + " group by charge_date, currency, status having sum(charges) <> 0 order by charge_date, currency, status";
+        return jdbc.query(sql, (rs, n) -> new RevenueBucket(rs.getDate(1).toLocalDate(), null,
+                rs.getString(2), ChargeStatus.valueOf(rs.getString(3)), rs.getLong(4), rs.getLong(5)),
+                arguments.toArray());
+    }
+
+    // One bucket per currency and status, summed over the range and, without a customer, over customers
+    public List<RevenueBucket> totals(LocalDate from, LocalDate to, UUID customerId) {
+        List<Object> arguments = new ArrayList<>(List.of(Date.valueOf(from), Date.valueOf(to)));
+        if (customerId != null) {
+            arguments.add(customerId);
+        }
+        String sql = "select currency, status, sum(charges), sum(amount_minor) from revenue_rollups"
+                + " where charge_date between ? and ?" + (customerId == null ? "" : " and customer_id = ?")
+                + " group by currency, status having sum(charges) <> 0 order by currency, status";
+        return jdbc.query(sql, (rs, n) -> new RevenueBucket(null, customerId, rs.getString(1),
+                ChargeStatus.valueOf(rs.getString(2)), rs.getLong(3), rs.getLong(4)), arguments.toArray());
+    }
+
+    private static void add(Map<Row, long[]> deltas, Row row, long charges, long amountMinor) {
+        long[] delta = deltas.computeIfAbsent(row, key -> new long[2]);
+        delta[0] += charges;
+        delta[1] += amountMinor;
+    }
+
+    private static void setRow(PreparedStatement statement, int index, Row row) throws SQLException {
+        statement.setDate(index, Date.valueOf(row.day));
+        statement.setString(index + 1, row.currency);
+        statement.setString(index + 2, row.status.name());
+        statement.setObject(index + 3, row.customerId);
+    }
+
+    private record Row(LocalDate day, String currency, ChargeStatus status, UUID customerId)
+            implements Comparable<Row> {
+        private static final Comparator<Row> ORDER = Comparator.comparing(Row::day)
+                .thenComparing(Row::currency)
+                .thenComparing(Row::status)
+                .thenComparing(Row::customerId);
+
+        @Override
+        public int compareTo(Row other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
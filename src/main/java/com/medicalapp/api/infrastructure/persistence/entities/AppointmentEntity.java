@@ -0,0 +1,65 @@
+package com.medicalapp.api.infrastructure.persistence.entities;
+
+import com.medicalapp.api.domain.entities.Appointment;
+import com.medicalapp.api.domain.valueobjects.AppointmentStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "appointments")
+public class AppointmentEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "doctor_id", nullable = false, updatable = false)
+    private UUID doctorId;
+
+    @Column(name = "patient_id", nullable = false, updatable = false)
+    private UUID patientId;
+
+    @Column(name = "starts_at", nullable = false, updatable = false)
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at", nullable = false, updatable = false)
+    private LocalDateTime endsAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private AppointmentStatus status;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected AppointmentEntity() {
+    }
+
+    public static AppointmentEntity from(Appointment appointment) {
+        AppointmentEntity entity = new AppointmentEntity();
+        entity.id = appointment.getId();
+        entity.doctorId = appointment.getDoctorId();
+        entity.patientId = appointment.getPatientId();
+        entity.startsAt = appointment.getStartsAt();
+        entity.endsAt = appointment.getEndsAt();
+        entity.createdAt = appointment.getCreatedAt();
+        entity.copyMutableState(appointment);
+        return entity;
+    }
+
+    public void copyMutableState(Appointment appointment) {
+        this.status = appointment.getStatus();
+        this.updatedAt = appointment.getUpdatedAt();
+    }
+
+    public Appointment toDomain() {
+        return new Appointment(id, doctorId, patientId, startsAt, endsAt, status, createdAt, updatedAt);
+    }
+}
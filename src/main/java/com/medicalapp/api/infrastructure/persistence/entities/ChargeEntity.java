@@ -0,0 +1,79 @@
+package com.medicalapp.api.infrastructure.persistence.entities;
+
+import com.medicalapp.api.domain.entities.Charge;
+import com.medicalapp.api.domain.entities.Customer;
+import com.medicalapp.api.domain.valueobjects.ChargeStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "charges")
+public class ChargeEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "customer_id", nullable = false, updatable = false)
+    private UUID customerId;
+
+    @Column(nullable = false, precision = 19, scale = 2, updatable = false)
+    private BigDecimal amount;
+
+    @Column(nullable = false, length = 3, updatable = false)
+    private String currency;
+
+    @Column(length = 255, updatable = false)
+    private String description;
+
+    @Column(name = "payment_method", nullable = false, length = 50, updatable = false)
+    private String paymentMethod;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ChargeStatus status;
+
+    @Column(name = "gateway_reference", length = 255)
+    private String gatewayReference;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected ChargeEntity() {
+    }
+
+    public static ChargeEntity from(Charge charge) {
+        ChargeEntity entity = new ChargeEntity();
+        entity.id = charge.getId();
+        entity.customerId = charge.getCustomer().getId();
+        entity.amount = charge.getAmount();
+        entity.currency = charge.getCurrency();
+        entity.description = charge.getDescription().orElse(null);
+        entity.paymentMethod = charge.getPaymentMethod();
+        entity.createdAt = charge.getCreatedAt();
+        entity.copyMutableState(charge);
+        return entity;
+    }
+
+    public void copyMutableState(Charge charge) {
+        this.status = charge.getStatus();
+        this.gatewayReference = charge.getGatewayReference().orElse(null);
+        this.updatedAt = charge.getUpdatedAt();
+    }
+
+    public Charge toDomain(Customer customer) {
+        return new Charge(id, amount, currency, description, customer, paymentMethod, status, gatewayReference, createdAt,
+                updatedAt);
+    }
+
+    public UUID getId() { return id; }
+    public UUID getCustomerId() { return customerId; }
+}
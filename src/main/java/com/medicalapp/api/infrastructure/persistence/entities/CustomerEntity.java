@@ -0,0 +1,64 @@
+package com.medicalapp.api.infrastructure.persistence.entities;
+
+import com.medicalapp.api.domain.entities.Customer;
+import com.medicalapp.api.infrastructure.persistence.PartialUpdates;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "customers")
+public class CustomerEntity {
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String email;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected CustomerEntity() {
+    }
+
+    public static CustomerEntity from(Customer customer) {
+        CustomerEntity entity = new CustomerEntity();
+        entity.id = customer.getId();
+        entity.createdAt = customer.getCreatedAt();
+        entity.copyMutableState(customer);
+        return entity;
+    }
+
+    public void copyMutableState(Customer customer) {
+        this.name = customer.getName();
+        this.email = customer.getEmail();
+        this.updatedAt = customer.getUpdatedAt();
+    }
+
+    public static PartialUpdates<Customer.Field> updates() {
+        return new PartialUpdates<>("customers", null, Customer.Field.class, field -> switch (field) {
+            case NAME -> "name";
+            case EMAIL -> "email";
+        });
+    }
+
+    public static Object value(Customer customer, Customer.Field field) {
+        return switch (field) {
+            case NAME -> customer.getName();
+            case EMAIL -> customer.getEmail();
+        };
+    }
+
+    public Customer toDomain() {
+        return new Customer(id, name, email, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,53 @@
+package com.medicalapp.api.infrastructure.persistence.entities;
+
+import com.medicalapp.api.domain.entities.Doctor;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "doctors")
+public class DoctorEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "organization_id", nullable = false, updatable = false)
+    private UUID organizationId;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String specialty;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected DoctorEntity() {
+    }
+
+    public static DoctorEntity from(Doctor doctor) {
+        DoctorEntity entity = new DoctorEntity();
+        entity.id = doctor.getId();
+        entity.organizationId = doctor.getOrganizationId();
+        entity.createdAt = doctor.getCreatedAt();
+        entity.copyMutableState(doctor);
+        return entity;
+    }
+
+    public void copyMutableState(Doctor doctor) {
+        this.name = doctor.getName();
+        this.specialty = doctor.getSpecialty();
+        this.updatedAt = doctor.getUpdatedAt();
+    }
+
+    public Doctor toDomain() {
+        return new Doctor(id, organizationId, name, specialty, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,55 @@
+package com.medicalapp.api.infrastructure.persistence.entities;
+
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "history_records")
+public class HistoryRecordEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "medical_record_id", nullable = false, updatable = false)
+    private UUID medicalRecordId;
+
+    @Column(name = "seq", nullable = false, updatable = false)
+    private int sequence;
+
+    @Column(nullable = false, length = 255, updatable = false)
+    private String action;
+
+    @Column(nullable = false, length = 10000, updatable = false)
+    private String details;
+
+    @Column(name = "recorded_at", nullable = false, updatable = false)
+    private LocalDateTime recordedAt;
+
+    protected HistoryRecordEntity() {
+    }
+
+    public static HistoryRecordEntity from(HistoryRecord record, int sequence) {
+        HistoryRecordEntity entity = new HistoryRecordEntity();
+        entity.id = record.id();
+        entity.medicalRecordId = record.medicalRecordId();
+        entity.sequence = sequence;
+        entity.action = record.action();
+        entity.details = record.details();
+        entity.recordedAt = record.timestamp();
+        return entity;
+    }
+
+    public void placeAt(int sequence) {
+        this.sequence = sequence;
+    }
+
+    public HistoryRecord toDomain() {
+        return new HistoryRecord(id, medicalRecordId, action, details, recordedAt);
+    }
+
+    public UUID getMedicalRecordId() { return medicalRecordId; }
+}
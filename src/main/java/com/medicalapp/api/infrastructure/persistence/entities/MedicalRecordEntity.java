@@ -0,0 +1,96 @@
+package com.medicalapp.api.infrastructure.persistence.entities;
+
+import com.medicalapp.api.domain.contracts.HistoryLoader;
+import com.medicalapp.api.domain.contracts.PatientNameLoader;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.infrastructure.persistence.PartialUpdates;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "medical_records")
+public class MedicalRecordEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "patient_id", nullable = false, updatable = false)
+    private UUID patientId;
+
+    @Column(name = "organization_id", nullable = false, updatable = false)
+    private UUID organizationId;
+
+    @Column(name = "doctor_id", nullable = false, updatable = false)
+    private UUID doctorId;
+
+    @Column(nullable = false, length = 10000)
+    private String diagnosis;
+
+    @Column
+    private String treatment;
+
+    @Column
+    private String notes;
+
+    // Number of history rows already written; history is append-only, so anything past it is new
+    @Column(name = "history_count", nullable = false)
+    private int historyCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected MedicalRecordEntity() {
+    }
+
+    public static MedicalRecordEntity from(MedicalRecord record) {
+        MedicalRecordEntity entity = new MedicalRecordEntity();
+        entity.id = record.getId();
+        entity.patientId = record.getPatientId();
+        entity.organizationId = record.getOrganizationId();
+        entity.doctorId = record.getDoctorId();
+        entity.createdAt = record.getCreatedAt();
+        entity.copyMutableState(record);
+        return entity;
+    }
+
+    public void copyMutableState(MedicalRecord record) {
+        this.diagnosis = record.getDiagnosis();
+        this.treatment = record.getTreatment();
+        this.notes = record.getNotes();
+        this.updatedAt = record.getUpdatedAt();
+    }
+
+    // Appended history shows up as a new history_count; the entries themselves go to the audit log
+    public static PartialUpdates<MedicalRecord.Field> updates() {
+        return new PartialUpdates<>("medical_records", "organization_id", MedicalRecord.Field.class,
+                field -> switch (field) {
+                    case TREATMENT -> "treatment";
+                    case NOTES -> "notes";
+                    case HISTORY -> "history_count";
+                });
+    }
+
+    public static Object value(MedicalRecord record, MedicalRecord.Field field) {
+        return switch (field) {
+            case TREATMENT -> record.getTreatment();
+            case NOTES -> record.getNotes();
+            case HISTORY -> record.getHistorySize();
+        };
+    }
+
+    public MedicalRecord toDomain(HistoryLoader historyLoader, PatientNameLoader patientNameLoader) {
+        return new MedicalRecord(id, patientId, organizationId, doctorId, diagnosis, treatment, notes,
+                createdAt, updatedAt, historyCount, historyLoader, patientNameLoader);
+    }
+
+    public UUID getId() { return id; }
+    public UUID getPatientId() { return patientId; }
+    public int getHistoryCount() { return historyCount; }
+    public void setHistoryCount(int historyCount) { this.historyCount = historyCount; }
+}
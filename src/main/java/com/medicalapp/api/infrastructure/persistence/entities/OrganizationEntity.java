@@ -0,0 +1,69 @@
+package com.medicalapp.api.infrastructure.persistence.entities;
+
+import com.medicalapp.api.domain.entities.Organization;
+import com.medicalapp.api.domain.valueobjects.EIN;
+import com.medicalapp.api.infrastructure.persistence.PartialUpdates;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "organizations")
+public class OrganizationEntity {
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 200)
+    private String address;
+
+    @Column(nullable = false, length = 9, updatable = false)
+    private String ein;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected OrganizationEntity() {
+    }
+
+    public static OrganizationEntity from(Organization organization) {
+        OrganizationEntity entity = new OrganizationEntity();
+        entity.id = organization.getId();
+        entity.ein = organization.getEin().raw();
+        entity.createdAt = organization.getCreatedAt();
+        entity.copyMutableState(organization);
+        return entity;
+    }
+
+    public void copyMutableState(Organization organization) {
+        this.name = organization.getName();
+        this.address = organization.getAddress();
+        this.updatedAt = organization.getUpdatedAt();
+    }
+
+    public static PartialUpdates<Organization.Field> updates() {
+        return new PartialUpdates<>("organizations", null, Organization.Field.class, field -> switch (field) {
+            case NAME -> "name";
+            case ADDRESS -> "address";
+        });
+    }
+
+    public static Object value(Organization organization, Organization.Field field) {
+        return switch (field) {
+            case NAME -> organization.getName();
+            case ADDRESS -> organization.getAddress();
+        };
+    }
+
+    public Organization toDomain() {
+        return new Organization(id, name, address, EIN.of(ein), createdAt, updatedAt);
+    }
+}
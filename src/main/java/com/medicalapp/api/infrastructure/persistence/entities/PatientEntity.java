@@ -0,0 +1,100 @@
+package com.medicalapp.api.infrastructure.persistence.entities;
+
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.valueobjects.Gender;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import com.medicalapp.api.infrastructure.persistence.PartialUpdates;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "patients")
+public class PatientEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "organization_id", nullable = false, updatable = false)
+    private UUID organizationId;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 9, updatable = false)
+    private String ssn;
+
+    @Column(name = "date_of_birth", nullable = false)
+    private LocalDate dateOfBirth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 5)
+    private Gender gender;
+
+    @Column(nullable = false, length = 200)
+    private String address;
+
+    @Column(nullable = false, length = 16)
+    private String contact;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected PatientEntity() {
+    }
+
+    public static PatientEntity from(Patient patient) {
+        PatientEntity entity = new PatientEntity();
+        entity.id = patient.getId();
+        entity.organizationId = patient.getOrganizationId();
+        entity.ssn = patient.getSsn().value();
+        entity.createdAt = patient.getCreatedAt();
+        entity.copyMutableState(patient);
+        return entity;
+    }
+
+    public void copyMutableState(Patient patient) {
+        this.name = patient.getName();
+        this.dateOfBirth = patient.getDateOfBirth();
+        this.gender = patient.getGender();
+        this.address = patient.getAddress();
+        this.contact = patient.getContact();
+        this.updatedAt = patient.getUpdatedAt();
+    }
+
+    // Updates of changed columns only, matched within the organization's partition
+    public static PartialUpdates<Patient.Field> updates() {
+        return new PartialUpdates<>("patients", "organization_id", Patient.Field.class, field -> switch (field) {
+            case NAME -> "name";
+            case DATE_OF_BIRTH -> "date_of_birth";
+            case GENDER -> "gender";
+            case ADDRESS -> "address";
+            case CONTACT -> "contact";
+        });
+    }
+
+    public static Object value(Patient patient, Patient.Field field) {
+        return switch (field) {
+            case NAME -> patient.getName();
+            case DATE_OF_BIRTH -> patient.getDateOfBirth();
+            case GENDER -> patient.getGender().name();
+            case ADDRESS -> patient.getAddress();
+            case CONTACT -> patient.getContact();
+        };
+    }
+
+    public Patient toDomain() {
+        return new Patient(id, organizationId, name, SSN.of(ssn), dateOfBirth, gender.name(),
+                address, contact, createdAt, updatedAt);
+    }
+
+    public UUID getId() { return id; }
+}
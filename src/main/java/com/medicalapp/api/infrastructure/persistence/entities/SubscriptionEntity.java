@@ -0,0 +1,99 @@
+package com.medicalapp.api.infrastructure.persistence.entities;
+
+import com.medicalapp.api.domain.entities.Customer;
+import com.medicalapp.api.domain.entities.Subscription;
+import com.medicalapp.api.domain.valueobjects.BillingInterval;
+import com.medicalapp.api.domain.valueobjects.SubscriptionStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// renewals and next_renewal_at are not updatable here; they only move through the conditional
+// update in SubscriptionRepository.saveRenewals
+@Entity
+@Table(name = "subscriptions")
+public class SubscriptionEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "customer_id", nullable = false, updatable = false)
+    private UUID customerId;
+
+    @Column(nullable = false, length = 100, updatable = false)
+    private String plan;
+
+    @Column(nullable = false, precision = 19, scale = 2, updatable = false)
+    private BigDecimal amount;
+
+    @Column(nullable = false, length = 3, updatable = false)
+    private String currency;
+
+    @Column(name = "payment_method", nullable = false, length = 50, updatable = false)
+    private String paymentMethod;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "billing_interval", nullable = false, length = 16, updatable = false)
+    private BillingInterval interval;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private SubscriptionStatus status;
+
+    @Column(name = "starts_at", nullable = false, updatable = false)
+    private LocalDateTime startsAt;
+
+    @Column(nullable = false, updatable = false)
+    private int renewals;
+
+    @Column(name = "next_renewal_at", nullable = false, updatable = false)
+    private LocalDateTime nextRenewalAt;
+
+    @Column(nullable = false, updatable = false)
+    private int shard;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected SubscriptionEntity() {
+    }
+
+    public static SubscriptionEntity from(Subscription subscription) {
+        SubscriptionEntity entity = new SubscriptionEntity();
+        entity.id = subscription.getId();
+        entity.customerId = subscription.getCustomer().getId();
+        entity.plan = subscription.getPlan();
+        entity.amount = subscription.getAmount();
+        entity.currency = subscription.getCurrency();
+        entity.paymentMethod = subscription.getPaymentMethod();
+        entity.interval = subscription.getInterval();
+        entity.startsAt = subscription.getStartsAt();
+        entity.renewals = subscription.getRenewals();
+        entity.nextRenewalAt = subscription.getNextRenewalAt();
+        entity.shard = subscription.getShard();
+        entity.createdAt = subscription.getCreatedAt();
+        entity.copyMutableState(subscription);
+        return entity;
+    }
+
+    public void copyMutableState(Subscription subscription) {
+        this.status = subscription.getStatus();
+        this.updatedAt = subscription.getUpdatedAt();
+    }
+
+    public Subscription toDomain(Customer customer) {
+        return new Subscription(id, customer, plan, amount, currency, paymentMethod, interval, status, startsAt,
+                renewals, createdAt, updatedAt);
+    }
+
+    public UUID getId() { return id; }
+    public UUID getCustomerId() { return customerId; }
+}
@@ -0,0 +1,21 @@
+package com.medicalapp.api.infrastructure.persistence.jpa;
+
+import com.medicalapp.api.domain.valueobjects.AppointmentStatus;
+import com.medicalapp.api.infrastructure.persistence.entities.AppointmentEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AppointmentJpaRepository extends JpaRepository<AppointmentEntity, UUID> {
+    List<AppointmentEntity> findByDoctorIdAndStatusAndEndsAtAfterOrderByStartsAtAsc(
+            UUID doctorId, AppointmentStatus status, LocalDateTime endsAt);
+
+    // Scheduled appointments overlapping [startsAt, endsAt): they start before it ends and end after it starts
+    boolean existsByDoctorIdAndStatusAndStartsAtBeforeAndEndsAtAfter(
+            UUID doctorId, AppointmentStatus status, LocalDateTime endsAt, LocalDateTime startsAt);
+
+    List<AppointmentEntity> findByDoctorIdInAndStatusAndEndsAtAfter(
+            Collection<UUID> doctorIds, AppointmentStatus status, LocalDateTime endsAt);
+}
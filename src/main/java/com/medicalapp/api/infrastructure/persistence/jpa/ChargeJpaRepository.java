@@ -0,0 +1,30 @@
+package com.medicalapp.api.infrastructure.persistence.jpa;
+
+import com.medicalapp.api.domain.valueobjects.ChargeStatus;
+import com.medicalapp.api.infrastructure.persistence.entities.ChargeEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ChargeJpaRepository extends JpaRepository<ChargeEntity, UUID> {
+    List<ChargeEntity> findByStatusOrderByCreatedAtAscIdAsc(ChargeStatus status, Limit limit);
+
+    @Query("""
+            select c from ChargeEntity c
+            where c.status = :status and (c.createdAt, c.id) > (:createdAt, :id)
+            order by c.createdAt, c.id""")
+    List<ChargeEntity> findByStatusAfter(@Param("status") ChargeStatus status,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") UUID id, Limit limit);
+
+    // customerId, currency, status, day, count, sum(amount)
+    @Query("""
+            select c.customerId, c.currency, c.status, cast(c.createdAt as LocalDate), count(c), sum(c.amount)
+            from ChargeEntity c
+            group by c.customerId, c.currency, c.status, cast(c.createdAt as LocalDate)""")
+    List<Object[]> aggregateRevenue();
+}
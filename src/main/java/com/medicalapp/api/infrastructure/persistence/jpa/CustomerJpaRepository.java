@@ -0,0 +1,8 @@
+package com.medicalapp.api.infrastructure.persistence.jpa;
+
+import com.medicalapp.api.infrastructure.persistence.entities.CustomerEntity;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CustomerJpaRepository extends JpaRepository<CustomerEntity, UUID> {
+}
@@ -0,0 +1,10 @@
+package com.medicalapp.api.infrastructure.persistence.jpa;
+
+import com.medicalapp.api.infrastructure.persistence.entities.DoctorEntity;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DoctorJpaRepository extends JpaRepository<DoctorEntity, UUID> {
+    List<DoctorEntity> findByOrganizationId(UUID organizationId);
+}
@@ -0,0 +1,16 @@
+package com.medicalapp.api.infrastructure.persistence.jpa;
+
+import com.medicalapp.api.infrastructure.persistence.entities.HistoryRecordEntity;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface HistoryRecordJpaRepository extends JpaRepository<HistoryRecordEntity, UUID> {
+    List<HistoryRecordEntity> findByMedicalRecordIdOrderBySequenceAsc(UUID medicalRecordId);
+
+    @Query("select h from HistoryRecordEntity h where h.medicalRecordId in :ids order by h.medicalRecordId, h.sequence")
+    List<HistoryRecordEntity> findByMedicalRecordIds(@Param("ids") Collection<UUID> medicalRecordIds);
+}
@@ -0,0 +1,60 @@
+package com.medicalapp.api.infrastructure.persistence.jpa;
+
+import com.medicalapp.api.domain.queries.MedicalRecordSummary;
+import com.medicalapp.api.domain.queries.MedicalRecordText;
+import com.medicalapp.api.infrastructure.persistence.entities.MedicalRecordEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MedicalRecordJpaRepository extends JpaRepository<MedicalRecordEntity, UUID> {
+    String SUMMARY = """
+            select new com.medicalapp.api.domain.queries.MedicalRecordSummary(
+                m.id, m.patientId, m.organizationId, m.doctorId, substring(m.diagnosis, 1, 200),
+                m.createdAt, m.updatedAt)
+            from MedicalRecordEntity m
+            """;
+    String TEXT = """
+            select new com.medicalapp.api.domain.queries.MedicalRecordText(
+                m.id, m.organizationId, m.diagnosis, m.treatment, m.notes, m.createdAt, m.updatedAt)
+            from MedicalRecordEntity m
+            """;
+
+    List<MedicalRecordEntity> findByPatientIdOrderByCreatedAtAscIdAsc(UUID patientId);
+
+    @Query(SUMMARY + "where m.patientId = :patientId order by m.createdAt, m.id")
+    List<MedicalRecordSummary> findFirstSummariesByPatient(@Param("patientId") UUID patientId, Limit limit);
+
+    @Query(SUMMARY + "where m.patientId = :patientId and (m.createdAt, m.id) > (:createdAt, :id) order by m.createdAt, m.id")
+    List<MedicalRecordSummary> findSummariesByPatientAfter(@Param("patientId") UUID patientId,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") UUID id, Limit limit);
+
+    @Query(SUMMARY + "where m.doctorId = :doctorId order by m.createdAt, m.id")
+    List<MedicalRecordSummary> findFirstSummariesByDoctor(@Param("doctorId") UUID doctorId, Limit limit);
+
+    @Query(SUMMARY + "where m.doctorId = :doctorId and (m.createdAt, m.id) > (:createdAt, :id) order by m.createdAt, m.id")
+    List<MedicalRecordSummary> findSummariesByDoctorAfter(@Param("doctorId") UUID doctorId,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") UUID id, Limit limit);
+
+    @Query(SUMMARY + "where m.organizationId = :organizationId and m.id in :ids")
+    List<MedicalRecordSummary> findSummariesByIds(@Param("organizationId") UUID organizationId,
+                                                  @Param("ids") Collection<UUID> ids);
+
+    @Query(TEXT + "where m.organizationId = :organizationId order by m.createdAt, m.id")
+    List<MedicalRecordText> findFirstTextsByOrganization(@Param("organizationId") UUID organizationId, Limit limit);
+
+    @Query(TEXT + "where m.organizationId = :organizationId and (m.createdAt, m.id) > (:createdAt, :id) order by m.createdAt, m.id")
+    List<MedicalRecordText> findTextsByOrganizationAfter(@Param("organizationId") UUID organizationId,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") UUID id, Limit limit);
+
+    @Query("select distinct m.organizationId from MedicalRecordEntity m")
+    List<UUID> findOrganizationIds();
+}
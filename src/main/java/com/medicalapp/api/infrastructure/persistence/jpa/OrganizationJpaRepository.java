@@ -0,0 +1,10 @@
+package com.medicalapp.api.infrastructure.persistence.jpa;
+
+import com.medicalapp.api.infrastructure.persistence.entities.OrganizationEntity;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrganizationJpaRepository extends JpaRepository<OrganizationEntity, UUID> {
+    Optional<OrganizationEntity> findByEin(String ein);
+}
@@ -0,0 +1,42 @@
+package com.medicalapp.api.infrastructure.persistence.jpa;
+
+import com.medicalapp.api.domain.queries.PatientSummary;
+import com.medicalapp.api.infrastructure.persistence.entities.PatientEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PatientJpaRepository extends JpaRepository<PatientEntity, UUID> {
+    Optional<PatientEntity> findByOrganizationIdAndSsn(UUID organizationId, String ssn);
+
+    @Query("select p.id, p.name from PatientEntity p where p.id in :ids")
+    List<Object[]> findNamesByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("select p.ssn from PatientEntity p where p.organizationId = :organizationId and p.ssn in :ssns")
+    List<String> findExistingSsns(@Param("organizationId") UUID organizationId, @Param("ssns") Collection<String> ssns);
+
+    @Query("""
+            select new com.medicalapp.api.domain.queries.PatientSummary(
+                p.id, p.organizationId, p.name, p.dateOfBirth, p.gender, p.createdAt)
+            from PatientEntity p
+            where p.organizationId = :organizationId
+            order by p.createdAt, p.id""")
+    List<PatientSummary> findFirstSummaries(@Param("organizationId") UUID organizationId, Limit limit);
+
+    @Query("""
+            select new com.medicalapp.api.domain.queries.PatientSummary(
+                p.id, p.organizationId, p.name, p.dateOfBirth, p.gender, p.createdAt)
+            from PatientEntity p
+            where p.organizationId = :organizationId
+              and (p.createdAt, p.id) > (:createdAt, :id)
+            order by p.createdAt, p.id""")
+    List<PatientSummary> findSummariesAfter(@Param("organizationId") UUID organizationId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") UUID id, Limit limit);
+}
@@ -0,0 +1,46 @@
+package com.medicalapp.api.infrastructure.persistence.jpa;
+
+import com.medicalapp.api.domain.queries.DueRenewal;
+import com.medicalapp.api.domain.valueobjects.SubscriptionStatus;
+import com.medicalapp.api.infrastructure.persistence.entities.SubscriptionEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SubscriptionJpaRepository extends JpaRepository<SubscriptionEntity, UUID> {
+    @Query("""
+            select new com.medicalapp.api.domain.queries.DueRenewal(s.id, s.shard, s.nextRenewalAt)
+            from SubscriptionEntity s
+            where s.status = :status and s.shard in :shards and s.nextRenewalAt < :until
+            order by s.nextRenewalAt, s.id""")
+    List<DueRenewal> findDueBefore(@Param("status") SubscriptionStatus status,
+                                   @Param("shards") Collection<Integer> shards,
+                                   @Param("until") LocalDateTime until, Limit limit);
+
+    @Query("""
+            select new com.medicalapp.api.domain.queries.DueRenewal(s.id, s.shard, s.nextRenewalAt)
+            from SubscriptionEntity s
+            where s.status = :status and s.shard in :shards
+              and s.nextRenewalAt >= :from and s.nextRenewalAt < :until
+            order by s.nextRenewalAt, s.id""")
+    List<DueRenewal> findDueBetween(@Param("status") SubscriptionStatus status,
+                                    @Param("shards") Collection<Integer> shards,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("until") LocalDateTime until, Limit limit);
+
+    @Query("""
+            select new com.medicalapp.api.domain.queries.DueRenewal(s.id, s.shard, s.nextRenewalAt)
+            from SubscriptionEntity s
+            where s.status = :status and s.shard in :shards
+              and (s.nextRenewalAt, s.id) > (:dueAt, :id) and s.nextRenewalAt < :until
+            order by s.nextRenewalAt, s.id""")
+    List<DueRenewal> findDueAfter(@Param("status") SubscriptionStatus status,
+                                  @Param("shards") Collection<Integer> shards,
+                                  @Param("dueAt") LocalDateTime dueAt, @Param("id") UUID id,
+                                  @Param("until") LocalDateTime until, Limit limit);
+}
@@ -0,0 +1,43 @@
+package com.medicalapp.api.infrastructure.persistence.loading;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+// DataLoader-style batching for lazy associations: keys are registered while a page of entities
+// is materialized, and the first get() fetches every pending key with one query. Later gets
+// are served from the loaded values. Not thread-safe; use one loader per read, like the entities.
+public final class BatchLoader<K, V> {
+    private final Function<Set<K>, Map<K, V>> fetch;
+    private final Set<K> pending = new LinkedHashSet<>();
+    private final Map<K, V> loaded = new HashMap<>();
+
+    public BatchLoader(Function<Set<K>, Map<K, V>> fetch) {
+        this.fetch = fetch;
+    }
+
+    public void register(K key) {
+        if (!loaded.containsKey(key)) {
+            pending.add(key);
+        }
+    }
+
+    // null when the batch query did not return the key
+    public V get(K key) {
+        if (!loaded.containsKey(key)) {
+            pending.add(key);
+            dispatch();
+        }
+        return loaded.get(key);
+    }
+
+    private void dispatch() {
+        Map<K, V> values = fetch.apply(Set.copyOf(pending));
+        for (K key : pending) {
+            loaded.put(key, values.get(key));
+        }
+        pending.clear();
+    }
+}
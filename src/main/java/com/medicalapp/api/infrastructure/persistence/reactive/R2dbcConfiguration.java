@@ -0,0 +1,52 @@
+package com.medicalapp.api.infrastructure.persistence.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+// Only the reactive mode talks R2DBC. There is no R2DBC transaction manager: the reactive
+// repositories only read, and writes keep going through JPA in its transactions. The pool is not a
+// bean of its own, since a ConnectionFactory bean makes Boot back off the JDBC DataSource.
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class R2dbcConfiguration implements DisposableBean {
+    private ConnectionPool pool;
+
+    @Bean
+    public DatabaseClient databaseClient(R2dbcProperties properties) {
+        pool = connectionPool(properties);
+        return DatabaseClient.create(pool);
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+
+    private static ConnectionPool connectionPool(R2dbcProperties properties) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.url()).mutate();
+        if (StringUtils.hasText(properties.username())) {
+            options.option(ConnectionFactoryOptions.USER, properties.username());
+        }
+        if (StringUtils.hasText(properties.password())) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.password());
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("r2dbc")
+                .initialSize(Math.min(10, properties.maxConnections()))
+                .maxSize(properties.maxConnections())
+                .maxAcquireTime(properties.maxAcquireTime())
+                .build());
+    }
+}
@@ -0,0 +1,264 @@
+package com.medicalapp.api.infrastructure.persistence.reactive;
+
+import com.medicalapp.api.domain.contracts.MMedicalRecordRepositoryContract;
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.KeysetPage;
+import com.medicalapp.api.domain.queries.MedicalRecordSummary;
+import com.medicalapp.api.domain.queries.MedicalRecordText;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Fallback;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Reactive reads of medical records, loaded whole: patient name joined in and history fetched
+// with one query per batch of records, so nothing is left to load lazily on the event loop.
+// Blocking contract methods and writes follow R2dbcPatientRepository.
+@Fallback
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class R2dbcMedicalRecordRepository implements MMedicalRecordRepositoryContract {
+    private static final String RECORD = """
+            select m.id, m.patient_id, m.organization_id, m.doctor_id, m.diagnosis, m.treatment, m.notes,
+                   m.history_count, m.created_at, m.updated_at, p.name as patient_name
+            from medical_records m left join patients p on p.id = m.patient_id
+            """;
+    private static final String SUMMARY = """
+            select id, patient_id, organization_id, doctor_id, substring(diagnosis, 1, 200) as diagnosis_excerpt,
+                   created_at, updated_at
+            from medical_records
+            """;
+    private static final String TEXT = """
+            select id, organization_id, diagnosis, treatment, notes, created_at, updated_at
+            from medical_records
+            """;
+
+    private final DatabaseClient db;
+    private final MMedicalRecordRepositoryContract writes;
+    private final int streamPageSize;
+
+    public R2dbcMedicalRecordRepository(DatabaseClient db, MMedicalRecordRepositoryContract writes,
+                                        R2dbcProperties properties) {
+        this.db = db;
+        this.writes = writes;
+        this.streamPageSize = properties.streamPageSize();
+    }
+
+    public Mono<MedicalRecord> fetchById(UUID id) {
+        return loaded(db.sql(RECORD + "where m.id = :id").bind("id", id).map(RecordRow::of).all())
+                .flatMap(records -> records.isEmpty() ? Mono.empty() : Mono.just(records.get(0)));
+    }
+
+    public Flux<MedicalRecord> fetchByPatientId(UUID patientId) {
+        return withHistory(db.sql(RECORD + "where m.patient_id = :patientId order by m.created_at, m.id")
+                .bind("patientId", patientId)
+                .map(RecordRow::of)
+                .all()
+                .buffer(streamPageSize))
+                .concatMapIterable(records -> records);
+    }
+
+    // Every record of the organization in (created_at, id) order, read a keyset page at a time. A
+    // page is only queried once the subscriber has drained the one before, so a slow client holds
+    // at most two pages and no connection between them.
+    public Flux<MedicalRecord> streamByOrganization(UUID organizationId) {
+        return fetchPageByOrganization(organizationId, null)
+                .expand(page -> page.hasNext() ? fetchPageByOrganization(organizationId, page.next()) : Mono.empty())
+                .flatMapIterable(KeysetPage::items, 1);
+    }
+
+    private Mono<KeysetPage<MedicalRecord>> fetchPageByOrganization(UUID organizationId, Keyset after) {
+        DatabaseClient.GenericExecuteSpec query = after == null
+                ? db.sql(RECORD + "where m.organization_id = :organizationId order by m.created_at, m.id limit :limit")
+                : db.sql(RECORD + """
+                        where m.organization_id = :organizationId and (m.created_at, m.id) > (:createdAt, :id)
+                        order by m.created_at, m.id limit :limit""")
+                        .bind("createdAt", after.createdAt())
+                        .bind("id", after.id());
+        return loaded(query.bind("organizationId", organizationId)
+                .bind("limit", streamPageSize + 1)
+                .map(RecordRow::of)
+                .all())
+                .map(records -> KeysetPage.of(records, streamPageSize,
+                        record -> new Keyset(record.getCreatedAt(), record.getId())));
+    }
+
+    private Mono<List<MedicalRecord>> loaded(Flux<RecordRow> rows) {
+        return withHistory(rows.collectList().flux()).next().defaultIfEmpty(List.of());
+    }
+
+    private Flux<List<MedicalRecord>> withHistory(Flux<List<RecordRow>> batches) {
+        return batches.concatMap(batch -> {
+            List<UUID> withHistory = new ArrayList<>();
+            for (RecordRow row : batch) {
+                if (row.historyCount() > 0) {
+                    withHistory.add(row.id());
+                }
+            }
+            return fetchHistory(withHistory).map(history -> {
+                List<MedicalRecord> records = new ArrayList<>(batch.size());
+                for (RecordRow row : batch) {
+                    records.add(row.toDomain(history.getOrDefault(row.id(), List.of())));
+                }
+                return records;
+            });
+        });
+    }
+
+    private Mono<Map<UUID, List<HistoryRecord>>> fetchHistory(List<UUID> medicalRecordIds) {
+        if (medicalRecordIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return db.sql("""
+                        select id, medical_record_id, action, details, recorded_at from history_records
+                        where medical_record_id in (:ids) order by medical_record_id, seq""")
+                .bind("ids", medicalRecordIds)
+                .map(row -> new HistoryRecord(row.get("id", UUID.class), row.get("medical_record_id", UUID.class),
+                        row.get("action", String.class), row.get("details", String.class),
+                        row.get("recorded_at", LocalDateTime.class)))
+                .all()
+                .collect(Collectors.groupingBy(HistoryRecord::medicalRecordId));
+    }
+
+    public Mono<KeysetPage<MedicalRecordSummary>> fetchSummariesByPatient(UUID patientId, Keyset after, int limit) {
+        return summaries("patient_id", patientId, after, limit);
+    }
+
+    public Mono<KeysetPage<MedicalRecordSummary>> fetchSummariesByDoctor(UUID doctorId, Keyset after, int limit) {
+        return summaries("doctor_id", doctorId, after, limit);
+    }
+
+    private Mono<KeysetPage<MedicalRecordSummary>> summaries(String column, UUID owner, Keyset after, int limit) {
+        DatabaseClient.GenericExecuteSpec query = after == null
+                ? db.sql(SUMMARY + "where " + column + " = :owner order by created_at, id limit :limit")
+                : db.sql(SUMMARY + "where " + column + " = :owner and (created_at, id) > (:createdAt, :id) "
+                        + "order by created_at, id limit :limit")
+                        .bind("createdAt", after.createdAt())
+                        .bind("id", after.id());
+        return query.bind("owner", owner)
+                .bind("limit", limit + 1)
+                .map(R2dbcMedicalRecordRepository::summary)
+                .all()
+                .collectList()
+                .map(rows -> KeysetPage.of(rows, limit, MedicalRecordSummary::keyset));
+    }
+
+    public Flux<MedicalRecordSummary> fetchSummariesByIds(UUID organizationId, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return db.sql(SUMMARY + "where organization_id = :organizationId and id in (:ids)")
+                .bind("organizationId", organizationId)
+                .bind("ids", List.copyOf(ids))
+                .map(R2dbcMedicalRecordRepository::summary)
+                .all();
+    }
+
+    public Mono<KeysetPage<MedicalRecordText>> fetchTextsByOrganization(UUID organizationId, Keyset after, int limit) {
+        DatabaseClient.GenericExecuteSpec query = after == null
+                ? db.sql(TEXT + "where organization_id = :organizationId order by created_at, id limit :limit")
+                : db.sql(TEXT + """
+                        where organization_id = :organizationId and (created_at, id) > (:createdAt, :id)
+                        order by created_at, id limit :limit""")
+                        .bind("createdAt", after.createdAt())
+                        .bind("id", after.id());
+        return query.bind("organizationId", organizationId)
+                .bind("limit", limit + 1)
+                .map(row -> new MedicalRecordText(row.get("id", UUID.class), row.get("organization_id", UUID.class),
+                        row.get("diagnosis", String.class), row.get("treatment", String.class),
+                        row.get("notes", String.class), row.get("created_at", LocalDateTime.class),
+                        row.get("updated_at", LocalDateTime.class)))
+                .all()
+                .collectList()
+                .map(rows -> KeysetPage.of(rows, limit, MedicalRecordText::keyset));
+    }
+
+    public Flux<UUID> fetchOrganizationIds() {
+        return db.sql("select distinct organization_id from medical_records")
+                .map(row -> row.get("organization_id", UUID.class))
+                .all();
+    }
+
+    @Override
+    public MedicalRecord save(MedicalRecord medicalRecord) {
+        return writes.save(medicalRecord);
+    }
+
+    @Override
+    public void saveAll(Collection<MedicalRecord> medicalRecords) {
+        writes.saveAll(medicalRecords);
+    }
+
+    @Override
+    public Optional<MedicalRecord> findById(UUID id) {
+        return fetchById(id).blockOptional();
+    }
+
+    @Override
+    public List<MedicalRecord> findByPatientId(UUID patientId) {
+        return fetchByPatientId(patientId).collectList().block();
+    }
+
+    @Override
+    public KeysetPage<MedicalRecordSummary> findSummariesByPatient(UUID patientId, Keyset after, int limit) {
+        return fetchSummariesByPatient(patientId, after, limit).block();
+    }
+
+    @Override
+    public KeysetPage<MedicalRecordSummary> findSummariesByDoctor(UUID doctorId, Keyset after, int limit) {
+        return fetchSummariesByDoctor(doctorId, after, limit).block();
+    }
+
+    @Override
+    public List<MedicalRecordSummary> findSummariesByIds(UUID organizationId, Collection<UUID> ids) {
+        return fetchSummariesByIds(organizationId, ids).collectList().block();
+    }
+
+    @Override
+    public KeysetPage<MedicalRecordText> findTextsByOrganization(UUID organizationId, Keyset after, int limit) {
+        return fetchTextsByOrganization(organizationId, after, limit).block();
+    }
+
+    @Override
+    public List<UUID> findOrganizationIds() {
+        return fetchOrganizationIds().collectList().block();
+    }
+
+    private static MedicalRecordSummary summary(Readable row) {
+        return new MedicalRecordSummary(row.get("id", UUID.class), row.get("patient_id", UUID.class),
+                row.get("organization_id", UUID.class), row.get("doctor_id", UUID.class),
+                row.get("diagnosis_excerpt", String.class), row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class));
+    }
+
+    private record RecordRow(UUID id, UUID patientId, UUID organizationId, UUID doctorId, String diagnosis,
+                             String treatment, String notes, int historyCount, LocalDateTime createdAt,
+                             LocalDateTime updatedAt, String patientName) {
+
+        static RecordRow of(Readable row) {
+            return new RecordRow(row.get("id", UUID.class), row.get("patient_id", UUID.class),
+                    row.get("organization_id", UUID.class), row.get("doctor_id", UUID.class),
+                    row.get("diagnosis", String.class), row.get("treatment", String.class),
+                    row.get("notes", String.class), row.get("history_count", Integer.class),
+                    row.get("created_at", LocalDateTime.class), row.get("updated_at", LocalDateTime.class),
+                    row.get("patient_name", String.class));
+        }
+
+        MedicalRecord toDomain(List<HistoryRecord> history) {
+            return new MedicalRecord(id, patientId, organizationId, patientName, doctorId, diagnosis, treatment,
+                    notes, createdAt, updatedAt, history);
+        }
+    }
+}
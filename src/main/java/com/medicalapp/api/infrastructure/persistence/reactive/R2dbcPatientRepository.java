@@ -0,0 +1,160 @@
+package com.medicalapp.api.infrastructure.persistence.reactive;
+
+import com.medicalapp.api.domain.contracts.PatientRepositoryContract;
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.KeysetPage;
+import com.medicalapp.api.domain.queries.PatientSummary;
+import com.medicalapp.api.domain.valueobjects.Gender;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import io.r2dbc.spi.Readable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Fallback;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+// Non-blocking reads of the reactive mode; the fetch* methods are what handlers use. The contract
+// methods block on them, so they are only for callers off the event loop. Writes go to the primary
+// repository, which owns partial updates and cache invalidation. @Fallback keeps blocking services
+// on the JPA repositories.
+@Fallback
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class R2dbcPatientRepository implements PatientRepositoryContract {
+    private static final String PATIENT = """
+            select id, organization_id, name, ssn, date_of_birth, gender, address, contact, created_at, updated_at
+            from patients
+            """;
+    private static final String SUMMARY = """
+            select id, organization_id, name, date_of_birth, gender, created_at
+            from patients
+            """;
+
+    private final DatabaseClient db;
+    private final PatientRepositoryContract writes;
+
+    public R2dbcPatientRepository(DatabaseClient db, PatientRepositoryContract writes) {
+        this.db = db;
+        this.writes = writes;
+    }
+
+    public Mono<Patient> fetchById(UUID id) {
+        return db.sql(PATIENT + "where id = :id")
+                .bind("id", id)
+                .map(R2dbcPatientRepository::patient)
+                .one();
+    }
+
+    public Mono<Patient> fetchBySsn(UUID organizationId, SSN ssn) {
+        return db.sql(PATIENT + "where organization_id = :organizationId and ssn = :ssn")
+                .bind("organizationId", organizationId)
+                .bind("ssn", ssn.value())
+                .map(R2dbcPatientRepository::patient)
+                .one();
+    }
+
+    public Mono<Map<UUID, String>> fetchNamesByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return db.sql("select id, name from patients where id in (:ids)")
+                .bind("ids", List.copyOf(ids))
+                .map(row -> Map.entry(row.get("id", UUID.class), row.get("name", String.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, () -> new HashMap<>(ids.size() * 2));
+    }
+
+    public Mono<Set<SSN>> fetchExistingSsns(UUID organizationId, Collection<SSN> ssns) {
+        if (ssns.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        List<String> values = new ArrayList<>(ssns.size());
+        for (SSN ssn : ssns) {
+            values.add(ssn.value());
+        }
+        return db.sql("select ssn from patients where organization_id = :organizationId and ssn in (:ssns)")
+                .bind("organizationId", organizationId)
+                .bind("ssns", values)
+                .map(row -> SSN.of(row.get("ssn", String.class)))
+                .all()
+                .collect(Collectors.toSet());
+    }
+
+    public Mono<KeysetPage<PatientSummary>> fetchSummariesByOrganization(UUID organizationId, Keyset after,
+                                                                         int limit) {
+        DatabaseClient.GenericExecuteSpec query = after == null
+                ? db.sql(SUMMARY + "where organization_id = :organizationId order by created_at, id limit :limit")
+                : db.sql(SUMMARY + """
+                        where organization_id = :organizationId and (created_at, id) > (:createdAt, :id)
+                        order by created_at, id limit :limit""")
+                        .bind("createdAt", after.createdAt())
+                        .bind("id", after.id());
+        return query.bind("organizationId", organizationId)
+                .bind("limit", limit + 1)
+                .map(R2dbcPatientRepository::summary)
+                .all()
+                .collectList()
+                .map(rows -> KeysetPage.of(rows, limit, PatientSummary::keyset));
+    }
+
+    @Override
+    public Patient save(Patient patient) {
+        return writes.save(patient);
+    }
+
+    @Override
+    public void saveAll(Collection<Patient> patients) {
+        writes.saveAll(patients);
+    }
+
+    @Override
+    public Optional<Patient> findById(UUID id) {
+        return fetchById(id).blockOptional();
+    }
+
+    @Override
+    public Map<UUID, String> findNamesByIds(Collection<UUID> ids) {
+        return fetchNamesByIds(ids).block();
+    }
+
+    @Override
+    public Optional<Patient> findBySsn(UUID organizationId, SSN ssn) {
+        return fetchBySsn(organizationId, ssn).blockOptional();
+    }
+
+    @Override
+    public Set<SSN> findExistingSsns(UUID organizationId, Collection<SSN> ssns) {
+        return fetchExistingSsns(organizationId, ssns).block();
+    }
+
+    @Override
+    public KeysetPage<PatientSummary> findSummariesByOrganization(UUID organizationId, Keyset after, int limit) {
+        return fetchSummariesByOrganization(organizationId, after, limit).block();
+    }
+
+    private static Patient patient(Readable row) {
+        return new Patient(row.get("id", UUID.class), row.get("organization_id", UUID.class),
+                row.get("name", String.class), SSN.of(row.get("ssn", String.class)),
+                row.get("date_of_birth", LocalDate.class), row.get("gender", String.class),
+                row.get("address", String.class), row.get("contact", String.class),
+                row.get("created_at", LocalDateTime.class), row.get("updated_at", LocalDateTime.class));
+    }
+
+    private static PatientSummary summary(Readable row) {
+        return new PatientSummary(row.get("id", UUID.class), row.get("organization_id", UUID.class),
+                row.get("name", String.class), row.get("date_of_birth", LocalDate.class),
+                Gender.of(row.get("gender", String.class)), row.get("created_at", LocalDateTime.class));
+    }
+}
@@ -0,0 +1,28 @@
+package com.medicalapp.api.infrastructure.persistence.reactive;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Connection settings of the reactive mode; url is an R2DBC url such as r2dbc:postgresql://host/db
+@ConfigurationProperties(prefix = "medicalapp.r2dbc")
+public record R2dbcProperties(String url, String username, String password, Integer maxConnections,
+                              Duration maxAcquireTime, Integer streamPageSize) {
+
+    public R2dbcProperties {
+        if (maxConnections == null) {
+            maxConnections = 20;
+        }
+        if (maxAcquireTime == null) {
+            maxAcquireTime = Duration.ofSeconds(5);
+        }
+        if (streamPageSize == null) {
+            streamPageSize = 500;
+        }
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("medicalapp.r2dbc.url is required in reactive mode");
+        }
+        if (maxConnections < 1 || streamPageSize < 1 || maxAcquireTime.isNegative() || maxAcquireTime.isZero()) {
+            throw new IllegalArgumentException("Invalid R2DBC settings");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.medicalapp.api.infrastructure.persistence.repositories;
+
+import com.medicalapp.api.application.scheduling.AppointmentConflictException;
+import com.medicalapp.api.domain.contracts.AppointmentRepositoryContract;
+import com.medicalapp.api.domain.entities.Appointment;
+import com.medicalapp.api.domain.valueobjects.AppointmentStatus;
+import com.medicalapp.api.infrastructure.persistence.entities.AppointmentEntity;
+import com.medicalapp.api.infrastructure.persistence.jpa.AppointmentJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class AppointmentRepository implements AppointmentRepositoryContract {
+    // PostgreSQL's exclusion_violation, raised by ex_appointments_doctor_overlap
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private final AppointmentJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    public AppointmentRepository(AppointmentJpaRepository jpaRepository, EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public Appointment save(Appointment appointment) {
+        Objects.requireNonNull(appointment, "Appointment cannot be null");
+        AppointmentEntity existing = entityManager.find(AppointmentEntity.class, appointment.getId());
+        if (existing == null) {
+            entityManager.persist(AppointmentEntity.from(appointment));
+        } else {
+            existing.copyMutableState(appointment);
+        }
+        return appointment;
+    }
+
+    // The doctor's row lock serializes bookings of that doctor across instances until commit. On
+    // PostgreSQL the exclusion constraint from V9 also catches anything that got past it, such as a
+    // plain save(); on H2 and other databases without it the lock is the only guard
+    @Override
+    @Transactional
+    public boolean saveIfFree(Appointment appointment) {
+        Objects.requireNonNull(appointment, "Appointment cannot be null");
+        List<UUID> locked = entityManager
+                .createQuery("select d.id from DoctorEntity d where d.id = :id", UUID.class)
+                .setParameter("id", appointment.getDoctorId())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (locked.isEmpty()) {
+            throw new NoSuchElementException("Doctor not found: " + appointment.getDoctorId());
+        }
+        if (jpaRepository.existsByDoctorIdAndStatusAndStartsAtBeforeAndEndsAtAfter(appointment.getDoctorId(),
+                AppointmentStatus.SCHEDULED, appointment.getEndsAt(), appointment.getStartsAt())) {
+            return false;
+        }
+        entityManager.persist(AppointmentEntity.from(appointment));
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            if (isExclusionViolation(e)) {
+                throw new AppointmentConflictException("Doctor already has an appointment in this period");
+            }
+            throw e;
+        }
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Appointment> findById(UUID id) {
+        return jpaRepository.findById(id).map(AppointmentEntity::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Appointment> findScheduledByDoctorId(UUID doctorId, LocalDateTime endingAfter) {
+        return jpaRepository.findByDoctorIdAndStatusAndEndsAtAfterOrderByStartsAtAsc(
+                        doctorId, AppointmentStatus.SCHEDULED, endingAfter).stream()
+                .map(AppointmentEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Appointment> findScheduledByDoctorIds(Collection<UUID> doctorIds, LocalDateTime endingAfter) {
+        if (doctorIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByDoctorIdInAndStatusAndEndsAtAfter(
+                        doctorIds, AppointmentStatus.SCHEDULED, endingAfter).stream()
+                .map(AppointmentEntity::toDomain)
+                .toList();
+    }
+
+    private static boolean isExclusionViolation(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && EXCLUSION_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,208 @@
+package com.medicalapp.api.infrastructure.persistence.repositories;
+
+import com.medicalapp.api.domain.contracts.ChargeRepositoryContract;
+import com.medicalapp.api.domain.entities.Charge;
+import com.medicalapp.api.domain.entities.Customer;
+import com.medicalapp.api.domain.events.ChargeEvent;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.RevenueBucket;
+import com.medicalapp.api.domain.valueobjects.ChargeStatus;
+import com.medicalapp.api.infrastructure.persistence.PersistenceProperties;
+import com.medicalapp.api.infrastructure.persistence.RevenueRollups;
+import com.medicalapp.api.infrastructure.persistence.entities.ChargeEntity;
+import com.medicalapp.api.infrastructure.persistence.entities.CustomerEntity;
+import com.medicalapp.api.infrastructure.persistence.jpa.ChargeJpaRepository;
+import com.medicalapp.api.infrastructure.persistence.jpa.CustomerJpaRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class ChargeRepository implements ChargeRepositoryContract {
+    private static final String UPDATE_STATUS = """
+            update charges set status = ?, gateway_reference = ?, updated_at = ?
+            where id = ? and status = ?""";
+
+    private final ChargeJpaRepository jpaRepository;
+    private final CustomerJpaRepository customerJpaRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher events;
+    private final JdbcTemplate jdbc;
+    private final RevenueRollups revenue;
+    private final int batchSize;
+
+    public ChargeRepository(ChargeJpaRepository jpaRepository, CustomerJpaRepository customerJpaRepository,
+                            EntityManager entityManager, ApplicationEventPublisher events, JdbcTemplate jdbc,
+                            PersistenceProperties properties) {
+        this.jpaRepository = jpaRepository;
+        this.customerJpaRepository = customerJpaRepository;
+        this.entityManager = entityManager;
+        this.events = events;
+        this.jdbc = jdbc;
+        this.revenue = new RevenueRollups(jdbc);
+        this.batchSize = properties.batchSize();
+    }
+
+    // Inserts only; charges are immutable apart from their status and gateway reference, see
+    // updateStatuses
+    @Override
+    @Transactional
+    public void saveAll(Collection<Charge> charges) {
+        Objects.requireNonNull(charges, "Charges cannot be null");
+        List<Charge> chunk = new ArrayList<>(Math.min(batchSize, charges.size()));
+        for (Charge charge : charges) {
+            entityManager.persist(ChargeEntity.from(Objects.requireNonNull(charge, "Charge cannot be null")));
+            chunk.add(charge);
+            if (chunk.size() == batchSize) {
+                flushChunk(chunk);
+                chunk.clear();
+            }
+        }
+        flushChunk(chunk);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Charge> findById(UUID id) {
+        return jpaRepository.findById(id).map(entity -> toDomain(List.of(entity)).get(0));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Charge> findPending(Keyset after, int limit) {
+        List<ChargeEntity> rows = after == null
+                ? jpaRepository.findByStatusOrderByCreatedAtAscIdAsc(ChargeStatus.PENDING, Limit.of(limit))
+                : jpaRepository.findByStatusAfter(ChargeStatus.PENDING, after.createdAt(), after.id(), Limit.of(limit));
+        return toDomain(rows);
+    }
+
+    // The update only matches a charge still in the status it was read in, so when two runs
+    // settle the same charge only the first one writes it and moves its revenue; the other's
+    // changes are dropped and the charge is left out of the result
+    @Override
+    @Transactional
+    public List<Charge> updateStatuses(Collection<Charge> charges) {
+        Objects.requireNonNull(charges, "Charges cannot be null");
+        List<StatusUpdate> pending = new ArrayList<>(charges.size());
+        for (Charge charge : charges) {
+            pending.add(StatusUpdate.of(Objects.requireNonNull(charge, "Charge cannot be null")));
+        }
+        List<Charge> applied = new ArrayList<>(pending.size());
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<StatusUpdate> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            int[] counts = jdbc.batchUpdate(UPDATE_STATUS, chunk, chunk.size(), (statement, update) -> {
+                Charge charge = update.charge();
+                statement.setString(1, charge.getStatus().name());
+                statement.setString(2, charge.getGatewayReference().orElse(null));
+                statement.setTimestamp(3, Timestamp.valueOf(charge.getUpdatedAt()));
+                statement.setObject(4, charge.getId());
+                statement.setString(5, update.expected().name());
+            })[0];
+            List<ChargeEvent> changes = new ArrayList<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 1) {
+                    applied.add(chunk.get(i).charge());
+                    changes.addAll(chunk.get(i).events());
+                }
+            }
+            applyChanges(changes);
+        }
+        return applied;
+    }
+
+    private void flushChunk(List<Charge> chunk) {
+        entityManager.flush();
+        entityManager.clear();
+        List<ChargeEvent> changes = new ArrayList<>();
+        for (Charge charge : chunk) {
+            changes.addAll(charge.pullEvents());
+        }
+        applyChanges(changes);
+    }
+
+    // The changes reach the revenue rollups in the transaction that wrote them
+    private void applyChanges(List<ChargeEvent> changes) {
+        revenue.apply(changes);
+        changes.forEach(events::publishEvent);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RevenueBucket> dailyRevenue(LocalDate from, LocalDate to, String currency) {
+        return revenue.daily(from, to, currency);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RevenueBucket> revenue(LocalDate from, LocalDate to, UUID customerId) {
+        return revenue.totals(from, to, customerId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasRevenueRollups() {
+        return !revenue.isEmpty();
+    }
+
+    // Grouped on the database side, so the scan returns one row per bucket, not per charge
+    @Override
+    @Transactional
+    public void rebuildRevenue() {
+        revenue.rebuild(() -> {
+            List<Object[]> rows = jpaRepository.aggregateRevenue();
+            List<RevenueBucket> buckets = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                String currency = (String) row[1];
+                buckets.add(new RevenueBucket((LocalDate) row[3], (UUID) row[0], currency, (ChargeStatus) row[2],
+                        ((Number) row[4]).longValue(), Charge.toMinorUnits((BigDecimal) row[5], currency)));
+            }
+            return buckets;
+        });
+    }
+
+    // A charge's first change names the status it was read in; without one it is unchanged
+    private record StatusUpdate(Charge charge, ChargeStatus expected, List<ChargeEvent> events) {
+        static StatusUpdate of(Charge charge) {
+            List<ChargeEvent> events = charge.pullEvents();
+            ChargeStatus expected = events.isEmpty() ? charge.getStatus() : events.get(0).previousStatus();
+            return new StatusUpdate(charge, Objects.requireNonNull(expected, "Charge is not saved yet"), events);
+        }
+    }
+
+    private List<Charge> toDomain(List<ChargeEntity> entities) {
+        Set<UUID> customerIds = new HashSet<>();
+        for (ChargeEntity entity : entities) {
+            customerIds.add(entity.getCustomerId());
+        }
+        Map<UUID, Customer> customers = new HashMap<>();
+        for (CustomerEntity entity : customerJpaRepository.findAllById(customerIds)) {
+            Customer customer = entity.toDomain();
+            customers.put(customer.getId(), customer);
+        }
+        List<Charge> charges = new ArrayList<>(entities.size());
+        for (ChargeEntity entity : entities) {
+            Customer customer = customers.get(entity.getCustomerId());
+            if (customer == null) {
+                throw new IllegalStateException("Charge " + entity.getId() + " references a missing customer");
+            }
+            charges.add(entity.toDomain(customer));
+        }
+        return charges;
+    }
+}
@@ -0,0 +1,71 @@
+package com.medicalapp.api.infrastructure.persistence.repositories;
+
+import com.medicalapp.api.domain.contracts.CustomerRepositoryContract;
+import com.medicalapp.api.domain.entities.Customer;
+import com.medicalapp.api.domain.time.DomainClock;
+import com.medicalapp.api.infrastructure.persistence.AfterCompletion;
+import com.medicalapp.api.infrastructure.persistence.PartialUpdates;
+import com.medicalapp.api.infrastructure.persistence.entities.CustomerEntity;
+import com.medicalapp.api.infrastructure.persistence.jpa.CustomerJpaRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class CustomerRepository implements CustomerRepositoryContract {
+    private final CustomerJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbc;
+
+    public CustomerRepository(CustomerJpaRepository jpaRepository, EntityManager entityManager, JdbcTemplate jdbc) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    @Transactional
+    public Customer save(Customer customer) {
+        Objects.requireNonNull(customer, "Customer cannot be null");
+        CustomerEntity existing = entityManager.find(CustomerEntity.class, customer.getId());
+        if (existing == null) {
+            entityManager.persist(CustomerEntity.from(customer));
+            AfterCompletion.onCommit(() -> customer.changesPersisted(customer.getUpdatedAt()));
+        } else if (customer.hasChanges()) {
+            LocalDateTime now = DomainClock.now();
+            PartialUpdates<Customer.Field> updates = CustomerEntity.updates();
+            updates.add(null, customer.getId(), customer.getChanges(), field -> CustomerEntity.value(customer, field), now);
+            entityManager.detach(existing);
+            updates.flush(jdbc);
+            AfterCompletion.onCommit(() -> customer.changesPersisted(now));
+        }
+        return customer;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Customer> findById(UUID id) {
+        return jpaRepository.findById(id).map(CustomerEntity::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Customer> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Customer> customers = new ArrayList<>(ids.size());
+        for (CustomerEntity entity : jpaRepository.findAllById(ids)) {
+            customers.add(entity.toDomain());
+        }
+        return customers;
+    }
+}
@@ -0,0 +1,51 @@
+package com.medicalapp.api.infrastructure.persistence.repositories;
+
+import com.medicalapp.api.domain.contracts.DoctorRepositoryContract;
+import com.medicalapp.api.domain.entities.Doctor;
+import com.medicalapp.api.infrastructure.persistence.entities.DoctorEntity;
+import com.medicalapp.api.infrastructure.persistence.jpa.DoctorJpaRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class DoctorRepository implements DoctorRepositoryContract {
+    private final DoctorJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    public DoctorRepository(DoctorJpaRepository jpaRepository, EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public Doctor save(Doctor doctor) {
+        Objects.requireNonNull(doctor, "Doctor cannot be null");
+        DoctorEntity existing = entityManager.find(DoctorEntity.class, doctor.getId());
+        if (existing == null) {
+            entityManager.persist(DoctorEntity.from(doctor));
+        } else {
+            existing.copyMutableState(doctor);
+        }
+        return doctor;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Doctor> findById(UUID id) {
+        return jpaRepository.findById(id).map(DoctorEntity::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Doctor> findByOrganizationId(UUID organizationId) {
+        return jpaRepository.findByOrganizationId(organizationId).stream()
+                .map(DoctorEntity::toDomain)
+                .toList();
+    }
+}
@@ -0,0 +1,123 @@
+package com.medicalapp.api.infrastructure.persistence.repositories;
+
+import com.medicalapp.api.domain.contracts.HistoryRecordRepositoryContract;
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.infrastructure.audit.AuditDurability;
+import com.medicalapp.api.infrastructure.audit.AuditLogWriter;
+import com.medicalapp.api.infrastructure.audit.AuditProperties;
+import com.medicalapp.api.infrastructure.persistence.entities.HistoryRecordEntity;
+import com.medicalapp.api.infrastructure.persistence.jpa.HistoryRecordJpaRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// In FLUSH_ON_COMMIT mode audit rows are inserted in the business transaction, batched with
+// its other statements, so they commit or roll back together with the change and the
+// history_count it stores. In ASYNC mode they leave the business transaction: they are collected
+// per transaction and handed to the AuditLogWriter after commit, so a rolled back change is never
+// audited and the mutation doesn't pay for the inserts; the writer then advances history_count.
+@Repository
+public class HistoryRecordRepository implements HistoryRecordRepositoryContract {
+    private final HistoryRecordJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final AuditLogWriter writer;
+    private final AuditDurability durability;
+
+    public HistoryRecordRepository(HistoryRecordJpaRepository jpaRepository, EntityManager entityManager,
+                                   AuditLogWriter writer, AuditProperties properties) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.writer = writer;
+        this.durability = properties.durability();
+    }
+
+    @Override
+    public void append(UUID medicalRecordId, int firstPosition, List<HistoryRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        List<HistoryRecordEntity> rows = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            rows.add(HistoryRecordEntity.from(records.get(i), firstPosition + i));
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            submit(rows);
+        } else if (durability == AuditDurability.FLUSH_ON_COMMIT) {
+            rows.forEach(entityManager::persist);
+        } else {
+            pendingRows().addAll(rows);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HistoryRecord> findByMedicalRecordId(UUID medicalRecordId) {
+        writer.awaitSubmitted();
+        return toDomain(jpaRepository.findByMedicalRecordIdOrderBySequenceAsc(medicalRecordId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, List<HistoryRecord>> findByMedicalRecordIds(Collection<UUID> medicalRecordIds) {
+        if (medicalRecordIds.isEmpty()) {
+            return Map.of();
+        }
+        writer.awaitSubmitted();
+        Map<UUID, List<HistoryRecord>> history = new HashMap<>();
+        for (HistoryRecordEntity entity : jpaRepository.findByMedicalRecordIds(medicalRecordIds)) {
+            history.computeIfAbsent(entity.getMedicalRecordId(), id -> new ArrayList<>()).add(entity.toDomain());
+        }
+        return history;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<HistoryRecordEntity> pendingRows() {
+        List<HistoryRecordEntity> pending = (List<HistoryRecordEntity>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<HistoryRecordEntity> created = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(HistoryRecordRepository.this);
+            }
+        });
+        return created;
+    }
+
+    // Outside a transaction nothing has committed yet, so a failed FLUSH_ON_COMMIT write can still fail the caller
+    private void submit(List<HistoryRecordEntity> rows) {
+        var written = writer.submit(rows);
+        if (durability == AuditDurability.FLUSH_ON_COMMIT) {
+            try {
+                written.join();
+            } catch (CompletionException e) {
+                throw new IllegalStateException("Audit rows could not be written", e.getCause());
+            }
+        }
+    }
+
+    private static List<HistoryRecord> toDomain(List<HistoryRecordEntity> entities) {
+        List<HistoryRecord> records = new ArrayList<>(entities.size());
+        for (HistoryRecordEntity entity : entities) {
+            records.add(entity.toDomain());
+        }
+        return records;
+    }
+}
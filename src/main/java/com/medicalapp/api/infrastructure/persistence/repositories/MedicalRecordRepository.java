@@ -0,0 +1,234 @@
+package com.medicalapp.api.infrastructure.persistence.repositories;
+
+import com.medicalapp.api.domain.contracts.HistoryLoader;
+import com.medicalapp.api.domain.contracts.HistoryRecordRepositoryContract;
+import com.medicalapp.api.domain.contracts.MMedicalRecordRepositoryContract;
+import com.medicalapp.api.domain.contracts.PatientRepositoryContract;
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.domain.events.MedicalRecordTextChanged;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.KeysetPage;
+import com.medicalapp.api.domain.queries.MedicalRecordSummary;
+import com.medicalapp.api.domain.queries.MedicalRecordText;
+import com.medicalapp.api.domain.time.DomainClock;
+import com.medicalapp.api.infrastructure.audit.AuditDurability;
+import com.medicalapp.api.infrastructure.audit.AuditProperties;
+import com.medicalapp.api.infrastructure.persistence.AfterCompletion;
+import com.medicalapp.api.infrastructure.persistence.PartialUpdates;
+import com.medicalapp.api.infrastructure.persistence.PersistenceProperties;
+import com.medicalapp.api.infrastructure.persistence.entities.MedicalRecordEntity;
+import com.medicalapp.api.infrastructure.persistence.jpa.MedicalRecordJpaRepository;
+import com.medicalapp.api.infrastructure.persistence.loading.BatchLoader;
+import com.medicalapp.api.infrastructure.tenancy.TenantQueryMetrics;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class MedicalRecordRepository implements MMedicalRecordRepositoryContract {
+    private static final HistoryLoader NO_HISTORY = id -> List.of();
+
+    private final MedicalRecordJpaRepository jpaRepository;
+    private final HistoryRecordRepositoryContract historyRepository;
+    private final PatientRepositoryContract patientRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbc;
+    private final ApplicationEventPublisher events;
+    private final TenantQueryMetrics tenantMetrics;
+    private final int batchSize;
+    private final boolean historyInTransaction;
+
+    public MedicalRecordRepository(MedicalRecordJpaRepository jpaRepository,
+                                   HistoryRecordRepositoryContract historyRepository,
+                                   PatientRepositoryContract patientRepository, EntityManager entityManager, JdbcTemplate jdbc,
+                                   ApplicationEventPublisher events,
+                                   TenantQueryMetrics tenantMetrics, PersistenceProperties properties,
+                                   AuditProperties auditProperties) {
+        this.jpaRepository = jpaRepository;
+        this.historyRepository = historyRepository;
+        this.patientRepository = patientRepository;
+        this.entityManager = entityManager;
+        this.jdbc = jdbc;
+        this.events = events;
+        this.tenantMetrics = tenantMetrics;
+        this.batchSize = properties.batchSize();
+        this.historyInTransaction = auditProperties.durability() == AuditDurability.FLUSH_ON_COMMIT;
+    }
+
+    @Override
+    @Transactional
+    public MedicalRecord save(MedicalRecord medicalRecord) {
+        Objects.requireNonNull(medicalRecord, "Medical record cannot be null");
+        PartialUpdates<MedicalRecord.Field> updates = MedicalRecordEntity.updates();
+        write(medicalRecord, entityManager.find(MedicalRecordEntity.class, medicalRecord.getId()), updates);
+        updates.flush(jdbc);
+        return medicalRecord;
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(Collection<MedicalRecord> medicalRecords) {
+        Objects.requireNonNull(medicalRecords, "Medical records cannot be null");
+        List<MedicalRecord> chunk = new ArrayList<>(Math.min(batchSize, medicalRecords.size()));
+        for (MedicalRecord record : medicalRecords) {
+            chunk.add(Objects.requireNonNull(record, "Medical record cannot be null"));
+            if (chunk.size() == batchSize) {
+                writeChunk(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk);
+        }
+    }
+
+    private void writeChunk(List<MedicalRecord> chunk) {
+        List<UUID> ids = new ArrayList<>(chunk.size());
+        for (MedicalRecord record : chunk) {
+            ids.add(record.getId());
+        }
+        Map<UUID, MedicalRecordEntity> existing = new HashMap<>();
+        for (MedicalRecordEntity entity : jpaRepository.findAllById(ids)) {
+            existing.put(entity.getId(), entity);
+        }
+        PartialUpdates<MedicalRecord.Field> updates = MedicalRecordEntity.updates();
+        for (MedicalRecord record : chunk) {
+            write(record, existing.get(record.getId()), updates);
+        }
+        entityManager.flush();
+        updates.flush(jdbc);
+        entityManager.clear();
+    }
+
+    // Only history entries the record has not stored yet go to the audit log, never the whole log.
+    // history_count moves with the audit rows: here when they are written in this transaction,
+    // in the audit writer's transaction otherwise. Stored records queue just their changed columns,
+    // stamped once; the text event carries that stamp. The record keeps its changes until the
+    // transaction commits, and takes back its unwritten history and text event if it doesn't.
+    private void write(MedicalRecord record, MedicalRecordEntity entity, PartialUpdates<MedicalRecord.Field> updates) {
+        int stored = entity == null ? 0 : record.getStoredHistorySize();
+        int size = record.getHistorySize();
+        LocalDateTime writtenAt = record.getUpdatedAt();
+        if (entity == null) {
+            entity = MedicalRecordEntity.from(record);
+            entity.setHistoryCount(historyInTransaction ? size : 0);
+            entityManager.persist(entity);
+        } else if (record.hasChanges()) {
+            Set<MedicalRecord.Field> changed = record.getChanges();
+            if (!historyInTransaction) {
+                changed.remove(MedicalRecord.Field.HISTORY);
+            }
+            if (!changed.isEmpty()) {
+                writtenAt = DomainClock.now();
+                updates.add(record.getOrganizationId(), record.getId(), changed,
+                        field -> MedicalRecordEntity.value(record, field), writtenAt);
+            }
+            entityManager.detach(entity);
+        }
+        if (size > stored) {
+            historyRepository.append(record.getId(), stored, record.historyPage(stored, size - stored));
+            record.historyWritten();
+        }
+        List<MedicalRecordTextChanged> textEvents = record.pullEvents(writtenAt);
+        textEvents.forEach(events::publishEvent);
+        LocalDateTime persistedAt = writtenAt;
+        AfterCompletion.onCommit(() -> record.changesPersisted(persistedAt));
+        AfterCompletion.onRollback(() -> record.writeRolledBack(stored, !textEvents.isEmpty()));
+    }
+
+    // History and patient name are only queried if the caller reads them
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MedicalRecord> findById(UUID id) {
+        return jpaRepository.findById(id).map(entity -> entity.toDomain(
+                hasHistory(entity) ? historyRepository::findByMedicalRecordId : NO_HISTORY,
+                patientId -> patientRepository.findNamesByIds(List.of(patientId)).get(patientId)));
+    }
+
+    // Reading history or patient name on any record loads it for the whole list in one query
+    @Override
+    @Transactional(readOnly = true)
+    public List<MedicalRecord> findByPatientId(UUID patientId) {
+        return toDomain(jpaRepository.findByPatientIdOrderByCreatedAtAscIdAsc(patientId));
+    }
+
+    private List<MedicalRecord> toDomain(List<MedicalRecordEntity> entities) {
+        BatchLoader<UUID, List<HistoryRecord>> history = new BatchLoader<>(historyRepository::findByMedicalRecordIds);
+        BatchLoader<UUID, String> names = new BatchLoader<>(patientRepository::findNamesByIds);
+        List<MedicalRecord> records = new ArrayList<>(entities.size());
+        for (MedicalRecordEntity entity : entities) {
+            HistoryLoader loader = NO_HISTORY;
+            if (hasHistory(entity)) {
+                history.register(entity.getId());
+                loader = id -> Objects.requireNonNullElse(history.get(id), List.of());
+            }
+            names.register(entity.getPatientId());
+            records.add(entity.toDomain(loader, names::get));
+        }
+        return records;
+    }
+
+    // In ASYNC mode history_count trails the audit rows still queued, so it can't rule history out
+    private boolean hasHistory(MedicalRecordEntity entity) {
+        return entity.getHistoryCount() > 0 || !historyInTransaction;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<MedicalRecordSummary> findSummariesByPatient(UUID patientId, Keyset after, int limit) {
+        Limit fetch = Limit.of(limit + 1);
+        List<MedicalRecordSummary> rows = after == null
+                ? jpaRepository.findFirstSummariesByPatient(patientId, fetch)
+                : jpaRepository.findSummariesByPatientAfter(patientId, after.createdAt(), after.id(), fetch);
+        return KeysetPage.of(rows, limit, MedicalRecordSummary::keyset);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<MedicalRecordSummary> findSummariesByDoctor(UUID doctorId, Keyset after, int limit) {
+        Limit fetch = Limit.of(limit + 1);
+        List<MedicalRecordSummary> rows = after == null
+                ? jpaRepository.findFirstSummariesByDoctor(doctorId, fetch)
+                : jpaRepository.findSummariesByDoctorAfter(doctorId, after.createdAt(), after.id(), fetch);
+        return KeysetPage.of(rows, limit, MedicalRecordSummary::keyset);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MedicalRecordSummary> findSummariesByIds(UUID organizationId, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return tenantMetrics.time(organizationId, () -> jpaRepository.findSummariesByIds(organizationId, ids));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<MedicalRecordText> findTextsByOrganization(UUID organizationId, Keyset after, int limit) {
+        Limit fetch = Limit.of(limit + 1);
+        List<MedicalRecordText> rows = tenantMetrics.time(organizationId, () -> after == null
+                ? jpaRepository.findFirstTextsByOrganization(organizationId, fetch)
+                : jpaRepository.findTextsByOrganizationAfter(organizationId, after.createdAt(), after.id(), fetch));
+        return KeysetPage.of(rows, limit, MedicalRecordText::keyset);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findOrganizationIds() {
+        return jpaRepository.findOrganizationIds();
+    }
+}
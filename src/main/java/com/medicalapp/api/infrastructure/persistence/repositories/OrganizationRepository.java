@@ -0,0 +1,62 @@
+package com.medicalapp.api.infrastructure.persistence.repositories;
+
+import com.medicalapp.api.domain.contracts.OrganizationRepositoryContract;
+import com.medicalapp.api.domain.entities.Organization;
+import com.medicalapp.api.domain.time.DomainClock;
+import com.medicalapp.api.domain.valueobjects.EIN;
+import com.medicalapp.api.infrastructure.persistence.AfterCompletion;
+import com.medicalapp.api.infrastructure.persistence.PartialUpdates;
+import com.medicalapp.api.infrastructure.persistence.entities.OrganizationEntity;
+import com.medicalapp.api.infrastructure.persistence.jpa.OrganizationJpaRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class OrganizationRepository implements OrganizationRepositoryContract {
+    private final OrganizationJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbc;
+
+    public OrganizationRepository(OrganizationJpaRepository jpaRepository, EntityManager entityManager, JdbcTemplate jdbc) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    @Transactional
+    public Organization save(Organization organization) {
+        Objects.requireNonNull(organization, "Organization cannot be null");
+        OrganizationEntity existing = entityManager.find(OrganizationEntity.class, organization.getId());
+        if (existing == null) {
+            entityManager.persist(OrganizationEntity.from(organization));
+            AfterCompletion.onCommit(() -> organization.changesPersisted(organization.getUpdatedAt()));
+        } else if (organization.hasChanges()) {
+            LocalDateTime now = DomainClock.now();
+            PartialUpdates<Organization.Field> updates = OrganizationEntity.updates();
+            updates.add(null, organization.getId(), organization.getChanges(), field -> OrganizationEntity.value(organization, field), now);
+            entityManager.detach(existing);
+            updates.flush(jdbc);
+            AfterCompletion.onCommit(() -> organization.changesPersisted(now));
+        }
+        return organization;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Organization> findById(UUID id) {
+        return jpaRepository.findById(id).map(OrganizationEntity::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Organization> findByEin(EIN ein) {
+        return jpaRepository.findByEin(ein.raw()).map(OrganizationEntity::toDomain);
+    }
+}
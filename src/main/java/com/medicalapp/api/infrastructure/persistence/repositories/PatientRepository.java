@@ -0,0 +1,167 @@
+package com.medicalapp.api.infrastructure.persistence.repositories;
+
+import com.medicalapp.api.domain.contracts.PatientRepositoryContract;
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.KeysetPage;
+import com.medicalapp.api.domain.queries.PatientSummary;
+import com.medicalapp.api.domain.time.DomainClock;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import com.medicalapp.api.infrastructure.persistence.AfterCompletion;
+import com.medicalapp.api.infrastructure.persistence.PartialUpdates;
+import com.medicalapp.api.infrastructure.persistence.PersistenceProperties;
+import com.medicalapp.api.infrastructure.persistence.entities.PatientEntity;
+import com.medicalapp.api.infrastructure.persistence.jpa.PatientJpaRepository;
+import com.medicalapp.api.infrastructure.tenancy.TenantQueryMetrics;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class PatientRepository implements PatientRepositoryContract {
+    private final PatientJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbc;
+    private final TenantQueryMetrics tenantMetrics;
+    private final int batchSize;
+
+    public PatientRepository(PatientJpaRepository jpaRepository, EntityManager entityManager, JdbcTemplate jdbc,
+                             TenantQueryMetrics tenantMetrics, PersistenceProperties properties) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.jdbc = jdbc;
+        this.tenantMetrics = tenantMetrics;
+        this.batchSize = properties.batchSize();
+    }
+
+    @Override
+    @Transactional
+    public Patient save(Patient patient) {
+        Objects.requireNonNull(patient, "Patient cannot be null");
+        PartialUpdates<Patient.Field> updates = PatientEntity.updates();
+        write(patient, entityManager.find(PatientEntity.class, patient.getId()), updates);
+        updates.flush(jdbc);
+        return patient;
+    }
+
+    // Writes in chunks of medicalapp.persistence.batch-size: one lookup of already stored ids per chunk,
+    // then inserts and updates go out as JDBC batches and the persistence context is cleared. A bulk
+    // edit of the same fields (one address for a whole family) is a single batched UPDATE.
+    @Override
+    @Transactional
+    public void saveAll(Collection<Patient> patients) {
+        Objects.requireNonNull(patients, "Patients cannot be null");
+        List<Patient> chunk = new ArrayList<>(Math.min(batchSize, patients.size()));
+        for (Patient patient : patients) {
+            chunk.add(Objects.requireNonNull(patient, "Patient cannot be null"));
+            if (chunk.size() == batchSize) {
+                writeChunk(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk);
+        }
+    }
+
+    private void writeChunk(List<Patient> chunk) {
+        List<UUID> ids = new ArrayList<>(chunk.size());
+        for (Patient patient : chunk) {
+            ids.add(patient.getId());
+        }
+        Map<UUID, PatientEntity> existing = new HashMap<>();
+        for (PatientEntity entity : jpaRepository.findAllById(ids)) {
+            existing.put(entity.getId(), entity);
+        }
+        PartialUpdates<Patient.Field> updates = PatientEntity.updates();
+        for (Patient patient : chunk) {
+            write(patient, existing.get(patient.getId()), updates);
+        }
+        entityManager.flush();
+        updates.flush(jdbc);
+        entityManager.clear();
+    }
+
+    // New patients are inserted through JPA; stored ones only queue the columns their setters changed,
+    // stamped with one updated_at however many setter calls there were. The loaded entity is detached
+    // so Hibernate neither writes it nor serves its stale state later in the transaction. The patient
+    // keeps its changes until the transaction commits.
+    private void write(Patient patient, PatientEntity entity, PartialUpdates<Patient.Field> updates) {
+        if (entity == null) {
+            entityManager.persist(PatientEntity.from(patient));
+            AfterCompletion.onCommit(() -> patient.changesPersisted(patient.getUpdatedAt()));
+        } else if (patient.hasChanges()) {
+            LocalDateTime now = DomainClock.now();
+            updates.add(patient.getOrganizationId(), patient.getId(), patient.getChanges(),
+                    field -> PatientEntity.value(patient, field), now);
+            entityManager.detach(entity);
+            AfterCompletion.onCommit(() -> patient.changesPersisted(now));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Patient> findById(UUID id) {
+        return jpaRepository.findById(id).map(PatientEntity::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Patient> findBySsn(UUID organizationId, SSN ssn) {
+        return tenantMetrics.time(organizationId, () ->
+                jpaRepository.findByOrganizationIdAndSsn(organizationId, ssn.value()).map(PatientEntity::toDomain));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<SSN> findExistingSsns(UUID organizationId, Collection<SSN> ssns) {
+        if (ssns.isEmpty()) {
+            return Set.of();
+        }
+        List<String> values = new ArrayList<>(ssns.size());
+        for (SSN ssn : ssns) {
+            values.add(ssn.value());
+        }
+        Set<SSN> existing = new HashSet<>();
+        for (String ssn : tenantMetrics.time(organizationId, () -> jpaRepository.findExistingSsns(organizationId, values))) {
+            existing.add(SSN.of(ssn));
+        }
+        return existing;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, String> findNamesByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, String> names = new HashMap<>(ids.size() * 2);
+        for (Object[] row : jpaRepository.findNamesByIds(ids)) {
+            names.put((UUID) row[0], (String) row[1]);
+        }
+        return names;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<PatientSummary> findSummariesByOrganization(UUID organizationId, Keyset after, int limit) {
+        Limit fetch = Limit.of(limit + 1);
+        List<PatientSummary> rows = tenantMetrics.time(organizationId, () -> after == null
+                ? jpaRepository.findFirstSummaries(organizationId, fetch)
+                : jpaRepository.findSummariesAfter(organizationId, after.createdAt(), after.id(), fetch));
+        return KeysetPage.of(rows, limit, PatientSummary::keyset);
+    }
+}
@@ -0,0 +1,154 @@
+package com.medicalapp.api.infrastructure.persistence.repositories;
+
+import com.medicalapp.api.domain.contracts.ChargeRepositoryContract;
+import com.medicalapp.api.domain.contracts.SubscriptionRepositoryContract;
+import com.medicalapp.api.domain.entities.Charge;
+import com.medicalapp.api.domain.entities.Customer;
+import com.medicalapp.api.domain.entities.Subscription;
+import com.medicalapp.api.domain.entities.SubscriptionRenewal;
+import com.medicalapp.api.domain.queries.DueRenewal;
+import com.medicalapp.api.domain.valueobjects.SubscriptionStatus;
+import com.medicalapp.api.infrastructure.persistence.PersistenceProperties;
+import com.medicalapp.api.infrastructure.persistence.entities.CustomerEntity;
+import com.medicalapp.api.infrastructure.persistence.entities.SubscriptionEntity;
+import com.medicalapp.api.infrastructure.persistence.jpa.CustomerJpaRepository;
+import com.medicalapp.api.infrastructure.persistence.jpa.SubscriptionJpaRepository;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class SubscriptionRepository implements SubscriptionRepositoryContract {
+    private static final String RENEW = """
+            update subscriptions set renewals = ?, next_renewal_at = ?, updated_at = ?
+            where id = ? and renewals = ? and status = 'ACTIVE'""";
+
+    private final SubscriptionJpaRepository jpaRepository;
+    private final CustomerJpaRepository customerJpaRepository;
+    private final ChargeRepositoryContract chargeRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbc;
+    private final int batchSize;
+
+    public SubscriptionRepository(SubscriptionJpaRepository jpaRepository, CustomerJpaRepository customerJpaRepository,
+                                  ChargeRepositoryContract chargeRepository, EntityManager entityManager,
+                                  JdbcTemplate jdbc, PersistenceProperties properties) {
+        this.jpaRepository = jpaRepository;
+        this.customerJpaRepository = customerJpaRepository;
+        this.chargeRepository = chargeRepository;
+        this.entityManager = entityManager;
+        this.jdbc = jdbc;
+        this.batchSize = properties.batchSize();
+    }
+
+    @Override
+    @Transactional
+    public Subscription save(Subscription subscription) {
+        Objects.requireNonNull(subscription, "Subscription cannot be null");
+        SubscriptionEntity existing = entityManager.find(SubscriptionEntity.class, subscription.getId());
+        if (existing == null) {
+            entityManager.persist(SubscriptionEntity.from(subscription));
+        } else {
+            existing.copyMutableState(subscription);
+        }
+        return subscription;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Subscription> findById(UUID id) {
+        return jpaRepository.findById(id).map(entity -> toDomain(List.of(entity)).get(0));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Subscription> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return toDomain(jpaRepository.findAllById(ids));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DueRenewal> findDue(Collection<Integer> shards, LocalDateTime from, LocalDateTime until,
+                                    DueRenewal after, int limit) {
+        if (shards.isEmpty()) {
+            return List.of();
+        }
+        SubscriptionStatus active = SubscriptionStatus.ACTIVE;
+        if (after != null) {
+            return jpaRepository.findDueAfter(active, shards, after.dueAt(), after.id(), until, Limit.of(limit));
+        }
+        return from == null
+                ? jpaRepository.findDueBefore(active, shards, until, Limit.of(limit))
+                : jpaRepository.findDueBetween(active, shards, from, until, Limit.of(limit));
+    }
+
+    // The conditional update is the fence between nodes: a node that lost its lease mid-batch,
+    // or read a row before another node renewed it, matches no row and creates no charge
+    @Override
+    @Transactional
+    public List<SubscriptionRenewal> saveRenewals(Collection<SubscriptionRenewal> renewals) {
+        Objects.requireNonNull(renewals, "Renewals cannot be null");
+        List<SubscriptionRenewal> pending = List.copyOf(renewals);
+        List<SubscriptionRenewal> applied = new ArrayList<>(pending.size());
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<SubscriptionRenewal> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            int[] counts = jdbc.batchUpdate(RENEW, chunk, chunk.size(), (statement, renewal) -> {
+                Subscription subscription = renewal.subscription();
+                statement.setInt(1, subscription.getRenewals());
+                statement.setTimestamp(2, Timestamp.valueOf(subscription.getNextRenewalAt()));
+                statement.setTimestamp(3, Timestamp.valueOf(subscription.getUpdatedAt()));
+                statement.setObject(4, subscription.getId());
+                statement.setInt(5, renewal.expectedRenewals());
+            })[0];
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 1) {
+                    applied.add(chunk.get(i));
+                }
+            }
+        }
+        List<Charge> charges = new ArrayList<>(applied.size());
+        for (SubscriptionRenewal renewal : applied) {
+            charges.add(renewal.charge());
+        }
+        chargeRepository.saveAll(charges);
+        return applied;
+    }
+
+    private List<Subscription> toDomain(List<SubscriptionEntity> entities) {
+        Set<UUID> customerIds = new HashSet<>();
+        for (SubscriptionEntity entity : entities) {
+            customerIds.add(entity.getCustomerId());
+        }
+        Map<UUID, Customer> customers = new HashMap<>();
+        for (CustomerEntity entity : customerJpaRepository.findAllById(customerIds)) {
+            Customer customer = entity.toDomain();
+            customers.put(customer.getId(), customer);
+        }
+        List<Subscription> subscriptions = new ArrayList<>(entities.size());
+        for (SubscriptionEntity entity : entities) {
+            Customer customer = customers.get(entity.getCustomerId());
+            if (customer == null) {
+                throw new IllegalStateException("Subscription " + entity.getId() + " references a missing customer");
+            }
+            subscriptions.add(entity.toDomain(customer));
+        }
+        return subscriptions;
+    }
+}
@@ -0,0 +1,95 @@
+package com.medicalapp.api.infrastructure.subscriptions;
+
+import com.medicalapp.api.application.subscriptions.RenewalLease;
+import com.medicalapp.api.application.subscriptions.RenewalLeases;
+import com.medicalapp.api.domain.entities.Subscription;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// renewal_leases rows updated with single conditional statements in auto-commit, so each call
+// is atomic on its own and never holds a row lock across a renewal batch
+@Component
+public class JdbcRenewalLeases implements RenewalLeases {
+    private static final Timestamp NEVER = Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0));
+
+    private final JdbcTemplate jdbc;
+    private volatile boolean seeded;
+
+    public JdbcRenewalLeases(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public List<RenewalLease> list() {
+        if (!seeded) {
+            seed();
+        }
+        return jdbc.query("select shard, owner, expires_at from renewal_leases order by shard",
+                (row, i) -> new RenewalLease(row.getInt(1), row.getString(2),
+                        row.getTimestamp(3).toLocalDateTime()));
+    }
+
+    // Nodes starting at the same time may both insert a shard; the loser just moves on
+    private void seed() {
+        Set<Integer> existing = new HashSet<>(jdbc.queryForList("select shard from renewal_leases", Integer.class));
+        for (int shard = 0; shard < Subscription.SHARDS; shard++) {
+            if (existing.contains(shard)) {
+                continue;
+            }
+            try {
+                jdbc.update("insert into renewal_leases (shard, owner, expires_at) values (?, null, ?)", shard, NEVER);
+            } catch (DuplicateKeyException e) {
+                // Seeded concurrently by another node
+            }
+        }
+        seeded = true;
+    }
+
+    // Only the node itself writes its row; rows of nodes gone for a day are cleared on the way
+    @Override
+    public void heartbeat(String node, LocalDateTime expiresAt) {
+        Timestamp until = Timestamp.valueOf(expiresAt);
+        if (jdbc.update("update renewal_nodes set expires_at = ? where node = ?", until, node) == 0) {
+            jdbc.update("insert into renewal_nodes (node, expires_at) values (?, ?)", node, until);
+        }
+        jdbc.update("delete from renewal_nodes where expires_at < ?", Timestamp.valueOf(expiresAt.minusDays(1)));
+    }
+
+    @Override
+    public Set<String> liveNodes(LocalDateTime now) {
+        return new HashSet<>(jdbc.queryForList("select node from renewal_nodes where expires_at > ?", String.class,
+                Timestamp.valueOf(now)));
+    }
+
+    @Override
+    public boolean tryAcquire(int shard, String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        return jdbc.update("""
+                        update renewal_leases set owner = ?, expires_at = ?
+                        where shard = ? and (owner is null or expires_at <= ?)""",
+                owner, Timestamp.valueOf(expiresAt), shard, Timestamp.valueOf(now)) == 1;
+    }
+
+    @Override
+    public int extend(String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        return jdbc.update("update renewal_leases set expires_at = ? where owner = ? and expires_at > ?",
+                Timestamp.valueOf(expiresAt), owner, Timestamp.valueOf(now));
+    }
+
+    @Override
+    public void release(int shard, String owner) {
+        jdbc.update("update renewal_leases set owner = null, expires_at = ? where shard = ? and owner = ?",
+                NEVER, shard, owner);
+    }
+
+    @Override
+    public void releaseAll(String owner) {
+        jdbc.update("update renewal_leases set owner = null, expires_at = ? where owner = ?", NEVER, owner);
+        jdbc.update("delete from renewal_nodes where node = ?", owner);
+    }
+}
@@ -0,0 +1,82 @@
+package com.medicalapp.api.infrastructure.tenancy;
+
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+// Command-line front end for PartitionMaintenance; the application exits once the command ran:
+//   --partitions=stats                      sizes of every partition, largest first
+//   --partitions=locate --organization=<id> partition holding the organization in each table
+//   --partitions=split --partition=<name>   split one partition (e.g. patients_m16_r03) in two
+// Run it with --spring.main.web-application-type=none so no server is started.
+@Component
+public class PartitionCommand implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(PartitionCommand.class);
+
+    private final PartitionMaintenance maintenance;
+    private final ConfigurableApplicationContext context;
+
+    public PartitionCommand(PartitionMaintenance maintenance, ConfigurableApplicationContext context) {
+        this.maintenance = maintenance;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String command = single(args, "partitions");
+        if (command == null) {
+            return;
+        }
+        int status = 0;
+        try {
+            switch (command) {
+                case "stats" -> maintenance.tables().stream().sorted().forEach(table -> print(maintenance.stats(table)));
+                case "locate" -> {
+                    UUID organizationId = UUID.fromString(required(args, "organization"));
+                    maintenance.tables().stream().sorted().forEach(table ->
+                            log.info("{}: {}", table, maintenance.partitionOf(table, organizationId)));
+                }
+                case "split" -> {
+                    String partition = required(args, "partition");
+                    String table = maintenance.tables().stream()
+                            .filter(candidate -> partition.startsWith(candidate + "_m"))
+                            .findFirst()
+                            .orElseThrow(() -> new IllegalArgumentException("Unknown partition: " + partition));
+                    print(maintenance.split(table, partition));
+                }
+                default -> throw new IllegalArgumentException("Unknown partitions command: " + command);
+            }
+        } catch (RuntimeException e) {
+            log.error("Partition command {} failed", command, e);
+            status = 1;
+        }
+        int exitCode = status;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+
+    private static void print(List<PartitionStats> partitions) {
+        for (PartitionStats partition : partitions) {
+            log.info("{} modulus={} remainder={} bytes={} rows~{}", partition.partition(), partition.modulus(),
+                    partition.remainder(), partition.bytes(), partition.rows());
+        }
+    }
+
+    private static String required(ApplicationArguments args, String name) {
+        String value = single(args, name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing --" + name);
+        }
+        return value;
+    }
+
+    private static String single(ApplicationArguments args, String name) {
+        List<String> values = args.getOptionValues(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+}
@@ -0,0 +1,114 @@
+package com.medicalapp.api.infrastructure.tenancy;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// Rebalancing for the hash-partitioned tenant tables (PostgreSQL only, see db/vendor/postgresql).
+// A hot partition is split into two at twice its modulus: it is detached, its replacements are
+// attached and its rows are routed back through the parent, all in one transaction. The parent is
+// locked exclusively meanwhile, so splits belong in a maintenance window.
+@Component
+public class PartitionMaintenance {
+    private static final Logger log = LoggerFactory.getLogger(PartitionMaintenance.class);
+    private static final Set<String> TABLES = Set.of("patients", "medical_records");
+    private static final Pattern BOUND = Pattern.compile("modulus (\\d+), remainder (\\d+)");
+
+    private final JdbcTemplate jdbc;
+
+    public PartitionMaintenance(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public Set<String> tables() {
+        return TABLES;
+    }
+
+    // Largest first
+    public List<PartitionStats> stats(String table) {
+        requirePartitioned(table);
+        return jdbc.query("""
+                select c.relname, pg_get_expr(c.relpartbound, c.oid), pg_total_relation_size(c.oid),
+                       greatest(c.reltuples, 0)::bigint
+                from pg_inherits i
+                join pg_class c on c.oid = i.inhrelid
+                join pg_class p on p.oid = i.inhparent
+                where p.relname = ? and p.relnamespace = current_schema()::regnamespace
+                order by 3 desc, c.relname
+                """, (rs, n) -> {
+            Matcher bound = bound(rs.getString(2));
+            return new PartitionStats(table, rs.getString(1), Integer.parseInt(bound.group(1)),
+                    Integer.parseInt(bound.group(2)), rs.getLong(3), rs.getLong(4));
+        }, table);
+    }
+
+    // Name of the partition holding an organization's rows of table
+    public String partitionOf(String table, UUID organizationId) {
+        return stats(table).stream()
+                .filter(partition -> Boolean.TRUE.equals(jdbc.queryForObject(
+                        "select satisfies_hash_partition(?::regclass, ?, ?, ?::uuid)", Boolean.class,
+                        table, partition.modulus(), partition.remainder(), organizationId)))
+                .map(PartitionStats::partition)
+                .findFirst()
+                .orElseThrow(() -> new NoSuchElementException("No partition of " + table + " accepts " + organizationId));
+    }
+
+    // Splits partition into <table>_m<2m>_r<r> and <table>_m<2m>_r<r+m>; returns the new partitions
+    @Transactional
+    public List<PartitionStats> split(String table, String partition) {
+        PartitionStats source = stats(table).stream()
+                .filter(candidate -> candidate.partition().equals(partition))
+                .findFirst()
+                .orElseThrow(() -> new NoSuchElementException("No partition " + partition + " of " + table));
+        int modulus = source.modulus() * 2;
+        List<Integer> remainders = List.of(source.remainder(), source.remainder() + source.modulus());
+        long started = System.nanoTime();
+        // Identifiers below are either whitelisted or read back from the catalog
+        jdbc.execute("lock table " + table + " in access exclusive mode");
+        jdbc.execute("alter table " + table + " detach partition " + partition);
+        for (int remainder : remainders) {
+            jdbc.execute("create table " + partitionName(table, modulus, remainder) + " partition of " + table
+                    + " for values with (modulus " + modulus + ", remainder " + remainder + ")");
+        }
+        int moved = jdbc.update("insert into " + table + " select * from " + partition);
+        jdbc.execute("drop table " + partition);
+        for (String created : remainders.stream().map(r -> partitionName(table, modulus, r)).toList()) {
+            jdbc.execute("analyze " + created);
+        }
+        log.info("Split {} into modulus {} remainders {}: {} rows moved in {} ms", partition, modulus, remainders,
+                moved, (System.nanoTime() - started) / 1_000_000);
+        return stats(table).stream().filter(stats -> stats.modulus() == modulus
+                && remainders.contains(stats.remainder())).toList();
+    }
+
+    static String partitionName(String table, int modulus, int remainder) {
+        return "%s_m%d_r%02d".formatted(table, modulus, remainder);
+    }
+
+    private void requirePartitioned(String table) {
+        if (!TABLES.contains(table)) {
+            throw new IllegalArgumentException("Not a partitioned tenant table: " + table);
+        }
+        String product = jdbc.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(product)) {
+            throw new IllegalStateException("Tenant tables are only partitioned on PostgreSQL, not " + product);
+        }
+    }
+
+    private static Matcher bound(String expression) {
+        Matcher matcher = BOUND.matcher(expression.toLowerCase());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Not a hash partition bound: " + expression);
+        }
+        return matcher;
+    }
+}
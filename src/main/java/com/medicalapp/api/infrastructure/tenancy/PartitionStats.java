@@ -0,0 +1,5 @@
+package com.medicalapp.api.infrastructure.tenancy;
+
+// One hash partition of a tenant table; rows is the planner's estimate from the last ANALYZE
+public record PartitionStats(String table, String partition, int modulus, int remainder, long bytes, long rows) {
+}
@@ -0,0 +1,16 @@
+package com.medicalapp.api.infrastructure.tenancy;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "medicalapp.tenancy")
+public record TenancyProperties(Integer maxTrackedTenants) {
+
+    public TenancyProperties {
+        if (maxTrackedTenants == null) {
+            maxTrackedTenants = 1000;
+        }
+        if (maxTrackedTenants < 1) {
+            throw new IllegalArgumentException("Max tracked tenants must be positive");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.medicalapp.api.infrastructure.tenancy;
+
+import java.time.Duration;
+import java.util.UUID;
+
+// Query latency of one organization; percentiles are upper bounds of power-of-two buckets
+public record TenantLatency(UUID organizationId, long queries, Duration total, Duration mean,
+                            Duration p99, Duration max) {
+}
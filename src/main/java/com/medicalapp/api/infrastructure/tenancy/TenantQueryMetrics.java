@@ -0,0 +1,123 @@
+package com.medicalapp.api.infrastructure.tenancy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// Latency of organization-scoped repository queries, kept per tenant so the few large
+// organizations that dominate load show up on their own instead of in a global average.
+// Only max-tracked-tenants organizations get their own entry; later ones share OTHER.
+@Component
+@EnableConfigurationProperties(TenancyProperties.class)
+public class TenantQueryMetrics {
+    public static final UUID OTHER = new UUID(0, 0);
+
+    // Bucket i counts queries under 2^(i+1) microseconds; the last one is open-ended
+    private static final int BUCKETS = 24;
+
+    private final int maxTrackedTenants;
+    private final Map<UUID, Latency> tenants = new ConcurrentHashMap<>();
+
+    public TenantQueryMetrics(TenancyProperties properties) {
+        this.maxTrackedTenants = properties.maxTrackedTenants();
+    }
+
+    public <T> T time(UUID organizationId, Supplier<T> query) {
+        long start = System.nanoTime();
+        try {
+            return query.get();
+        } finally {
+            record(organizationId, System.nanoTime() - start);
+        }
+    }
+
+    public void record(UUID organizationId, long nanos) {
+        latencyOf(organizationId).record(nanos);
+    }
+
+    public Optional<TenantLatency> latency(UUID organizationId) {
+        Latency latency = tenants.get(organizationId);
+        return latency == null ? Optional.empty() : Optional.of(latency.snapshot(organizationId));
+    }
+
+    // Tenants that spent the most time in queries, largest first
+    public List<TenantLatency> busiest(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        List<TenantLatency> all = new ArrayList<>(tenants.size());
+        tenants.forEach((id, latency) -> all.add(latency.snapshot(id)));
+        all.sort(Comparator.comparing(TenantLatency::total).reversed());
+        return all.size() <= limit ? all : List.copyOf(all.subList(0, limit));
+    }
+
+    public int getTrackedTenants() { return tenants.size(); }
+
+    private Latency latencyOf(UUID organizationId) {
+        Latency latency = tenants.get(organizationId);
+        if (latency != null) {
+            return latency;
+        }
+        // Racing first queries can overshoot the cap by a few entries, which is harmless
+        UUID key = organizationId != null && tenants.size() < maxTrackedTenants ? organizationId : OTHER;
+        return tenants.computeIfAbsent(key, id -> new Latency());
+    }
+
+    private static int bucketOf(long nanos) {
+        long micros = Math.max(1, nanos / 1_000);
+        return Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+    }
+
+    private static final class Latency {
+        private final LongAdder queries = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        void record(long nanos) {
+            queries.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            buckets.incrementAndGet(bucketOf(nanos));
+        }
+
+        TenantLatency snapshot(UUID organizationId) {
+            long count = queries.sum();
+            long total = totalNanos.sum();
+            long max = maxNanos.get();
+            Duration mean = count == 0 ? Duration.ZERO : Duration.ofNanos(total / count);
+            return new TenantLatency(organizationId, count, Duration.ofNanos(total), mean,
+                    percentile(0.99, max), Duration.ofNanos(max));
+        }
+
+        private Duration percentile(double quantile, long max) {
+            long[] counts = new long[BUCKETS];
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                count += counts[i];
+            }
+            long rank = (long) Math.ceil(quantile * count);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank && seen > 0) {
+                    long upper = i == BUCKETS - 1 ? max : (2_000L << i);
+                    return Duration.ofNanos(Math.min(upper, max));
+                }
+            }
+            return Duration.ZERO;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.medicalapp.api.infrastructure.threading;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "medicalapp.threads")
+public record ThreadingProperties(Boolean pinningDiagnostics, Duration pinningThreshold) {
+
+    public ThreadingProperties {
+        if (pinningDiagnostics == null) {
+            pinningDiagnostics = true;
+        }
+        if (pinningThreshold == null) {
+            pinningThreshold = Duration.ofMillis(20);
+        }
+        if (pinningThreshold.isNegative()) {
+            throw new IllegalArgumentException("Pinning threshold cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.medicalapp.api.infrastructure.threading;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+// A virtual thread that blocks while pinned (inside native code, or a synchronized block
+// before JDK 24) holds its carrier, so a handful of them serialize the whole scheduler.
+// Streams the JFR jdk.VirtualThreadPinned event while virtual threads are enabled and
+// logs where each pin above the threshold happened.
+@Component
+@EnableConfigurationProperties(ThreadingProperties.class)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final int REPORTED_FRAMES = 8;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final LongAccumulator maxPinnedNanos = new LongAccumulator(Math::max, 0);
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Environment environment, ThreadingProperties properties) {
+        this.enabled = Threading.VIRTUAL.isActive(environment) && properties.pinningDiagnostics();
+        this.threshold = properties.pinningThreshold();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::record);
+        stream.startAsync();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void record(RecordedEvent event) {
+        long nanos = event.getDuration().toNanos();
+        pinnedEvents.increment();
+        pinnedNanos.add(nanos);
+        maxPinnedNanos.accumulate(nanos);
+        if (log.isWarnEnabled()) {
+            log.warn("Virtual thread pinned its carrier for {} ms{}", nanos / 1_000_000, frames(event));
+        }
+    }
+
+    private static String frames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "";
+        }
+        StringBuilder trace = new StringBuilder();
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        for (int i = 0; i < Math.min(frames.size(), REPORTED_FRAMES); i++) {
+            RecordedFrame frame = frames.get(i);
+            trace.append("\n\tat ").append(frame.getMethod().getType().getName())
+                    .append('.').append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber());
+        }
+        return trace.toString();
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public long getPinnedEvents() { return pinnedEvents.sum(); }
+    public Duration getPinnedTime() { return Duration.ofNanos(pinnedNanos.sum()); }
+    public Duration getMaxPinnedTime() { return Duration.ofNanos(maxPinnedNanos.get()); }
+}
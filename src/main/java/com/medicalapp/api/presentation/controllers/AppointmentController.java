@@ -0,0 +1,69 @@
+package com.medicalapp.api.presentation.controllers;
+
+import com.medicalapp.api.application.scheduling.AvailableSlot;
+import com.medicalapp.api.application.scheduling.TimeSlot;
+import com.medicalapp.api.application.services.contracts.AppointmentServiceContract;
+import com.medicalapp.api.domain.queries.AppointmentSummary;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// Servlet mode; the reactive mode serves these routes from AppointmentHandler
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AppointmentController {
+    private final AppointmentServiceContract appointmentService;
+
+    public AppointmentController(AppointmentServiceContract appointmentService) {
+        this.appointmentService = appointmentService;
+    }
+
+    @PostMapping("/doctors/{doctorId}/appointments")
+    public ResponseEntity<AppointmentSummary> book(@PathVariable UUID doctorId,
+                                                   @RequestBody BookAppointmentRequest request) {
+        AppointmentSummary appointment = appointmentService.book(
+                doctorId, request.patientId(), request.startsAt(), request.endsAt());
+        return ResponseEntity.created(URI.create("/appointments/" + appointment.id())).body(appointment);
+    }
+
+    @DeleteMapping("/appointments/{appointmentId}")
+    public ResponseEntity<Void> cancel(@PathVariable UUID appointmentId) {
+        appointmentService.cancel(appointmentId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/doctors/{doctorId}/free-slots")
+    public List<TimeSlot> freeSlots(@PathVariable UUID doctorId,
+                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                    @RequestParam(defaultValue = "30") int minutes,
+                                    @RequestParam(defaultValue = "20") int limit) {
+        return appointmentService.findFreeSlots(doctorId, from, to, Duration.ofMinutes(minutes), limit);
+    }
+
+    @GetMapping("/organizations/{organizationId}/available-slots")
+    public List<AvailableSlot> earliestSlots(@PathVariable UUID organizationId,
+                                             @RequestParam(required = false) String specialty,
+                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                             @RequestParam(defaultValue = "30") int minutes,
+                                             @RequestParam(defaultValue = "20") int limit) {
+        return appointmentService.findEarliestSlots(organizationId, specialty, from, to, Duration.ofMinutes(minutes),
+                limit);
+    }
+
+    public record BookAppointmentRequest(UUID patientId, LocalDateTime startsAt, LocalDateTime endsAt) {
+    }
+}
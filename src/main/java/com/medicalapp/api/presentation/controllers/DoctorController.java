@@ -0,0 +1,35 @@
+package com.medicalapp.api.presentation.controllers;
+
+import com.medicalapp.api.application.services.contracts.DoctorServiceContract;
+import com.medicalapp.api.domain.entities.Doctor;
+import java.net.URI;
+import java.util.UUID;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class DoctorController {
+    private final DoctorServiceContract doctorService;
+
+    public DoctorController(DoctorServiceContract doctorService) {
+        this.doctorService = doctorService;
+    }
+
+    @PostMapping("/organizations/{organizationId}/doctors")
+    public ResponseEntity<DoctorResponse> register(@PathVariable UUID organizationId,
+                                                   @RequestBody RegisterDoctorRequest request) {
+        Doctor doctor = doctorService.register(organizationId, request.name(), request.specialty());
+        return ResponseEntity.created(URI.create("/doctors/" + doctor.getId()))
+                .body(new DoctorResponse(doctor.getId(), doctor.getOrganizationId(), doctor.getName(),
+                        doctor.getSpecialty()));
+    }
+
+    public record RegisterDoctorRequest(String name, String specialty) {
+    }
+
+    public record DoctorResponse(UUID id, UUID organizationId, String name, String specialty) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.medicalapp.api.presentation.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medicalapp.api.application.exports.ExportCheckpoint;
+import com.medicalapp.api.application.services.contracts.ClinicalExportServiceContract;
+import com.medicalapp.api.infrastructure.exports.NdjsonExportWriter;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// Servlet mode; the reactive mode serves the export from ExportHandler. The body is written while
+// the rows are read, in chunks, gzip-encoded when the client accepts it.
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ExportController {
+    private final ClinicalExportServiceContract exportService;
+    private final ObjectMapper objectMapper;
+
+    public ExportController(ClinicalExportServiceContract exportService, ObjectMapper objectMapper) {
+        this.exportService = exportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping(value = "/organizations/{organizationId}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable UUID organizationId,
+                                                        @RequestParam(required = false) String checkpoint,
+                                                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING,
+                                                                required = false) String acceptEncoding) {
+        // Decoded up front so a bad token is a 400 rather than a broken stream
+        ExportCheckpoint from = ExportCheckpoint.decode(checkpoint);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(output -> {
+            try (NdjsonExportWriter writer = new NdjsonExportWriter(objectMapper, output, gzip, flushed -> { })) {
+                exportService.export(organizationId, from, writer);
+            }
+        });
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,70 @@
+package com.medicalapp.api.presentation.controllers;
+
+import com.medicalapp.api.application.pagination.CursorPage;
+import com.medicalapp.api.application.search.MedicalRecordHit;
+import com.medicalapp.api.application.services.contracts.MedicalRecordServiceContract;
+import com.medicalapp.api.application.views.MedicalRecordDocument;
+import com.medicalapp.api.domain.queries.MedicalRecordSummary;
+import com.medicalapp.api.infrastructure.codec.MedicalRecordCodec;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// Servlet mode; the reactive mode serves these routes from MedicalRecordHandler
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MedicalRecordController {
+    private final MedicalRecordServiceContract medicalRecordService;
+
+    public MedicalRecordController(MedicalRecordServiceContract medicalRecordService) {
+        this.medicalRecordService = medicalRecordService;
+    }
+
+    // JSON by default, the compact binary form for clients that accept it
+    @GetMapping(value = "/medical-records/{medicalRecordId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MedicalRecordCodec.MEDIA_TYPE})
+    public MedicalRecordDocument get(@PathVariable UUID medicalRecordId) {
+        return medicalRecordService.getMedicalRecord(medicalRecordId);
+    }
+
+    @GetMapping("/patients/{patientId}/medical-records")
+    public CursorPage<MedicalRecordSummary> listByPatient(@PathVariable UUID patientId,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer limit) {
+        return medicalRecordService.listByPatient(patientId, cursor, limit);
+    }
+
+    @GetMapping("/doctors/{doctorId}/medical-records")
+    public CursorPage<MedicalRecordSummary> listByDoctor(@PathVariable UUID doctorId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer limit) {
+        return medicalRecordService.listByDoctor(doctorId, cursor, limit);
+    }
+
+    @GetMapping("/organizations/{organizationId}/medical-records/search")
+    public CursorPage<MedicalRecordHit> search(@PathVariable UUID organizationId,
+                                               @RequestParam("q") String query,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer limit) {
+        return medicalRecordService.search(organizationId, query, cursor, limit);
+    }
+
+    @PostMapping("/organizations/{organizationId}/medical-records/search-index/rebuild")
+    public ResponseEntity<SearchIndexRebuild> rebuildSearchIndex(@PathVariable UUID organizationId) {
+        int records = medicalRecordService.rebuildSearchIndex(organizationId);
+        if (records < 0) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(new SearchIndexRebuild(organizationId, records));
+    }
+
+    public record SearchIndexRebuild(UUID organizationId, int indexedRecords) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.medicalapp.api.presentation.controllers;
+
+import com.medicalapp.api.application.pagination.CursorPage;
+import com.medicalapp.api.application.services.contracts.PatientServiceContract;
+import com.medicalapp.api.application.views.PatientChart;
+import com.medicalapp.api.domain.queries.PatientSummary;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// Servlet mode; the reactive mode serves these routes from PatientHandler
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PatientController {
+    private final PatientServiceContract patientService;
+
+    public PatientController(PatientServiceContract patientService) {
+        this.patientService = patientService;
+    }
+
+    @GetMapping("/organizations/{organizationId}/patients")
+    public CursorPage<PatientSummary> listPatients(@PathVariable UUID organizationId,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer limit) {
+        return patientService.listPatients(organizationId, cursor, limit);
+    }
+
+    @GetMapping("/patients/{patientId}/chart")
+    public PatientChart getChart(@PathVariable UUID patientId) {
+        return patientService.getChart(patientId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.medicalapp.api.presentation.controllers;
+
+import com.medicalapp.api.application.revenue.RevenueTotal;
+import com.medicalapp.api.application.services.contracts.RevenueServiceContract;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class RevenueController {
+    private final RevenueServiceContract revenueService;
+
+    public RevenueController(RevenueServiceContract revenueService) {
+        this.revenueService = revenueService;
+    }
+
+    @GetMapping("/revenue/daily")
+    public List<RevenueTotal> dailyTotals(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                          @RequestParam(required = false) String currency) {
+        return revenueService.dailyTotals(from, to, currency);
+    }
+
+    @GetMapping("/revenue/totals")
+    public List<RevenueTotal> totals(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return revenueService.totals(from, to);
+    }
+
+    @GetMapping("/customers/{customerId}/revenue")
+    public List<RevenueTotal> customerTotals(@PathVariable UUID customerId,
+                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return revenueService.customerTotals(customerId, from, to);
+    }
+
+    @PostMapping("/revenue/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        revenueService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.medicalapp.api.presentation.handlers;
+
+import com.medicalapp.api.application.services.contracts.AppointmentServiceContract;
+import com.medicalapp.api.presentation.controllers.AppointmentController.BookAppointmentRequest;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+// Booking reserves the slot under the doctor's schedule lock before writing, and slot searches
+// read those schedules, so every route goes through AppointmentService on the blocking pool
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class AppointmentHandler {
+    private final AppointmentServiceContract appointmentService;
+
+    public AppointmentHandler(AppointmentServiceContract appointmentService) {
+        this.appointmentService = appointmentService;
+    }
+
+    public Mono<ServerResponse> book(ServerRequest request) {
+        UUID doctorId = Requests.uuid(request, "doctorId");
+        return request.bodyToMono(BookAppointmentRequest.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Request body is required")))
+                .flatMap(body -> Requests.blocking(() ->
+                        appointmentService.book(doctorId, body.patientId(), body.startsAt(), body.endsAt())))
+                .flatMap(appointment -> ServerResponse.created(URI.create("/appointments/" + appointment.id()))
+                        .bodyValue(appointment));
+    }
+
+    public Mono<ServerResponse> cancel(ServerRequest request) {
+        UUID appointmentId = Requests.uuid(request, "appointmentId");
+        return Requests.blocking(() -> {
+                    appointmentService.cancel(appointmentId);
+                    return appointmentId;
+                })
+                .flatMap(cancelled -> ServerResponse.noContent().build());
+    }
+
+    public Mono<ServerResponse> freeSlots(ServerRequest request) {
+        UUID doctorId = Requests.uuid(request, "doctorId");
+        LocalDateTime from = Requests.dateTime(request, "from");
+        LocalDateTime to = Requests.dateTime(request, "to");
+        Duration length = Duration.ofMinutes(Requests.intOrDefault(request, "minutes", 30));
+        int limit = Requests.intOrDefault(request, "limit", 20);
+        return Requests.blocking(() -> appointmentService.findFreeSlots(doctorId, from, to, length, limit))
+                .flatMap(slots -> ServerResponse.ok().bodyValue(slots));
+    }
+
+    public Mono<ServerResponse> earliestSlots(ServerRequest request) {
+        UUID organizationId = Requests.uuid(request, "organizationId");
+        String specialty = Requests.optional(request, "specialty");
+        LocalDateTime from = Requests.dateTime(request, "from");
+        LocalDateTime to = Requests.dateTime(request, "to");
+        Duration length = Duration.ofMinutes(Requests.intOrDefault(request, "minutes", 30));
+        int limit = Requests.intOrDefault(request, "limit", 20);
+        return Requests.blocking(() ->
+                        appointmentService.findEarliestSlots(organizationId, specialty, from, to, length, limit))
+                .flatMap(slots -> ServerResponse.ok().bodyValue(slots));
+    }
+}
@@ -0,0 +1,53 @@
+package com.medicalapp.api.presentation.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medicalapp.api.application.exports.ExportCheckpoint;
+import com.medicalapp.api.application.services.contracts.ClinicalExportServiceContract;
+import com.medicalapp.api.infrastructure.exports.NdjsonExportWriter;
+import com.medicalapp.api.presentation.controllers.ExportController;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// The JDBC export runs on the blocking pool and writes into an output stream that only hands a
+// buffer on when the connection asks for one, so a slow client stalls the cursor, not memory
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ExportHandler {
+    private final ClinicalExportServiceContract exportService;
+    private final ObjectMapper objectMapper;
+
+    public ExportHandler(ClinicalExportServiceContract exportService, ObjectMapper objectMapper) {
+        this.exportService = exportService;
+        this.objectMapper = objectMapper;
+    }
+
+    public Mono<ServerResponse> export(ServerRequest request) {
+        UUID organizationId = Requests.uuid(request, "organizationId");
+        ExportCheckpoint from = ExportCheckpoint.decode(Requests.optional(request, "checkpoint"));
+        boolean gzip = ExportController.acceptsGzip(request.headers().firstHeader(HttpHeaders.ACCEPT_ENCODING));
+        ServerResponse.BodyBuilder response = ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(BodyInserters.fromDataBuffers(DataBufferUtils.outputStreamPublisher(output -> {
+            try (NdjsonExportWriter writer = new NdjsonExportWriter(objectMapper, output, gzip, flushed -> { })) {
+                exportService.export(organizationId, from, writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, request.exchange().getResponse().bufferFactory(), Schedulers.boundedElastic()::schedule)));
+    }
+}
@@ -0,0 +1,90 @@
+package com.medicalapp.api.presentation.handlers;
+
+import com.medicalapp.api.application.pagination.CursorCodec;
+import com.medicalapp.api.application.services.contracts.MedicalRecordServiceContract;
+import com.medicalapp.api.application.views.MedicalRecordDocument;
+import com.medicalapp.api.infrastructure.codec.MedicalRecordCodec;
+import com.medicalapp.api.infrastructure.persistence.reactive.R2dbcMedicalRecordRepository;
+import com.medicalapp.api.presentation.controllers.MedicalRecordController.SearchIndexRebuild;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+// Listings come straight from R2DBC. Search and index rebuilds work on the in-memory index behind
+// MedicalRecordService, so they are handed to the blocking pool.
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class MedicalRecordHandler {
+    private static final MediaType BINARY = MediaType.parseMediaType(MedicalRecordCodec.MEDIA_TYPE);
+    private static final MediaType BINARY_STREAM = MediaType.parseMediaType(MedicalRecordCodec.STREAM_MEDIA_TYPE);
+
+    private final R2dbcMedicalRecordRepository medicalRecords;
+    private final MedicalRecordServiceContract medicalRecordService;
+
+    public MedicalRecordHandler(R2dbcMedicalRecordRepository medicalRecords,
+                                MedicalRecordServiceContract medicalRecordService) {
+        this.medicalRecords = medicalRecords;
+        this.medicalRecordService = medicalRecordService;
+    }
+
+    public Mono<ServerResponse> get(ServerRequest request) {
+        UUID medicalRecordId = Requests.uuid(request, "medicalRecordId");
+        return medicalRecords.fetchById(medicalRecordId)
+                .switchIfEmpty(Mono.error(() ->
+                        new NoSuchElementException("Medical record " + medicalRecordId + " not found")))
+                .flatMap(record -> ServerResponse.ok()
+                        .contentType(Requests.negotiate(request, MediaType.APPLICATION_JSON, BINARY))
+                        .bodyValue(MedicalRecordDocument.of(record)));
+    }
+
+    public Mono<ServerResponse> listByPatient(ServerRequest request) {
+        UUID patientId = Requests.uuid(request, "patientId");
+        return medicalRecords.fetchSummariesByPatient(patientId,
+                        CursorCodec.decode(Requests.optional(request, "cursor")),
+                        CursorCodec.clampLimit(Requests.optionalInt(request, "limit")))
+                .map(CursorCodec::toCursorPage)
+                .flatMap(page -> ServerResponse.ok().bodyValue(page));
+    }
+
+    public Mono<ServerResponse> listByDoctor(ServerRequest request) {
+        UUID doctorId = Requests.uuid(request, "doctorId");
+        return medicalRecords.fetchSummariesByDoctor(doctorId,
+                        CursorCodec.decode(Requests.optional(request, "cursor")),
+                        CursorCodec.clampLimit(Requests.optionalInt(request, "limit")))
+                .map(CursorCodec::toCursorPage)
+                .flatMap(page -> ServerResponse.ok().bodyValue(page));
+    }
+
+    // One JSON document per line, or one binary frame per record, written as the client reads;
+    // demand from the connection is what pulls the next page out of the database
+    public Mono<ServerResponse> streamByOrganization(ServerRequest request) {
+        UUID organizationId = Requests.uuid(request, "organizationId");
+        return ServerResponse.ok()
+                .contentType(Requests.negotiate(request, MediaType.APPLICATION_NDJSON, BINARY_STREAM))
+                .body(medicalRecords.streamByOrganization(organizationId).map(MedicalRecordDocument::of),
+                        MedicalRecordDocument.class);
+    }
+
+    public Mono<ServerResponse> search(ServerRequest request) {
+        UUID organizationId = Requests.uuid(request, "organizationId");
+        String query = request.queryParam("q").orElseThrow(() -> new IllegalArgumentException("Missing parameter q"));
+        String cursor = Requests.optional(request, "cursor");
+        Integer limit = Requests.optionalInt(request, "limit");
+        return Requests.blocking(() -> medicalRecordService.search(organizationId, query, cursor, limit))
+                .flatMap(page -> ServerResponse.ok().bodyValue(page));
+    }
+
+    public Mono<ServerResponse> rebuildSearchIndex(ServerRequest request) {
+        UUID organizationId = Requests.uuid(request, "organizationId");
+        return Requests.blocking(() -> medicalRecordService.rebuildSearchIndex(organizationId))
+                .flatMap(records -> records < 0
+                        ? ServerResponse.status(HttpStatus.CONFLICT).build()
+                        : ServerResponse.ok().bodyValue(new SearchIndexRebuild(organizationId, records)));
+    }
+}
@@ -0,0 +1,50 @@
+package com.medicalapp.api.presentation.handlers;
+
+import com.medicalapp.api.application.pagination.CursorCodec;
+import com.medicalapp.api.application.views.PatientChart;
+import com.medicalapp.api.domain.queries.PatientSummary;
+import com.medicalapp.api.infrastructure.persistence.reactive.R2dbcMedicalRecordRepository;
+import com.medicalapp.api.infrastructure.persistence.reactive.R2dbcPatientRepository;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+// Reactive counterpart of PatientController, answering from R2DBC without leaving the event loop
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class PatientHandler {
+    private static final int CHART_RECORDS = 20;
+
+    private final R2dbcPatientRepository patients;
+    private final R2dbcMedicalRecordRepository medicalRecords;
+
+    public PatientHandler(R2dbcPatientRepository patients, R2dbcMedicalRecordRepository medicalRecords) {
+        this.patients = patients;
+        this.medicalRecords = medicalRecords;
+    }
+
+    public Mono<ServerResponse> listPatients(ServerRequest request) {
+        UUID organizationId = Requests.uuid(request, "organizationId");
+        return patients.fetchSummariesByOrganization(organizationId,
+                        CursorCodec.decode(Requests.optional(request, "cursor")),
+                        CursorCodec.clampLimit(Requests.optionalInt(request, "limit")))
+                .map(CursorCodec::toCursorPage)
+                .flatMap(page -> ServerResponse.ok().bodyValue(page));
+    }
+
+    // Both queries go out together, as in PatientService
+    public Mono<ServerResponse> getChart(ServerRequest request) {
+        UUID patientId = Requests.uuid(request, "patientId");
+        return Mono.zip(
+                        patients.fetchById(patientId).switchIfEmpty(Mono.error(() ->
+                                new NoSuchElementException("Patient " + patientId + " not found"))),
+                        medicalRecords.fetchSummariesByPatient(patientId, null, CHART_RECORDS),
+                        (patient, records) -> new PatientChart(
+                                PatientSummary.of(patient), CursorCodec.toCursorPage(records)))
+                .flatMap(chart -> ServerResponse.ok().bodyValue(chart));
+    }
+}
@@ -0,0 +1,83 @@
+package com.medicalapp.api.presentation.handlers;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+
+import com.medicalapp.api.application.scheduling.AppointmentConflictException;
+import com.medicalapp.api.infrastructure.codec.MedicalRecordBinaryEncoder;
+import com.medicalapp.api.infrastructure.codec.MedicalRecordCodec;
+import java.time.format.DateTimeParseException;
+import java.util.NoSuchElementException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// Routes of the reactive mode (spring.profiles.active=reactive). They take precedence over the
+// annotated controllers; the ones left without a handler run on the blocking pool instead of
+// the event loop. Errors map to the same problem responses as ApiExceptionHandler.
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRoutes implements WebFluxConfigurer {
+
+    @Bean
+    public RouterFunction<ServerResponse> clinicalRoutes(PatientHandler patients, MedicalRecordHandler medicalRecords,
+                                                        AppointmentHandler appointments, ExportHandler exports) {
+        return RouterFunctions.route()
+                .GET("/organizations/{organizationId}/patients", patients::listPatients)
+                .GET("/patients/{patientId}/chart", patients::getChart)
+                .GET("/medical-records/{medicalRecordId}", medicalRecords::get)
+                .GET("/patients/{patientId}/medical-records", medicalRecords::listByPatient)
+                .GET("/doctors/{doctorId}/medical-records", medicalRecords::listByDoctor)
+                .GET("/organizations/{organizationId}/medical-records",
+                        accept(MediaType.APPLICATION_NDJSON, MediaType.parseMediaType(MedicalRecordCodec.STREAM_MEDIA_TYPE)),
+                        medicalRecords::streamByOrganization)
+                .GET("/organizations/{organizationId}/medical-records/search", medicalRecords::search)
+                .POST("/organizations/{organizationId}/medical-records/search-index/rebuild",
+                        medicalRecords::rebuildSearchIndex)
+                .POST("/doctors/{doctorId}/appointments", appointments::book)
+                .DELETE("/appointments/{appointmentId}", appointments::cancel)
+                .GET("/doctors/{doctorId}/free-slots", appointments::freeSlots)
+                .GET("/organizations/{organizationId}/available-slots", appointments::earliestSlots)
+                .GET("/organizations/{organizationId}/export", exports::export)
+                // Handlers also throw while parsing parameters, before any Mono exists
+                .filter((request, next) -> Mono.defer(() -> next.handle(request)).onErrorResume(ReactiveRoutes::problem))
+                .build();
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(new MedicalRecordBinaryEncoder());
+    }
+
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        configurer.setExecutor(new TaskExecutorAdapter(Schedulers.boundedElastic()::schedule));
+    }
+
+    private static Mono<ServerResponse> problem(Throwable error) {
+        HttpStatus status;
+        if (error instanceof AppointmentConflictException) {
+            status = HttpStatus.CONFLICT;
+        } else if (error instanceof NoSuchElementException) {
+            status = HttpStatus.NOT_FOUND;
+        } else if (error instanceof IllegalArgumentException || error instanceof DateTimeParseException) {
+            status = HttpStatus.BAD_REQUEST;
+        } else {
+            return Mono.error(error);
+        }
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .bodyValue(ProblemDetail.forStatusAndDetail(status, error.getMessage()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.medicalapp.api.presentation.handlers;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// Parameter parsing shared by the handlers; malformed values surface as IllegalArgumentException
+// and so as 400, like binding failures in the servlet controllers
+final class Requests {
+
+    private Requests() {
+    }
+
+    static UUID uuid(ServerRequest request, String variable) {
+        return UUID.fromString(request.pathVariable(variable));
+    }
+
+    static String optional(ServerRequest request, String name) {
+        return request.queryParam(name).orElse(null);
+    }
+
+    static Integer optionalInt(ServerRequest request, String name) {
+        return request.queryParam(name).map(Integer::valueOf).orElse(null);
+    }
+
+    static int intOrDefault(ServerRequest request, String name, int defaultValue) {
+        return request.queryParam(name).map(Integer::parseInt).orElse(defaultValue);
+    }
+
+    static LocalDateTime dateTime(ServerRequest request, String name) {
+        return LocalDateTime.parse(request.queryParam(name)
+                .orElseThrow(() -> new IllegalArgumentException("Missing parameter " + name)));
+    }
+
+    // Functional routes don't negotiate on their own: the produced type the client ranks highest,
+    // the first one when it accepts anything or none of them
+    static MediaType negotiate(ServerRequest request, MediaType... produced) {
+        List<MediaType> accepted = request.headers().accept().stream()
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .toList();
+        for (MediaType accept : accepted) {
+            for (MediaType candidate : produced) {
+                if (accept.includes(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+        return produced[0];
+    }
+
+    // Services and their repositories block, so they run on the bounded elastic pool, never on the event loop
+    static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,3 @@
+-- The Stripe customer holding a customer's saved cards, recorded on first attach. Set once and
+-- never changed; every instance reads it from here instead of Stripe's eventually consistent search.
+ALTER TABLE customers ADD COLUMN stripe_customer_id VARCHAR(255);
@@ -0,0 +1,3 @@
+-- The gateway's payment id (a Stripe PaymentIntent), recorded as soon as the gateway answers so a
+-- charge left processing is reconciled by id instead of being created again
+ALTER TABLE charges ADD COLUMN gateway_reference VARCHAR(255);
@@ -0,0 +1,15 @@
+-- Charge counts and amounts in minor units per day the charge was created, currency, status and
+-- customer. ChargeRepository moves a charge between status rows in the transaction that changes
+-- it, so every instance reads the same totals; the application fills the table from charges the
+-- first time it starts against it.
+CREATE TABLE revenue_rollups (
+    charge_date  DATE        NOT NULL,
+    currency     CHAR(3)     NOT NULL,
+    status       VARCHAR(16) NOT NULL,
+    customer_id  UUID        NOT NULL,
+    charges      BIGINT      NOT NULL,
+    amount_minor BIGINT      NOT NULL,
+    PRIMARY KEY (charge_date, currency, status, customer_id)
+);
+
+CREATE INDEX ix_revenue_rollups_customer_day ON revenue_rollups (customer_id, charge_date);
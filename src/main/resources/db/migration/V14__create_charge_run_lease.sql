@@ -0,0 +1,7 @@
+-- A single row naming the node walking the PENDING charges, created by the first node that asks
+-- for it; owner is null once released
+CREATE TABLE charge_run_lease (
+    id         SMALLINT    PRIMARY KEY,
+    owner      VARCHAR(64),
+    expires_at TIMESTAMP   NOT NULL
+);
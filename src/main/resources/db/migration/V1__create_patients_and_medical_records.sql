@@ -0,0 +1,38 @@
+CREATE TABLE patients (
+    id              UUID         PRIMARY KEY,
+    organization_id UUID         NOT NULL,
+    name            VARCHAR(100) NOT NULL,
+    ssn             CHAR(9)      NOT NULL,
+    date_of_birth   DATE         NOT NULL,
+    gender          VARCHAR(5)   NOT NULL,
+    address         VARCHAR(200) NOT NULL,
+    contact         VARCHAR(16)  NOT NULL,
+    created_at      TIMESTAMP    NOT NULL,
+    updated_at      TIMESTAMP    NOT NULL,
+    CONSTRAINT uk_patients_organization_ssn UNIQUE (organization_id, ssn)
+);
+
+CREATE TABLE medical_records (
+    id              UUID           PRIMARY KEY,
+    patient_id      UUID           NOT NULL,
+    organization_id UUID           NOT NULL,
+    doctor_id       UUID           NOT NULL,
+    diagnosis       VARCHAR(10000) NOT NULL,
+    treatment       TEXT,
+    notes           TEXT,
+    history_count   INTEGER        NOT NULL,
+    created_at      TIMESTAMP      NOT NULL,
+    updated_at      TIMESTAMP      NOT NULL
+);
+
+CREATE INDEX ix_medical_records_patient ON medical_records (patient_id);
+
+CREATE TABLE history_records (
+    id                UUID           PRIMARY KEY,
+    medical_record_id UUID           NOT NULL,
+    seq               INTEGER        NOT NULL,
+    action            VARCHAR(255)   NOT NULL,
+    details           VARCHAR(10000) NOT NULL,
+    recorded_at       TIMESTAMP      NOT NULL,
+    CONSTRAINT uk_history_records_position UNIQUE (medical_record_id, seq)
+);
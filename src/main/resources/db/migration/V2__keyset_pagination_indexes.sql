@@ -0,0 +1,6 @@
+-- Seek pagination walks (scope, created_at, id) in index order, so page depth doesn't matter
+CREATE INDEX ix_patients_organization_created ON patients (organization_id, created_at, id);
+
+DROP INDEX ix_medical_records_patient;
+CREATE INDEX ix_medical_records_patient_created ON medical_records (patient_id, created_at, id);
+CREATE INDEX ix_medical_records_doctor_created ON medical_records (doctor_id, created_at, id);
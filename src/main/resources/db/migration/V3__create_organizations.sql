@@ -0,0 +1,9 @@
+CREATE TABLE organizations (
+    id         UUID         PRIMARY KEY,
+    name       VARCHAR(100) NOT NULL,
+    address    VARCHAR(200) NOT NULL,
+    ein        CHAR(9)      NOT NULL,
+    created_at TIMESTAMP    NOT NULL,
+    updated_at TIMESTAMP    NOT NULL,
+    CONSTRAINT uk_organizations_ein UNIQUE (ein)
+);
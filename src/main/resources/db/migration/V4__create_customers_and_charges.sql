@@ -0,0 +1,23 @@
+CREATE TABLE customers (
+    id         UUID         PRIMARY KEY,
+    name       VARCHAR(100) NOT NULL,
+    email      VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP    NOT NULL,
+    updated_at TIMESTAMP    NOT NULL
+);
+
+CREATE TABLE charges (
+    id             UUID           PRIMARY KEY,
+    customer_id    UUID           NOT NULL,
+    amount         NUMERIC(19, 2) NOT NULL,
+    currency       CHAR(3)        NOT NULL,
+    description    VARCHAR(255),
+    payment_method VARCHAR(50)    NOT NULL,
+    status         VARCHAR(16)    NOT NULL,
+    created_at     TIMESTAMP      NOT NULL,
+    updated_at     TIMESTAMP      NOT NULL
+);
+
+-- The charge engine walks PENDING charges oldest first
+CREATE INDEX ix_charges_status_created ON charges (status, created_at, id);
+CREATE INDEX ix_charges_customer ON charges (customer_id);
@@ -0,0 +1,25 @@
+CREATE TABLE doctors (
+    id              UUID         PRIMARY KEY,
+    organization_id UUID         NOT NULL,
+    name            VARCHAR(100) NOT NULL,
+    specialty       VARCHAR(100) NOT NULL,
+    created_at      TIMESTAMP    NOT NULL,
+    updated_at      TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX ix_doctors_organization ON doctors (organization_id);
+
+CREATE TABLE appointments (
+    id         UUID        PRIMARY KEY,
+    doctor_id  UUID        NOT NULL,
+    patient_id UUID        NOT NULL,
+    starts_at  TIMESTAMP   NOT NULL,
+    ends_at    TIMESTAMP   NOT NULL,
+    status     VARCHAR(16) NOT NULL,
+    created_at TIMESTAMP   NOT NULL,
+    updated_at TIMESTAMP   NOT NULL
+);
+
+-- Loads a doctor's upcoming schedule into the booking index
+CREATE INDEX ix_appointments_doctor_status_ends ON appointments (doctor_id, status, ends_at);
+CREATE INDEX ix_appointments_patient ON appointments (patient_id);
@@ -0,0 +1,2 @@
+-- The search index rebuild walks each organization's records in (created_at, id) order
+CREATE INDEX ix_medical_records_organization_created ON medical_records (organization_id, created_at, id);
@@ -0,0 +1,34 @@
+CREATE TABLE subscriptions (
+    id               UUID           PRIMARY KEY,
+    customer_id      UUID           NOT NULL,
+    plan             VARCHAR(100)   NOT NULL,
+    amount           NUMERIC(19, 2) NOT NULL,
+    currency         CHAR(3)        NOT NULL,
+    payment_method   VARCHAR(50)    NOT NULL,
+    billing_interval VARCHAR(16)    NOT NULL,
+    status           VARCHAR(16)    NOT NULL,
+    starts_at        TIMESTAMP      NOT NULL,
+    renewals         INTEGER        NOT NULL,
+    next_renewal_at  TIMESTAMP      NOT NULL,
+    shard            SMALLINT       NOT NULL,
+    created_at       TIMESTAMP      NOT NULL,
+    updated_at       TIMESTAMP      NOT NULL
+);
+
+-- The renewal scheduler reads the upcoming window of the shards it owns, so a read touches
+-- only the rows due in that window however many subscriptions exist
+CREATE INDEX ix_subscriptions_status_shard_due ON subscriptions (status, shard, next_renewal_at, id);
+CREATE INDEX ix_subscriptions_customer ON subscriptions (customer_id);
+
+-- One row per shard, created by the first node that lists them; owner is null once released
+CREATE TABLE renewal_leases (
+    shard      SMALLINT    PRIMARY KEY,
+    owner      VARCHAR(64),
+    expires_at TIMESTAMP   NOT NULL
+);
+
+-- Heartbeats of the nodes taking part; each keeps about SHARDS / live nodes leases
+CREATE TABLE renewal_nodes (
+    node       VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMP   NOT NULL
+);
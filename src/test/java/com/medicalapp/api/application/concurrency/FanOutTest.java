@@ -0,0 +1,73 @@
+package com.medicalapp.api.application.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FanOutTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void subtasksRunConcurrently(boolean virtualThreads) {
+        FanOut fanOut = new FanOut(virtualThreads, 4);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Callable<Boolean> task = () -> {
+            bothStarted.countDown();
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        };
+
+        boolean overlapped = fanOut.both(task, task, (a, b) -> a && b);
+        assertThat(overlapped).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void firstFailureCancelsTheRestAndIsRethrown(boolean virtualThreads) {
+        FanOut fanOut = new FanOut(virtualThreads, 4);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        Callable<String> slow = () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+                return "late";
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+                throw e;
+            }
+        };
+        // A subtask that has not started when the other fails is skipped rather than cancelled
+        Callable<String> failing = () -> {
+            started.await(5, TimeUnit.SECONDS);
+            throw new IllegalArgumentException("boom");
+        };
+
+        assertThatThrownBy(() -> fanOut.all(List.of(slow, failing)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("boom");
+        assertThat(cancelled.getCount()).isZero();
+    }
+
+    @Test
+    void aSubtaskThatFindsThePoolBusyRunsOnTheCaller() {
+        FanOut fanOut = new FanOut(false, 1);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Callable<String> task = () -> {
+            bothStarted.countDown();
+            bothStarted.await(5, TimeUnit.SECONDS);
+            return Thread.currentThread().getName();
+        };
+
+        List<String> threads = fanOut.all(List.of(task, task));
+
+        assertThat(threads).containsExactly("fan-out-0", Thread.currentThread().getName());
+        fanOut.destroy();
+    }
+}
@@ -0,0 +1,117 @@
+package com.medicalapp.api.application.payments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.medicalapp.api.application.services.contracts.ChargeProcessingServiceContract;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ChargeSchedulerTest {
+    private static final ChargeRunReport EMPTY = new ChargeRunReport(0, 0, 0, 0, 0, 0, Duration.ZERO);
+
+    private final InMemoryLease lease = new InMemoryLease();
+
+    @Test
+    void onlyTheNodeHoldingTheLeaseWalksTheCharges() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        ChargeScheduler a = node("a", () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            await(release);
+            return EMPTY;
+        });
+        ChargeScheduler b = node("b", () -> {
+            runs.incrementAndGet();
+            return EMPTY;
+        });
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(a::runOnce);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(b.runOnce()).isFalse();
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(b.runOnce()).isTrue();
+        assertThat(runs).hasValue(2);
+        assertThat(lease.owner).isNull();
+    }
+
+    @Test
+    void aNodeThatLosesTheLeaseInterruptsItsRun() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ChargeScheduler a = node("a", () -> {
+            started.countDown();
+            try {
+                Thread.sleep(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return EMPTY;
+        });
+
+        CompletableFuture<Boolean> run = CompletableFuture.supplyAsync(a::runOnce);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        lease.takeOver("b");
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(run.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(lease.owner).isEqualTo("b");
+    }
+
+    private ChargeScheduler node(String id, ChargeProcessingServiceContract charges) {
+        return new ChargeScheduler(charges, lease,
+                new ChargeScheduleProperties(true, Duration.ofMinutes(1), Duration.ofMillis(30), id));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class InMemoryLease implements ChargeRunLease {
+        private volatile String owner;
+        private LocalDateTime expiresAt = LocalDateTime.MIN;
+
+        synchronized void takeOver(String owner) {
+            this.owner = owner;
+            this.expiresAt = LocalDateTime.MAX;
+        }
+
+        @Override
+        public synchronized boolean tryAcquire(String owner, LocalDateTime now, LocalDateTime expiresAt) {
+            if (this.owner != null && this.expiresAt.isAfter(now)) {
+                return false;
+            }
+            this.owner = owner;
+            this.expiresAt = expiresAt;
+            return true;
+        }
+
+        @Override
+        public synchronized boolean extend(String owner, LocalDateTime now, LocalDateTime expiresAt) {
+            if (!owner.equals(this.owner) || !this.expiresAt.isAfter(now)) {
+                return false;
+            }
+            this.expiresAt = expiresAt;
+            return true;
+        }
+
+        @Override
+        public synchronized void release(String owner) {
+            if (owner.equals(this.owner)) {
+                this.owner = null;
+            }
+        }
+    }
+}
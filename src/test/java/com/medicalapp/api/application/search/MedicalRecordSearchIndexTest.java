@@ -0,0 +1,166 @@
+package com.medicalapp.api.application.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.medicalapp.api.application.pagination.CursorPage;
+import com.medicalapp.api.domain.contracts.MMedicalRecordRepositoryContract;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.domain.events.MedicalRecordTextChanged;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.KeysetPage;
+import com.medicalapp.api.domain.queries.MedicalRecordSummary;
+import com.medicalapp.api.domain.queries.MedicalRecordText;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MedicalRecordSearchIndexTest {
+    private final UUID organizationId = UUID.randomUUID();
+    private final InMemoryRecords records = new InMemoryRecords();
+    private final MedicalRecordSearchIndex index = new MedicalRecordSearchIndex(records,
+            new SearchProperties(false, 2, Duration.ZERO));
+
+    @Test
+    void ranksRecordsMatchingMoreTermsFirstAndPagesWithoutRepeats() {
+        MedicalRecord both = save(MedicalRecord.create(UUID.randomUUID(), organizationId, UUID.randomUUID(),
+                "Acute myocardial infarction"));
+        save(MedicalRecord.create(UUID.randomUUID(), organizationId, UUID.randomUUID(), "Myocardial ischemia"));
+        MedicalRecord noted = MedicalRecord.create(UUID.randomUUID(), organizationId, UUID.randomUUID(),
+                "Chest pain");
+        noted.updateNotes("Rule out infarction");
+        save(noted);
+        save(MedicalRecord.create(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                "Myocardial infarction in another clinic"));
+
+        CursorPage<MedicalRecordHit> first = index.search(organizationId, "myocardial INFARCTION", null, 1);
+        assertThat(first.items()).extracting(MedicalRecordHit::id).containsExactly(both.getId());
+
+        List<UUID> seen = new ArrayList<>(List.of(both.getId()));
+        String cursor = first.nextCursor();
+        while (cursor != null) {
+            CursorPage<MedicalRecordHit> page = index.search(organizationId, "myocardial infarction", cursor, 1);
+            page.items().forEach(hit -> seen.add(hit.id()));
+            cursor = page.nextCursor();
+        }
+        assertThat(seen).hasSize(3).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void updatesReplaceOldTextAndStaleSnapshotsAreIgnored() {
+        MedicalRecord record = save(MedicalRecord.create(UUID.randomUUID(), organizationId, UUID.randomUUID(),
+                "Seasonal allergies"));
+        MedicalRecordTextChanged stale = new MedicalRecordTextChanged(record.getId(), organizationId,
+                "Seasonal allergies", "antihistamines", null, record.getUpdatedAt().minusMinutes(1));
+
+        record.updateTreatment("Amoxicillin for pneumonia");
+        save(record);
+        index.on(stale);
+
+        assertThat(index.search(organizationId, "pneumonia", null, 10).items()).hasSize(1);
+        assertThat(index.search(organizationId, "antihistamines", null, 10).items()).isEmpty();
+        record.updateTreatment("Rest");
+        save(record);
+        assertThat(index.search(organizationId, "pneumonia", null, 10).items()).isEmpty();
+    }
+
+    @Test
+    void rebuildIndexesStoredRecordsWithFoldedAccents() {
+        MedicalRecord stored = MedicalRecord.create(UUID.randomUUID(), organizationId, UUID.randomUUID(),
+                "Pneumonía bacteriana");
+        stored.pullEvents(stored.getUpdatedAt());
+        records.save(stored);
+        for (int i = 0; i < 4; i++) {
+            MedicalRecord filler = MedicalRecord.create(UUID.randomUUID(), organizationId, UUID.randomUUID(),
+                    "Routine check " + i);
+            filler.pullEvents(filler.getUpdatedAt());
+            records.save(filler);
+        }
+        assertThat(index.search(organizationId, "pneumonia", null, 10).items()).isEmpty();
+
+        assertThat(index.rebuild(organizationId)).isEqualTo(5);
+
+        assertThat(index.search(organizationId, "PNEUMONIA", null, 10).items())
+                .extracting(MedicalRecordHit::id)
+                .containsExactly(stored.getId());
+    }
+
+    // Stands in for the repository plus the after-commit listener
+    private MedicalRecord save(MedicalRecord record) {
+        records.save(record);
+        record.pullEvents(record.getUpdatedAt()).forEach(index::on);
+        return record;
+    }
+
+    private static final class InMemoryRecords implements MMedicalRecordRepositoryContract {
+        private final Map<UUID, MedicalRecord> rows = new LinkedHashMap<>();
+
+        @Override
+        public MedicalRecord save(MedicalRecord medicalRecord) {
+            rows.put(medicalRecord.getId(), medicalRecord);
+            return medicalRecord;
+        }
+
+        @Override
+        public void saveAll(Collection<MedicalRecord> medicalRecords) {
+            medicalRecords.forEach(this::save);
+        }
+
+        @Override
+        public Optional<MedicalRecord> findById(UUID id) {
+            return Optional.ofNullable(rows.get(id));
+        }
+
+        @Override
+        public List<MedicalRecord> findByPatientId(UUID patientId) {
+            return rows.values().stream().filter(record -> record.getPatientId().equals(patientId)).toList();
+        }
+
+        @Override
+        public KeysetPage<MedicalRecordSummary> findSummariesByPatient(UUID patientId, Keyset after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public KeysetPage<MedicalRecordSummary> findSummariesByDoctor(UUID doctorId, Keyset after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<MedicalRecordSummary> findSummariesByIds(UUID organizationId, Collection<UUID> ids) {
+            return ids.stream()
+                    .map(rows::get)
+                    .filter(record -> record != null && record.getOrganizationId().equals(organizationId))
+                    .map(record -> new MedicalRecordSummary(record.getId(), record.getPatientId(),
+                            record.getOrganizationId(), record.getDoctorId(), record.getDiagnosis(),
+                            record.getCreatedAt(), record.getUpdatedAt()))
+                    .toList();
+        }
+
+        @Override
+        public KeysetPage<MedicalRecordText> findTextsByOrganization(UUID organizationId, Keyset after, int limit) {
+            Comparator<Keyset> order = Comparator.comparing(Keyset::createdAt).thenComparing(Keyset::id);
+            List<MedicalRecordText> texts = rows.values().stream()
+                    .filter(record -> record.getOrganizationId().equals(organizationId))
+                    .map(record -> new MedicalRecordText(record.getId(), record.getOrganizationId(),
+                            record.getDiagnosis(), record.getTreatment(), record.getNotes(),
+                            record.getCreatedAt(), record.getUpdatedAt()))
+                    .filter(text -> after == null || order.compare(text.keyset(), after) > 0)
+                    .sorted(Comparator.comparing(MedicalRecordText::keyset, order))
+                    .limit(limit + 1L)
+                    .toList();
+            return KeysetPage.of(texts, limit, MedicalRecordText::keyset);
+        }
+
+        @Override
+        public List<UUID> findOrganizationIds() {
+            return rows.values().stream().map(MedicalRecord::getOrganizationId).distinct().toList();
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.medicalapp.api.application.services.implementations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.medicalapp.api.application.concurrency.FanOut;
+import com.medicalapp.api.application.concurrency.FanOutProperties;
+import com.medicalapp.api.application.scheduling.AppointmentConflictException;
+import com.medicalapp.api.application.scheduling.AvailableSlot;
+import com.medicalapp.api.application.scheduling.ScheduleIndex;
+import com.medicalapp.api.application.scheduling.SchedulingProperties;
+import com.medicalapp.api.application.scheduling.TimeSlot;
+import com.medicalapp.api.domain.contracts.AppointmentRepositoryContract;
+import com.medicalapp.api.domain.contracts.DoctorRepositoryContract;
+import com.medicalapp.api.domain.contracts.PatientRepositoryContract;
+import com.medicalapp.api.domain.entities.Appointment;
+import com.medicalapp.api.domain.entities.Doctor;
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.KeysetPage;
+import com.medicalapp.api.domain.queries.PatientSummary;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class AppointmentServiceTest {
+    private static final LocalDateTime MORNING = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.DAYS)
+            .plusHours(9);
+
+    private final UUID organizationId = UUID.randomUUID();
+    private final InMemoryAppointments appointments = new InMemoryAppointments();
+    private final Map<UUID, Doctor> doctors = new ConcurrentHashMap<>();
+    private final InMemoryPatients patients = new InMemoryPatients();
+    private final AppointmentService service = instance(new SchedulingProperties(null, null));
+    // A second instance over the same database, with schedules of its own
+    private final AppointmentService otherInstance = instance(new SchedulingProperties(null, null));
+
+    @Test
+    void concurrentOverlappingBookingsNeverDoubleBookADoctorAcrossInstances() throws Exception {
+        UUID doctorId = doctor();
+        UUID patientId = patient();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                LocalDateTime startsAt = MORNING.plusMinutes(ThreadLocalRandom.current().nextInt(0, 240));
+                LocalDateTime endsAt = startsAt.plusMinutes(ThreadLocalRandom.current().nextInt(15, 46));
+                AppointmentService instance = i % 2 == 0 ? service : otherInstance;
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        instance.book(doctorId, patientId, startsAt, endsAt);
+                        return true;
+                    } catch (AppointmentConflictException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        long booked = 0;
+        for (Future<Boolean> attempt : attempts) {
+            boolean succeeded = attempt.get();
+            booked += succeeded ? 1 : 0;
+        }
+        List<Appointment> stored = appointments.findScheduledByDoctorId(doctorId, MORNING.minusDays(1));
+        assertThat(stored).hasSize((int) booked).isNotEmpty();
+        for (int i = 1; i < stored.size(); i++) {
+            assertThat(stored.get(i).getStartsAt()).isAfterOrEqualTo(stored.get(i - 1).getEndsAt());
+        }
+    }
+
+    @Test
+    void sameSlotWithDifferentDoctorsAllSucceed() throws Exception {
+        UUID patientId = patient();
+        List<UUID> doctorIds = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            doctorIds.add(doctor());
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (UUID doctorId : doctorIds) {
+                executor.submit(() -> service.book(doctorId, patientId, MORNING, MORNING.plusMinutes(30)));
+            }
+        }
+
+        for (UUID doctorId : doctorIds) {
+            assertThat(appointments.findScheduledByDoctorId(doctorId, MORNING)).hasSize(1);
+        }
+    }
+
+    @Test
+    void freeSlotsSkipBookingsAndCancelledOrUnsavedSlotsAreFreedAgain() {
+        UUID doctorId = doctor();
+        UUID patientId = patient();
+        service.book(doctorId, patientId, MORNING, MORNING.plusMinutes(30));
+        UUID cancelled = service.book(doctorId, patientId, MORNING.plusMinutes(30), MORNING.plusMinutes(60)).id();
+        service.book(doctorId, patientId, MORNING.plusMinutes(60), MORNING.plusMinutes(120));
+
+        service.cancel(cancelled);
+        appointments.failWrites.set(true);
+        assertThatThrownBy(() -> service.book(doctorId, patientId, MORNING.plusHours(2), MORNING.plusHours(3)))
+                .isInstanceOf(IllegalStateException.class);
+        appointments.failWrites.set(false);
+
+        assertThat(service.findFreeSlots(doctorId, MORNING, MORNING.plusHours(3), Duration.ofMinutes(30), 10))
+                .containsExactly(
+                        new TimeSlot(MORNING.plusMinutes(30), MORNING.plusMinutes(60)),
+                        new TimeSlot(MORNING.plusHours(2), MORNING.plusMinutes(150)),
+                        new TimeSlot(MORNING.plusMinutes(150), MORNING.plusHours(3)));
+        assertThatThrownBy(() -> service.book(doctorId, patientId, MORNING.plusMinutes(90), MORNING.plusHours(2)))
+                .isInstanceOf(AppointmentConflictException.class);
+        assertThatThrownBy(() -> service.cancel(cancelled)).isInstanceOf(AppointmentConflictException.class);
+    }
+
+    @Test
+    void bookingsAndCancellationsOfAnotherInstanceReachThisOneAndSchedulesStayBounded() {
+        UUID doctorId = doctor();
+        UUID patientId = patient();
+        assertThat(service.findFreeSlots(doctorId, MORNING, MORNING.plusHours(1), Duration.ofMinutes(30), 10))
+                .hasSize(2);
+        UUID booked = otherInstance.book(doctorId, patientId, MORNING, MORNING.plusMinutes(30)).id();
+
+        // This instance's schedule still shows the slot free, but the database refuses it
+        assertThatThrownBy(() -> service.book(doctorId, patientId, MORNING, MORNING.plusMinutes(30)))
+                .isInstanceOf(AppointmentConflictException.class);
+        assertThat(service.findFreeSlots(doctorId, MORNING, MORNING.plusHours(1), Duration.ofMinutes(30), 10))
+                .containsExactly(new TimeSlot(MORNING.plusMinutes(30), MORNING.plusHours(1)));
+
+        otherInstance.cancel(booked);
+        ScheduleIndex bounded = new ScheduleIndex(appointments, new SchedulingProperties(Duration.ofNanos(1), 2));
+        AppointmentService shortLived = instance(bounded);
+        assertThat(shortLived.book(doctorId, patientId, MORNING, MORNING.plusMinutes(30))).isNotNull();
+        for (int i = 0; i < 5; i++) {
+            shortLived.findFreeSlots(doctor(), MORNING, MORNING.plusHours(1), Duration.ofMinutes(30), 10);
+        }
+        assertThat(bounded.size()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void earliestSlotsMergeEveryMatchingDoctorOfTheOrganization() {
+        UUID patientId = patient();
+        UUID freeCardiologist = doctor("Cardiology");
+        UUID dermatologist = doctor("Dermatology");
+        for (int i = 0; i < 40; i++) {
+            service.book(doctor("Cardiology"), patientId, MORNING, MORNING.plusMinutes(40));
+        }
+
+        List<AvailableSlot> slots = service.findEarliestSlots(organizationId, "cardiology", MORNING,
+                MORNING.plusHours(3), Duration.ofMinutes(30), 5);
+
+        assertThat(slots).hasSize(5);
+        assertThat(slots.get(0)).isEqualTo(new AvailableSlot(freeCardiologist, "Dr. House", MORNING,
+                MORNING.plusMinutes(30)));
+        assertThat(slots.get(1).doctorId()).isEqualTo(freeCardiologist);
+        assertThat(slots.get(1).startsAt()).isEqualTo(MORNING.plusMinutes(30));
+        assertThat(slots.subList(2, 5)).allSatisfy(slot -> {
+            assertThat(slot.startsAt()).isEqualTo(MORNING.plusMinutes(45));
+            assertThat(doctors.get(slot.doctorId()).getSpecialty()).isEqualTo("Cardiology");
+        });
+        assertThat(slots.subList(2, 5)).extracting(AvailableSlot::doctorId).doesNotHaveDuplicates();
+        assertThat(service.findEarliestSlots(organizationId, null, MORNING, MORNING.plusHours(3),
+                        Duration.ofMinutes(30), 2))
+                .extracting(AvailableSlot::doctorId)
+                .containsExactlyInAnyOrder(freeCardiologist, dermatologist);
+    }
+
+    private AppointmentService instance(SchedulingProperties properties) {
+        return instance(new ScheduleIndex(appointments, properties));
+    }
+
+    private AppointmentService instance(ScheduleIndex scheduleIndex) {
+        return new AppointmentService(appointments, new InMemoryDoctors(doctors), patients, scheduleIndex,
+                new FanOut(new MockEnvironment(), new FanOutProperties(null)));
+    }
+
+    private UUID doctor() {
+        return doctor("Diagnostics");
+    }
+
+    private UUID doctor(String specialty) {
+        Doctor doctor = new Doctor(organizationId, "Dr. House", specialty);
+        doctors.put(doctor.getId(), doctor);
+        return doctor.getId();
+    }
+
+    private UUID patient() {
+        return patients.save(Patient.create(organizationId, "Jane Roe", SSN.of("123-45-6781"),
+                LocalDate.of(1980, 1, 1), "F", "1 Main St", "5551234567")).getId();
+    }
+
+    private record InMemoryDoctors(Map<UUID, Doctor> doctors) implements DoctorRepositoryContract {
+        @Override
+        public Doctor save(Doctor doctor) {
+            doctors.put(doctor.getId(), doctor);
+            return doctor;
+        }
+
+        @Override
+        public Optional<Doctor> findById(UUID id) {
+            return Optional.ofNullable(doctors.get(id));
+        }
+
+        @Override
+        public List<Doctor> findByOrganizationId(UUID organizationId) {
+            return doctors.values().stream()
+                    .filter(doctor -> doctor.getOrganizationId().equals(organizationId))
+                    .toList();
+        }
+    }
+
+    private static final class InMemoryAppointments implements AppointmentRepositoryContract {
+        private final Map<UUID, Appointment> rows = new ConcurrentHashMap<>();
+        private final AtomicBoolean failWrites = new AtomicBoolean();
+
+        @Override
+        public Appointment save(Appointment appointment) {
+            if (failWrites.get()) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            rows.put(appointment.getId(), appointment);
+            return appointment;
+        }
+
+        // Serialized like the doctor's row lock would
+        @Override
+        public synchronized boolean saveIfFree(Appointment appointment) {
+            boolean taken = rows.values().stream()
+                    .filter(row -> row.getDoctorId().equals(appointment.getDoctorId()) && row.isScheduled())
+                    .anyMatch(row -> row.getStartsAt().isBefore(appointment.getEndsAt())
+                            && row.getEndsAt().isAfter(appointment.getStartsAt()));
+            if (taken) {
+                return false;
+            }
+            save(appointment);
+            return true;
+        }
+
+        @Override
+        public Optional<Appointment> findById(UUID id) {
+            return Optional.ofNullable(rows.get(id));
+        }
+
+        @Override
+        public List<Appointment> findScheduledByDoctorId(UUID doctorId, LocalDateTime endingAfter) {
+            return rows.values().stream()
+                    .filter(appointment -> appointment.getDoctorId().equals(doctorId))
+                    .filter(Appointment::isScheduled)
+                    .filter(appointment -> appointment.getEndsAt().isAfter(endingAfter))
+                    .sorted(Comparator.comparing(Appointment::getStartsAt))
+                    .toList();
+        }
+
+        @Override
+        public List<Appointment> findScheduledByDoctorIds(Collection<UUID> doctorIds, LocalDateTime endingAfter) {
+            return doctorIds.stream()
+                    .flatMap(doctorId -> findScheduledByDoctorId(doctorId, endingAfter).stream())
+                    .toList();
+        }
+    }
+
+    private static final class InMemoryPatients implements PatientRepositoryContract {
+        private final Map<UUID, Patient> rows = new ConcurrentHashMap<>();
+
+        @Override
+        public Patient save(Patient patient) {
+            rows.put(patient.getId(), patient);
+            return patient;
+        }
+
+        @Override
+        public void saveAll(Collection<Patient> patients) {
+            patients.forEach(this::save);
+        }
+
+        @Override
+        public Optional<Patient> findById(UUID id) {
+            return Optional.ofNullable(rows.get(id));
+        }
+
+        @Override
+        public Map<UUID, String> findNamesByIds(Collection<UUID> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Patient> findBySsn(UUID organizationId, SSN ssn) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Set<SSN> findExistingSsns(UUID organizationId, Collection<SSN> ssns) {
+            return Set.of();
+        }
+
+        @Override
+        public KeysetPage<PatientSummary> findSummariesByOrganization(UUID organizationId, Keyset after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
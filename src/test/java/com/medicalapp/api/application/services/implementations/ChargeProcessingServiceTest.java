@@ -0,0 +1,261 @@
+package com.medicalapp.api.application.services.implementations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.medicalapp.api.application.payments.ChargeEngineMetrics;
+import com.medicalapp.api.application.payments.ChargeEngineProperties;
+import com.medicalapp.api.application.payments.ChargeRequest;
+import com.medicalapp.api.application.payments.ChargeRunReport;
+import com.medicalapp.api.application.payments.GatewayResult;
+import com.medicalapp.api.application.payments.PaymentGateway;
+import com.medicalapp.api.application.payments.PaymentGatewayException;
+import com.medicalapp.api.domain.contracts.ChargeRepositoryContract;
+import com.medicalapp.api.domain.entities.Charge;
+import com.medicalapp.api.domain.entities.Customer;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.RevenueBucket;
+import com.medicalapp.api.domain.valueobjects.ChargeStatus;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class ChargeProcessingServiceTest {
+
+    private final InMemoryCharges repository = new InMemoryCharges();
+    private final RecordingGateway gateway = new RecordingGateway();
+    private final ChargeProcessingService service = new ChargeProcessingService(repository, gateway,
+            new ChargeEngineProperties(4, 7, 5, 3, Duration.ofMillis(1), Duration.ofMillis(4)),
+            new ChargeEngineMetrics(), new MockEnvironment());
+
+    @Test
+    void chargesEveryPendingChargeOncePerCustomerInCreationOrder() {
+        List<Customer> customers = List.of(customer("a"), customer("b"), customer("c"));
+        for (int i = 0; i < 30; i++) {
+            repository.add(charge(customers.get(i % 3), i, "pm_card_visa"));
+        }
+        repository.add(charge(customers.get(0), 30, "pm_card_chargeDeclined"));
+
+        ChargeRunReport report = service.processPending();
+
+        assertThat(report.chargesSucceeded()).isEqualTo(30);
+        assertThat(report.chargesFailed()).isEqualTo(1);
+        assertThat(repository.stored.values()).extracting(Charge::getStatus).doesNotContain(ChargeStatus.PENDING);
+        assertThat(repository.statusBatches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(5));
+        for (Customer customer : customers) {
+            List<LocalDateTime> order = gateway.calls.stream()
+                    .filter(call -> call.customerId().equals(customer.getId()))
+                    .map(call -> repository.stored.get(chargeId(call)).getCreatedAt())
+                    .toList();
+            assertThat(order).isSorted();
+        }
+    }
+
+    @Test
+    void transientFailuresAreRetriedWithTheSameIdempotencyKey() {
+        Customer customer = customer("a");
+        Charge flaky = charge(customer, 0, "pm_card_visa");
+        Charge next = charge(customer, 1, "pm_card_visa");
+        repository.add(flaky);
+        repository.add(next);
+        gateway.failuresBeforeSuccess.put(flaky.getIdempotencyKey(), new AtomicInteger(2));
+
+        ChargeRunReport report = service.processPending();
+
+        assertThat(report.retries()).isEqualTo(2);
+        assertThat(gateway.calls).extracting(ChargeRequest::idempotencyKey)
+                .containsExactly(flaky.getIdempotencyKey(), flaky.getIdempotencyKey(), flaky.getIdempotencyKey(),
+                        next.getIdempotencyKey());
+        assertThat(repository.stored.get(flaky.getId()).getStatus()).isEqualTo(ChargeStatus.SUCCEEDED);
+    }
+
+    @Test
+    void exhaustedRetriesLeaveTheCustomersRemainingChargesPending() {
+        Customer customer = customer("a");
+        Charge stuck = charge(customer, 0, "pm_card_visa");
+        Charge later = charge(customer, 1, "pm_card_visa");
+        repository.add(stuck);
+        repository.add(later);
+        gateway.failuresBeforeSuccess.put(stuck.getIdempotencyKey(), new AtomicInteger(10));
+
+        ChargeRunReport report = service.processPending();
+
+        assertThat(report.chargesLeftPending()).isEqualTo(2);
+        assertThat(gateway.calls).extracting(ChargeRequest::idempotencyKey).doesNotContain(later.getIdempotencyKey());
+        assertThat(repository.stored.get(later.getId()).getStatus()).isEqualTo(ChargeStatus.PENDING);
+    }
+
+    @Test
+    void aChargeLeftPendingHoldsBackTheCustomersChargesOnLaterPages() {
+        Customer stuckCustomer = customer("a");
+        Customer other = customer("b");
+        Charge stuck = charge(stuckCustomer, 0, "pm_card_visa");
+        repository.add(stuck);
+        for (int i = 1; i <= 8; i++) {
+            repository.add(charge(other, i, "pm_card_visa"));
+        }
+        Charge nextPage = charge(stuckCustomer, 20, "pm_card_visa");
+        repository.add(nextPage);
+        gateway.failuresBeforeSuccess.put(stuck.getIdempotencyKey(), new AtomicInteger(10));
+
+        ChargeRunReport report = service.processPending();
+
+        assertThat(report.chargesSucceeded()).isEqualTo(8);
+        assertThat(report.chargesLeftPending()).isEqualTo(2);
+        assertThat(gateway.calls).extracting(ChargeRequest::idempotencyKey)
+                .doesNotContain(nextPage.getIdempotencyKey());
+        assertThat(repository.stored.get(nextPage.getId()).getStatus()).isEqualTo(ChargeStatus.PENDING);
+    }
+
+    @Test
+    void aProcessingChargeKeepsItsReferenceAndIsLookedUpOnTheNextRun() {
+        Customer customer = customer("a");
+        Charge processing = charge(customer, 0, "pm_card_visa");
+        Charge later = charge(customer, 1, "pm_card_visa");
+        repository.add(processing);
+        repository.add(later);
+        gateway.processing.add(processing.getIdempotencyKey());
+
+        ChargeRunReport first = service.processPending();
+
+        assertThat(first.chargesLeftPending()).isEqualTo(2);
+        assertThat(processing.getStatus()).isEqualTo(ChargeStatus.PENDING);
+        assertThat(processing.getGatewayReference()).contains("pi_" + processing.getIdempotencyKey());
+        assertThat(repository.statusBatches).anySatisfy(batch -> assertThat(batch).contains(processing));
+
+        gateway.processing.clear();
+        ChargeRunReport second = service.processPending();
+
+        assertThat(second.chargesSucceeded()).isEqualTo(2);
+        assertThat(gateway.calls).filteredOn(call -> call.idempotencyKey().equals(processing.getIdempotencyKey()))
+                .extracting(ChargeRequest::gatewayReference)
+                .containsExactly(null, "pi_" + processing.getIdempotencyKey());
+    }
+
+    @Test
+    void amountsAreSentInTheCurrencysMinorUnits() {
+        Customer customer = customer("a");
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+        repository.add(new Charge(UUID.randomUUID(), new BigDecimal("1500"), "JPY", null, customer, "pm_card_visa",
+                ChargeStatus.PENDING, createdAt, createdAt));
+        repository.add(charge(customer, 1, "pm_card_visa"));
+
+        service.processPending();
+
+        assertThat(gateway.calls).extracting(ChargeRequest::currency, ChargeRequest::amountMinor)
+                .containsExactly(tuple("JPY", 1500L), tuple("USD", 1990L));
+        assertThatThrownBy(() -> new Charge(UUID.randomUUID(), new BigDecimal("1500.5"), "JPY", null, customer,
+                "pm_card_visa", ChargeStatus.PENDING, createdAt, createdAt))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Customer customer(String name) {
+        return new Customer(name, name + "@example.com");
+    }
+
+    private static Charge charge(Customer customer, int minute, String paymentMethod) {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(minute);
+        return new Charge(UUID.randomUUID(), new BigDecimal("19.90"), "USD", null, customer, paymentMethod,
+                ChargeStatus.PENDING, createdAt, createdAt);
+    }
+
+    private static UUID chargeId(ChargeRequest request) {
+        return UUID.fromString(request.idempotencyKey().substring("charge-".length()));
+    }
+
+    private static final class RecordingGateway implements PaymentGateway {
+        private final List<ChargeRequest> calls = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, AtomicInteger> failuresBeforeSuccess = new ConcurrentHashMap<>();
+        private final Set<String> processing = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public GatewayResult charge(ChargeRequest request) {
+            calls.add(request);
+            AtomicInteger failures = failuresBeforeSuccess.get(request.idempotencyKey());
+            if (failures != null && failures.getAndDecrement() > 0) {
+                throw new PaymentGatewayException("503");
+            }
+            if (request.gatewayReference() == null && processing.contains(request.idempotencyKey())) {
+                return GatewayResult.processing("pi_" + request.idempotencyKey());
+            }
+            return "pm_card_chargeDeclined".equals(request.paymentMethod())
+                    ? GatewayResult.declined("pi_" + request.idempotencyKey(), "declined")
+                    : GatewayResult.succeeded("pi_" + request.idempotencyKey());
+        }
+    }
+
+    private static final class InMemoryCharges implements ChargeRepositoryContract {
+        private final Map<UUID, Charge> stored = new ConcurrentHashMap<>();
+        private final List<List<Charge>> statusBatches = Collections.synchronizedList(new ArrayList<>());
+
+        private void add(Charge charge) {
+            stored.put(charge.getId(), charge);
+        }
+
+        @Override
+        public void saveAll(Collection<Charge> charges) {
+            charges.forEach(this::add);
+        }
+
+        @Override
+        public Optional<Charge> findById(UUID id) {
+            return Optional.ofNullable(stored.get(id));
+        }
+
+        @Override
+        public List<Charge> findPending(Keyset after, int limit) {
+            Comparator<Charge> order = Comparator.comparing(Charge::getCreatedAt).thenComparing(Charge::getId);
+            return stored.values().stream()
+                    .filter(charge -> charge.getStatus() == ChargeStatus.PENDING)
+                    .filter(charge -> after == null || order.compare(charge, keyed(after, charge.getCustomer())) > 0)
+                    .sorted(order)
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public List<Charge> updateStatuses(Collection<Charge> charges) {
+            statusBatches.add(List.copyOf(charges));
+            return List.copyOf(charges);
+        }
+
+        @Override
+        public List<RevenueBucket> dailyRevenue(LocalDate from, LocalDate to, String currency) {
+            return List.of();
+        }
+
+        @Override
+        public List<RevenueBucket> revenue(LocalDate from, LocalDate to, UUID customerId) {
+            return List.of();
+        }
+
+        @Override
+        public boolean hasRevenueRollups() {
+            return false;
+        }
+
+        @Override
+        public void rebuildRevenue() {
+        }
+
+        private static Charge keyed(Keyset keyset, Customer customer) {
+            return new Charge(keyset.id(), BigDecimal.ONE, "USD", null, customer, "pm", ChargeStatus.PENDING,
+                    keyset.createdAt(), keyset.createdAt());
+        }
+    }
+}
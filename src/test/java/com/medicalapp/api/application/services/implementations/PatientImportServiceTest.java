@@ -0,0 +1,230 @@
+package com.medicalapp.api.application.services.implementations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.medicalapp.api.application.imports.ImportReport;
+import com.medicalapp.api.application.imports.ImportRow;
+import com.medicalapp.api.application.imports.PatientImportMetrics;
+import com.medicalapp.api.application.imports.PatientImportProperties;
+import com.medicalapp.api.application.imports.PatientRowReader;
+import com.medicalapp.api.application.imports.RowError;
+import com.medicalapp.api.domain.contracts.PatientRepositoryContract;
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.KeysetPage;
+import com.medicalapp.api.domain.queries.PatientSummary;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import com.medicalapp.api.infrastructure.imports.CsvPatientRowReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class PatientImportServiceTest {
+
+    private final InMemoryPatients repository = new InMemoryPatients();
+    private final PatientImportMetrics metrics = new PatientImportMetrics();
+    private final PatientImportService service = new PatientImportService(repository,
+            new PatientImportProperties(2, 3, 100), metrics);
+
+    @Test
+    void importsValidRowsAndReportsEveryRejectedRow() {
+        UUID organizationId = UUID.randomUUID();
+        Patient existing = Patient.create(organizationId, "Existing", SSN.of("222-33-4444"),
+                LocalDate.of(1970, 1, 1), "M", "1 Main St", "5551234567");
+        repository.save(existing);
+        String csv = """
+                name,ssn,date_of_birth,gender,address,contact
+                Jane Roe,123-45-6781,1980-01-01,F,"1 Main St, Apt 2",+1 555-123-4567
+                John Roe,123-45-6781,1981-02-02,M,1 Main St,5551234567
+                Bad Date,321-54-9876,01/02/1980,M,1 Main St,5551234567
+                ,000-11-2222,1980-01-01,X,1 Main St,call me
+                Already There,222-33-4444,1970-01-01,M,1 Main St,5551234567
+                Alex Roe,345-67-8912,2001-03-03,nb,1 Main St,5551234567
+                """;
+
+        ImportReport report = service.importPatients(organizationId, new CsvPatientRowReader(new StringReader(csv)));
+
+        assertThat(report.rowsRead()).isEqualTo(6);
+        assertThat(report.rowsImported()).isEqualTo(2);
+        assertThat(report.rowsRejected()).isEqualTo(4);
+        assertThat(report.duplicateRows()).isEqualTo(2);
+        assertThat(report.errors()).extracting(RowError::row, RowError::field).contains(
+                tuple(3L, "ssn"),
+                tuple(4L, "dateOfBirth"),
+                tuple(5L, "name"),
+                tuple(5L, "ssn"),
+                tuple(5L, "gender"),
+                tuple(5L, "contact"),
+                tuple(6L, "ssn"));
+        assertThat(repository.findBySsn(organizationId, SSN.of("123456781"))).get()
+                .extracting(Patient::getName, Patient::getAddress).containsExactly("Jane Roe", "1 Main St, Apt 2");
+        assertThat(metrics.getRowsRejected()).isEqualTo(4);
+    }
+
+    @Test
+    void rowsOfAFailedChunkAreReadAndRejected() {
+        repository.failLookups = true;
+        String csv = """
+                name,ssn,date_of_birth,gender,address,contact
+                Jane Roe,123-45-6781,1980-01-01,F,1 Main St,5551234567
+                Bad Date,321-54-9876,01/02/1980,M,1 Main St,5551234567
+                John Roe,123-45-6781,1981-02-02,M,1 Main St,5551234567
+                Alex Roe,345-67-8912,2001-03-03,nb,1 Main St,5551234567
+                """;
+
+        ImportReport report = service.importPatients(UUID.randomUUID(),
+                new CsvPatientRowReader(new StringReader(csv)));
+
+        assertThat(report.rowsRead()).isEqualTo(4);
+        assertThat(report.rowsImported()).isZero();
+        assertThat(report.rowsRejected()).isEqualTo(4);
+        assertThat(report.duplicateRows()).isZero();
+        assertThat(report.errors()).extracting(RowError::row, RowError::field).contains(
+                tuple(2L, "chunk"),
+                tuple(3L, "dateOfBirth"),
+                tuple(4L, "chunk"));
+        assertThat(metrics.getRowsRejected()).isEqualTo(4);
+    }
+
+    @Test
+    void aRowWhoseWriteFailedDoesNotMakeLaterRowsDuplicates() {
+        repository.failedSaves = 1;
+        UUID organizationId = UUID.randomUUID();
+        String csv = """
+                name,ssn,date_of_birth,gender,address,contact
+                Jane Roe,123-45-6781,1980-01-01,F,1 Main St,5551234567
+                Alex Roe,345-67-8912,2001-03-03,nb,1 Main St,5551234567
+                John Roe,123-45-6781,1981-02-02,M,1 Main St,5551234567
+                """;
+
+        ImportReport report = service.importPatients(organizationId, new CsvPatientRowReader(new StringReader(csv)));
+
+        assertThat(report.rowsRead()).isEqualTo(3);
+        assertThat(report.rowsImported()).isEqualTo(1);
+        assertThat(report.rowsRejected()).isEqualTo(2);
+        assertThat(report.duplicateRows()).isZero();
+        assertThat(repository.findBySsn(organizationId, SSN.of("123456781"))).get()
+                .extracting(Patient::getName).isEqualTo("John Roe");
+    }
+
+    @Test
+    void aReaderThatBreaksStillYieldsAReport() {
+        String csv = """
+                name,ssn,date_of_birth,gender,address,contact
+                Jane Roe,123-45-6781,1980-01-01,F,1 Main St,5551234567
+                Alex Roe,345-67-8912,2001-03-03,nb,1 Main St,5551234567
+                """;
+        CsvPatientRowReader csvRows = new CsvPatientRowReader(new StringReader(csv));
+        PatientRowReader rows = new PatientRowReader() {
+            private int read;
+
+            @Override
+            public ImportRow next() throws IOException {
+                if (++read > 1) {
+                    throw new IllegalStateException("Malformed record");
+                }
+                return csvRows.next();
+            }
+
+            @Override
+            public void close() throws IOException {
+                csvRows.close();
+            }
+        };
+
+        ImportReport report = service.importPatients(UUID.randomUUID(), rows);
+
+        assertThat(report.rowsRead()).isEqualTo(1);
+        assertThat(report.rowsImported()).isEqualTo(1);
+        assertThat(report.errors()).extracting(RowError::row, RowError::field, RowError::message)
+                .containsExactly(tuple(2L, "file", "Unreadable input: Malformed record"));
+        assertThat(metrics.getActiveImports()).isZero();
+    }
+
+    @Test
+    @Timeout(30)
+    void theReaderStopsWhenTheWriterExits() {
+        repository.interruptSaves = true;
+        StringBuilder csv = new StringBuilder("name,ssn,date_of_birth,gender,address,contact\n");
+        for (int i = 0; i < 40; i++) {
+            csv.append(String.format("Patient %d,%03d-45-%04d,1980-01-01,F,1 Main St,5551234567%n", i, 100 + i, 1000 + i));
+        }
+
+        ImportReport report = service.importPatients(UUID.randomUUID(),
+                new CsvPatientRowReader(new StringReader(csv.toString())));
+
+        assertThat(report.rowsImported()).isEqualTo(2);
+        assertThat(report.errors()).extracting(RowError::field, RowError::message)
+                .containsExactly(tuple("file", "Import stopped: the writer exited"));
+    }
+
+    private static final class InMemoryPatients implements PatientRepositoryContract {
+        private final Map<UUID, Patient> patients = new ConcurrentHashMap<>();
+        private volatile boolean failLookups;
+        private volatile int failedSaves;
+        private volatile boolean interruptSaves;
+
+        @Override
+        public Patient save(Patient patient) {
+            patients.put(patient.getId(), patient);
+            return patient;
+        }
+
+        @Override
+        public void saveAll(Collection<Patient> batch) {
+            if (failedSaves > 0) {
+                failedSaves--;
+                throw new IllegalStateException("Database unavailable");
+            }
+            if (interruptSaves) {
+                Thread.currentThread().interrupt();
+            }
+            batch.forEach(this::save);
+        }
+
+        @Override
+        public Optional<Patient> findById(UUID id) {
+            return Optional.ofNullable(patients.get(id));
+        }
+
+        @Override
+        public Map<UUID, String> findNamesByIds(Collection<UUID> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Patient> findBySsn(UUID organizationId, SSN ssn) {
+            return patients.values().stream()
+                    .filter(p -> p.getOrganizationId().equals(organizationId) && p.getSsn().equals(ssn))
+                    .findFirst();
+        }
+
+        @Override
+        public Set<SSN> findExistingSsns(UUID organizationId, Collection<SSN> ssns) {
+            if (failLookups) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            Set<SSN> existing = new HashSet<>();
+            for (SSN ssn : ssns) {
+                findBySsn(organizationId, ssn).ifPresent(p -> existing.add(ssn));
+            }
+            return existing;
+        }
+
+        @Override
+        public KeysetPage<PatientSummary> findSummariesByOrganization(UUID organizationId, Keyset after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
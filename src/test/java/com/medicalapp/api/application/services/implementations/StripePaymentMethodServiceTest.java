@@ -0,0 +1,153 @@
+package com.medicalapp.api.application.services.implementations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.medicalapp.api.application.payments.PaymentGatewayException;
+import com.medicalapp.api.application.payments.PaymentMethod;
+import com.medicalapp.api.application.payments.PaymentMethodCacheProperties;
+import com.medicalapp.api.application.payments.PaymentMethodGateway;
+import com.medicalapp.api.domain.contracts.CustomerRepositoryContract;
+import com.medicalapp.api.domain.entities.Customer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class StripePaymentMethodServiceTest {
+
+    private final Customer customer = new Customer("Harbor Clinic", "billing@harbor.test");
+    private final InMemoryCustomers customers = new InMemoryCustomers(customer);
+    private final FakeGateway gateway = new FakeGateway();
+    private final StripeListPaymentMethodService listing = new StripeListPaymentMethodService(gateway, customers,
+            new PaymentMethodCacheProperties(Duration.ofMinutes(1), 100));
+    private final StripePaymentMethodService methods = new StripePaymentMethodService(gateway, customers, listing);
+
+    @Test
+    void concurrentListingsForOneCustomerShareASingleGatewayCall() throws Exception {
+        methods.attach(customer.getId(), "pm_card_visa");
+        gateway.blockListing();
+        List<Future<List<PaymentMethod>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> listing.listPaymentMethods(customer.getId())));
+            }
+            assertThat(gateway.listingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            while (listing.getCache().getCoalesced() < 15) {
+                Thread.onSpinWait();
+            }
+            gateway.release.countDown();
+            for (Future<List<PaymentMethod>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).extracting(PaymentMethod::id).containsExactly("pm_card_visa");
+            }
+        }
+
+        assertThat(listing.listPaymentMethods(customer.getId())).hasSize(1);
+        assertThat(gateway.listCalls.get()).isEqualTo(1);
+        assertThat(listing.getCache().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void attachingAndDetachingDropTheCachedListing() {
+        assertThat(listing.listPaymentMethods(customer.getId())).isEmpty();
+
+        methods.attach(customer.getId(), "pm_card_visa");
+        methods.attach(customer.getId(), "pm_card_mastercard");
+        assertThat(listing.listPaymentMethods(customer.getId())).extracting(PaymentMethod::id)
+                .containsExactly("pm_card_visa", "pm_card_mastercard");
+
+        methods.detach(customer.getId(), "pm_card_visa");
+        assertThat(listing.listPaymentMethods(customer.getId())).extracting(PaymentMethod::id)
+                .containsExactly("pm_card_mastercard");
+        assertThat(listing.listPaymentMethods(customer.getId())).hasSize(1);
+        assertThat(gateway.listCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void failedListingsAreNotCached() {
+        gateway.failNextListing = true;
+        assertThatThrownBy(() -> listing.listPaymentMethods(customer.getId()))
+                .isInstanceOf(PaymentGatewayException.class);
+
+        assertThat(listing.listPaymentMethods(customer.getId())).isEmpty();
+        assertThat(gateway.listCalls.get()).isEqualTo(2);
+        assertThat(listing.getCache().size()).isEqualTo(1);
+    }
+
+    private static final class FakeGateway implements PaymentMethodGateway {
+        private final Map<UUID, List<PaymentMethod>> attached = new ConcurrentHashMap<>();
+        final AtomicInteger listCalls = new AtomicInteger();
+        final CountDownLatch listingStarted = new CountDownLatch(1);
+        volatile CountDownLatch release = new CountDownLatch(0);
+        volatile boolean failNextListing;
+
+        void blockListing() {
+            release = new CountDownLatch(1);
+        }
+
+        @Override
+        public List<PaymentMethod> list(UUID customerId) {
+            listCalls.incrementAndGet();
+            listingStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failNextListing) {
+                failNextListing = false;
+                throw new PaymentGatewayException("Simulated timeout");
+            }
+            return List.copyOf(attached.getOrDefault(customerId, List.of()));
+        }
+
+        @Override
+        public PaymentMethod attach(UUID customerId, String paymentMethodId) {
+            PaymentMethod method = new PaymentMethod(paymentMethodId, "visa", "4242", 12, 2034);
+            attached.computeIfAbsent(customerId, id -> new CopyOnWriteArrayList<>()).add(method);
+            return method;
+        }
+
+        @Override
+        public void detach(UUID customerId, String paymentMethodId) {
+            attached.getOrDefault(customerId, List.of()).removeIf(method -> method.id().equals(paymentMethodId));
+        }
+    }
+
+    private static final class InMemoryCustomers implements CustomerRepositoryContract {
+        private final Map<UUID, Customer> stored = new ConcurrentHashMap<>();
+
+        InMemoryCustomers(Customer customer) {
+            stored.put(customer.getId(), customer);
+        }
+
+        @Override
+        public Customer save(Customer customer) {
+            stored.put(customer.getId(), customer);
+            return customer;
+        }
+
+        @Override
+        public Optional<Customer> findById(UUID id) {
+            return Optional.ofNullable(stored.get(id));
+        }
+
+        @Override
+        public List<Customer> findAllById(Collection<UUID> ids) {
+            return ids.stream().map(stored::get).filter(Objects::nonNull).toList();
+        }
+    }
+}
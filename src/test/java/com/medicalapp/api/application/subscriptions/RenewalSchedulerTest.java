@@ -0,0 +1,330 @@
+package com.medicalapp.api.application.subscriptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.medicalapp.api.domain.contracts.SubscriptionRepositoryContract;
+import com.medicalapp.api.domain.entities.Customer;
+import com.medicalapp.api.domain.entities.Subscription;
+import com.medicalapp.api.domain.entities.SubscriptionRenewal;
+import com.medicalapp.api.domain.queries.DueRenewal;
+import com.medicalapp.api.domain.valueobjects.BillingInterval;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RenewalSchedulerTest {
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final Duration TICK = Duration.ofMinutes(1);
+
+    private final SimulatedClock clock = new SimulatedClock(START);
+    private final InMemorySubscriptions subscriptions = new InMemorySubscriptions(clock);
+    private final InMemoryLeases leases = new InMemoryLeases();
+    private final Customer customer = new Customer("Northside Clinic", "billing@northside.test");
+
+    @Test
+    void twoNodesBillEveryPeriodExactlyOnceAndOnTime() {
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            subscriptions.add(subscription(START.plusMinutes(random.nextInt(2 * 24 * 60))));
+        }
+        RenewalScheduler a = node("a");
+        RenewalScheduler b = node("b");
+
+        run(Duration.ofDays(65), a, b);
+
+        // Started within the first two days: billed at start and on the next two monthly anniversaries
+        assertThat(subscriptions.billedPeriods.values()).allSatisfy(periods -> assertThat(periods).hasSize(3));
+        assertThat(subscriptions.rejected).isZero();
+        // Shards handed from a to b once b joins are picked up within one rebalance interval
+        assertThat(subscriptions.maxLateness).isLessThanOrEqualTo(leaseTtl().dividedBy(3).plus(TICK.multipliedBy(2)));
+        assertThat(a.getMetrics().getOwnedShards() + b.getMetrics().getOwnedShards()).isEqualTo(Subscription.SHARDS);
+        assertThat(a.getMetrics().getOwnedShards()).isEqualTo(Subscription.SHARDS / 2);
+    }
+
+    @Test
+    void survivingNodeTakesOverTheShardsOfACrashedOne() {
+        Random random = new Random(11);
+        for (int i = 0; i < 500; i++) {
+            subscriptions.add(subscription(START.plusMinutes(random.nextInt(20 * 24 * 60))));
+        }
+        RenewalScheduler a = node("a");
+        RenewalScheduler b = node("b");
+
+        run(Duration.ofDays(10), a, b);
+        // a stops ticking without releasing anything; b has to wait for its leases to expire
+        run(Duration.ofDays(15), b);
+
+        assertThat(subscriptions.billedPeriods.values()).allSatisfy(periods -> assertThat(periods).hasSize(1));
+        assertThat(subscriptions.billedPeriods).hasSize(500);
+        assertThat(b.getMetrics().getOwnedShards()).isEqualTo(Subscription.SHARDS);
+        // Expiry of a's leases, plus up to one rebalance interval of b
+        assertThat(subscriptions.maxLateness)
+                .isLessThanOrEqualTo(leaseTtl().multipliedBy(4).dividedBy(3).plus(TICK.multipliedBy(2)));
+    }
+
+    @Test
+    void workPerDayFollowsTheRenewalsDueNotTheSubscriptionsStored() {
+        for (int i = 0; i < 100_000; i++) {
+            subscriptions.add(subscription(START.plusDays(30).plusSeconds(i * 20L)));
+        }
+        Subscription cancelled = subscription(START.plusHours(3));
+        cancelled.cancel();
+        subscriptions.add(cancelled);
+        for (int i = 0; i < 100; i++) {
+            subscriptions.add(subscription(START.plusMinutes(i * 7L)));
+        }
+        RenewalScheduler node = node("a");
+
+        run(Duration.ofDays(1), node);
+
+        assertThat(subscriptions.billedPeriods).hasSize(100).doesNotContainKey(cancelled.getId());
+        assertThat(node.getMetrics().getRowsScheduled()).isEqualTo(100);
+        assertThat(subscriptions.rowsRead).isEqualTo(100);
+    }
+
+    private void run(Duration duration, RenewalScheduler... nodes) {
+        LocalDateTime end = clock.now().plus(duration);
+        while (clock.now().isBefore(end)) {
+            for (RenewalScheduler node : nodes) {
+                node.tick();
+            }
+            clock.advance(TICK);
+        }
+    }
+
+    private RenewalScheduler node(String id) {
+        return new RenewalScheduler(subscriptions, leases,
+                new RenewalProperties(true, TICK, 60, leaseTtl(), 50, id), clock);
+    }
+
+    private static Duration leaseTtl() {
+        return Duration.ofMinutes(6);
+    }
+
+    private Subscription subscription(LocalDateTime startsAt) {
+        return Subscription.start(customer, "Clinic Pro", new BigDecimal("99.00"), "USD", "pm_card_visa",
+                BillingInterval.MONTHLY, startsAt);
+    }
+
+    private static final class SimulatedClock extends Clock {
+        private Instant instant;
+
+        SimulatedClock(LocalDateTime start) {
+            this.instant = start.toInstant(ZoneOffset.UTC);
+        }
+
+        LocalDateTime now() {
+            return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    // Rows are copied in and out, like a database, and indexed by (dueAt, id) like the real one
+    private static final class InMemorySubscriptions implements SubscriptionRepositoryContract {
+        private static final Comparator<DueRenewal> DUE_ORDER =
+                Comparator.comparing(DueRenewal::dueAt).thenComparing(DueRenewal::id);
+        private static final UUID FIRST_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+        private final SimulatedClock clock;
+        private final Map<UUID, Subscription> rows = new HashMap<>();
+        private final NavigableSet<DueRenewal> due = new TreeSet<>(DUE_ORDER);
+        final Map<UUID, List<Integer>> billedPeriods = new TreeMap<>();
+        Duration maxLateness = Duration.ZERO;
+        int rejected;
+        long rowsRead;
+
+        InMemorySubscriptions(SimulatedClock clock) {
+            this.clock = clock;
+        }
+
+        void add(Subscription subscription) {
+            save(subscription);
+        }
+
+        @Override
+        public Subscription save(Subscription subscription) {
+            Subscription previous = rows.put(subscription.getId(), copy(subscription));
+            if (previous != null) {
+                due.remove(dueOf(previous));
+            }
+            if (subscription.isActive()) {
+                due.add(dueOf(subscription));
+            }
+            return subscription;
+        }
+
+        @Override
+        public Optional<Subscription> findById(UUID id) {
+            return Optional.ofNullable(rows.get(id)).map(InMemorySubscriptions::copy);
+        }
+
+        @Override
+        public List<Subscription> findAllById(Collection<UUID> ids) {
+            List<Subscription> found = new ArrayList<>();
+            for (UUID id : ids) {
+                findById(id).ifPresent(found::add);
+            }
+            rowsRead += found.size();
+            return found;
+        }
+
+        @Override
+        public List<DueRenewal> findDue(Collection<Integer> shards, LocalDateTime from, LocalDateTime until,
+                                        DueRenewal after, int limit) {
+            DueRenewal upper = new DueRenewal(FIRST_ID, 0, until);
+            NavigableSet<DueRenewal> range;
+            if (after != null) {
+                range = due.subSet(after, false, upper, false);
+            } else if (from != null) {
+                range = due.subSet(new DueRenewal(FIRST_ID, 0, from), true, upper, false);
+            } else {
+                range = due.headSet(upper, false);
+            }
+            List<DueRenewal> page = new ArrayList<>();
+            for (DueRenewal renewal : range) {
+                if (page.size() == limit) {
+                    break;
+                }
+                if (shards.contains(renewal.shard())) {
+                    page.add(renewal);
+                }
+            }
+            return page;
+        }
+
+        @Override
+        public List<SubscriptionRenewal> saveRenewals(Collection<SubscriptionRenewal> renewals) {
+            List<SubscriptionRenewal> applied = new ArrayList<>();
+            for (SubscriptionRenewal renewal : renewals) {
+                Subscription stored = rows.get(renewal.subscription().getId());
+                if (!stored.isActive() || stored.getRenewals() != renewal.expectedRenewals()) {
+                    rejected++;
+                    continue;
+                }
+                Duration lateness = Duration.between(stored.getNextRenewalAt(), clock.now());
+                if (lateness.compareTo(maxLateness) > 0) {
+                    maxLateness = lateness;
+                }
+                billedPeriods.computeIfAbsent(stored.getId(), id -> new ArrayList<>()).add(renewal.expectedRenewals());
+                save(renewal.subscription());
+                applied.add(renewal);
+            }
+            return applied;
+        }
+
+        private static DueRenewal dueOf(Subscription subscription) {
+            return new DueRenewal(subscription.getId(), subscription.getShard(), subscription.getNextRenewalAt());
+        }
+
+        private static Subscription copy(Subscription s) {
+            return new Subscription(s.getId(), s.getCustomer(), s.getPlan(), s.getAmount(), s.getCurrency(),
+                    s.getPaymentMethod(), s.getInterval(), s.getStatus(), s.getStartsAt(), s.getRenewals(),
+                    s.getCreatedAt(), s.getUpdatedAt());
+        }
+    }
+
+    private static final class InMemoryLeases implements RenewalLeases {
+        private final TreeMap<Integer, RenewalLease> leases = new TreeMap<>();
+        private final Map<String, LocalDateTime> nodes = new HashMap<>();
+
+        InMemoryLeases() {
+            for (int shard = 0; shard < Subscription.SHARDS; shard++) {
+                leases.put(shard, new RenewalLease(shard, null, LocalDateTime.MIN));
+            }
+        }
+
+        @Override
+        public void heartbeat(String node, LocalDateTime expiresAt) {
+            nodes.put(node, expiresAt);
+        }
+
+        @Override
+        public Set<String> liveNodes(LocalDateTime now) {
+            Set<String> live = new HashSet<>();
+            nodes.forEach((node, expiresAt) -> {
+                if (expiresAt.isAfter(now)) {
+                    live.add(node);
+                }
+            });
+            return live;
+        }
+
+        @Override
+        public List<RenewalLease> list() {
+            return List.copyOf(leases.values());
+        }
+
+        @Override
+        public boolean tryAcquire(int shard, String owner, LocalDateTime now, LocalDateTime expiresAt) {
+            if (leases.get(shard).isHeldAt(now)) {
+                return false;
+            }
+            leases.put(shard, new RenewalLease(shard, owner, expiresAt));
+            return true;
+        }
+
+        @Override
+        public int extend(String owner, LocalDateTime now, LocalDateTime expiresAt) {
+            int extended = 0;
+            for (RenewalLease lease : List.copyOf(leases.values())) {
+                if (owner.equals(lease.owner()) && lease.isHeldAt(now)) {
+                    leases.put(lease.shard(), new RenewalLease(lease.shard(), owner, expiresAt));
+                    extended++;
+                }
+            }
+            return extended;
+        }
+
+        @Override
+        public void release(int shard, String owner) {
+            if (owner.equals(leases.get(shard).owner())) {
+                leases.put(shard, new RenewalLease(shard, null, LocalDateTime.MIN));
+            }
+        }
+
+        @Override
+        public void releaseAll(String owner) {
+            for (RenewalLease lease : List.copyOf(leases.values())) {
+                release(lease.shard(), owner);
+            }
+            nodes.remove(owner);
+        }
+    }
+}
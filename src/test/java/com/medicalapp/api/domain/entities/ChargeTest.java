@@ -0,0 +1,31 @@
+package com.medicalapp.api.domain.entities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.medicalapp.api.domain.events.ChargeEvent;
+import com.medicalapp.api.domain.valueobjects.ChargeStatus;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ChargeTest {
+
+    @Test
+    void chargesEmitEventsOnlyForStatusChanges() {
+        Customer customer = new Customer("Ana", "ana@example.com");
+        Charge charge = Charge.create(new BigDecimal("19.90"), "USD", Optional.empty(), customer, "pm_card_visa");
+        charge.markAsSucceeded();
+        charge.markAsSucceeded();
+
+        List<ChargeEvent> events = charge.pullEvents();
+
+        assertThat(events).extracting(ChargeEvent::status)
+                .containsExactly(ChargeStatus.PENDING, ChargeStatus.SUCCEEDED);
+        assertThat(events).allSatisfy(event -> assertThat(event.amountMinor()).isEqualTo(1990));
+        assertThat(charge.pullEvents()).isEmpty();
+        assertThatThrownBy(() -> Charge.create(new BigDecimal("1.999"), "USD", Optional.empty(), customer, "pm"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
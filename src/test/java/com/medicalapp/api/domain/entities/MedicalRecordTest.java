@@ -0,0 +1,139 @@
+package com.medicalapp.api.domain.entities;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MedicalRecordTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 8, 0);
+
+    @Test
+    void snapshotsAreImmutableAndUnaffectedByLaterAppends() {
+        MedicalRecord record = recordWithHistory(300);
+
+        List<HistoryRecord> snapshot = record.getHistoryRecords();
+        record.addHistoryRecord(entry(record, 300));
+
+        assertThat(snapshot).hasSize(300);
+        assertThat(record.getHistoryRecords()).hasSize(301);
+        assertThatThrownBy(() -> snapshot.add(entry(record, 999)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void constructorCopiesTheCallerList() {
+        UUID id = UUID.randomUUID();
+        List<HistoryRecord> history = new ArrayList<>();
+        history.add(new HistoryRecord(UUID.randomUUID(), id, "CREATED", "", START));
+        MedicalRecord record = new MedicalRecord(id, UUID.randomUUID(), UUID.randomUUID(), null,
+                UUID.randomUUID(), "Hypertension", null, null, START, START, history);
+
+        history.add(new HistoryRecord(UUID.randomUUID(), id, "UPDATED", "", START));
+
+        assertThat(record.getHistoryRecords()).hasSize(1);
+    }
+
+    @Test
+    void recordsRebuiltFromASnapshotDoNotShareAppends() {
+        MedicalRecord original = recordWithHistory(260);
+        MedicalRecord copy = new MedicalRecord(original.getId(), original.getPatientId(),
+                original.getOrganizationId(), null, original.getDoctorId(), original.getDiagnosis(),
+                null, null, START, START, original.getHistoryRecords());
+
+        original.addHistoryRecord(entry(original, 260));
+        copy.addHistoryRecord(new HistoryRecord(UUID.randomUUID(), copy.getId(), "OTHER", "", START.plusDays(999)));
+
+        assertThat(original.getHistoryRecords().get(260).action()).isEqualTo("NOTE_ADDED");
+        assertThat(copy.getHistoryRecords().get(260).action()).isEqualTo("OTHER");
+    }
+
+    @Test
+    void pagesLatestAndSince() {
+        MedicalRecord record = recordWithHistory(1000);
+
+        assertThat(record.latestHistory(3)).extracting(HistoryRecord::details)
+                .containsExactly("Entry 997", "Entry 998", "Entry 999");
+        assertThat(record.historyPage(256, 2)).extracting(HistoryRecord::details)
+                .containsExactly("Entry 256", "Entry 257");
+        assertThat(record.historySince(START.plusHours(995)))
+                .extracting(HistoryRecord::details)
+                .containsExactly("Entry 995", "Entry 996", "Entry 997", "Entry 998", "Entry 999");
+        assertThat(record.historySince(START.plusHours(5000))).isEmpty();
+    }
+
+    @Test
+    void lazyHistoryAndPatientNameAreLoadedOnceOnFirstRead() {
+        UUID id = UUID.randomUUID();
+        AtomicInteger historyLoads = new AtomicInteger();
+        AtomicInteger nameLoads = new AtomicInteger();
+        MedicalRecord record = new MedicalRecord(id, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                "Hypertension", null, null, START, START, 2,
+                recordId -> {
+                    historyLoads.incrementAndGet();
+                    return List.of(new HistoryRecord(UUID.randomUUID(), recordId, "CREATED", "", START),
+                            new HistoryRecord(UUID.randomUUID(), recordId, "UPDATED", "", START.plusHours(1)));
+                },
+                patientId -> {
+                    nameLoads.incrementAndGet();
+                    return "Jane Roe";
+                });
+
+        assertThat(record.getHistorySize()).isEqualTo(2);
+        assertThat(record.isHistoryLoaded()).isFalse();
+        record.addHistoryRecord(new HistoryRecord(UUID.randomUUID(), id, "NOTE_ADDED", "", START.plusHours(2)));
+        assertThat(record.getHistoryRecords()).extracting(HistoryRecord::action)
+                .containsExactly("CREATED", "UPDATED", "NOTE_ADDED");
+        assertThat(record.getPatientName()).isEqualTo("Jane Roe");
+        assertThat(record.getPatientName()).isEqualTo("Jane Roe");
+        assertThat(historyLoads).hasValue(1);
+        assertThat(nameLoads).hasValue(1);
+    }
+
+    @Test
+    void appendsToAnUnloadedHistoryAreWrittenWithoutLoadingIt() {
+        UUID id = UUID.randomUUID();
+        HistoryRecord created = new HistoryRecord(UUID.randomUUID(), id, "CREATED", "", START);
+        HistoryRecord noted = new HistoryRecord(UUID.randomUUID(), id, "NOTE_ADDED", "", START.plusHours(1));
+        HistoryRecord updated = new HistoryRecord(UUID.randomUUID(), id, "UPDATED", "", START.plusHours(2));
+        AtomicInteger historyLoads = new AtomicInteger();
+        MedicalRecord record = new MedicalRecord(id, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                "Hypertension", null, null, START, START, 1,
+                recordId -> {
+                    historyLoads.incrementAndGet();
+                    return List.of(created, noted);
+                },
+                patientId -> "Jane Roe");
+
+        record.addHistoryRecord(noted);
+        assertThat(record.historyPage(record.getStoredHistorySize(), 5)).containsExactly(noted);
+        record.historyWritten();
+        record.addHistoryRecord(updated);
+
+        assertThat(historyLoads).hasValue(0);
+        assertThat(record.getHistorySize()).isEqualTo(3);
+        assertThat(record.getHistoryRecords()).containsExactly(created, noted, updated);
+        assertThat(record.getStoredHistorySize()).isEqualTo(2);
+        assertThat(historyLoads).hasValue(1);
+    }
+
+    private static MedicalRecord recordWithHistory(int entries) {
+        MedicalRecord record = MedicalRecord.create(UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), "Chronic kidney disease");
+        for (int i = 0; i < entries; i++) {
+            record.addHistoryRecord(entry(record, i));
+        }
+        return record;
+    }
+
+    private static HistoryRecord entry(MedicalRecord record, int index) {
+        return new HistoryRecord(UUID.randomUUID(), record.getId(), "NOTE_ADDED",
+                "Entry " + index, START.plusHours(index));
+    }
+}
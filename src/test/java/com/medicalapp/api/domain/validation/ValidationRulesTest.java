@@ -0,0 +1,69 @@
+package com.medicalapp.api.domain.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.medicalapp.api.domain.valueobjects.Gender;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ValidationRulesTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "+1 555-123-4567", "5551234567", "+5551234567", "555123456", "555-123-4567-1234-5",
+            "++5551234567", "555 123 4567\t", "555.123.4567", "+", "1234567890123456", "+123456789012345",
+            "(555) 1234567", "5551234567\n"
+    })
+    void contactScannerMatchesTheRegex(String contact) {
+        assertThat(ValidationRules.isContact(contact))
+                .isEqualTo(contact.matches("^\\+?[0-9\\s-]{10,15}$"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "jane.roe@example.com", "a@b.co", "a@.co", "a@..co", "@b.co", "a@b.c", "a@b.c1", "a@b@c.com",
+            "a_b-c@sub.domain.org", "jane@example", "jane@example.", "jane roe@example.com", "jané@example.com",
+            "a@b.co\n", "a@-.io", ".@..aa"
+    })
+    void emailScannerMatchesTheRegex(String email) {
+        assertThat(ValidationRules.isEmail(email))
+                .isEqualTo(email.matches("^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,}$"));
+    }
+
+    @Test
+    void genderLookupIsCaseInsensitive() {
+        assertThat(Gender.lookup("nb")).isEqualTo(Gender.NB);
+        assertThat(Gender.lookup("Other")).isEqualTo(Gender.OTHER);
+        assertThat(Gender.lookup("x")).isNull();
+        assertThat(ValidationRules.gender(" ")).isEqualTo("Gender cannot be blank");
+    }
+
+    @Test
+    void batchValidationReportsEveryViolation() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+        PatientInput valid = new PatientInput(UUID.randomUUID(), "Jane Roe", "123-45-6781",
+                LocalDate.of(1980, 1, 1), "F", "1 Main St", "+1 555-123-4567");
+        PatientInput invalid = new PatientInput(null, " ", "123-45-6789",
+                LocalDate.of(2030, 1, 1), "X", "1 Main St", "call me");
+
+        List<Violation> violations = new PatientBatchValidator(clock).validateAll(Arrays.asList(valid, invalid, null));
+
+        assertThat(violations).extracting(Violation::index, Violation::field).containsExactly(
+                tuple(1, "organizationId"),
+                tuple(1, "name"),
+                tuple(1, "ssn"),
+                tuple(1, "dateOfBirth"),
+                tuple(1, "gender"),
+                tuple(1, "contact"),
+                tuple(2, "patient"));
+    }
+}
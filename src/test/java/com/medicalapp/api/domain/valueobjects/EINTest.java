@@ -0,0 +1,39 @@
+package com.medicalapp.api.domain.valueobjects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class EINTest {
+
+    @Test
+    void acceptsWithAndWithoutDash() {
+        EIN dashed = EIN.of("12-3456789");
+        EIN plain = new EIN("123456789");
+
+        assertThat(dashed).isEqualTo(plain);
+        assertThat(dashed.hashCode()).isEqualTo(plain.hashCode());
+        assertThat(dashed.raw()).isEqualTo("123456789");
+        assertThat(dashed.formatted()).isEqualTo("12-3456789");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "12-345678    | EIN deve conter exatamente 9 dígitos",
+            "1234 5678    | Formato de EIN inválido (use XX-XXXXXXX ou XXXXXXXXX)",
+            "1a-3456789   | Formato de EIN inválido (use XX-XXXXXXX ou XXXXXXXXX)",
+            "07-7777777   | EIN não pode começar com 0",
+            "00-0000000   | EIN não pode começar com 0",
+            "11-1111111   | EIN sequencial inválido: 11-1111111",
+            "999999999    | EIN sequencial inválido: 99-9999999"
+    })
+    void rejectsWithTheOriginalMessages(String input, String message) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new EIN(input))
+                .withMessage(message);
+        assertThat(EIN.isValid(input)).isFalse();
+    }
+}
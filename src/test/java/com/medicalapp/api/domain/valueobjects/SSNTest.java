@@ -0,0 +1,61 @@
+package com.medicalapp.api.domain.valueobjects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SSNTest {
+
+    @Test
+    void acceptsPlainFormattedAndSpacedInput() {
+        SSN plain = new SSN("123456781");
+        SSN dashed = SSN.of("123-45-6781");
+        SSN spaced = SSN.of(" 123 45\t6781 ");
+
+        assertThat(plain).isEqualTo(dashed).isEqualTo(spaced);
+        assertThat(plain.hashCode()).isEqualTo(dashed.hashCode());
+        assertThat(plain.value()).isEqualTo("123456781");
+        assertThat(plain.formatted()).isEqualTo("123-45-6781");
+        assertThat(plain.toString()).isEqualTo("123-45-6781");
+    }
+
+    @Test
+    void keepsLeadingZerosOfTheArea() {
+        SSN ssn = SSN.of("001-02-0003");
+
+        assertThat(ssn.value()).isEqualTo("001020003");
+        assertThat(ssn.formatted()).isEqualTo("001-02-0003");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "12345678     | SSN deve conter exatamente 9 dígitos",
+            "1234567890   | SSN deve conter exatamente 9 dígitos",
+            "12345678a    | SSN deve conter apenas dígitos numéricos",
+            "000-12-3456  | Área 000 é inválida para SSN",
+            "666-12-3456  | Área 666 é inválida para SSN",
+            "900-12-3456  | Área 900 é reservada",
+            "123-00-4567  | Número de grupo não pode ser 00",
+            "123-45-0000  | Número serial não pode ser 0000",
+            "123-45-6789  | SSN 123456789 é inválido ou reservado",
+            "111-11-1111  | SSN 111111111 é inválido ou reservado",
+            "123-12-3123  | SSN 123123123 é inválido ou reservado"
+    })
+    void rejectsWithTheOriginalMessages(String input, String message) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SSN(input))
+                .withMessage(message);
+        assertThat(SSN.isValid(input)).isFalse();
+    }
+
+    @Test
+    void rejectsNull() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> new SSN(null))
+                .withMessage("SSN não pode ser nulo");
+    }
+}
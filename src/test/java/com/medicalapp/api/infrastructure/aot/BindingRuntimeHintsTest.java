@@ -0,0 +1,31 @@
+package com.medicalapp.api.infrastructure.aot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.medicalapp.api.application.pagination.CursorPage;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.domain.queries.PatientSummary;
+import com.medicalapp.api.domain.valueobjects.AppointmentStatus;
+import com.medicalapp.api.presentation.controllers.AppointmentController;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+class BindingRuntimeHintsTest {
+
+    @Test
+    void registersBindingHintsForScannedTypes() {
+        RuntimeHints hints = new RuntimeHints();
+        new BindingRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(PatientSummary.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(CursorPage.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(AppointmentController.BookAppointmentRequest.class))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(AppointmentStatus.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(MedicalRecord.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(BindingRuntimeHints.class)).rejects(hints);
+    }
+}
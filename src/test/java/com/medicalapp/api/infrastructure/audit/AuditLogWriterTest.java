@@ -0,0 +1,91 @@
+package com.medicalapp.api.infrastructure.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.infrastructure.persistence.entities.HistoryRecordEntity;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+class AuditLogWriterTest {
+
+    private final List<List<HistoryRecordEntity>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void submissionsWithinTheFlushIntervalShareOneBatch() {
+        AuditLogWriter writer = writer(Duration.ofMillis(200), batches::add);
+        writer.start();
+        List<CompletableFuture<Void>> written = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            written.add(writer.submit(rows(2)));
+        }
+        written.forEach(CompletableFuture::join);
+        writer.stop();
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(6);
+        assertThat(writer.getMetrics().getRowsWritten()).isEqualTo(6);
+        assertThat(writer.getMetrics().getQueueDepth()).isZero();
+    }
+
+    @Test
+    void stopWritesEverythingStillQueued() {
+        AuditLogWriter writer = writer(Duration.ofHours(1), batches::add);
+        writer.start();
+        CompletableFuture<Void> first = writer.submit(rows(3));
+        CompletableFuture<Void> second = writer.submit(rows(4));
+        writer.stop();
+
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(7);
+
+        writer.submit(rows(1)).join();
+        assertThat(writer.getMetrics().getRowsWritten()).isEqualTo(8);
+    }
+
+    @Test
+    void aFailingSubmissionDoesNotTakeItsBatchDown() {
+        List<HistoryRecordEntity> poison = rows(1);
+        AuditLogWriter writer = writer(Duration.ofMillis(200), rows -> {
+            if (rows.contains(poison.get(0))) {
+                throw new IllegalStateException("constraint violated");
+            }
+            batches.add(rows);
+        });
+        writer.start();
+        CompletableFuture<Void> good = writer.submit(rows(2));
+        CompletableFuture<Void> bad = writer.submit(poison);
+        writer.stop();
+
+        assertThat(good).isCompleted();
+        assertThat(bad).isCompletedExceptionally();
+        assertThat(writer.getMetrics().getRowsFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void aFlushIntervalMustBePositive() {
+        assertThatThrownBy(() -> new AuditProperties(AuditDurability.ASYNC, 1000, 100, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static AuditLogWriter writer(Duration flushInterval, Consumer<List<HistoryRecordEntity>> sink) {
+        return new AuditLogWriter(new AuditProperties(AuditDurability.ASYNC, 1000, 100, flushInterval), sink);
+    }
+
+    private static List<HistoryRecordEntity> rows(int count) {
+        UUID medicalRecordId = UUID.randomUUID();
+        List<HistoryRecordEntity> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(HistoryRecordEntity.from(HistoryRecord.create(medicalRecordId, "NOTE_ADDED", "n" + i), i));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,91 @@
+package com.medicalapp.api.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TenantCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final TenantCache<String, String> cache = new TenantCache<>("test",
+            new CacheProperties(Duration.ofSeconds(10), 2, 3), clock::get);
+
+    @Test
+    void aLargeTenantOnlyEvictsItsOwnEntries() {
+        cache.putAll(cache.stamp(), "small", List.of("s1"), "S1");
+        for (int i = 0; i < 10; i++) {
+            cache.putAll(cache.stamp(), "large", List.of("l" + i), "L" + i);
+        }
+
+        assertThat(cache.get("s1")).isEqualTo("S1");
+        assertThat(cache.get("l0")).isNull();
+        assertThat(cache.get("l9")).isEqualTo("L9");
+        assertThat(cache.size()).isEqualTo(4);
+        assertThat(cache.getStats().getEvictions()).isEqualTo(7);
+    }
+
+    @Test
+    void entriesExpireAfterTtl() {
+        cache.putAll(cache.stamp(), "tenant", List.of("a"), "A");
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(cache.peek("a")).isEqualTo("A");
+        assertThat(cache.get("a")).isEqualTo("A");
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.getStats().getExpirations()).isEqualTo(1);
+        assertThat(cache.getStats().getHits()).isEqualTo(1);
+        assertThat(cache.getStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void loadStartedBeforeAnInvalidationIsNotCached() {
+        long stamp = cache.stamp();
+        cache.invalidate("tenant", List.of("a"));
+        cache.putAll(stamp, "tenant", List.of("a"), "stale");
+
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void invalidationsOnlyDiscardLoadsOfTheirOwnTenant() {
+        cache.putAll(cache.stamp(), "busy", List.of("b1"), "B1");
+        cache.putAll(cache.stamp(), "quiet", List.of("q1"), "Q1");
+        long stamp = cache.stamp();
+        cache.invalidate("busy", List.of("b1"));
+        cache.putAll(stamp, "quiet", List.of("q2"), "Q2");
+        cache.putAll(stamp, "busy", List.of("b2"), "stale");
+
+        assertThat(cache.get("q2")).isEqualTo("Q2");
+        assertThat(cache.get("b1")).isNull();
+        assertThat(cache.get("b2")).isNull();
+        assertThat(cache.getStats().getInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void aTenantsFirstLoadSurvivesInvalidationsElsewhere() {
+        long stamp = cache.stamp();
+        cache.invalidate("busy", List.of("b1"));
+        cache.putAll(stamp, "fresh", List.of("f1"), "F1");
+
+        assertThat(cache.get("f1")).isEqualTo("F1");
+    }
+
+    @Test
+    void leastRecentlyUsedTenantIsDroppedOverTheTenantBound() {
+        cache.putAll(cache.stamp(), "first", List.of("f"), "F");
+        clock.incrementAndGet();
+        cache.putAll(cache.stamp(), "second", List.of("s"), "S");
+        clock.incrementAndGet();
+        cache.get("f");
+        clock.incrementAndGet();
+        cache.putAll(cache.stamp(), "third", List.of("t"), "T");
+
+        assertThat(cache.get("s")).isNull();
+        assertThat(cache.get("f")).isEqualTo("F");
+        assertThat(cache.get("t")).isEqualTo("T");
+    }
+}
@@ -0,0 +1,119 @@
+package com.medicalapp.api.infrastructure.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.medicalapp.api.application.views.MedicalRecordDocument;
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MedicalRecordCodecTest {
+
+    @Test
+    void roundTripsRecordsWithHistory() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 30, 12, 345_678_000);
+        List<HistoryRecord> history = List.of(
+                new HistoryRecord(UUID.randomUUID(), id, "CREATED", "Initial visit", createdAt),
+                new HistoryRecord(UUID.randomUUID(), id, "NOTE_ADDED", "Müller: 肾病 🩺", createdAt.plusDays(3)),
+                // Earlier than the entry before it, with nanoseconds that aren't whole micros
+                new HistoryRecord(UUID.randomUUID(), id, "CREATED", null, createdAt.minusHours(1).withNano(7)));
+        MedicalRecordDocument record = new MedicalRecordDocument(id, UUID.randomUUID(), "Ana", UUID.randomUUID(),
+                UUID.randomUUID(), "Asthma", null, "", createdAt, createdAt.plusMinutes(5), history);
+
+        MedicalRecordDocument decoded = MedicalRecordCodec.decode(MedicalRecordCodec.encode(record));
+
+        assertThat(decoded).isEqualTo(record);
+        assertThat(decoded.historyRecords().get(2).details()).isEmpty();
+    }
+
+    @Test
+    void roundTripsPreEpochTimesAndMissingFields() {
+        LocalDateTime createdAt = LocalDateTime.of(1931, 12, 31, 23, 59, 59, 999_999_999);
+        MedicalRecordDocument record = new MedicalRecordDocument(UUID.randomUUID(), UUID.randomUUID(), null,
+                UUID.randomUUID(), UUID.randomUUID(), null, null, null, createdAt, createdAt, List.of());
+
+        assertThat(MedicalRecordCodec.decode(MedicalRecordCodec.encode(record))).isEqualTo(record);
+    }
+
+    @Test
+    void isSmallerThanJsonOnceHistoryRepeatsActions() throws IOException {
+        MedicalRecordDocument record = record(50);
+        byte[] json = JsonMapper.builder().findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build()
+                .writeValueAsBytes(record);
+
+        assertThat(MedicalRecordCodec.encode(record).length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    void streamsFramesUntilTheEnd() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<MedicalRecordDocument> records = List.of(record(0), record(3), record(300));
+        for (MedicalRecordDocument record : records) {
+            output.write(MedicalRecordCodec.encodeFrame(record));
+        }
+
+        ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray());
+        List<MedicalRecordDocument> read = new ArrayList<>();
+        for (MedicalRecordDocument record; (record = MedicalRecordCodec.readFrame(input)) != null; ) {
+            read.add(record);
+        }
+
+        assertThat(read).isEqualTo(records);
+        byte[] truncated = Arrays.copyOf(output.toByteArray(), output.size() - 1);
+        assertThatThrownBy(() -> {
+            ByteArrayInputStream in = new ByteArrayInputStream(truncated);
+            while (MedicalRecordCodec.readFrame(in) != null) {
+                // drain
+            }
+        }).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void roundTripsStandaloneHistoryRecords() {
+        HistoryRecord entry = new HistoryRecord(UUID.randomUUID(), UUID.randomUUID(), "TREATMENT_UPDATED",
+                "Dose halved", LocalDateTime.of(2025, 6, 30, 14, 0));
+
+        assertThat(MedicalRecordCodec.decodeHistoryRecord(MedicalRecordCodec.encode(entry))).isEqualTo(entry);
+    }
+
+    @Test
+    void rejectsTruncatedAndCorruptPayloads() {
+        byte[] encoded = MedicalRecordCodec.encode(record(5));
+
+        for (int length = 0; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThatThrownBy(() -> MedicalRecordCodec.decode(truncated))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+        byte[] trailing = Arrays.copyOf(encoded, encoded.length + 1);
+        assertThatThrownBy(() -> MedicalRecordCodec.decode(trailing)).isInstanceOf(IllegalArgumentException.class);
+        byte[] version = encoded.clone();
+        version[0] = 9;
+        assertThatThrownBy(() -> MedicalRecordCodec.decode(version)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MedicalRecordDocument record(int historySize) {
+        UUID id = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 8, 0, 0, 123_000);
+        List<HistoryRecord> history = new ArrayList<>();
+        for (int i = 0; i < historySize; i++) {
+            history.add(new HistoryRecord(UUID.randomUUID(), id, i % 2 == 0 ? "NOTE_ADDED" : "TREATMENT_UPDATED",
+                    "Entry " + i, createdAt.plusHours(i)));
+        }
+        return new MedicalRecordDocument(id, UUID.randomUUID(), "Patient", UUID.randomUUID(), UUID.randomUUID(),
+                "Hypertension", "Lisinopril", "Recheck in 3 months", createdAt, createdAt.plusHours(historySize),
+                history);
+    }
+}
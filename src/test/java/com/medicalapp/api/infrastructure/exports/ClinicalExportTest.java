@@ -0,0 +1,192 @@
+package com.medicalapp.api.infrastructure.exports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medicalapp.api.application.exports.ClinicalExportWriter;
+import com.medicalapp.api.application.exports.ExportCheckpoint;
+import com.medicalapp.api.application.exports.ExportProperties;
+import com.medicalapp.api.application.exports.ExportSummary;
+import com.medicalapp.api.application.services.implementations.ClinicalExportService;
+import com.medicalapp.api.domain.contracts.MMedicalRecordRepositoryContract;
+import com.medicalapp.api.domain.contracts.PatientRepositoryContract;
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "medicalapp.audit.durability=FLUSH_ON_COMMIT")
+class ClinicalExportTest {
+
+    @Autowired
+    private PatientRepositoryContract patientRepository;
+
+    @Autowired
+    private MMedicalRecordRepositoryContract medicalRecordRepository;
+
+    @Autowired
+    private JdbcClinicalExportSource source;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final UUID organizationId = UUID.randomUUID();
+    private ClinicalExportService exportService;
+
+    @BeforeEach
+    void seed() {
+        // A checkpoint every three rows, so every section has several
+        exportService = new ClinicalExportService(source, new ExportProperties(2, 3));
+        List<Patient> patients = new ArrayList<>();
+        List<MedicalRecord> records = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Patient patient = Patient.create(organizationId, "Patient " + i,
+                    SSN.of(String.format("%03d-56-%04d", 400 + i, 4000 + i)), LocalDate.of(1975, 5, 1), "M",
+                    "2 Main St", "+1 555-987-6543");
+            patients.add(patient);
+            for (int j = 0; j < 2; j++) {
+                MedicalRecord record = MedicalRecord.create(patient.getId(), organizationId, UUID.randomUUID(),
+                        "Diagnosis " + i + "." + j);
+                record.addHistoryRecord(HistoryRecord.create(record.getId(), "CREATED", "Visit"));
+                record.addHistoryRecord(HistoryRecord.create(record.getId(), "UPDATED", "Follow-up"));
+                records.add(record);
+            }
+        }
+        patientRepository.saveAll(patients);
+        medicalRecordRepository.saveAll(records);
+    }
+
+    @Test
+    void gzipExportResumesFromAnyCheckpointWithoutLosingOrRepeatingRows() throws IOException {
+        ByteArrayOutputStream full = new ByteArrayOutputStream();
+        ExportSummary summary = export(ExportCheckpoint.decode(null), full, true);
+        assertThat(summary).isEqualTo(new ExportSummary(5, 10, 20));
+        List<JsonNode> lines = lines(new GZIPInputStream(new ByteArrayInputStream(full.toByteArray())));
+        assertThat(lines.get(lines.size() - 1).get("type").asText()).isEqualTo("complete");
+        assertThat(lines).filteredOn(line -> line.get("type").asText().equals("medicalRecord"))
+                .allSatisfy(line -> assertThat(line.get("historySize").asInt()).isEqualTo(2));
+
+        List<JsonNode> checkpoints = lines.stream()
+                .filter(line -> line.get("type").asText().equals("checkpoint"))
+                .toList();
+        assertThat(checkpoints).hasSizeGreaterThan(10);
+        for (JsonNode checkpoint : List.of(checkpoints.get(1), checkpoints.get(4), checkpoints.get(8))) {
+            List<JsonNode> before = rows(lines.subList(0, lines.indexOf(checkpoint)));
+            ByteArrayOutputStream resumed = new ByteArrayOutputStream();
+            export(ExportCheckpoint.decode(checkpoint.get("checkpoint").asText()), resumed, true);
+            List<JsonNode> after = rows(lines(new GZIPInputStream(new ByteArrayInputStream(resumed.toByteArray()))));
+
+            List<JsonNode> joined = new ArrayList<>(before);
+            joined.addAll(after);
+            assertThat(joined).isEqualTo(rows(lines));
+        }
+    }
+
+    @Test
+    void fileExportPicksUpAfterTheLastCheckpointOfAFailedRun(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("export.ndjson");
+        ExportCommand failing = new ExportCommand((organizationId, from, writer) ->
+                exportService.export(organizationId, from, new FailingWriter(writer, 7)), objectMapper, null);
+        assertThatThrownBy(() -> failing.exportToFile(organizationId, file, false))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThat(directory.resolve("export.ndjson.checkpoint")).exists();
+
+        ExportCommand command = new ExportCommand(exportService, objectMapper, null);
+        ExportSummary resumed = command.exportToFile(organizationId, file, false);
+        assertThat(resumed.patients() + resumed.medicalRecords() + resumed.historyRecords()).isLessThan(35);
+        assertThat(directory.resolve("export.ndjson.checkpoint")).doesNotExist();
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        export(ExportCheckpoint.decode(null), expected, false);
+        assertThat(rows(lines(Files.newInputStream(file))))
+                .isEqualTo(rows(lines(new ByteArrayInputStream(expected.toByteArray()))));
+    }
+
+    private ExportSummary export(ExportCheckpoint from, ByteArrayOutputStream output, boolean gzip) throws IOException {
+        try (NdjsonExportWriter writer = new NdjsonExportWriter(objectMapper, output, gzip, checkpoint -> { })) {
+            return exportService.export(organizationId, from, writer);
+        }
+    }
+
+    private List<JsonNode> lines(InputStream input) throws IOException {
+        try (input) {
+            List<JsonNode> lines = new ArrayList<>();
+            for (String line : new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n")) {
+                lines.add(objectMapper.readTree(line));
+            }
+            return lines;
+        }
+    }
+
+    private static List<JsonNode> rows(List<JsonNode> lines) {
+        return lines.stream()
+                .filter(line -> !line.get("type").asText().equals("checkpoint"))
+                .filter(line -> !line.get("type").asText().equals("complete"))
+                .toList();
+    }
+
+    // Lets the first checkpoints through, then breaks like a full disk would
+    private static final class FailingWriter implements ClinicalExportWriter {
+        private final ClinicalExportWriter writer;
+        private int checkpointsLeft;
+
+        FailingWriter(ClinicalExportWriter writer, int checkpoints) {
+            this.writer = writer;
+            this.checkpointsLeft = checkpoints;
+        }
+
+        @Override
+        public void patient(Patient patient) throws IOException {
+            writer.patient(patient);
+        }
+
+        @Override
+        public void medicalRecord(MedicalRecord medicalRecord) throws IOException {
+            writer.medicalRecord(medicalRecord);
+        }
+
+        @Override
+        public void historyRecord(HistoryRecord historyRecord) throws IOException {
+            if (checkpointsLeft <= 0) {
+                throw new IOException("No space left on device");
+            }
+            writer.historyRecord(historyRecord);
+        }
+
+        @Override
+        public void checkpoint(ExportCheckpoint checkpoint) throws IOException {
+            writer.checkpoint(checkpoint);
+            checkpointsLeft--;
+        }
+
+        @Override
+        public void complete(ExportSummary summary) throws IOException {
+            writer.complete(summary);
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.medicalapp.api.infrastructure.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.medicalapp.api.domain.contracts.DoctorRepositoryContract;
+import com.medicalapp.api.domain.entities.Doctor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+class ContractObservationAspectTest {
+
+    private final MeterRegistry meters = new SimpleMeterRegistry();
+
+    @Test
+    void timesContractCallsPerMethodIncludingFailures() {
+        ObservationRegistry observations = ObservationRegistry.create();
+        observations.observationConfig().observationHandler(new DefaultMeterObservationHandler(meters));
+        AspectJProxyFactory factory = new AspectJProxyFactory(new FailingDoctors());
+        factory.addAspect(new ContractObservationAspect(observations));
+        DoctorRepositoryContract doctors = factory.getProxy();
+
+        doctors.findByOrganizationId(UUID.randomUUID());
+        doctors.findByOrganizationId(UUID.randomUUID());
+        assertThatThrownBy(() -> doctors.findById(UUID.randomUUID())).isInstanceOf(IllegalStateException.class);
+
+        Timer listed = meters.get(ContractObservationAspect.REPOSITORY_OBSERVATION)
+                .tags("contract", "DoctorRepositoryContract", "implementation", "FailingDoctors",
+                        "method", "findByOrganizationId")
+                .timer();
+        Timer failed = meters.get(ContractObservationAspect.REPOSITORY_OBSERVATION)
+                .tags("method", "findById", "error", "IllegalStateException")
+                .timer();
+        assertThat(listed.count()).isEqualTo(2);
+        assertThat(failed.count()).isEqualTo(1);
+    }
+
+    private static final class FailingDoctors implements DoctorRepositoryContract {
+        @Override
+        public Doctor save(Doctor doctor) {
+            return doctor;
+        }
+
+        @Override
+        public Optional<Doctor> findById(UUID id) {
+            throw new IllegalStateException("database down");
+        }
+
+        @Override
+        public List<Doctor> findByOrganizationId(UUID organizationId) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.medicalapp.api.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+class PartialUpdatesTest {
+
+    private enum Field { NAME, ADDRESS }
+
+    private final RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+    private final PartialUpdates<Field> updates = new PartialUpdates<>("patients", "organization_id", Field.class,
+            field -> field.name().toLowerCase());
+    private final LocalDateTime now = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Test
+    void sameColumnChangesShareOneBatchAndRepeatedChangesCoalesce() {
+        UUID organizationId = UUID.randomUUID();
+        UUID renamed = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            updates.add(organizationId, UUID.randomUUID(), Set.of(Field.ADDRESS), field -> "9 Oak Ave", now);
+        }
+        updates.add(organizationId, renamed, Set.of(Field.NAME), field -> "Ana", now);
+        updates.add(organizationId, renamed, Set.of(Field.NAME), field -> "Ana Maria", now.plusSeconds(1));
+        updates.add(organizationId, UUID.randomUUID(), EnumSet.noneOf(Field.class), field -> "ignored", now);
+
+        assertThat(updates.flush(jdbc)).isEqualTo(2);
+
+        assertThat(jdbc.batches).containsExactly(
+                Map.entry("update patients set address = ?, updated_at = ? where organization_id = ? and id = ?", 3),
+                Map.entry("update patients set name = ?, updated_at = ? where organization_id = ? and id = ?", 1));
+        assertThat(updates.isEmpty()).isTrue();
+    }
+
+    @Test
+    void rowChangedInSeveralColumnsIsOneUpdate() {
+        PartialUpdates<Field> unscoped = new PartialUpdates<>("customers", null, Field.class,
+                field -> field.name().toLowerCase());
+        UUID id = UUID.randomUUID();
+        unscoped.add(null, id, Set.of(Field.ADDRESS), field -> "1 Main St", now);
+        unscoped.add(null, id, Set.of(Field.NAME), field -> "Ana", now);
+
+        unscoped.flush(jdbc);
+
+        assertThat(jdbc.batches).containsExactly(
+                Map.entry("update customers set name = ?, address = ?, updated_at = ? where id = ?", 1));
+    }
+
+    @Test
+    void anUpdateThatMatchesNoRowFailsTheFlush() {
+        updates.add(UUID.randomUUID(), UUID.randomUUID(), Set.of(Field.NAME), field -> "Ana", now);
+        jdbc.rowsMatched = 0;
+
+        assertThatThrownBy(() -> updates.flush(jdbc))
+                .isInstanceOf(JdbcUpdateAffectedIncorrectNumberOfRowsException.class);
+    }
+
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<Map.Entry<String, Integer>> batches = new ArrayList<>();
+        private int rowsMatched = 1;
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> setter) {
+            batches.add(Map.entry(sql, batchArgs.size()));
+            int[] counts = new int[batchArgs.size()];
+            Arrays.fill(counts, rowsMatched);
+            return new int[][] {counts};
+        }
+    }
+}
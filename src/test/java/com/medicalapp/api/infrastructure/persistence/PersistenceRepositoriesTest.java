@@ -0,0 +1,295 @@
+package com.medicalapp.api.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.medicalapp.api.domain.entities.Appointment;
+import com.medicalapp.api.domain.entities.Charge;
+import com.medicalapp.api.domain.entities.Customer;
+import com.medicalapp.api.domain.entities.Doctor;
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.entities.Subscription;
+import com.medicalapp.api.domain.entities.SubscriptionRenewal;
+import com.medicalapp.api.domain.queries.DueRenewal;
+import com.medicalapp.api.domain.queries.Keyset;
+import com.medicalapp.api.domain.queries.KeysetPage;
+import com.medicalapp.api.domain.queries.PatientSummary;
+import com.medicalapp.api.domain.queries.RevenueBucket;
+import com.medicalapp.api.domain.valueobjects.BillingInterval;
+import com.medicalapp.api.domain.valueobjects.ChargeStatus;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import com.medicalapp.api.infrastructure.audit.AuditLogWriter;
+import com.medicalapp.api.infrastructure.persistence.repositories.AppointmentRepository;
+import com.medicalapp.api.infrastructure.persistence.repositories.ChargeRepository;
+import com.medicalapp.api.infrastructure.persistence.repositories.CustomerRepository;
+import com.medicalapp.api.infrastructure.persistence.repositories.DoctorRepository;
+import com.medicalapp.api.infrastructure.persistence.repositories.HistoryRecordRepository;
+import com.medicalapp.api.infrastructure.persistence.repositories.MedicalRecordRepository;
+import com.medicalapp.api.infrastructure.persistence.repositories.PatientRepository;
+import com.medicalapp.api.infrastructure.persistence.repositories.SubscriptionRepository;
+import com.medicalapp.api.infrastructure.tenancy.TenantQueryMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+        "medicalapp.audit.durability=FLUSH_ON_COMMIT"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PersistenceConfiguration.class, PatientRepository.class, MedicalRecordRepository.class,
+        HistoryRecordRepository.class, AuditLogWriter.class, TenantQueryMetrics.class, CustomerRepository.class,
+        ChargeRepository.class, SubscriptionRepository.class, DoctorRepository.class, AppointmentRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PersistenceRepositoriesTest {
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private MedicalRecordRepository medicalRecordRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ChargeRepository chargeRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void saveAllWritesAcrossSeveralBatchesAndUpdatesExistingRows() {
+        UUID organizationId = UUID.randomUUID();
+        List<Patient> patients = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            patients.add(patient(organizationId, i));
+        }
+
+        patientRepository.saveAll(patients);
+        Patient first = patients.get(0);
+        first.setAddress("2 Elm St");
+        patientRepository.saveAll(List.of(first, patient(organizationId, 120)));
+
+        assertThat(patientRepository.findById(first.getId())).get()
+                .extracting(Patient::getAddress).isEqualTo("2 Elm St");
+        assertThat(patientRepository.findBySsn(organizationId, patients.get(119).getSsn())).get()
+                .isEqualTo(patients.get(119));
+    }
+
+    @Test
+    void familyAddressChangeIsOneBatchedUpdateOfTheChangedColumn() {
+        UUID organizationId = UUID.randomUUID();
+        List<Patient> family = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            family.add(patient(organizationId, 200 + i));
+        }
+        patientRepository.saveAll(family);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        for (Patient member : family) {
+            member.setAddress("9 Oak Ave");
+            member.setAddress("9 Oak Avenue");
+            member.setContact(member.getContact());
+        }
+        patientRepository.saveAll(family);
+
+        // Hibernate only looks the rows up; the changed column goes out through PartialUpdates
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(family).noneMatch(Patient::hasChanges);
+        assertThat(patientRepository.findById(family.get(3).getId())).get()
+                .extracting(Patient::getAddress).isEqualTo("9 Oak Avenue");
+    }
+
+    @Test
+    void onlyAppendedHistoryIsWritten() {
+        MedicalRecord record = MedicalRecord.create(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "Asthma");
+        record.addHistoryRecord(HistoryRecord.create(record.getId(), "CREATED", "Initial visit"));
+        medicalRecordRepository.save(record);
+
+        record.updateTreatment("Inhaled corticosteroids");
+        record.addHistoryRecord(HistoryRecord.create(record.getId(), "TREATMENT_UPDATED", "ICS"));
+        medicalRecordRepository.saveAll(List.of(record));
+
+        MedicalRecord loaded = medicalRecordRepository.findById(record.getId()).orElseThrow();
+        assertThat(loaded.getTreatment()).isEqualTo("Inhaled corticosteroids");
+        assertThat(loaded.getHistoryRecords()).extracting(HistoryRecord::action)
+                .containsExactly("CREATED", "TREATMENT_UPDATED");
+        assertThat(medicalRecordRepository.findByPatientId(record.getPatientId())).containsExactly(record);
+    }
+
+    @Test
+    void aHistoryRowThatCannotBeWrittenRollsBackTheChangeAndItsCount() {
+        MedicalRecord record = MedicalRecord.create(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "Asthma");
+        HistoryRecord created = HistoryRecord.create(record.getId(), "CREATED", "Initial visit");
+        record.addHistoryRecord(created);
+        medicalRecordRepository.save(record);
+
+        record.updateTreatment("Inhaled corticosteroids");
+        record.addHistoryRecord(created);
+
+        assertThatThrownBy(() -> medicalRecordRepository.save(record)).isInstanceOf(DataAccessException.class);
+        assertThat(record.getChanges()).contains(MedicalRecord.Field.TREATMENT, MedicalRecord.Field.HISTORY);
+        assertThat(record.getStoredHistorySize()).isEqualTo(1);
+        MedicalRecord loaded = medicalRecordRepository.findById(record.getId()).orElseThrow();
+        assertThat(loaded.getTreatment()).isNull();
+        assertThat(loaded.getHistorySize()).isEqualTo(1);
+        assertThat(loaded.getHistoryRecords()).extracting(HistoryRecord::id).containsExactly(created.id());
+    }
+
+    @Test
+    void listedRecordsResolveHistoryAndPatientNameOnDemand() {
+        Patient patient = patientRepository.save(patient(UUID.randomUUID(), 40));
+        MedicalRecord withHistory = MedicalRecord.create(patient.getId(), patient.getOrganizationId(),
+                UUID.randomUUID(), "Migraine");
+        withHistory.addHistoryRecord(HistoryRecord.create(withHistory.getId(), "CREATED", "Initial visit"));
+        MedicalRecord withoutHistory = MedicalRecord.create(patient.getId(), patient.getOrganizationId(),
+                UUID.randomUUID(), "Tension headache");
+        medicalRecordRepository.saveAll(List.of(withHistory, withoutHistory));
+
+        List<MedicalRecord> listed = medicalRecordRepository.findByPatientId(patient.getId());
+
+        assertThat(listed).allSatisfy(record -> assertThat(record.isHistoryLoaded()).isFalse());
+        assertThat(listed).extracting(MedicalRecord::getHistorySize).containsExactlyInAnyOrder(1, 0);
+        assertThat(listed).extracting(MedicalRecord::getPatientName).containsOnly("Patient 40");
+        MedicalRecord listedWithHistory = listed.stream().filter(withHistory::equals).findFirst().orElseThrow();
+        assertThat(listedWithHistory.getHistoryRecords()).extracting(HistoryRecord::action).containsExactly("CREATED");
+    }
+
+    @Test
+    void summaryPagesWalkEveryPatientOnceInCreationOrder() {
+        UUID organizationId = UUID.randomUUID();
+        List<Patient> patients = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            patients.add(patient(organizationId, i));
+        }
+        patientRepository.saveAll(patients);
+        patientRepository.saveAll(List.of(patient(UUID.randomUUID(), 30)));
+
+        List<UUID> seen = new ArrayList<>();
+        Keyset after = null;
+        do {
+            KeysetPage<PatientSummary> page = patientRepository.findSummariesByOrganization(organizationId, after, 10);
+            page.items().forEach(summary -> seen.add(summary.id()));
+            after = page.next();
+        } while (after != null);
+
+        assertThat(seen).hasSize(25).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(patients.stream().map(Patient::getId).toList());
+    }
+
+    @Test
+    void overlappingBookingsAreRefusedUntilTheFirstIsCancelled() {
+        Doctor doctor = doctorRepository.save(new Doctor(UUID.randomUUID(), "Dr. Grey", "Surgery"));
+        LocalDateTime nine = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        Appointment first = Appointment.schedule(doctor.getId(), UUID.randomUUID(), nine, nine.plusMinutes(30));
+
+        assertThat(appointmentRepository.saveIfFree(first)).isTrue();
+        assertThat(appointmentRepository.saveIfFree(Appointment.schedule(doctor.getId(), UUID.randomUUID(),
+                nine.plusMinutes(15), nine.plusMinutes(45)))).isFalse();
+        assertThat(appointmentRepository.saveIfFree(Appointment.schedule(doctor.getId(), UUID.randomUUID(),
+                nine.plusMinutes(30), nine.plusMinutes(60)))).isTrue();
+        first.cancel();
+        appointmentRepository.save(first);
+        assertThat(appointmentRepository.saveIfFree(Appointment.schedule(doctor.getId(), UUID.randomUUID(),
+                nine, nine.plusMinutes(30)))).isTrue();
+    }
+
+    @Test
+    void renewalFromAStaleReadIsRejectedAndCreatesNoCharge() {
+        Customer customer = customerRepository.save(new Customer("Lakeside Clinic", "billing@lakeside.test"));
+        LocalDateTime startsAt = LocalDateTime.of(2026, 3, 31, 9, 0);
+        Subscription subscription = subscriptionRepository.save(Subscription.start(customer, "Clinic Pro",
+                new BigDecimal("49.90"), "EUR", "pm_card_visa", BillingInterval.MONTHLY, startsAt));
+        Subscription staleCopy = subscriptionRepository.findById(subscription.getId()).orElseThrow();
+        List<Integer> shard = List.of(subscription.getShard());
+
+        assertThat(subscriptionRepository.findDue(shard, startsAt, startsAt.plusMinutes(1), null, 10))
+                .containsExactly(new DueRenewal(subscription.getId(), subscription.getShard(), startsAt));
+        SubscriptionRenewal first = subscription.renew();
+        SubscriptionRenewal duplicate = staleCopy.renew();
+
+        assertThat(subscriptionRepository.saveRenewals(List.of(first))).containsExactly(first);
+        assertThat(subscriptionRepository.saveRenewals(List.of(duplicate))).isEmpty();
+        assertThat(chargeRepository.findById(first.charge().getId())).get()
+                .extracting(Charge::getStatus).isEqualTo(ChargeStatus.PENDING);
+        assertThat(chargeRepository.findById(duplicate.charge().getId())).isEmpty();
+        assertThat(subscriptionRepository.findDue(shard, null, startsAt.plusMonths(2), null, 10))
+                .extracting(DueRenewal::dueAt).containsExactly(LocalDateTime.of(2026, 4, 30, 9, 0));
+    }
+
+    @Test
+    void revenueRollupsFollowEveryChargeWriteAndRebuildToTheSameTotals() {
+        Customer customer = customerRepository.save(new Customer("Harbor Clinic", "billing@harbor.test"));
+        Charge paid = Charge.create(new BigDecimal("19.99"), "USD", Optional.empty(), customer, "pm_card_visa");
+        Charge open = Charge.create(new BigDecimal("5.00"), "USD", Optional.empty(), customer, "pm_card_visa");
+        Charge yen = Charge.create(new BigDecimal("1200"), "JPY", Optional.empty(), customer, "pm_card_visa");
+        chargeRepository.saveAll(List.of(paid, open, yen));
+        paid.markAsSucceeded();
+        chargeRepository.updateStatuses(List.of(paid));
+        LocalDate day = paid.getCreatedAt().toLocalDate();
+        List<RevenueBucket> expected = List.of(
+                new RevenueBucket(null, customer.getId(), "JPY", ChargeStatus.PENDING, 1, 1200),
+                new RevenueBucket(null, customer.getId(), "USD", ChargeStatus.PENDING, 1, 500),
+                new RevenueBucket(null, customer.getId(), "USD", ChargeStatus.SUCCEEDED, 1, 1999));
+
+        assertThat(chargeRepository.revenue(day, day, customer.getId())).containsExactlyElementsOf(expected);
+        chargeRepository.rebuildRevenue();
+        assertThat(chargeRepository.revenue(day, day, customer.getId())).containsExactlyElementsOf(expected);
+        assertThat(chargeRepository.dailyRevenue(day, day, "JPY"))
+                .extracting(RevenueBucket::day, RevenueBucket::status)
+                .contains(tuple(day, ChargeStatus.PENDING));
+    }
+
+    @Test
+    void aChargeSettledByTwoRunsMovesItsRevenueOnce() {
+        Customer customer = customerRepository.save(new Customer("Bayview Clinic", "billing@bayview.test"));
+        Charge charge = Charge.create(new BigDecimal("10.00"), "USD", Optional.empty(), customer, "pm_card_visa");
+        chargeRepository.saveAll(List.of(charge));
+        Charge firstRun = chargeRepository.findById(charge.getId()).orElseThrow();
+        Charge secondRun = chargeRepository.findById(charge.getId()).orElseThrow();
+        firstRun.markAsSucceeded();
+        secondRun.markAsFailed();
+
+        assertThat(chargeRepository.updateStatuses(List.of(firstRun))).containsExactly(firstRun);
+        assertThat(chargeRepository.updateStatuses(List.of(secondRun))).isEmpty();
+        LocalDate day = charge.getCreatedAt().toLocalDate();
+        assertThat(chargeRepository.findById(charge.getId())).get()
+                .extracting(Charge::getStatus).isEqualTo(ChargeStatus.SUCCEEDED);
+        assertThat(chargeRepository.revenue(day, day, customer.getId())).containsExactly(
+                new RevenueBucket(null, customer.getId(), "USD", ChargeStatus.SUCCEEDED, 1, 1000));
+    }
+
+    private static Patient patient(UUID organizationId, int index) {
+        String ssn = String.format("%03d-45-%04d", 100 + index, 1000 + index);
+        return Patient.create(organizationId, "Patient " + index, SSN.of(ssn), LocalDate.of(1980, 1, 1),
+                "F", "1 Main St", "+1 555-123-4567");
+    }
+}
@@ -0,0 +1,42 @@
+package com.medicalapp.api.infrastructure.tenancy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TenantQueryMetricsTest {
+
+    private final TenantQueryMetrics metrics = new TenantQueryMetrics(new TenancyProperties(2));
+
+    @Test
+    void ranksTenantsByTimeSpentInQueries() {
+        UUID small = UUID.randomUUID();
+        UUID large = UUID.randomUUID();
+        metrics.record(small, 1_000_000);
+        for (int i = 0; i < 99; i++) {
+            metrics.record(large, 1_000_000);
+        }
+        metrics.record(large, 300_000_000);
+
+        TenantLatency busiest = metrics.busiest(1).get(0);
+        assertThat(busiest.organizationId()).isEqualTo(large);
+        assertThat(busiest.queries()).isEqualTo(100);
+        assertThat(busiest.max()).isEqualTo(Duration.ofMillis(300));
+        assertThat(busiest.p99()).isLessThanOrEqualTo(Duration.ofNanos(2_048_000));
+        assertThat(busiest.mean()).isEqualTo(Duration.ofNanos(3_990_000));
+    }
+
+    @Test
+    void tenantsBeyondTheCapShareOneEntry() {
+        metrics.record(UUID.randomUUID(), 1_000);
+        metrics.record(UUID.randomUUID(), 1_000);
+        metrics.time(UUID.randomUUID(), () -> "late");
+        metrics.time(UUID.randomUUID(), () -> "later");
+
+        assertThat(metrics.getTrackedTenants()).isEqualTo(3);
+        assertThat(metrics.latency(TenantQueryMetrics.OTHER)).hasValueSatisfying(
+                latency -> assertThat(latency.queries()).isEqualTo(2));
+    }
+}
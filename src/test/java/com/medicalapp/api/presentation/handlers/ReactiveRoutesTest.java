@@ -0,0 +1,203 @@
+package com.medicalapp.api.presentation.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.medicalapp.api.application.views.MedicalRecordDocument;
+import com.medicalapp.api.domain.contracts.MMedicalRecordRepositoryContract;
+import com.medicalapp.api.domain.contracts.PatientRepositoryContract;
+import com.medicalapp.api.domain.entities.HistoryRecord;
+import com.medicalapp.api.domain.entities.MedicalRecord;
+import com.medicalapp.api.domain.entities.Patient;
+import com.medicalapp.api.domain.valueobjects.SSN;
+import com.medicalapp.api.infrastructure.codec.MedicalRecordCodec;
+import com.medicalapp.api.infrastructure.persistence.reactive.R2dbcMedicalRecordRepository;
+import com.medicalapp.api.infrastructure.persistence.reactive.R2dbcPatientRepository;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.main.web-application-type=reactive",
+        "medicalapp.r2dbc.url=r2dbc:h2:mem:///medical_db?options=MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "medicalapp.r2dbc.username=sa",
+        "medicalapp.r2dbc.stream-page-size=3",
+        "medicalapp.subscriptions.renewals.enabled=false",
+        "medicalapp.audit.durability=FLUSH_ON_COMMIT"})
+class ReactiveRoutesTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private PatientRepositoryContract patientRepository;
+
+    @Autowired
+    private MMedicalRecordRepositoryContract medicalRecordRepository;
+
+    @Autowired
+    private R2dbcPatientRepository r2dbcPatients;
+
+    @Autowired
+    private R2dbcMedicalRecordRepository r2dbcMedicalRecords;
+
+    @Test
+    void blockingServicesKeepTheJpaRepositoriesAndR2dbcReadsMatchThem() {
+        assertThat(patientRepository).isNotInstanceOf(R2dbcPatientRepository.class);
+        assertThat(medicalRecordRepository).isNotInstanceOf(R2dbcMedicalRecordRepository.class);
+        UUID organizationId = UUID.randomUUID();
+        Patient patient = patient(organizationId, 1);
+        patientRepository.save(patient);
+        MedicalRecord record = record(patient, "Asthma");
+        record.addHistoryRecord(HistoryRecord.create(record.getId(), "CREATED", "Initial visit"));
+        medicalRecordRepository.save(record);
+
+        assertThat(r2dbcPatients.findSummariesByOrganization(organizationId, null, 10))
+                .isEqualTo(patientRepository.findSummariesByOrganization(organizationId, null, 10));
+        assertThat(r2dbcMedicalRecords.findSummariesByPatient(patient.getId(), null, 10))
+                .isEqualTo(medicalRecordRepository.findSummariesByPatient(patient.getId(), null, 10));
+        MedicalRecord loaded = r2dbcMedicalRecords.findById(record.getId()).orElseThrow();
+        assertThat(loaded.getPatientName()).isEqualTo(patient.getName());
+        assertThat(loaded.getHistoryRecords()).extracting(HistoryRecord::action).containsExactly("CREATED");
+    }
+
+    @Test
+    void listsAndChartsAreServedWithTheServletModesCursors() {
+        UUID organizationId = UUID.randomUUID();
+        List<Patient> patients = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            patients.add(patient(organizationId, 10 + i));
+        }
+        patientRepository.saveAll(patients);
+        medicalRecordRepository.save(record(patients.get(0), "Migraine"));
+
+        AtomicReference<String> next = new AtomicReference<>();
+        client.get().uri("/organizations/{id}/patients?limit=2", organizationId).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(2)
+                .jsonPath("$.nextCursor").value(next::set);
+        client.get().uri("/organizations/{id}/patients?limit=2&cursor={cursor}", organizationId, next.get()).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(1)
+                .jsonPath("$.nextCursor").doesNotExist();
+        client.get().uri("/patients/{id}/chart", patients.get(0).getId()).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.patient.name").isEqualTo(patients.get(0).getName())
+                .jsonPath("$.medicalRecords.items[0].diagnosisExcerpt").isEqualTo("Migraine");
+    }
+
+    @Test
+    void errorsMapToTheSameProblemResponses() {
+        client.get().uri("/patients/{id}/chart", UUID.randomUUID()).exchange()
+                .expectStatus().isNotFound()
+                .expectHeader().contentType(MediaType.APPLICATION_PROBLEM_JSON);
+        client.get().uri("/patients/{id}/medical-records?cursor=bogus", UUID.randomUUID()).exchange()
+                .expectStatus().isBadRequest();
+        client.get().uri("/doctors/{id}/free-slots?from=2030-01-01T09:00", UUID.randomUUID()).exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void organizationRecordsStreamAsNdjsonAcrossPagesOnDemand() {
+        UUID organizationId = UUID.randomUUID();
+        Patient patient = patient(organizationId, 20);
+        patientRepository.save(patient);
+        List<MedicalRecord> records = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            MedicalRecord record = record(patient, "Visit " + i);
+            record.addHistoryRecord(HistoryRecord.create(record.getId(), "CREATED", "Visit " + i));
+            records.add(record);
+        }
+        medicalRecordRepository.saveAll(records);
+
+        List<MedicalRecordDocument> streamed = client.get().uri("/organizations/{id}/medical-records", organizationId)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(MedicalRecordDocument.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+        assertThat(streamed).extracting(MedicalRecordDocument::id)
+                .containsExactlyInAnyOrderElementsOf(records.stream().map(MedicalRecord::getId).toList());
+        // Keyset order; the database compares uuids byte-wise, which is their text order
+        assertThat(streamed).isSortedAccordingTo(Comparator.comparing(MedicalRecordDocument::createdAt)
+                .thenComparing(document -> document.id().toString()));
+        assertThat(streamed).allSatisfy(document -> {
+            assertThat(document.patientName()).isEqualTo(patient.getName());
+            assertThat(document.historyRecords()).hasSize(1);
+        });
+
+        // Pages of three: nothing is emitted past what was requested, and the stream still completes
+        StepVerifier.create(r2dbcMedicalRecords.streamByOrganization(organizationId), 0)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenRequest(4)
+                .expectNextCount(4)
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    @Test
+    void recordsAreSentInBinaryWhenTheClientAcceptsIt() throws IOException {
+        UUID organizationId = UUID.randomUUID();
+        Patient patient = patient(organizationId, 30);
+        patientRepository.save(patient);
+        MedicalRecord first = record(patient, "Gout");
+        first.addHistoryRecord(HistoryRecord.create(first.getId(), "CREATED", "Initial visit"));
+        MedicalRecord second = record(patient, "Anemia");
+        medicalRecordRepository.saveAll(List.of(first, second));
+
+        client.get().uri("/medical-records/{id}", first.getId()).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$.historyRecords[0].action").isEqualTo("CREATED");
+        byte[] single = client.get().uri("/medical-records/{id}", first.getId())
+                .accept(MediaType.parseMediaType(MedicalRecordCodec.MEDIA_TYPE))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MedicalRecordCodec.MEDIA_TYPE)
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        MedicalRecordDocument decoded = MedicalRecordCodec.decode(single);
+        assertThat(decoded.patientName()).isEqualTo(patient.getName());
+        assertThat(decoded.historyRecords()).extracting(HistoryRecord::details).containsExactly("Initial visit");
+
+        byte[] stream = client.get().uri("/organizations/{id}/medical-records", organizationId)
+                .accept(MediaType.parseMediaType(MedicalRecordCodec.STREAM_MEDIA_TYPE))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(byte[].class).returnResult().getResponseBody();
+        ByteArrayInputStream input = new ByteArrayInputStream(stream);
+        List<UUID> ids = new ArrayList<>();
+        for (MedicalRecordDocument record; (record = MedicalRecordCodec.readFrame(input)) != null; ) {
+            ids.add(record.id());
+        }
+        assertThat(ids).containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    private static Patient patient(UUID organizationId, int index) {
+        String ssn = String.format("%03d-45-%04d", 300 + index, 3000 + index);
+        return Patient.create(organizationId, "Patient " + index, SSN.of(ssn), LocalDate.of(1980, 1, 1),
+                "F", "1 Main St", "+1 555-123-4567");
+    }
+
+    private static MedicalRecord record(Patient patient, String diagnosis) {
+        return MedicalRecord.create(patient.getId(), patient.getOrganizationId(), UUID.randomUUID(), diagnosis);
+    }
+}